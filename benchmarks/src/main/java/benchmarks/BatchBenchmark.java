@@ -0,0 +1,74 @@
+package benchmarks;
+
+import compression.BitPackedBatch;
+import compression.ConsecutiveBitPacking;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Compression de nombreux petits tableaux : un compress (et un int[]) par tableau contre
+// un BitPackedBatch (arène unique). Score en ns par tableau ; le profileur GC (actif par
+// défaut dans BenchmarkRunner) montre la différence d'allocation :
+//   java -jar benchmarks.jar BatchBenchmark -p length=8
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "--add-modules", "jdk.incubator.vector"})
+public class BatchBenchmark {
+
+    static final int ARRAYS = 100_000;
+
+    @Param({"8", "100"})
+    public int length;
+
+    @Param({"8", "20"})
+    public int bits;
+
+    private int[] values;
+    private int[] offsets;
+    private int[][] arrays;
+    private ConsecutiveBitPacking packer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = BenchmarkData.generate(BenchmarkData.Distribution.UNIFORM, ARRAYS * length, bits, 42);
+        offsets = new int[ARRAYS + 1];
+        arrays = new int[ARRAYS][];
+        for (int k = 0; k < ARRAYS; k++) {
+            offsets[k + 1] = (k + 1) * length;
+            arrays[k] = new int[length];
+            System.arraycopy(values, k * length, arrays[k], 0, length);
+        }
+        packer = new ConsecutiveBitPacking();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ARRAYS)
+    public int[][] single() {
+        int[][] compressed = new int[ARRAYS][];
+        for (int k = 0; k < ARRAYS; k++) {
+            compressed[k] = packer.compress(arrays[k]);
+        }
+        return compressed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ARRAYS)
+    public BitPackedBatch batch() {
+        return BitPackedBatch.of(values, offsets, false);
+    }
+}
@@ -0,0 +1,74 @@
+package benchmarks;
+
+import compression.BitPacking;
+import factory.CompressionFactory;
+import factory.CompressionFactory.CompressionType;
+
+import java.util.SplittableRandom;
+
+// Jeux de données et construction des compresseurs pour les benchmarks
+// (mêmes distributions que les générateurs de Main, à une largeur en bits donnée).
+final class BenchmarkData {
+
+    // Au-delà, les packers de base passent par le conteneur par blocs
+    static final int MAX_SINGLE_SIZE = 0xFFFF;
+
+    private BenchmarkData() {
+    }
+
+    enum Distribution {
+        // Valeurs uniformes sur bits bits
+        UNIFORM,
+        // Uniformes sur bits bits avec 1 % de valeurs extrêmes (cf. generateWithOutliers)
+        OUTLIERS,
+        // Suite croissante, écarts uniformes sur bits bits (cf. generateSorted)
+        SORTED
+    }
+
+    static int[] generate(Distribution distribution, int size, int bits, long seed) {
+        SplittableRandom rand = new SplittableRandom(seed);
+        int bound = bits >= 31 ? Integer.MAX_VALUE : 1 << bits;
+        int[] array = new int[size];
+
+        switch (distribution) {
+            case UNIFORM:
+                for (int i = 0; i < size; i++) {
+                    array[i] = rand.nextInt(bound);
+                }
+                break;
+            case OUTLIERS:
+                for (int i = 0; i < size; i++) {
+                    array[i] = rand.nextInt(100) == 0 ? (1 << 30) | rand.nextInt(bound) : rand.nextInt(bound);
+                }
+                break;
+            case SORTED:
+                // Écart maximal borné pour que la suite reste dans les entiers positifs
+                int maxGap = Math.max(1, Math.min(bound, Integer.MAX_VALUE / size));
+                int value = 0;
+                for (int i = 0; i < size; i++) {
+                    value += rand.nextInt(maxGap);
+                    array[i] = value;
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Distribution non supportée : " + distribution);
+        }
+        return array;
+    }
+
+    // Les packers de base sont limités à 65 535 valeurs : au-delà, conteneur par blocs
+    static BitPacking compressor(CompressionType type, int size) {
+        switch (type) {
+            case CONSECUTIVE:
+            case NON_CONSECUTIVE:
+            case OVERFLOW:
+            case PATCHED:
+            case VERTICAL:
+                return size > MAX_SINGLE_SIZE
+                        ? CompressionFactory.createBlockCompressor(type)
+                        : CompressionFactory.createCompressor(type);
+            default:
+                return CompressionFactory.createCompressor(type);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package benchmarks;
+
+import compression.BitPacking;
+import factory.CompressionFactory.CompressionType;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Débit de chaque codec, pour toutes les combinaisons type × taille × largeur × distribution.
+//
+// Le score principal est en opérations/s ; le compteur secondaire "ints" donne le débit en
+// entiers/s quelle que soit la taille. Les résultats sont consommés (Blackhole ou valeur de
+// retour) pour éviter l'élimination de code mort. Sélection d'un sous-ensemble :
+//   java -jar benchmarks.jar CodecBenchmark.decompress -p type=CONSECUTIVE -p size=1000000
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g", "--add-modules", "jdk.incubator.vector"})
+public class CodecBenchmark {
+
+    static final int LOOKUPS = 1024;
+    static final int SCAN_CHUNK = 4096;
+
+    // Sans liste de valeurs, JMH parcourt toutes les constantes de l'enum
+    @Param
+    public CompressionType type;
+
+    @Param({"100", "10000", "1000000", "100000000"})
+    public int size;
+
+    @Param({"4", "11", "20", "31"})
+    public int bits;
+
+    @Param
+    public BenchmarkData.Distribution distribution;
+
+    private BitPacking packer;
+    private int[] data;
+    private int[] compressed;
+    private int[] compressBuffer;
+    private int[] output;
+    private int[] indices;
+    private int[] lookups;
+    private int[] chunk;
+
+    // Nombre d'entiers traités, rapporté en entiers/s à côté du score principal
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Ints {
+        public long ints;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ints = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = BenchmarkData.generate(distribution, size, bits, 42);
+        packer = BenchmarkData.compressor(type, size);
+        compressed = packer.compress(data);
+        compressBuffer = new int[packer.maxCompressedSize(size)];
+        output = new int[size];
+        chunk = new int[SCAN_CHUNK];
+
+        SplittableRandom rand = new SplittableRandom(7);
+        indices = new int[LOOKUPS];
+        for (int k = 0; k < LOOKUPS; k++) {
+            indices[k] = rand.nextInt(size);
+        }
+        lookups = new int[LOOKUPS];
+    }
+
+    // API avec allocation du résultat (l'allocation est visible avec -prof gc)
+    @Benchmark
+    public int[] compress(Ints counter) {
+        counter.ints += size;
+        return packer.compress(data);
+    }
+
+    @Benchmark
+    public int compressInto(Ints counter) {
+        counter.ints += size;
+        return packer.compressInto(data, 0, size, compressBuffer, 0);
+    }
+
+    @Benchmark
+    public int[] decompress(Ints counter) {
+        counter.ints += size;
+        return packer.decompress(compressed, output);
+    }
+
+    // Un score = un get : le temps d'un accès est mesuré sur un lot, pas à l'unité
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void randomGet(Ints counter, Blackhole blackhole) {
+        for (int k = 0; k < LOOKUPS; k++) {
+            blackhole.consume(packer.get(compressed, indices[k]));
+        }
+        counter.ints += LOOKUPS;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int[] randomGetMany(Ints counter) {
+        packer.getMany(compressed, indices, lookups);
+        counter.ints += LOOKUPS;
+        return lookups;
+    }
+
+    // Parcours séquentiel par tranches (decodeRange) avec un calcul sur chaque valeur
+    @Benchmark
+    public long sequentialScan(Ints counter) {
+        long sum = 0;
+        for (int from = 0; from < size; from += SCAN_CHUNK) {
+            int count = packer.decodeRange(compressed, from, Math.min(size, from + SCAN_CHUNK), chunk);
+            for (int k = 0; k < count; k++) {
+                sum += chunk[k];
+            }
+        }
+        counter.ints += size;
+        return sum;
+    }
+}
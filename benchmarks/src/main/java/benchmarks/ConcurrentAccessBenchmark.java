@@ -0,0 +1,110 @@
+package benchmarks;
+
+import compression.ConcurrentBitPackedArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Accès concurrents à ConcurrentBitPackedArray, en lectures par seconde (débit seulement :
+// lectures déchirées et mises à jour perdues sont vérifiées par checks.ConcurrentStressCheck).
+//
+// Toutes les valeurs valent 0 ou le maximum de la largeur, l'écrivain les bascule. Les
+// largeurs 11 et 20 ont des valeurs à cheval sur deux mots (lecture avec version), 8 n'en a pas.
+//   - read : lectures seules, à lancer sur 1, 2, 4… threads pour mesurer le passage à l'échelle
+//       java -jar benchmarks.jar ConcurrentAccessBenchmark.read -t 1,2,4,8
+//   - contended : 3 lecteurs et 1 écrivain sur le même tableau
+//       java -jar benchmarks.jar ConcurrentAccessBenchmark.contended
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1)
+public class ConcurrentAccessBenchmark {
+
+    static final int LOOKUPS = 1024;
+
+    @Param({"8", "11", "20"})
+    public int bits;
+
+    @Param({"1000000"})
+    public int size;
+
+    private ConcurrentBitPackedArray array;
+    private int max;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        max = (int) ((1L << bits) - 1);
+        SplittableRandom rand = new SplittableRandom(42);
+        int[] data = new int[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = rand.nextBoolean() ? max : 0;
+        }
+        array = ConcurrentBitPackedArray.of(data, bits, false);
+    }
+
+    // Mêmes indices pour tous les threads (les lecteurs lisent les valeurs que l'écrivain
+    // modifie), position de parcours propre à chaque thread
+    @State(Scope.Thread)
+    public static class Indices {
+        int[] indices;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp(ConcurrentAccessBenchmark benchmark) {
+            SplittableRandom rand = new SplittableRandom(7);
+            indices = new int[LOOKUPS];
+            for (int k = 0; k < LOOKUPS; k++) {
+                indices[k] = rand.nextInt(benchmark.size);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int read(Indices indices) {
+        return readAll(indices.indices);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    @OperationsPerInvocation(LOOKUPS)
+    public int contendedRead(Indices indices) {
+        return readAll(indices.indices);
+    }
+
+    // Bascule une valeur entre 0 et le maximum, en parcourant les indices
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void contendedWrite(Indices indices) {
+        int i = indices.indices[indices.next];
+        indices.next = (indices.next + 1) & (LOOKUPS - 1);
+        array.set(i, array.get(i) == 0 ? max : 0);
+    }
+
+    private int readAll(int[] indices) {
+        int ones = 0;
+        for (int k = 0; k < LOOKUPS; k++) {
+            ones += array.get(indices[k]) & 1;
+        }
+        return ones;
+    }
+}
@@ -0,0 +1,100 @@
+package benchmarks;
+
+import compression.BitPacking;
+import compression.BitPackingCursor;
+import factory.CompressionFactory.CompressionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Parcours séquentiel d'une liste triée : boucle sur get(i) contre BitPackingCursor, et
+// intersection de deux listes (petite liste qui pilote advance sur la grande). Score en µs
+// par parcours complet :
+//   java -jar benchmarks.jar CursorBenchmark -p type=DELTA
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class CursorBenchmark {
+
+    @Param({"CONSECUTIVE", "PATCHED", "DELTA"})
+    public CompressionType type;
+
+    @Param({"1000000"})
+    public int size;
+
+    // Rapport de taille entre la grande et la petite liste de l'intersection
+    @Param({"16", "1024"})
+    public int ratio;
+
+    private BitPacking packer;
+    private int[] compressed;
+    private int[] skipData;
+    private int[] smallCompressed;
+    private BitPacking smallPacker;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] data = BenchmarkData.generate(BenchmarkData.Distribution.SORTED, size, 5, 42);
+        packer = BenchmarkData.compressor(type, size);
+        compressed = packer.compress(data);
+        skipData = BitPackingCursor.skipData(packer, compressed, 0);
+
+        // Petite liste : une valeur de la grande sur ratio, décalée d'une sur deux (moitié absente)
+        int[] small = new int[size / ratio];
+        for (int k = 0; k < small.length; k++) {
+            small[k] = data[k * ratio] + (k & 1);
+        }
+        smallPacker = BenchmarkData.compressor(type, small.length);
+        smallCompressed = smallPacker.compress(small);
+    }
+
+    @Benchmark
+    public long getLoop() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += packer.get(compressed, i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long cursor() {
+        long sum = 0;
+        BitPackingCursor cursor = packer.cursor(compressed);
+        while (cursor.hasNext()) {
+            sum += cursor.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int intersect() {
+        BitPackingCursor large = new BitPackingCursor(packer, compressed, 0, size, skipData);
+        BitPackingCursor small = smallPacker.cursor(smallCompressed);
+        int matches = 0;
+        while (small.hasNext()) {
+            int target = small.nextInt();
+            if (!large.advance(target)) {
+                break;
+            }
+            if (large.nextInt() == target) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
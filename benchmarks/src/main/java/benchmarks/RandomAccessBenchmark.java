@@ -0,0 +1,73 @@
+package benchmarks;
+
+import compression.BitPacking;
+import factory.CompressionFactory.CompressionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Accès aléatoire get(i) : disposition alignée (NonConsecutive, une valeur dans un seul mot)
+// contre disposition consécutive (valeurs à cheval), sur des largeurs qui divisent 32 ou non.
+// Score en ns par get :
+//   java -jar benchmarks.jar RandomAccessBenchmark -p bits=5,12
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class RandomAccessBenchmark {
+
+    static final int LOOKUPS = 1024;
+
+    @Param({"CONSECUTIVE", "NON_CONSECUTIVE"})
+    public CompressionType type;
+
+    @Param({"1", "3", "5", "7", "8", "11", "12", "16", "20", "31", "32"})
+    public int bits;
+
+    // Un tableau simple (en-tête 16 bits) et un conteneur par blocs
+    @Param({"65535", "1000000"})
+    public int size;
+
+    private BitPacking packer;
+    private int[] compressed;
+    private int[] indices;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] data = BenchmarkData.generate(BenchmarkData.Distribution.UNIFORM, size, bits, 42);
+        // Largeur exacte : au moins une valeur à bits bits (négative à 32 bits)
+        data[0] = bits == 32 ? -1 : (int) ((1L << bits) - 1);
+        packer = BenchmarkData.compressor(type, size);
+        compressed = packer.compress(data);
+
+        SplittableRandom rand = new SplittableRandom(7);
+        indices = new int[LOOKUPS];
+        for (int k = 0; k < LOOKUPS; k++) {
+            indices[k] = rand.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void get(Blackhole blackhole) {
+        for (int k = 0; k < LOOKUPS; k++) {
+            blackhole.consume(packer.get(compressed, indices[k]));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package benchmarks;
+
+import compression.BitPacking;
+import compression.BitPackedIntSet;
+import factory.CompressionFactory.CompressionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Combinaison de deux filtres (listes d'identifiants triées sur 2^24 valeurs) : décompression
+// DELTA des deux listes puis fusion des int[], contre and/or/andCardinality de BitPackedIntSet.
+// density = proportion d'identifiants présents ; clustered = identifiants par plages.
+// Score en µs par combinaison :
+//   java -jar benchmarks.jar SetBenchmark -p density=0.5
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class SetBenchmark {
+
+    private static final int UNIVERSE = 1 << 24;
+
+    @Param({"0.005", "0.05", "0.5"})
+    public double density;
+
+    @Param({"false", "true"})
+    public boolean clustered;
+
+    private BitPacking packer;
+    private int[] compressedA;
+    private int[] compressedB;
+    private int sizeA;
+    private int sizeB;
+    private int[] valuesA;
+    private int[] valuesB;
+    private int[] merged;
+    private BitPackedIntSet setA;
+    private BitPackedIntSet setB;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rand = new Random(42);
+        int[] a = ids(rand);
+        int[] b = ids(rand);
+        sizeA = a.length;
+        sizeB = b.length;
+        packer = BenchmarkData.compressor(CompressionType.DELTA, UNIVERSE);
+        compressedA = packer.compress(a);
+        compressedB = packer.compress(b);
+        valuesA = new int[sizeA];
+        valuesB = new int[sizeB];
+        merged = new int[sizeA + sizeB];
+        setA = BitPackedIntSet.of(a);
+        setB = BitPackedIntSet.of(b);
+    }
+
+    // Identifiants tirés un par un, ou par plages de 1 à 200 séparées d'écarts aléatoires
+    private int[] ids(Random rand) {
+        int[] values = new int[UNIVERSE];
+        int n = 0;
+        if (clustered) {
+            int v = 0;
+            while (v < UNIVERSE) {
+                int length = 1 + rand.nextInt(200);
+                int gap = (int) (length * (1 - density) / density);
+                for (int k = 0; k < length && v < UNIVERSE; k++) {
+                    values[n++] = v++;
+                }
+                v += 1 + rand.nextInt(2 * gap + 1);
+            }
+        } else {
+            for (int v = 0; v < UNIVERSE; v++) {
+                if (rand.nextDouble() < density) {
+                    values[n++] = v;
+                }
+            }
+        }
+        return Arrays.copyOf(values, n);
+    }
+
+    @Benchmark
+    public int mergeAnd() {
+        packer.decompress(compressedA, valuesA);
+        packer.decompress(compressedB, valuesB);
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < sizeA && j < sizeB) {
+            int x = valuesA[i];
+            int y = valuesB[j];
+            if (x == y) {
+                merged[n++] = x;
+                i++;
+                j++;
+            } else if (x < y) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int mergeOr() {
+        packer.decompress(compressedA, valuesA);
+        packer.decompress(compressedB, valuesB);
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < sizeA && j < sizeB) {
+            int x = valuesA[i];
+            int y = valuesB[j];
+            merged[n++] = Math.min(x, y);
+            i += x <= y ? 1 : 0;
+            j += y <= x ? 1 : 0;
+        }
+        while (i < sizeA) {
+            merged[n++] = valuesA[i++];
+        }
+        while (j < sizeB) {
+            merged[n++] = valuesB[j++];
+        }
+        return n;
+    }
+
+    @Benchmark
+    public BitPackedIntSet and() {
+        return setA.and(setB);
+    }
+
+    @Benchmark
+    public BitPackedIntSet or() {
+        return setA.or(setB);
+    }
+
+    @Benchmark
+    public long andCardinality() {
+        return setA.andCardinality(setB);
+    }
+}
@@ -0,0 +1,125 @@
+package benchmarks;
+
+import compression.GroupVarintBitPacking;
+import compression.StreamVByteBitPacking;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Trames d'entiers de magnitudes mélangées (charge utile RPC) : Group Varint et Stream VByte
+// dans un ByteBuffer contre LEB128 (varint à bit de continuation, référence ci-dessous).
+// Score en µs par trame ; sans --add-modules jdk.incubator.vector, le décodage est scalaire :
+//   java -jar benchmarks.jar VarintBenchmark -p direct=true
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class VarintBenchmark {
+
+    @Param({"GROUP_VARINT", "STREAM_VBYTE", "LEB128"})
+    public String codec;
+
+    @Param({"4096", "65536"})
+    public int size;
+
+    // Tampon hors tas (canal réseau) ou sur le tas
+    @Param({"false", "true"})
+    public boolean direct;
+
+    private int[] values;
+    private int[] out;
+    private ByteBuffer buffer;
+    private GroupVarintBitPacking groupVarint;
+    private StreamVByteBitPacking streamVByte;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Largeur tirée entre 1 et 32 bits pour chaque valeur
+        Random rand = new Random(42);
+        values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = rand.nextInt() >>> (31 - rand.nextInt(32));
+        }
+        out = new int[size];
+        groupVarint = new GroupVarintBitPacking();
+        streamVByte = new StreamVByteBitPacking();
+
+        int capacity = Math.max(GroupVarintBitPacking.maxEncodedSize(size), Integer.BYTES + 5 * size);
+        buffer = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        encode();
+    }
+
+    @Benchmark
+    public int encode() {
+        buffer.clear();
+        switch (codec) {
+            case "GROUP_VARINT":
+                return groupVarint.encode(values, 0, size, buffer);
+            case "STREAM_VBYTE":
+                return streamVByte.encode(values, 0, size, buffer);
+            default:
+                return encodeLeb128(values, size, buffer);
+        }
+    }
+
+    @Benchmark
+    public int[] decode() {
+        buffer.position(0);
+        switch (codec) {
+            case "GROUP_VARINT":
+                groupVarint.decode(buffer, out, 0);
+                break;
+            case "STREAM_VBYTE":
+                streamVByte.decode(buffer, out, 0);
+                break;
+            default:
+                decodeLeb128(buffer, out);
+        }
+        return out;
+    }
+
+    // LEB128 : 7 bits par octet, bit de poids fort à 1 si un octet suit
+    static int encodeLeb128(int[] values, int size, ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putInt(size);
+        for (int i = 0; i < size; i++) {
+            int v = values[i];
+            while ((v & ~0x7F) != 0) {
+                buffer.put((byte) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            buffer.put((byte) v);
+        }
+        return buffer.position() - start;
+    }
+
+    static void decodeLeb128(ByteBuffer buffer, int[] out) {
+        int size = buffer.getInt();
+        for (int i = 0; i < size; i++) {
+            int v = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get();
+                v |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            out[i] = v;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package checks;
+
+import compression.ConcurrentBitPackedArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Test de contention de ConcurrentBitPackedArray : lecteurs, écrivains et compteurs sur le
+// même tableau, sur des largeurs avec et sans valeurs à cheval sur deux mots.
+//   - Indices impairs : chaque écrivain possède une partie des indices et y écrit, tour après
+//     tour, code(i, tour) : une moitié des bits porte le tour, l'autre une empreinte de
+//     (i, tour). Les lecteurs vérifient l'empreinte de chaque valeur lue : une lecture qui
+//     mélange deux écritures (lecture déchirée) la casse.
+//   - Indices pairs : compteurs. Chaque incrémenteur alterne une passe de ROUNDS incréments
+//     (getAndAdd et boucles compareAndSet) et une passe d'autant de décréments, et termine sur
+//     une passe d'incréments : un compteur reste entre 0 et INCREMENTERS * ROUNDS et vaut à la
+//     fin exactement INCREMENTERS * ROUNDS (aucune mise à jour perdue, y compris par
+//     l'écriture d'un voisin qui partage le mot).
+// Les valeurs finales des indices impairs doivent être celles du dernier tour de leur écrivain.
+// Chaque configuration tourne au moins la durée donnée (ms) ; s'arrête à la première
+// incohérence (code de sortie 1).
+//   java -cp bin checks.ConcurrentStressCheck [durée en ms]
+public final class ConcurrentStressCheck {
+
+    private static final int SIZE = 2048;
+    private static final int READERS = 3;
+    private static final int WRITERS = 2;
+    private static final int INCREMENTERS = 4;
+    // INCREMENTERS * ROUNDS tient sur 8 bits, et sur 11 bits une fois zigzagué
+    private static final int ROUNDS = 60;
+
+    private ConcurrentStressCheck() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        long millis = args.length > 0 ? Long.parseLong(args[0]) : 1000;
+        for (int bits : new int[]{8, 11, 20, 32}) {
+            run(bits, false, millis);
+        }
+        for (int bits : new int[]{11, 20}) {
+            run(bits, true, millis);
+        }
+        System.out.println("ConcurrentStressCheck : OK");
+    }
+
+    private static void run(int bits, boolean signed, long millis) throws InterruptedException {
+        String name = bits + " bits" + (signed ? ", signé" : "");
+        ConcurrentBitPackedArray array = new ConcurrentBitPackedArray(SIZE, bits, signed);
+        Code code = new Code(bits, signed);
+        for (int i = 1; i < SIZE; i += 2) {
+            array.set(i, code.value(i, 0));
+        }
+
+        AtomicReference<String> failure = new AtomicReference<>();
+        AtomicInteger running = new AtomicInteger(WRITERS + INCREMENTERS);
+        CountDownLatch start = new CountDownLatch(1);
+        int[] lastRound = new int[SIZE];
+        List<Thread> threads = new ArrayList<>();
+        long[] reads = new long[READERS];
+
+        for (int r = 0; r < READERS; r++) {
+            int reader = r;
+            threads.add(worker(name, failure, null, () -> {
+                SplittableRandom rand = new SplittableRandom(reader);
+                await(start);
+                long count = 0;
+                while (running.get() > 0 && failure.get() == null) {
+                    int i = rand.nextInt(SIZE);
+                    int value = array.get(i);
+                    count++;
+                    if ((i & 1) == 1) {
+                        if (!code.isValid(i, value)) {
+                            failure.compareAndSet(null, name + " : lecture déchirée à l'indice " + i + " : " + value);
+                        }
+                    } else if (value < 0 || value > INCREMENTERS * ROUNDS) {
+                        failure.compareAndSet(null, name + " : compteur " + i + " hors bornes : " + value);
+                    }
+                }
+                reads[reader] = count;
+            }));
+        }
+
+        // Écrivain w : indices impairs i tels que (i >>> 1) % WRITERS == w, voisins dans les mêmes mots
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            threads.add(worker(name, failure, running, () -> {
+                await(start);
+                int round = 0;
+                while (running.get() > WRITERS && failure.get() == null) {
+                    round++;
+                    for (int i = 1 + 2 * writer; i < SIZE; i += 2 * WRITERS) {
+                        array.set(i, code.value(i, round));
+                        lastRound[i] = round;
+                    }
+                }
+            }));
+        }
+
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        for (int t = 0; t < INCREMENTERS; t++) {
+            int incrementer = t;
+            threads.add(worker(name, failure, running, () -> {
+                await(start);
+                int delta = 1;
+                while (failure.get() == null) {
+                    for (int round = 0; round < ROUNDS; round++) {
+                        // Parcours décalé d'un thread à l'autre pour multiplier les conflits de groupe
+                        for (int k = 0; k < SIZE / 2; k++) {
+                            int i = 2 * ((k + incrementer * 97) % (SIZE / 2));
+                            if ((k & 1) == 0) {
+                                array.getAndAdd(i, delta);
+                            } else {
+                                int value;
+                                do {
+                                    value = array.get(i);
+                                } while (!array.compareAndSet(i, value, value + delta));
+                            }
+                        }
+                    }
+                    if (delta == 1 && System.nanoTime() - deadline >= 0) {
+                        break;
+                    }
+                    delta = -delta;
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        fail(failure.get());
+        for (int i = 0; i < SIZE; i += 2) {
+            if (array.get(i) != INCREMENTERS * ROUNDS) {
+                fail(name + " : compteur " + i + " = " + array.get(i) + " au lieu de " + INCREMENTERS * ROUNDS + " (mise à jour perdue)");
+            }
+        }
+        for (int i = 1; i < SIZE; i += 2) {
+            if (array.get(i) != code.value(i, lastRound[i])) {
+                fail(name + " : indice " + i + " ne contient pas la dernière écriture (tour " + lastRound[i] + ")");
+            }
+        }
+        long total = 0;
+        for (long count : reads) {
+            total += count;
+        }
+        System.out.println(name + " : " + total + " lectures concurrentes vérifiées");
+    }
+
+    // code(i, tour) : tour sur les bits bas, empreinte de (i, tour) sur les bits hauts
+    private static final class Code {
+        final int lowBits;
+        final long lowMask;
+        final long highMask;
+        final boolean signed;
+
+        Code(int bits, boolean signed) {
+            this.lowBits = bits / 2;
+            this.lowMask = (1L << lowBits) - 1;
+            this.highMask = (1L << (bits - lowBits)) - 1;
+            this.signed = signed;
+        }
+
+        int value(int i, int round) {
+            long low = round & lowMask;
+            int field = (int) (low | (fingerprint(i, low) << lowBits));
+            // En mode signé, la valeur dont le zigzag est field
+            return signed ? (field >>> 1) ^ -(field & 1) : field;
+        }
+
+        boolean isValid(int i, int value) {
+            long field = (signed ? (value << 1) ^ (value >> 31) : value) & 0xFFFFFFFFL;
+            long low = field & lowMask;
+            return field >>> lowBits == fingerprint(i, low);
+        }
+
+        long fingerprint(int i, long low) {
+            long h = (i * 0x9E3779B97F4A7C15L) ^ (low * 0xC2B2AE3D27D4EB4FL);
+            h ^= h >>> 29;
+            return (h * 0xBF58476D1CE4E5B9L >>> 32) & highMask;
+        }
+    }
+
+    // Une exception dans un thread (valeur hors largeur après une mise à jour perdue...) est un échec ;
+    // running compte les écrivains et incrémenteurs encore actifs
+    private static Thread worker(String name, AtomicReference<String> failure, AtomicInteger running, Runnable body) {
+        return new Thread(() -> {
+            try {
+                body.run();
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, name + " : " + e);
+            } finally {
+                if (running != null) {
+                    running.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void fail(String message) {
+        if (message != null) {
+            System.err.println("ÉCHEC " + message);
+            System.exit(1);
+        }
+    }
+}
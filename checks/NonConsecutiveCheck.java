@@ -0,0 +1,159 @@
+package checks;
+
+import compression.NonConsecutiveBitPacking;
+import storage.ArrayWordStorage;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Vérification de NonConsecutiveBitPacking pour chaque largeur de 1 à 32, en mode signé et
+// non signé, jusqu'à la taille maximale (65 535) : disposition des mots (floor(32/b) valeurs
+// par mot à partir du bit 0, recalculée ici indépendamment), puis lectures par toutes les
+// voies. get(i) est vérifié pour chaque indice : il passe par l'inverse précalculé qui
+// remplace la division i / floor(32/b). S'arrête à la première différence (code de sortie 1).
+public final class NonConsecutiveCheck {
+
+    private static final int MAX_SIZE = 0xFFFF;
+    private static final int[] SIZES = {1, 2, 31, 32, 33, 1000, MAX_SIZE - 1, MAX_SIZE};
+
+    private NonConsecutiveCheck() {
+    }
+
+    public static void main(String[] args) {
+        Random rand = new Random(14);
+        long checked = 0;
+        for (boolean signed : new boolean[]{false, true}) {
+            NonConsecutiveBitPacking packer = new NonConsecutiveBitPacking(signed);
+            for (int bits = 1; bits <= 32; bits++) {
+                for (int size : SIZES) {
+                    checkRoundTrip(packer, randomData(rand, size, bits, signed), bits, signed);
+                    checkRoundTrip(packer, wordPattern(size, bits, signed), bits, signed);
+                    checked += 2;
+                }
+            }
+        }
+        System.out.println("NonConsecutiveCheck : OK (" + checked + " tableaux)");
+    }
+
+    // Valeurs aléatoires sur exactement bits bits (après zigzag en mode signé)
+    private static int[] randomData(Random rand, int size, int bits, boolean signed) {
+        int mask = -1 >>> (32 - bits);
+        int[] encoded = new int[size];
+        for (int i = 0; i < size; i++) {
+            encoded[i] = rand.nextInt() & mask;
+        }
+        encoded[rand.nextInt(size)] = mask;
+        return signed ? zigzagDecode(encoded) : encoded;
+    }
+
+    // Chaque valeur vaut le numéro de son mot (modulo 2^bits) : une erreur d'indice de mot
+    // dans get se voit même quand les valeurs aléatoires voisines coïncident
+    private static int[] wordPattern(int size, int bits, boolean signed) {
+        int mask = -1 >>> (32 - bits);
+        int perWord = 32 / bits;
+        int[] encoded = new int[size];
+        for (int i = 0; i < size; i++) {
+            encoded[i] = (i / perWord) & mask;
+        }
+        encoded[size - 1] = mask;
+        return signed ? zigzagDecode(encoded) : encoded;
+    }
+
+    private static int[] zigzagDecode(int[] encoded) {
+        int[] values = new int[encoded.length];
+        for (int i = 0; i < encoded.length; i++) {
+            values[i] = (encoded[i] >>> 1) ^ -(encoded[i] & 1);
+        }
+        return values;
+    }
+
+    private static void checkRoundTrip(NonConsecutiveBitPacking packer, int[] data, int bits, boolean signed) {
+        String name = (signed ? "signé" : "non signé") + ", " + bits + " bits, " + data.length + " valeurs";
+        int size = data.length;
+        int[] compressed = packer.compress(data);
+
+        // Disposition
+        int perWord = 32 / bits;
+        int[] expected = new int[1 + (size + perWord - 1) / perWord];
+        expected[0] = size << 16 | bits;
+        int mask = -1 >>> (32 - bits);
+        for (int i = 0; i < size; i++) {
+            int value = signed ? (data[i] << 1) ^ (data[i] >> 31) : data[i];
+            expected[1 + i / perWord] |= (value & mask) << (i % perWord * bits);
+        }
+        check(Arrays.equals(expected, compressed), name + " : disposition des mots");
+
+        int[] decoded = new int[size];
+        packer.decompress(compressed, decoded);
+        check(Arrays.equals(data, decoded), name + " : décompression");
+        try {
+            packer.decompress(compressed, new int[size - 1]);
+            check(false, name + " : tableau de sortie trop petit accepté");
+        } catch (IllegalArgumentException e) {
+            // Refusé sans allocation de remplacement
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (packer.get(compressed, i) != data[i]) {
+                check(false, name + " : get(" + i + ")");
+            }
+        }
+
+        // Tampon réutilisé (rempli de bits à 1) et décalages
+        int[] dest = new int[packer.maxCompressedSize(size) + 5];
+        Arrays.fill(dest, -1);
+        int words = packer.compressInto(data, 0, size, dest, 5);
+        check(words == compressed.length && Arrays.equals(compressed, 0, words, dest, 5, 5 + words), name + " : compressInto");
+        int[] shifted = new int[size + 3];
+        check(packer.decompressInto(dest, 5, shifted, 3) == size, name + " : decompressInto (taille)");
+        check(Arrays.equals(data, 0, size, shifted, 3, size + 3), name + " : decompressInto");
+
+        int[] indices = new int[Math.min(size, 257)];
+        for (int k = 0; k < indices.length; k++) {
+            indices[k] = (int) ((long) k * 40503 % size);
+        }
+        int[] many = new int[indices.length];
+        packer.getMany(compressed, indices, many);
+        for (int k = 0; k < indices.length; k++) {
+            check(many[k] == data[indices[k]], name + " : getMany(" + indices[k] + ")");
+        }
+        packer.getMany(dest, 5, indices, many);
+        for (int k = 0; k < indices.length; k++) {
+            check(many[k] == data[indices[k]], name + " : getMany(" + indices[k] + ") à un offset");
+        }
+
+        int from = size / 3;
+        int to = size - size / 5;
+        int[] range = new int[to - from];
+        check(packer.decodeRange(compressed, 0, from, to, range, 0) == to - from, name + " : decodeRange (taille)");
+        check(Arrays.equals(data, from, to, range, 0, to - from), name + " : decodeRange");
+
+        ArrayWordStorage storage = new ArrayWordStorage(compressed);
+        check(packer.get(storage, 0, size - 1) == data[size - 1], name + " : get(WordStorage)");
+        int[] fromStorage = new int[size];
+        packer.decompressInto(storage, 0, fromStorage, 0);
+        check(Arrays.equals(data, fromStorage), name + " : decompressInto(WordStorage)");
+
+        long count = 0;
+        long sum = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int v : data) {
+            count += v >= -5 && v <= 1 << (bits - 1) ? 1 : 0;
+            sum += v;
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        check(packer.count(compressed, -5, 1 << (bits - 1)) == count, name + " : count");
+        check(packer.sum(compressed) == sum, name + " : sum");
+        check(packer.min(compressed) == min, name + " : min");
+        check(packer.max(compressed) == max, name + " : max");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            System.err.println("ÉCHEC " + message);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package checks;
+
+import compression.BitPacking;
+import compression.BlockBitPacking;
+import compression.InstrumentedBitPacking;
+import compression.OverflowBitPacking;
+import compression.ParallelBitPacking;
+import compression.ScanOperators;
+import metrics.CodecMetrics;
+import storage.ArrayWordStorage;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Vérification de OverflowBitPacking sur des données où aucun seuil ne convient (plus de
+// 255 valeurs sur 32 bits : format RAW) et sur des données avec overflows, seul et comme
+// packer interne du conteneur par blocs (aussi derrière un packer instrumenté, sans scans) et
+// de la version parallèle. S'arrête à la première différence (code de sortie 1).
+public final class OverflowCheck {
+
+    private OverflowCheck() {
+    }
+
+    public static void main(String[] args) {
+        Random rand = new Random(4);
+
+        // 10 000 entiers aléatoires : valeurs négatives (32 bits) en mode non signé
+        int[] random = new int[10_000];
+        for (int i = 0; i < random.length; i++) {
+            random[i] = rand.nextInt();
+        }
+        // Grandes magnitudes en mode signé (zigzag sur 32 bits)
+        int[] large = new int[10_000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (rand.nextBoolean() ? 1 : -1) * (1 << 30 | rand.nextInt(1 << 30));
+        }
+        // Petites valeurs avec quelques overflows (format habituel)
+        int[] outliers = new int[10_000];
+        for (int i = 0; i < outliers.length; i++) {
+            outliers[i] = i % 97 == 0 ? rand.nextInt() : rand.nextInt(64);
+        }
+
+        for (boolean signed : new boolean[]{false, true}) {
+            for (int[] data : new int[][]{random, large, outliers}) {
+                OverflowBitPacking packer = new OverflowBitPacking(signed);
+                checkPacker(packer, data, true);
+                checkPacker(new BlockBitPacking(new OverflowBitPacking(signed)), concat(data, 20), false);
+                checkPacker(new ParallelBitPacking(new OverflowBitPacking(signed)), concat(data, 20), false);
+                // Packer interne sans scans : blocs décodés puis comparés
+                BitPacking instrumented = new InstrumentedBitPacking(new OverflowBitPacking(signed), new CodecMetrics());
+                checkPacker(new BlockBitPacking(instrumented), concat(data, 20), false);
+            }
+        }
+        System.out.println("OverflowCheck : OK");
+    }
+
+    private static void checkPacker(BitPacking packer, int[] data, boolean single) {
+        String name = packer.getClass().getSimpleName();
+        int[] compressed = packer.compress(data);
+        int[] decoded = new int[data.length];
+        packer.decompress(compressed, decoded);
+        check(Arrays.equals(data, decoded), name + " : décompression");
+        try {
+            packer.decompress(compressed, new int[data.length - 1]);
+            check(false, name + " : tableau de sortie trop petit accepté");
+        } catch (IllegalArgumentException e) {
+            // Refusé sans allocation de remplacement
+        }
+
+        int[] dest = new int[packer.maxCompressedSize(data.length) + 3];
+        Arrays.fill(dest, -1);
+        int words = packer.compressInto(data, 0, data.length, dest, 3);
+        int[] again = new int[data.length + 2];
+        check(packer.decompressInto(dest, 3, again, 2) == data.length, name + " : decompressInto (taille)");
+        check(Arrays.equals(data, 0, data.length, again, 2, data.length + 2), name + " : decompressInto");
+        check(words <= packer.maxCompressedSize(data.length), name + " : maxCompressedSize");
+
+        for (int k = 0; k < 1000; k++) {
+            int i = (k * 7919) % data.length;
+            check(packer.get(compressed, i) == data[i], name + " : get(" + i + ")");
+            check(packer.get(dest, 3, i) == data[i], name + " : get(" + i + ") à un offset");
+        }
+        int[] indices = {0, 1, data.length / 2, data.length - 1};
+        int[] many = new int[indices.length];
+        packer.getMany(dest, 3, indices, many);
+        for (int k = 0; k < indices.length; k++) {
+            check(many[k] == data[indices[k]], name + " : getMany à un offset");
+        }
+
+        ScanOperators scan = (ScanOperators) packer;
+        long count = 0;
+        long sum = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int v : data) {
+            count += v >= -1000 && v <= 1 << 20 ? 1 : 0;
+            sum += v;
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        check(scan.count(compressed, -1000, 1 << 20) == count, name + " : count");
+        check(scan.sum(compressed) == sum, name + " : sum");
+        check(scan.min(compressed) == min, name + " : min");
+        check(scan.max(compressed) == max, name + " : max");
+        long retained = 0;
+        for (long word : scan.filter(compressed, -1000, 1 << 20)) {
+            retained += Long.bitCount(word);
+        }
+        check(retained == count, name + " : filter");
+        if (!single) {
+            return;
+        }
+
+        ArrayWordStorage storage = new ArrayWordStorage(compressed);
+        check(packer.get(storage, 0, data.length - 1) == data[data.length - 1], name + " : get(WordStorage)");
+        int[] fromStorage = new int[data.length];
+        packer.decompressInto(storage, 0, fromStorage, 0);
+        check(Arrays.equals(data, fromStorage), name + " : decompressInto(WordStorage)");
+
+        packer.getMany(compressed, indices, many);
+        for (int k = 0; k < indices.length; k++) {
+            check(many[k] == data[indices[k]], name + " : getMany");
+        }
+        int[] range = new int[100];
+        packer.decodeRange(compressed, 0, 1000, 1100, range, 0);
+        check(Arrays.equals(data, 1000, 1100, range, 0, 100), name + " : decodeRange");
+    }
+
+    private static int[] concat(int[] data, int times) {
+        int[] result = new int[data.length * times];
+        for (int t = 0; t < times; t++) {
+            System.arraycopy(data, 0, result, t * data.length, data.length);
+        }
+        return result;
+    }
+
+    static void check(boolean condition, String message) {
+        if (!condition) {
+            System.err.println("ÉCHEC " + message);
+            System.exit(1);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 import compression.BitPacking;
+import compression.VerticalBitPacking;
 import factory.CompressionFactory;
 import java.util.Random;
 
 public class Main {
     private static final int WARMUP = 100;
     private static final int ITERATIONS = 5000;
+    private static final int LOOKUPS = 1000;
 
     public static void main(String[] args) {
         System.out.println("═══════════════════════════════════════════════════════════");
@@ -41,32 +43,145 @@ public class Main {
         // Variable à changer ici pour un test personnalisé
         test(new int[]{4, 8, 15, 16, 23, 42}, "Custom");
 
+        // Test 7 : Données triées (identifiants croissants)
+        System.out.println("\n" + "─".repeat(60));
+        System.out.println("TEST 7 : Données triées (10000 identifiants à partir de 100 000 000)");
+        testSorted(generateSorted(10000, 100_000_000, 500));
+
+        // Test 8 : Valeurs signées (mode zigzag)
+        System.out.println("\n" + "─".repeat(60));
+        System.out.println("TEST 8 : Valeurs signées (10000 éléments entre -100 et 100)");
+        testSigned(generateSigned(10000, 100));
 
     }
 
     private static void test(int[] data, String name) {
         System.out.printf("Données : %d éléments, Max=%d\n\n", data.length, findMax(data));
 
-        Result[] results = new Result[3];
+        Result[] results = new Result[8];
         results[0] = benchmark(CompressionFactory.CompressionType.CONSECUTIVE, data);
         results[1] = benchmark(CompressionFactory.CompressionType.NON_CONSECUTIVE, data);
         results[2] = benchmark(CompressionFactory.CompressionType.OVERFLOW, data);
+        results[3] = benchmark(CompressionFactory.CompressionType.PATCHED, data);
+        results[4] = benchmark(CompressionFactory.CompressionType.VERTICAL, data);
+        results[5] = benchmark(CompressionFactory.CompressionType.GROUP_VARINT, data);
+        results[6] = benchmark(CompressionFactory.CompressionType.STREAM_VBYTE, data);
+        results[7] = benchmark(CompressionFactory.CompressionType.AUTO, data);
 
         // Affichage des résultats
-        System.out.println("┌──────────────────┬──────────┬──────────┬──────────┬──────────┐");
-        System.out.println("│ Méthode          │ Taille   │ Gain %   │ Temps µs │ Get µs   │");
-        System.out.println("├──────────────────┼──────────┼──────────┼──────────┼──────────┤");
+        printHeader();
         printRow("Consecutive", results[0]);
         printRow("Non-Consecutive", results[1]);
         printRow("Overflow", results[2]);
-        System.out.println("└──────────────────┴──────────┴──────────┴──────────┴──────────┘");
+        printRow("Patched (PFOR)", results[3]);
+        printRow(VerticalBitPacking.isVectorAvailable() ? "Vertical (SIMD)" : "Vertical", results[4]);
+        printRow("Group Varint", results[5]);
+        printRow("Stream VByte", results[6]);
+        printRow("Auto", results[7]);
+        printFooter();
+
+        // Accès aléatoires : get un par un vs getMany en lot
+        System.out.println("\nAccès aléatoires (" + LOOKUPS + " indices) : get → getMany, en ns/accès");
+        printLookups("Consecutive", CompressionFactory.CompressionType.CONSECUTIVE, data);
+        printLookups("Non-Consecutive", CompressionFactory.CompressionType.NON_CONSECUTIVE, data);
+        printLookups("Overflow", CompressionFactory.CompressionType.OVERFLOW, data);
+        printLookups("Patched (PFOR)", CompressionFactory.CompressionType.PATCHED, data);
 
         // Analyse
         analyzeResults(data, results);
     }
 
-    private static Result benchmark(CompressionFactory.CompressionType type, int[] data) {
+    // Données triées : comparaison avec les codages frame of reference et différentiels
+    private static void testSorted(int[] data) {
+        System.out.printf("Données : %d éléments, Max=%d\n\n", data.length, findMax(data));
+
+        Result[] results = new Result[4];
+        results[0] = benchmark(CompressionFactory.CompressionType.CONSECUTIVE, data);
+        results[1] = benchmark(CompressionFactory.CompressionType.FRAME_OF_REFERENCE, data);
+        results[2] = benchmark(CompressionFactory.CompressionType.DELTA, data);
+        results[3] = benchmark(CompressionFactory.CompressionType.DELTA_OF_DELTA, data);
+
+        printHeader();
+        printRow("Consecutive", results[0]);
+        printRow("Frame of ref.", results[1]);
+        printRow("Delta", results[2]);
+        printRow("Delta of delta", results[3]);
+        printFooter();
+
+        analyzeResults(data, results);
+    }
+
+    // Valeurs signées : mode non signé (négatifs sur 32 bits) vs mode signé (zigzag)
+    private static void testSigned(int[] data) {
+        System.out.printf("Données : %d éléments, Max=%d\n\n", data.length, findMax(data));
+
+        Result[] results = new Result[4];
+        results[0] = benchmark(CompressionFactory.CompressionType.CONSECUTIVE, data, false);
+        results[1] = benchmark(CompressionFactory.CompressionType.CONSECUTIVE, data, true);
+        results[2] = benchmark(CompressionFactory.CompressionType.OVERFLOW, data, true);
+        results[3] = benchmark(CompressionFactory.CompressionType.VERTICAL, data, true);
+
+        printHeader();
+        printRow("Consecutive", results[0]);
+        printRow("Consecutive sig.", results[1]);
+        printRow("Overflow signé", results[2]);
+        printRow("Vertical signé", results[3]);
+        printFooter();
+
+        analyzeResults(data, results);
+    }
+
+    private static void printHeader() {
+        System.out.println("┌──────────────────┬──────────┬──────────┬──────────┬──────────┐");
+        System.out.println("│ Méthode          │ Taille   │ Gain %   │ Temps µs │ Get µs   │");
+        System.out.println("├──────────────────┼──────────┼──────────┼──────────┼──────────┤");
+    }
+
+    private static void printFooter() {
+        System.out.println("└──────────────────┴──────────┴──────────┴──────────┴──────────┘");
+    }
+
+    private static void printLookups(String name, CompressionFactory.CompressionType type, int[] data) {
         BitPacking packer = CompressionFactory.createCompressor(type);
+        int[] compressed = packer.compress(data);
+
+        Random rand = new Random(42);
+        int[] indices = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            indices[i] = rand.nextInt(data.length);
+        }
+        int[] out = new int[LOOKUPS];
+
+        // Warm-up
+        for (int i = 0; i < WARMUP; i++) {
+            for (int k = 0; k < LOOKUPS; k++) out[k] = packer.get(compressed, indices[k]);
+            packer.getMany(compressed, indices, out);
+        }
+
+        long getTime = 0, manyTime = 0;
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            long start = System.nanoTime();
+            for (int k = 0; k < LOOKUPS; k++) out[k] = packer.get(compressed, indices[k]);
+            getTime += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            packer.getMany(compressed, indices, out);
+            manyTime += System.nanoTime() - start;
+        }
+
+        double perGet = (double) getTime / (ITERATIONS / 10) / LOOKUPS;
+        double perMany = (double) manyTime / (ITERATIONS / 10) / LOOKUPS;
+        System.out.printf("  %-16s : %6.2f → %6.2f\n", name, perGet, perMany);
+    }
+
+    private static Result benchmark(CompressionFactory.CompressionType type, int[] data) {
+        return benchmark(type, data, false);
+    }
+
+    // Mesure indicative (appels isolés chronométrés) : les chiffres de référence viennent
+    // du module JMH benchmarks/ (CodecBenchmark)
+    private static Result benchmark(CompressionFactory.CompressionType type, int[] data, boolean signed) {
+        BitPacking packer = CompressionFactory.createCompressor(type, signed);
 
         // Warm-up
         for (int i = 0; i < WARMUP; i++) {
@@ -153,6 +268,26 @@ public class Main {
         return array;
     }
 
+    private static int[] generateSorted(int size, int start, int maxGap) {
+        Random rand = new Random(42);
+        int[] array = new int[size];
+        int value = start;
+        for (int i = 0; i < size; i++) {
+            value += rand.nextInt(maxGap) + 1;
+            array[i] = value;
+        }
+        return array;
+    }
+
+    private static int[] generateSigned(int size, int amplitude) {
+        Random rand = new Random(42);
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = rand.nextInt(2 * amplitude + 1) - amplitude;
+        }
+        return array;
+    }
+
     private static int findMax(int[] array) {
         int max = 0;
         for (int v : array) if (v > max) max = v;
@@ -0,0 +1,458 @@
+package compression;
+
+import storage.WordStorage;
+
+import java.util.Arrays;
+
+// Choix automatique du codec bloc par bloc (type AUTO).
+//
+// Pour chaque bloc, un histogramme des longueurs en bits (une seule passe) donne la taille
+// exacte qu'occuperait le bloc avec Consecutive, NonConsecutive et Overflow. Le coût de
+// décodage est ajouté sous forme de pénalité par valeur (en mots) : à taille proche, le
+// codec le plus rapide à décoder est préféré. Le codec retenu est noté dans une étiquette
+// de 2 bits par bloc ; le décodage aiguille une fois par bloc vers le codec concret, la
+// boucle interne reste celle du codec (aucun appel virtuel par valeur).
+//
+// Format :
+//   [0..1]                       taille totale sur 64 bits
+//   [2]                          log2 de la taille de bloc
+//   [3 .. 3+nbBlocs-1]           répertoire : position de chaque bloc (relative au début)
+//   [3+nbBlocs .. +nbMotsTags]   étiquettes, 16 blocs par mot (2 bits par bloc)
+//   [...]                        blocs, chacun au format de son codec
+public class AdaptiveBitPacking implements BitPacking, ScanOperators {
+
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    static final int TAG_CONSECUTIVE = 0;
+    static final int TAG_NON_CONSECUTIVE = 1;
+    static final int TAG_OVERFLOW = 2;
+
+    // Pénalité de décodage par valeur, en mots : Consecutive décode par noyaux déroulés,
+    // NonConsecutive mot par mot sans noyau déroulé, Overflow ajoute le test et la correction des slots marqués
+    private static final double NON_CONSECUTIVE_COST = 1.0 / 64;
+    private static final double OVERFLOW_COST = 1.0 / 32;
+
+    private static final ThreadLocal<int[]> HISTOGRAM = ThreadLocal.withInitial(() -> new int[33]);
+
+    private final ConsecutiveBitPacking consecutive;
+    private final NonConsecutiveBitPacking nonConsecutive;
+    private final OverflowBitPacking overflow;
+    private final boolean signed;
+    private final int blockSize;
+    private final int blockShift;
+
+    public AdaptiveBitPacking() {
+        this(false);
+    }
+
+    public AdaptiveBitPacking(boolean signed) {
+        this(signed, DEFAULT_BLOCK_SIZE);
+    }
+
+    public AdaptiveBitPacking(boolean signed, int blockSize) {
+        if (blockSize < 32 || blockSize > ConsecutiveBitPacking.MAX_SIZE || Integer.bitCount(blockSize) != 1) {
+            throw new IllegalArgumentException("Taille de bloc invalide : " + blockSize);
+        }
+        this.consecutive = new ConsecutiveBitPacking(signed);
+        this.nonConsecutive = new NonConsecutiveBitPacking(signed);
+        this.overflow = new OverflowBitPacking(signed);
+        this.signed = signed;
+        this.blockSize = blockSize;
+        this.blockShift = Integer.numberOfTrailingZeros(blockSize);
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    private int blockCount(int size) {
+        return (int) (((long) size + blockSize - 1) >>> blockShift);
+    }
+
+    private static int tagWords(int blockCount) {
+        return (blockCount + 15) >>> 4;
+    }
+
+    @Override
+    public int[] compress(int[] array) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null ou vide");
+        }
+
+        // Première passe : choix et taille exacte de chaque bloc
+        int blockCount = blockCount(array.length);
+        int[] choices = new int[blockCount];
+        long words = plan(array, 0, array.length, choices);
+        if (words > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tableau compressé trop grand");
+        }
+
+        int[] compressed = new int[(int) words];
+        pack(array, 0, array.length, choices, compressed, 0);
+        return compressed;
+    }
+
+    @Override
+    public int compressInto(int[] array, int offset, int length, int[] dest, int destOffset) {
+        if (array == null || length <= 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+
+        int blockCount = blockCount(length);
+        int[] choices = new int[blockCount];
+        long words = plan(array, offset, length, choices);
+        if (dest == null || destOffset < 0 || dest.length - destOffset < words) {
+            throw new IllegalArgumentException("Tableau de destination trop petit");
+        }
+
+        return pack(array, offset, length, choices, dest, destOffset);
+    }
+
+    @Override
+    public int maxCompressedSize(int n) {
+        int fullBlocks = n >>> blockShift;
+        int rest = n & (blockSize - 1);
+        long max = BlockBitPacking.HEADER_SIZE + blockCount(n) + tagWords(blockCount(n))
+                + (long) fullBlocks * maxBlockSize(blockSize) + (rest > 0 ? maxBlockSize(rest) : 0);
+        return (int) Math.min(max, Integer.MAX_VALUE);
+    }
+
+    private int maxBlockSize(int length) {
+        return Math.max(consecutive.maxCompressedSize(length),
+                Math.max(nonConsecutive.maxCompressedSize(length), overflow.maxCompressedSize(length)));
+    }
+
+    // Choisit le codec de chaque bloc (dans choices) et retourne la taille totale en mots
+    private long plan(int[] array, int from, int length, int[] choices) {
+        int blockCount = choices.length;
+        long words = BlockBitPacking.HEADER_SIZE + blockCount + tagWords(blockCount);
+        int[] histogram = HISTOGRAM.get();
+
+        for (int b = 0; b < blockCount; b++) {
+            int start = b << blockShift;
+            int blockLength = Math.min(blockSize, length - start);
+            histogram(array, from + start, blockLength, histogram);
+
+            int maxBits = OverflowBitPacking.findMaxBits(histogram);
+            int consecutiveWords = ConsecutiveBitPacking.compressedSize(blockLength, maxBits);
+            int bestTag = TAG_CONSECUTIVE;
+            int bestWords = consecutiveWords;
+            double bestCost = consecutiveWords;
+
+            int nonConsecutiveWords = NonConsecutiveBitPacking.compressedSize(blockLength, maxBits);
+            double nonConsecutiveCost = nonConsecutiveWords + blockLength * NON_CONSECUTIVE_COST;
+            if (nonConsecutiveCost < bestCost) {
+                bestTag = TAG_NON_CONSECUTIVE;
+                bestWords = nonConsecutiveWords;
+                bestCost = nonConsecutiveCost;
+            }
+
+            int optimalBits = OverflowBitPacking.optimalBits(histogram, blockLength, maxBits);
+            if (optimalBits < 32) {
+                int overflowWords = OverflowBitPacking.compressedSize(blockLength, optimalBits,
+                        OverflowBitPacking.countAbove(histogram, optimalBits));
+                double cost = overflowWords + blockLength * OVERFLOW_COST;
+                if (cost < bestCost) {
+                    bestTag = TAG_OVERFLOW;
+                    bestWords = overflowWords;
+                }
+            }
+
+            choices[b] = bestTag;
+            words += bestWords;
+        }
+
+        return words;
+    }
+
+    // Histogramme des longueurs en bits (valeurs zigzag en mode signé)
+    private void histogram(int[] array, int from, int length, int[] histogram) {
+        Arrays.fill(histogram, 0);
+        for (int i = from; i < from + length; i++) {
+            int value = signed ? ZigZag.encode(array[i]) : array[i];
+            histogram[32 - Integer.numberOfLeadingZeros(value)]++;
+        }
+    }
+
+    private int pack(int[] array, int from, int length, int[] choices, int[] dest, int base) {
+        int blockCount = choices.length;
+        dest[base] = length;
+        dest[base + 1] = 0;
+        dest[base + 2] = blockShift;
+
+        int tags = base + BlockBitPacking.HEADER_SIZE + blockCount;
+        Arrays.fill(dest, tags, tags + tagWords(blockCount), 0);
+        int position = BlockBitPacking.HEADER_SIZE + blockCount + tagWords(blockCount);
+
+        for (int b = 0; b < blockCount; b++) {
+            int start = from + (b << blockShift);
+            int blockLength = Math.min(blockSize, length - (b << blockShift));
+
+            dest[base + BlockBitPacking.HEADER_SIZE + b] = position;
+            dest[tags + (b >>> 4)] |= choices[b] << ((b & 15) << 1);
+            position += codec(choices[b]).compressInto(array, start, blockLength, dest, base + position);
+        }
+
+        return position;
+    }
+
+    private BitPacking codec(int tag) {
+        switch (tag) {
+            case TAG_CONSECUTIVE:
+                return consecutive;
+            case TAG_NON_CONSECUTIVE:
+                return nonConsecutive;
+            case TAG_OVERFLOW:
+                return overflow;
+            default:
+                throw new IllegalArgumentException("Étiquette de bloc invalide : " + tag);
+        }
+    }
+
+    private static int tag(int[] compressedArray, int offset, int blockCount, int block) {
+        int word = compressedArray[offset + BlockBitPacking.HEADER_SIZE + blockCount + (block >>> 4)];
+        return (word >>> ((block & 15) << 1)) & 3;
+    }
+
+    @Override
+    public int[] decompress(int[] compressedArray, int[] outputArray) {
+        decompressInto(compressedArray, 0, outputArray, 0);
+        return outputArray;
+    }
+
+    @Override
+    public int decompressInto(int[] compressedArray, int offset, int[] outputArray, int outputOffset) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        if (size > Integer.MAX_VALUE || outputArray == null || outputArray.length - outputOffset < size) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        int shift = compressedArray[offset + 2];
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+
+        // Aiguillage une fois par bloc, vers la méthode du codec concret
+        for (int b = 0; b < blockCount; b++) {
+            int blockOffset = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + b];
+            int target = outputOffset + (b << shift);
+            switch (tag(compressedArray, offset, blockCount, b)) {
+                case TAG_CONSECUTIVE:
+                    consecutive.decompressInto(compressedArray, blockOffset, outputArray, target);
+                    break;
+                case TAG_NON_CONSECUTIVE:
+                    nonConsecutive.decompressInto(compressedArray, blockOffset, outputArray, target);
+                    break;
+                case TAG_OVERFLOW:
+                    overflow.decompressInto(compressedArray, blockOffset, outputArray, target);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Étiquette de bloc invalide");
+            }
+        }
+
+        return (int) size;
+    }
+
+    @Override
+    public int get(int[] compressedArray, int i) {
+        return get(compressedArray, 0, i);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int offset, int i) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+        }
+
+        int shift = compressedArray[offset + 2];
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+        int block = i >>> shift;
+        int blockOffset = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + block];
+        int local = i & ((1 << shift) - 1);
+
+        switch (tag(compressedArray, offset, blockCount, block)) {
+            case TAG_CONSECUTIVE:
+                return consecutive.get(compressedArray, blockOffset, local);
+            case TAG_NON_CONSECUTIVE:
+                return nonConsecutive.get(compressedArray, blockOffset, local);
+            case TAG_OVERFLOW:
+                return overflow.get(compressedArray, blockOffset, local);
+            default:
+                throw new IllegalArgumentException("Étiquette de bloc invalide");
+        }
+    }
+
+    @Override
+    public int decodeRange(int[] compressedArray, int offset, int from, int to, int[] out, int outOffset) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        int shift = compressedArray[offset + 2];
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+        int i = from;
+        int target = outOffset;
+        while (i < to) {
+            int block = i >>> shift;
+            int blockStart = block << shift;
+            int localTo = (int) Math.min(to - blockStart, 1L << shift);
+            int blockOffset = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + block];
+
+            int count;
+            switch (tag(compressedArray, offset, blockCount, block)) {
+                case TAG_CONSECUTIVE:
+                    count = consecutive.decodeRange(compressedArray, blockOffset, i - blockStart, localTo, out, target);
+                    break;
+                case TAG_NON_CONSECUTIVE:
+                    count = nonConsecutive.decodeRange(compressedArray, blockOffset, i - blockStart, localTo, out, target);
+                    break;
+                case TAG_OVERFLOW:
+                    count = overflow.decodeRange(compressedArray, blockOffset, i - blockStart, localTo, out, target);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Étiquette de bloc invalide");
+            }
+            i += count;
+            target += count;
+        }
+
+        return to - from;
+    }
+
+    // Scans : aiguillage une fois par bloc vers le scan du codec concret (bornes de largeur,
+    // SWAR, zone d'overflow à part)
+    private ScanOperators scanner(int tag) {
+        switch (tag) {
+            case TAG_CONSECUTIVE:
+                return consecutive;
+            case TAG_NON_CONSECUTIVE:
+                return nonConsecutive;
+            case TAG_OVERFLOW:
+                return overflow;
+            default:
+                throw new IllegalArgumentException("Étiquette de bloc invalide : " + tag);
+        }
+    }
+
+    @Override
+    public long size(int[] compressedArray, int offset) {
+        return BlockBitPacking.readSize(compressedArray, offset);
+    }
+
+    @Override
+    public long count(int[] compressedArray, int offset, int lo, int hi) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        int shift = compressedArray[offset + 2];
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+
+        long matches = 0;
+        for (int b = 0; b < blockCount; b++) {
+            int blockOffset = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + b];
+            matches += scanner(tag(compressedArray, offset, blockCount, b)).count(compressedArray, blockOffset, lo, hi);
+        }
+        return matches;
+    }
+
+    @Override
+    public long filter(int[] compressedArray, int offset, int lo, int hi, long[] bitmap, long bitBase) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        int shift = compressedArray[offset + 2];
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+
+        long matches = 0;
+        for (int b = 0; b < blockCount; b++) {
+            int blockOffset = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + b];
+            matches += scanner(tag(compressedArray, offset, blockCount, b))
+                    .filter(compressedArray, blockOffset, lo, hi, bitmap, bitBase + ((long) b << shift));
+        }
+        return matches;
+    }
+
+    @Override
+    public long sum(int[] compressedArray, int offset) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        int shift = compressedArray[offset + 2];
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+
+        long sum = 0;
+        for (int b = 0; b < blockCount; b++) {
+            int blockOffset = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + b];
+            sum += scanner(tag(compressedArray, offset, blockCount, b)).sum(compressedArray, blockOffset);
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(int[] compressedArray, int offset) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        int shift = compressedArray[offset + 2];
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+
+        int min = Integer.MAX_VALUE;
+        for (int b = 0; b < blockCount; b++) {
+            int blockOffset = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + b];
+            min = Math.min(min, scanner(tag(compressedArray, offset, blockCount, b)).min(compressedArray, blockOffset));
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] compressedArray, int offset) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        int shift = compressedArray[offset + 2];
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+
+        int max = Integer.MIN_VALUE;
+        for (int b = 0; b < blockCount; b++) {
+            int blockOffset = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + b];
+            max = Math.max(max, scanner(tag(compressedArray, offset, blockCount, b)).max(compressedArray, blockOffset));
+        }
+        return max;
+    }
+
+    @Override
+    public int get(WordStorage storage, long offset, int i) {
+        long size = StorageAccess.readSize(storage, offset);
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+        }
+
+        int shift = storage.getWord(offset + 2);
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+        int block = i >>> shift;
+        long blockOffset = offset + storage.getWord(offset + BlockBitPacking.HEADER_SIZE + block);
+        int tag = (storage.getWord(offset + BlockBitPacking.HEADER_SIZE + blockCount + (block >>> 4)) >>> ((block & 15) << 1)) & 3;
+
+        return codec(tag).get(storage, blockOffset, i & ((1 << shift) - 1));
+    }
+
+    // Chaque bloc est chargé seul (bornes données par le répertoire) puis décodé comme un int[]
+    @Override
+    public int decompressInto(WordStorage storage, long offset, int[] outputArray, int outputOffset) {
+        long size = StorageAccess.readSize(storage, offset);
+        if (size > Integer.MAX_VALUE || outputArray == null || outputArray.length - outputOffset < size) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        int shift = storage.getWord(offset + 2);
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+
+        for (int b = 0; b < blockCount; b++) {
+            int start = storage.getWord(offset + BlockBitPacking.HEADER_SIZE + b);
+            int length = (int) Math.min(1L << shift, size - ((long) b << shift));
+            int tag = (storage.getWord(offset + BlockBitPacking.HEADER_SIZE + blockCount + (b >>> 4)) >>> ((b & 15) << 1)) & 3;
+            long end = b + 1 < blockCount
+                    ? storage.getWord(offset + BlockBitPacking.HEADER_SIZE + b + 1)
+                    : Math.min(start + (long) codec(tag).maxCompressedSize(length), storage.wordCount() - offset);
+
+            int[] window = StorageAccess.load(storage, offset + start, (int) (end - start));
+            codec(tag).decompressInto(window, 0, outputArray, outputOffset + (b << shift));
+        }
+
+        return (int) size;
+    }
+}
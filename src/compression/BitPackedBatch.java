@@ -0,0 +1,275 @@
+package compression;
+
+import java.util.Arrays;
+
+// Lot de petits tableaux compressés dans une seule arène : au lieu d'un int[] par tableau
+// (en-tête objet, référence et en-tête de format), chaque tableau occupe 2 entiers de
+// répertoire et ses mots dans l'arène commune.
+//
+// Répertoire : pour le tableau k, directory[2k] = premier mot dans l'arène et
+// directory[2k + 1] = (longueur << 8) | largeur. Chaque tableau a sa propre largeur (OU de
+// ses valeurs) et ses valeurs sont rangées au format de ConsecutiveBitPacking sans en-tête :
+// get, décompression et toCompressed réutilisent extract et les noyaux déroulés.
+//
+// Chaque tableau est compressé dès que sa largeur est connue (boucle de OU vectorisée par le
+// JIT), pendant qu'il est encore en cache. add(...) ajoute un tableau à la fois (ingestion),
+// la capacité croissant d'un facteur 1,5 ; of(...) construit le lot d'un coup et réserve
+// l'arène d'après les premiers tableaux.
+//
+// En mode signé, les valeurs sont stockées en zigzag. Non thread-safe.
+public class BitPackedBatch {
+
+    // La longueur est stockée sur 24 bits dans le répertoire
+    public static final int MAX_LENGTH = 0xFFFFFF;
+
+    private static final int DEFAULT_ARRAYS = 64;
+
+    // Nombre de tableaux compressés avant d'estimer la taille de l'arène (of)
+    private static final int RESERVE_SAMPLE = 256;
+
+    private final boolean signed;
+    private int[] words;
+    private int wordCount;
+    private int[] directory;
+    private int count;
+
+    public BitPackedBatch() {
+        this(false);
+    }
+
+    public BitPackedBatch(boolean signed) {
+        this(signed, DEFAULT_ARRAYS, DEFAULT_ARRAYS * 16);
+    }
+
+    // Nombre de tableaux et taille d'arène (en mots) attendus : évite les agrandissements
+    public BitPackedBatch(boolean signed, int initialArrays, int initialWords) {
+        if (initialArrays < 0 || initialWords < 0) {
+            throw new IllegalArgumentException("Capacité invalide : " + initialArrays + " tableaux, " + initialWords + " mots");
+        }
+        this.signed = signed;
+        this.directory = new int[2 * initialArrays];
+        this.words = new int[initialWords];
+    }
+
+    public static BitPackedBatch of(int[][] arrays, boolean signed) {
+        if (arrays == null) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null");
+        }
+        long values = 0;
+        for (int k = 0; k < arrays.length; k++) {
+            if (arrays[k] == null) {
+                throw new IllegalArgumentException("Tableau " + k + " null");
+            }
+            values += arrays[k].length;
+        }
+
+        BitPackedBatch batch = new BitPackedBatch(signed, arrays.length, 0);
+        for (int k = 0; k < arrays.length; k++) {
+            batch.add(arrays[k], 0, arrays[k].length);
+            batch.reserve(k + 1, values);
+        }
+        return batch;
+    }
+
+    // Tableaux à plat : le tableau k est values[offsets[k] .. offsets[k + 1])
+    public static BitPackedBatch of(int[] values, int[] offsets, boolean signed) {
+        if (values == null || offsets == null || offsets.length == 0) {
+            throw new IllegalArgumentException("Valeurs ou positions invalides");
+        }
+        if (offsets[0] < 0 || offsets[offsets.length - 1] > values.length) {
+            throw new IllegalArgumentException("Positions hors du tableau de valeurs");
+        }
+
+        int arrays = offsets.length - 1;
+        BitPackedBatch batch = new BitPackedBatch(signed, arrays, 0);
+        for (int k = 0; k < arrays; k++) {
+            if (offsets[k + 1] < offsets[k]) {
+                throw new IllegalArgumentException("Positions décroissantes en " + k);
+            }
+            batch.add(values, offsets[k], offsets[k + 1] - offsets[k]);
+            batch.reserve(k + 1, offsets[offsets.length - 1] - offsets[0]);
+        }
+        return batch;
+    }
+
+    // Après les premiers tableaux, réserve l'arène pour tout le lot en extrapolant le nombre
+    // de mots par valeur observé (+1/8) : une seule allocation au lieu d'agrandissements
+    // successifs. La marge éventuelle est libérée par trimToSize.
+    private void reserve(int added, long totalValues) {
+        if (added != RESERVE_SAMPLE) {
+            return;
+        }
+        long sampled = 0;
+        for (int k = 0; k < added; k++) {
+            sampled += directory[2 * k + 1] >>> 8;
+        }
+        if (sampled == 0) {
+            return;
+        }
+        long estimate = (long) ((double) wordCount / sampled * totalValues);
+        estimate += estimate >>> 3;
+        if (estimate > words.length) {
+            words = Arrays.copyOf(words, (int) Math.min(Integer.MAX_VALUE - 8, estimate));
+        }
+    }
+
+    // Largeur du OU des valeurs (zigzag en mode signé), 1 au minimum
+    private static int width(int[] values, int from, int length, boolean signed) {
+        int or = 0;
+        if (signed) {
+            for (int i = from; i < from + length; i++) {
+                or |= ZigZag.encode(values[i]);
+            }
+        } else {
+            for (int i = from; i < from + length; i++) {
+                or |= values[i];
+            }
+        }
+        return or == 0 ? 1 : Integer.SIZE - Integer.numberOfLeadingZeros(or);
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
+    // Nombre de tableaux du lot
+    public int arrayCount() {
+        return count;
+    }
+
+    public int length(int k) {
+        checkArray(k);
+        return directory[2 * k + 1] >>> 8;
+    }
+
+    public int getBits(int k) {
+        checkArray(k);
+        return directory[2 * k + 1] & 0xFF;
+    }
+
+    // Taille occupée en mots : arène et répertoire
+    public long wordCount() {
+        return wordCount + 2L * count;
+    }
+
+    // Ajoute un tableau à la fin du lot ; retourne son numéro
+    public int add(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null");
+        }
+        return add(values, 0, values.length);
+    }
+
+    public int add(int[] values, int offset, int length) {
+        if (values == null || length < 0 || offset < 0 || offset + length > values.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+
+        if (length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Tableau trop long (max " + MAX_LENGTH + " éléments) : " + length);
+        }
+
+        if (2 * count == directory.length) {
+            directory = Arrays.copyOf(directory, 2 * Math.max(DEFAULT_ARRAYS, count + (count >>> 1)));
+        }
+        int bits = width(values, offset, length, signed);
+        int start = wordCount;
+        long end = start + (((long) length * bits + 31) >>> 5);
+        if (end > words.length) {
+            if (end > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Lot trop grand pour une arène (" + end + " mots)");
+            }
+            words = Arrays.copyOf(words, (int) Math.max(end, Math.min(Integer.MAX_VALUE - 8, words.length + (words.length >>> 1))));
+        }
+
+        directory[2 * count] = start;
+        directory[2 * count + 1] = (length << 8) | bits;
+        ConsecutiveBitPacking.packWords(values, offset, length, bits, words, start, signed);
+        wordCount = (int) end;
+        return count++;
+    }
+
+    public int get(int k, int i) {
+        checkArray(k);
+        int descriptor = directory[2 * k + 1];
+        if (i < 0 || i >= descriptor >>> 8) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + (descriptor >>> 8));
+        }
+        int bits = descriptor & 0xFF;
+        int value = ConsecutiveBitPacking.extract(words, directory[2 * k], (long) i * bits, bits);
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    // Valeurs du tableau k dans outputArray à partir de outputOffset ; retourne leur nombre
+    public int decompressInto(int k, int[] outputArray, int outputOffset) {
+        checkArray(k);
+        int descriptor = directory[2 * k + 1];
+        int length = descriptor >>> 8;
+        if (outputArray == null || outputOffset < 0 || outputArray.length - outputOffset < length) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        ConsecutiveBitPacking.unpackWords(words, directory[2 * k], length, descriptor & 0xFF, outputArray, outputOffset, signed);
+        return length;
+    }
+
+    public int[] toArray(int k) {
+        int[] values = new int[length(k)];
+        decompressInto(k, values, 0);
+        return values;
+    }
+
+    // Tous les tableaux, à la suite, dans outputArray ; retourne le nombre de valeurs écrites
+    public int decompressAll(int[] outputArray, int outputOffset) {
+        if (outputArray == null || outputOffset < 0) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        int target = outputOffset;
+        for (int k = 0; k < count; k++) {
+            int descriptor = directory[2 * k + 1];
+            int length = descriptor >>> 8;
+            if (outputArray.length - target < length) {
+                throw new IllegalArgumentException("Tableau de sortie trop petit");
+            }
+            ConsecutiveBitPacking.unpackWords(words, directory[2 * k], length, descriptor & 0xFF, outputArray, target, signed);
+            target += length;
+        }
+        return target - outputOffset;
+    }
+
+    // Copie du tableau k au format de ConsecutiveBitPacking (en-tête compris), lisible par ce packer
+    public int[] toCompressed(int k) {
+        checkArray(k);
+        int descriptor = directory[2 * k + 1];
+        int length = descriptor >>> 8;
+        if (length == 0 || length > ConsecutiveBitPacking.MAX_SIZE) {
+            throw new IllegalArgumentException("Longueur non représentable par ConsecutiveBitPacking : " + length);
+        }
+        int bits = descriptor & 0xFF;
+        int dataWords = ConsecutiveBitPacking.compressedSize(length, bits) - 1;
+        int[] compressed = new int[dataWords + 1];
+        compressed[0] = (length << 16) | bits;
+        System.arraycopy(words, directory[2 * k], compressed, 1, dataWords);
+        return compressed;
+    }
+
+    public void clear() {
+        count = 0;
+        wordCount = 0;
+    }
+
+    // Libère la capacité inutilisée
+    public void trimToSize() {
+        if (wordCount < words.length) {
+            words = Arrays.copyOf(words, wordCount);
+        }
+        if (2 * count < directory.length) {
+            directory = Arrays.copyOf(directory, 2 * count);
+        }
+    }
+
+    private void checkArray(int k) {
+        if (k < 0 || k >= count) {
+            throw new IndexOutOfBoundsException("Tableau " + k + " hors limites pour " + count + " tableaux");
+        }
+    }
+}
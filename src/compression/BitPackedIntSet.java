@@ -0,0 +1,760 @@
+package compression;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Ensemble d'entiers (identifiants triés, sans doublon) découpé en tranches de 65 536 valeurs,
+// à la manière des roaring bitmaps : les 16 bits de poids fort forment la clé de la tranche,
+// les 16 bits de poids faible sont rangés dans un conteneur choisi d'après sa taille :
+//   tableau  (au plus ARRAY_MAX valeurs) : [première valeur | largeur << 16] puis les écarts - 1
+//            compressés au format de ConsecutiveBitPacking (packWords, noyaux déroulés)
+//   bitmap   1024 long, bit i = valeur i
+//   plages   un int par plage : début << 16 | (longueur - 1)
+// Le plus petit des trois est retenu (tableau, puis plages, puis bitmap s'ils sont trop grands).
+//
+// and, or et andNot combinent les conteneurs de même clé sans décompresser l'ensemble :
+// un tableau est décodé puis testé contre l'autre conteneur (bit, plages ou fusion), les
+// autres cas passent par un bitmap de travail mot à mot. Le résultat est recompacté tranche
+// par tranche ; les tranches présentes d'un seul côté sont partagées sans copie.
+//
+// Les valeurs sont ordonnées comme des entiers non signés (les négatifs après les positifs).
+// Immuable une fois construit, donc partageable entre threads.
+public final class BitPackedIntSet {
+
+    // Au-delà, un tableau de 16 bits par valeur dépasserait la taille d'un bitmap
+    public static final int ARRAY_MAX = 4096;
+
+    private static final int BITMAP_LONGS = 1024;
+    private static final int BITMAP_WORDS = 2 * BITMAP_LONGS;
+
+    // En deçà, deux tableaux sont intersectés par fusion plutôt qu'à travers un bitmap
+    private static final int SMALL_ARRAY = 64;
+
+    private static final byte ARRAY = 0;
+    private static final byte BITMAP = 1;
+    private static final byte RUN = 2;
+
+    // Tampons de travail (un jeu par thread) : valeurs basses décodées et bitmaps
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private static final BitPackedIntSet EMPTY = new BitPackedIntSet(0);
+
+    private final int[] keys;
+    private final byte[] kinds;
+    private final int[] cardinalities;
+    // Tableaux et plages (null pour un bitmap)
+    private final int[][] words;
+    // Bitmaps (null sinon)
+    private final long[][] bitmaps;
+    private int count;
+    private long cardinality;
+
+    private BitPackedIntSet(int capacity) {
+        keys = new int[capacity];
+        kinds = new byte[capacity];
+        cardinalities = new int[capacity];
+        words = new int[capacity][];
+        bitmaps = new long[capacity][];
+    }
+
+    public static BitPackedIntSet empty() {
+        return EMPTY;
+    }
+
+    // Valeurs strictement croissantes (ordre non signé)
+    public static BitPackedIntSet of(int... sortedValues) {
+        if (sortedValues == null) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null");
+        }
+        return of(sortedValues, 0, sortedValues.length);
+    }
+
+    public static BitPackedIntSet of(int[] sortedValues, int offset, int length) {
+        if (sortedValues == null || length < 0 || offset < 0 || offset + length > sortedValues.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+
+        int chunks = length == 0 ? 0 : 1;
+        for (int i = offset + 1; i < offset + length; i++) {
+            if ((sortedValues[i - 1] ^ Integer.MIN_VALUE) >= (sortedValues[i] ^ Integer.MIN_VALUE)) {
+                throw new IllegalArgumentException("Valeurs non triées ou en double à l'indice " + i);
+            }
+            if ((sortedValues[i - 1] ^ sortedValues[i]) >>> 16 != 0) {
+                chunks++;
+            }
+        }
+
+        Scratch scratch = SCRATCH.get();
+        BitPackedIntSet set = new BitPackedIntSet(chunks);
+        int start = offset;
+        while (start < offset + length) {
+            int key = sortedValues[start] >>> 16;
+            int end = start + 1;
+            while (end < offset + length && sortedValues[end] >>> 16 == key) {
+                end++;
+            }
+            if (end - start <= ARRAY_MAX) {
+                set.appendSorted(key, sortedValues, start, end - start, scratch);
+            } else {
+                long[] bitmap = scratch.bitsA;
+                Arrays.fill(bitmap, 0L);
+                for (int i = start; i < end; i++) {
+                    bitmap[(sortedValues[i] & 0xFFFF) >>> 6] |= 1L << sortedValues[i];
+                }
+                set.appendBitmap(key, bitmap, scratch);
+            }
+            start = end;
+        }
+        return set;
+    }
+
+    // Bit i à 1 : la valeur i appartient à l'ensemble (résultat de ScanOperators.filter,
+    // indices du tableau filtré)
+    public static BitPackedIntSet fromBitmap(long[] bitmap) {
+        if (bitmap == null) {
+            throw new IllegalArgumentException("Le bitmap ne peut pas être null");
+        }
+        if (bitmap.length > 1 << 26) {
+            throw new IllegalArgumentException("Bitmap trop grand (max 2^32 bits) : " + bitmap.length + " mots");
+        }
+
+        Scratch scratch = SCRATCH.get();
+        int chunks = (bitmap.length + BITMAP_LONGS - 1) / BITMAP_LONGS;
+        BitPackedIntSet set = new BitPackedIntSet(chunks);
+        for (int c = 0; c < chunks; c++) {
+            int from = c * BITMAP_LONGS;
+            int length = Math.min(BITMAP_LONGS, bitmap.length - from);
+            System.arraycopy(bitmap, from, scratch.bitsA, 0, length);
+            Arrays.fill(scratch.bitsA, length, BITMAP_LONGS, 0L);
+            set.appendBitmap(c, scratch.bitsA, scratch);
+        }
+        return set;
+    }
+
+    public long cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    // Nombre de tranches non vides
+    public int containerCount() {
+        return count;
+    }
+
+    // Taille occupée en mots de 32 bits : conteneurs et répertoire (clé, cardinalité, type)
+    public long wordCount() {
+        long total = 2L * count + (count + 3) / 4;
+        for (int k = 0; k < count; k++) {
+            total += kinds[k] == BITMAP ? BITMAP_WORDS : words[k].length;
+        }
+        return total;
+    }
+
+    public boolean contains(int value) {
+        int k = Arrays.binarySearch(keys, 0, count, value >>> 16);
+        if (k < 0) {
+            return false;
+        }
+        int low = value & 0xFFFF;
+        switch (kinds[k]) {
+            case BITMAP:
+                return (bitmaps[k][low >>> 6] >>> low & 1) != 0;
+            case RUN: {
+                // Dernière plage qui commence avant low
+                int[] runs = words[k];
+                int lo = 0;
+                int hi = runs.length - 1;
+                while (lo < hi) {
+                    int mid = (lo + hi + 1) >>> 1;
+                    if (runs[mid] >>> 16 <= low) {
+                        lo = mid;
+                    } else {
+                        hi = mid - 1;
+                    }
+                }
+                int start = runs[lo] >>> 16;
+                return start <= low && low <= start + (runs[lo] & 0xFFFF);
+            }
+            default: {
+                // Écarts cumulés jusqu'à atteindre low
+                int[] array = words[k];
+                int v = array[0] & 0xFFFF;
+                int bits = array[0] >>> 16;
+                int n = cardinalities[k];
+                for (int i = 0; v < low && i < n - 1; i++) {
+                    v += ConsecutiveBitPacking.extract(array, 1, (long) i * bits, bits) + 1;
+                }
+                return v == low;
+            }
+        }
+    }
+
+    public BitPackedIntSet and(BitPackedIntSet other) {
+        checkOther(other);
+        Scratch scratch = SCRATCH.get();
+        BitPackedIntSet result = new BitPackedIntSet(Math.min(count, other.count));
+        int i = 0;
+        int j = 0;
+        while (i < count && j < other.count) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendAnd(this, i++, other, j++, scratch);
+            }
+        }
+        return result;
+    }
+
+    public BitPackedIntSet or(BitPackedIntSet other) {
+        checkOther(other);
+        Scratch scratch = SCRATCH.get();
+        BitPackedIntSet result = new BitPackedIntSet(count + other.count);
+        int i = 0;
+        int j = 0;
+        while (i < count || j < other.count) {
+            if (j == other.count || (i < count && keys[i] < other.keys[j])) {
+                result.appendShared(this, i++);
+            } else if (i == count || keys[i] > other.keys[j]) {
+                result.appendShared(other, j++);
+            } else {
+                result.appendOr(this, i++, other, j++, scratch);
+            }
+        }
+        return result;
+    }
+
+    // Valeurs de cet ensemble absentes de other
+    public BitPackedIntSet andNot(BitPackedIntSet other) {
+        checkOther(other);
+        Scratch scratch = SCRATCH.get();
+        BitPackedIntSet result = new BitPackedIntSet(count);
+        int j = 0;
+        for (int i = 0; i < count; i++) {
+            while (j < other.count && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.count && other.keys[j] == keys[i]) {
+                result.appendAndNot(this, i, other, j, scratch);
+            } else {
+                result.appendShared(this, i);
+            }
+        }
+        return result;
+    }
+
+    // Cardinalité de l'intersection, sans construire l'ensemble résultat
+    public long andCardinality(BitPackedIntSet other) {
+        checkOther(other);
+        Scratch scratch = SCRATCH.get();
+        long total = 0;
+        int i = 0;
+        int j = 0;
+        while (i < count && j < other.count) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                total += andCardinality(this, i++, other, j++, scratch);
+            }
+        }
+        return total;
+    }
+
+    // Valeurs dans l'ordre croissant (non signé)
+    public int[] toArray() {
+        if (cardinality > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Ensemble trop grand pour un tableau : " + cardinality + " valeurs");
+        }
+        int[] values = new int[(int) cardinality];
+        int position = 0;
+        for (int k = 0; k < count; k++) {
+            int base = keys[k] << 16;
+            int n = cardinalities[k];
+            switch (kinds[k]) {
+                case BITMAP:
+                    long[] bitmap = bitmaps[k];
+                    for (int w = 0; w < BITMAP_LONGS; w++) {
+                        for (long x = bitmap[w]; x != 0; x &= x - 1) {
+                            values[position++] = base | (w << 6) + Long.numberOfTrailingZeros(x);
+                        }
+                    }
+                    break;
+                case RUN:
+                    for (int run : words[k]) {
+                        int start = base | run >>> 16;
+                        for (int v = 0; v <= (run & 0xFFFF); v++) {
+                            values[position++] = start + v;
+                        }
+                    }
+                    break;
+                default:
+                    decodeArray(k, values, position);
+                    for (int i = position; i < position + n; i++) {
+                        values[i] |= base;
+                    }
+                    position += n;
+            }
+        }
+        return values;
+    }
+
+    public void forEach(IntConsumer action) {
+        if (action == null) {
+            throw new IllegalArgumentException("L'action ne peut pas être null");
+        }
+        // Tampon propre à l'appel : l'action peut combiner d'autres ensembles
+        int[] lows = null;
+        for (int k = 0; k < count; k++) {
+            int base = keys[k] << 16;
+            switch (kinds[k]) {
+                case BITMAP:
+                    long[] bitmap = bitmaps[k];
+                    for (int w = 0; w < BITMAP_LONGS; w++) {
+                        for (long x = bitmap[w]; x != 0; x &= x - 1) {
+                            action.accept(base | (w << 6) + Long.numberOfTrailingZeros(x));
+                        }
+                    }
+                    break;
+                case RUN:
+                    for (int run : words[k]) {
+                        int start = base | run >>> 16;
+                        for (int v = 0; v <= (run & 0xFFFF); v++) {
+                            action.accept(start + v);
+                        }
+                    }
+                    break;
+                default:
+                    if (lows == null) {
+                        lows = new int[ARRAY_MAX];
+                    }
+                    int n = decodeArray(k, lows, 0);
+                    for (int i = 0; i < n; i++) {
+                        action.accept(base | lows[i]);
+                    }
+            }
+        }
+    }
+
+    private static void checkOther(BitPackedIntSet other) {
+        if (other == null) {
+            throw new IllegalArgumentException("L'ensemble ne peut pas être null");
+        }
+    }
+
+    // Combinaison de deux conteneurs de même clé ------------------------------------------
+
+    private void appendAnd(BitPackedIntSet a, int i, BitPackedIntSet b, int j, Scratch scratch) {
+        byte kindA = a.kinds[i];
+        byte kindB = b.kinds[j];
+        if (kindA == ARRAY || kindB == ARRAY) {
+            // Le plus petit tableau est testé contre l'autre conteneur
+            if (kindA != ARRAY || (kindB == ARRAY && b.cardinalities[j] < a.cardinalities[i])) {
+                appendAnd(b, j, a, i, scratch);
+                return;
+            }
+            int n = a.decodeArray(i, scratch.lowsA, 0);
+            int kept = b.filterSorted(j, scratch.lowsA, n, true, scratch.out, scratch);
+            appendSorted(a.keys[i], scratch.out, 0, kept, scratch);
+            return;
+        }
+        long[] bitmap = scratch.bitsA;
+        a.loadBitmap(i, bitmap, scratch);
+        long[] mask = kindB == BITMAP ? b.bitmaps[j] : b.loadBitmap(j, scratch.bitsB, scratch);
+        for (int w = 0; w < BITMAP_LONGS; w++) {
+            bitmap[w] &= mask[w];
+        }
+        appendBitmap(a.keys[i], bitmap, scratch);
+    }
+
+    private void appendOr(BitPackedIntSet a, int i, BitPackedIntSet b, int j, Scratch scratch) {
+        if (a.kinds[i] == ARRAY && b.kinds[j] == ARRAY && a.cardinalities[i] + b.cardinalities[j] <= ARRAY_MAX) {
+            // Fusion de deux tableaux triés
+            int n = a.decodeArray(i, scratch.lowsA, 0);
+            int m = b.decodeArray(j, scratch.lowsB, 0);
+            int[] x = scratch.lowsA;
+            int[] y = scratch.lowsB;
+            int[] out = scratch.out;
+            int p = 0;
+            int q = 0;
+            int c = 0;
+            while (p < n && q < m) {
+                int u = x[p];
+                int v = y[q];
+                out[c++] = Math.min(u, v);
+                p += u <= v ? 1 : 0;
+                q += v <= u ? 1 : 0;
+            }
+            while (p < n) {
+                out[c++] = x[p++];
+            }
+            while (q < m) {
+                out[c++] = y[q++];
+            }
+            appendSorted(a.keys[i], out, 0, c, scratch);
+            return;
+        }
+
+        long[] bitmap = scratch.bitsA;
+        a.loadBitmap(i, bitmap, scratch);
+        switch (b.kinds[j]) {
+            case BITMAP:
+                long[] other = b.bitmaps[j];
+                for (int w = 0; w < BITMAP_LONGS; w++) {
+                    bitmap[w] |= other[w];
+                }
+                break;
+            case RUN:
+                for (int run : b.words[j]) {
+                    setRange(bitmap, run >>> 16, (run >>> 16) + (run & 0xFFFF) + 1);
+                }
+                break;
+            default:
+                int m = b.decodeArray(j, scratch.lowsB, 0);
+                for (int q = 0; q < m; q++) {
+                    bitmap[scratch.lowsB[q] >>> 6] |= 1L << scratch.lowsB[q];
+                }
+        }
+        appendBitmap(a.keys[i], bitmap, scratch);
+    }
+
+    private void appendAndNot(BitPackedIntSet a, int i, BitPackedIntSet b, int j, Scratch scratch) {
+        if (a.kinds[i] == ARRAY) {
+            int n = a.decodeArray(i, scratch.lowsA, 0);
+            int kept = b.filterSorted(j, scratch.lowsA, n, false, scratch.out, scratch);
+            appendSorted(a.keys[i], scratch.out, 0, kept, scratch);
+            return;
+        }
+
+        long[] bitmap = scratch.bitsA;
+        a.loadBitmap(i, bitmap, scratch);
+        switch (b.kinds[j]) {
+            case BITMAP:
+                long[] other = b.bitmaps[j];
+                for (int w = 0; w < BITMAP_LONGS; w++) {
+                    bitmap[w] &= ~other[w];
+                }
+                break;
+            case RUN:
+                for (int run : b.words[j]) {
+                    clearRange(bitmap, run >>> 16, (run >>> 16) + (run & 0xFFFF) + 1);
+                }
+                break;
+            default:
+                int m = b.decodeArray(j, scratch.lowsB, 0);
+                for (int q = 0; q < m; q++) {
+                    bitmap[scratch.lowsB[q] >>> 6] &= ~(1L << scratch.lowsB[q]);
+                }
+        }
+        appendBitmap(a.keys[i], bitmap, scratch);
+    }
+
+    private static int andCardinality(BitPackedIntSet a, int i, BitPackedIntSet b, int j, Scratch scratch) {
+        byte kindA = a.kinds[i];
+        byte kindB = b.kinds[j];
+        if (kindA == ARRAY || kindB == ARRAY) {
+            if (kindA != ARRAY || (kindB == ARRAY && b.cardinalities[j] < a.cardinalities[i])) {
+                return andCardinality(b, j, a, i, scratch);
+            }
+            int n = a.decodeArray(i, scratch.lowsA, 0);
+            return b.filterSorted(j, scratch.lowsA, n, true, scratch.out, scratch);
+        }
+        long[] x = kindA == BITMAP ? a.bitmaps[i] : a.loadBitmap(i, scratch.bitsA, scratch);
+        long[] y = kindB == BITMAP ? b.bitmaps[j] : b.loadBitmap(j, scratch.bitsB, scratch);
+        int total = 0;
+        for (int w = 0; w < BITMAP_LONGS; w++) {
+            total += Long.bitCount(x[w] & y[w]);
+        }
+        return total;
+    }
+
+    // Copie dans out les valeurs basses triées lows[0 .. n) présentes (present) ou absentes
+    // du conteneur k ; retourne leur nombre
+    private int filterSorted(int k, int[] lows, int n, boolean present, int[] out, Scratch scratch) {
+        int flip = present ? 0 : 1;
+        int kept = 0;
+        switch (kinds[k]) {
+            case BITMAP: {
+                long[] bitmap = bitmaps[k];
+                for (int i = 0; i < n; i++) {
+                    int low = lows[i];
+                    out[kept] = low;
+                    kept += ((int) (bitmap[low >>> 6] >>> low) & 1) ^ flip;
+                }
+                return kept;
+            }
+            case RUN: {
+                int[] runs = words[k];
+                int r = 0;
+                for (int i = 0; i < n; i++) {
+                    int low = lows[i];
+                    while (r < runs.length && (runs[r] >>> 16) + (runs[r] & 0xFFFF) < low) {
+                        r++;
+                    }
+                    int in = r < runs.length && runs[r] >>> 16 <= low ? 1 : 0;
+                    out[kept] = low;
+                    kept += in ^ flip;
+                }
+                return kept;
+            }
+            default: {
+                int[] other = scratch.lowsB;
+                int m = decodeArray(k, other, 0);
+                if (n < SMALL_ARRAY) {
+                    // Peu de valeurs : fusion, le bitmap de travail coûterait plus cher
+                    int q = 0;
+                    for (int i = 0; i < n; i++) {
+                        int low = lows[i];
+                        while (q < m && other[q] < low) {
+                            q++;
+                        }
+                        int in = q < m && other[q] == low ? 1 : 0;
+                        out[kept] = low;
+                        kept += in ^ flip;
+                    }
+                    return kept;
+                }
+                // Sinon l'autre tableau passe dans un bitmap : test sans branche, là où la
+                // fusion de valeurs entrelacées se trompe de branche presque une fois sur deux
+                long[] bitmap = scratch.bitsB;
+                Arrays.fill(bitmap, 0L);
+                for (int q = 0; q < m; q++) {
+                    bitmap[other[q] >>> 6] |= 1L << other[q];
+                }
+                for (int i = 0; i < n; i++) {
+                    int low = lows[i];
+                    out[kept] = low;
+                    kept += ((int) (bitmap[low >>> 6] >>> low) & 1) ^ flip;
+                }
+                return kept;
+            }
+        }
+    }
+
+    // Conteneur k sous forme de bitmap dans target ; retourne target
+    private long[] loadBitmap(int k, long[] target, Scratch scratch) {
+        switch (kinds[k]) {
+            case BITMAP:
+                System.arraycopy(bitmaps[k], 0, target, 0, BITMAP_LONGS);
+                break;
+            case RUN:
+                Arrays.fill(target, 0L);
+                for (int run : words[k]) {
+                    setRange(target, run >>> 16, (run >>> 16) + (run & 0xFFFF) + 1);
+                }
+                break;
+            default:
+                Arrays.fill(target, 0L);
+                int[] lows = scratch.lowsA;
+                int n = decodeArray(k, lows, 0);
+                for (int i = 0; i < n; i++) {
+                    target[lows[i] >>> 6] |= 1L << lows[i];
+                }
+        }
+        return target;
+    }
+
+    // Valeurs basses du tableau k dans out[outPos ..] : écarts décodés par les noyaux, puis
+    // somme cumulée ; retourne leur nombre
+    private int decodeArray(int k, int[] out, int outPos) {
+        int[] array = words[k];
+        int n = cardinalities[k];
+        out[outPos] = array[0] & 0xFFFF;
+        ConsecutiveBitPacking.unpackWords(array, 1, n - 1, array[0] >>> 16, out, outPos + 1);
+        // Somme dans un registre : relire out[i - 1] attendrait l'écriture précédente
+        int value = out[outPos];
+        for (int i = outPos + 1; i < outPos + n; i++) {
+            value += out[i] + 1;
+            out[i] = value;
+        }
+        return n;
+    }
+
+    // Construction des conteneurs --------------------------------------------------------
+
+    private void appendShared(BitPackedIntSet source, int k) {
+        append(source.keys[k], source.kinds[k], source.cardinalities[k], source.words[k], source.bitmaps[k]);
+    }
+
+    private void append(int key, byte kind, int size, int[] data, long[] bitmap) {
+        keys[count] = key;
+        kinds[count] = kind;
+        cardinalities[count] = size;
+        words[count] = data;
+        bitmaps[count] = bitmap;
+        count++;
+        cardinality += size;
+    }
+
+    // Conteneur des valeurs triées values[from .. from + n) de même clé (n <= ARRAY_MAX),
+    // rien si n = 0
+    private void appendSorted(int key, int[] values, int from, int n, Scratch scratch) {
+        if (n == 0) {
+            return;
+        }
+        int[] gaps = scratch.gaps;
+        int first = values[from] & 0xFFFF;
+        int previous = first;
+        int or = 0;
+        int runs = 1;
+        for (int i = 1; i < n; i++) {
+            int low = values[from + i] & 0xFFFF;
+            int gap = low - previous - 1;
+            gaps[i - 1] = gap;
+            or |= gap;
+            runs += gap != 0 ? 1 : 0;
+            previous = low;
+        }
+        int bits = or == 0 ? 1 : Integer.SIZE - Integer.numberOfLeadingZeros(or);
+        int arrayWords = 1 + (int) (((long) (n - 1) * bits + 31) >>> 5);
+
+        if (runs < Math.min(arrayWords, BITMAP_WORDS)) {
+            int[] data = new int[runs];
+            int r = 0;
+            int start = first;
+            int last = first;
+            for (int i = 1; i < n; i++) {
+                int low = values[from + i] & 0xFFFF;
+                if (low != last + 1) {
+                    data[r++] = start << 16 | (last - start);
+                    start = low;
+                }
+                last = low;
+            }
+            data[r] = start << 16 | (last - start);
+            append(key, RUN, n, data, null);
+        } else if (arrayWords <= BITMAP_WORDS) {
+            int[] data = new int[arrayWords];
+            data[0] = first | bits << 16;
+            ConsecutiveBitPacking.packWords(gaps, 0, n - 1, bits, data, 1);
+            append(key, ARRAY, n, data, null);
+        } else {
+            long[] bitmap = new long[BITMAP_LONGS];
+            for (int i = from; i < from + n; i++) {
+                bitmap[(values[i] & 0xFFFF) >>> 6] |= 1L << values[i];
+            }
+            append(key, BITMAP, n, null, bitmap);
+        }
+    }
+
+    // Conteneur du bitmap (tampon de travail, non conservé), rien s'il est vide
+    private void appendBitmap(int key, long[] bitmap, Scratch scratch) {
+        // Cardinalité et nombre de plages (bits à 1 dont le voisin de rang inférieur est à 0)
+        int size = 0;
+        int runs = 0;
+        long carry = 0;
+        for (int w = 0; w < BITMAP_LONGS; w++) {
+            long x = bitmap[w];
+            size += Long.bitCount(x);
+            runs += Long.bitCount(x & ~(x << 1 | carry));
+            carry = x >>> 63;
+        }
+        if (size == 0) {
+            return;
+        }
+
+        if (size <= ARRAY_MAX) {
+            int[] lows = scratch.out;
+            int n = 0;
+            for (int w = 0; w < BITMAP_LONGS; w++) {
+                for (long x = bitmap[w]; x != 0; x &= x - 1) {
+                    lows[n++] = (w << 6) + Long.numberOfTrailingZeros(x);
+                }
+            }
+            appendSorted(key, lows, 0, n, scratch);
+        } else if (runs < BITMAP_WORDS) {
+            int[] data = new int[runs];
+            int r = 0;
+            int start = nextSetBit(bitmap, 0);
+            while (start >= 0) {
+                int end = nextClearBit(bitmap, start);
+                data[r++] = start << 16 | (end - 1 - start);
+                start = nextSetBit(bitmap, end);
+            }
+            append(key, RUN, size, data, null);
+        } else {
+            append(key, BITMAP, size, null, bitmap.clone());
+        }
+    }
+
+    // Opérations sur un bitmap de tranche ------------------------------------------------
+
+    // Bits [from, to) à 1
+    private static void setRange(long[] bitmap, int from, int to) {
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            bitmap[first] |= firstMask & lastMask;
+            return;
+        }
+        bitmap[first] |= firstMask;
+        for (int w = first + 1; w < last; w++) {
+            bitmap[w] = -1L;
+        }
+        bitmap[last] |= lastMask;
+    }
+
+    private static void clearRange(long[] bitmap, int from, int to) {
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            bitmap[first] &= ~(firstMask & lastMask);
+            return;
+        }
+        bitmap[first] &= ~firstMask;
+        for (int w = first + 1; w < last; w++) {
+            bitmap[w] = 0L;
+        }
+        bitmap[last] &= ~lastMask;
+    }
+
+    // Premier bit à 1 à partir de from, -1 s'il n'y en a pas
+    private static int nextSetBit(long[] bitmap, int from) {
+        if (from >= BITMAP_LONGS << 6) {
+            return -1;
+        }
+        int w = from >>> 6;
+        long x = bitmap[w] & (-1L << from);
+        while (x == 0) {
+            if (++w == BITMAP_LONGS) {
+                return -1;
+            }
+            x = bitmap[w];
+        }
+        return (w << 6) + Long.numberOfTrailingZeros(x);
+    }
+
+    // Premier bit à 0 à partir de from, 65 536 s'il n'y en a pas
+    private static int nextClearBit(long[] bitmap, int from) {
+        if (from >= BITMAP_LONGS << 6) {
+            return BITMAP_LONGS << 6;
+        }
+        int w = from >>> 6;
+        long x = ~bitmap[w] & (-1L << from);
+        while (x == 0) {
+            if (++w == BITMAP_LONGS) {
+                return BITMAP_LONGS << 6;
+            }
+            x = ~bitmap[w];
+        }
+        return (w << 6) + Long.numberOfTrailingZeros(x);
+    }
+
+    private static final class Scratch {
+        final int[] lowsA = new int[ARRAY_MAX];
+        final int[] lowsB = new int[ARRAY_MAX];
+        final int[] out = new int[ARRAY_MAX];
+        final int[] gaps = new int[ARRAY_MAX];
+        final long[] bitsA = new long[BITMAP_LONGS];
+        final long[] bitsB = new long[BITMAP_LONGS];
+    }
+}
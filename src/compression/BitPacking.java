@@ -1,8 +1,67 @@
 package compression;
 
+import storage.WordStorage;
+
 public interface BitPacking {
 
     int[] compress(int[] array);
     int[] decompress(int[] compressedArray, int[] outputArray);
     int get(int[] compressedArray, int i);
+
+    // Variantes sans allocation, sur des tampons fournis par l'appelant.
+    // compressInto compresse array[offset .. offset+length) dans dest à partir de destOffset
+    // et retourne le nombre de mots écrits ; decompressInto lit un tableau compressé qui
+    // commence à compressedArray[offset] et retourne le nombre de valeurs écrites.
+    int compressInto(int[] array, int offset, int length, int[] dest, int destOffset);
+    int decompressInto(int[] compressedArray, int offset, int[] outputArray, int outputOffset);
+    int get(int[] compressedArray, int offset, int i);
+
+    // Borne supérieure de la taille compressée (en mots) pour n valeurs, pour dimensionner des tampons
+    int maxCompressedSize(int n);
+
+    // Lecture sur un stockage externe (tampon hors tas, fichier mappé) sans copie préalable
+    // du tableau compressé entier : get ne lit que l'en-tête et les mots de la valeur,
+    // decompressInto copie un bloc compressé à la fois dans une fenêtre par thread puis le décode.
+    int get(WordStorage storage, long offset, int i);
+    int decompressInto(WordStorage storage, long offset, int[] outputArray, int outputOffset);
+
+    // Accès groupés : l'en-tête et les masques ne sont décodés qu'une fois pour tout le lot.
+    // getMany écrit dans out[k] la valeur d'indice indices[k] ; decodeRange décode les
+    // valeurs d'indices [from, to) dans out et retourne le nombre de valeurs écrites.
+    // Les indices sont lus dans l'ordre donné, sans tri : un tri par mot coûte plus cher
+    // que les relectures qu'il évite.
+    default void getMany(int[] compressedArray, int[] indices, int[] out) {
+        getMany(compressedArray, 0, indices, out);
+    }
+
+    default void getMany(int[] compressedArray, int offset, int[] indices, int[] out) {
+        if (out.length < indices.length) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        for (int k = 0; k < indices.length; k++) {
+            out[k] = get(compressedArray, offset, indices[k]);
+        }
+    }
+
+    // Parcours séquentiel par blocs décodés, avec skipTo et advance (cf. BitPackingCursor)
+    default BitPackingCursor cursor(int[] compressedArray) {
+        return new BitPackingCursor(this, compressedArray);
+    }
+
+    default int decodeRange(int[] compressedArray, int from, int to, int[] out) {
+        return decodeRange(compressedArray, 0, from, to, out, 0);
+    }
+
+    default int decodeRange(int[] compressedArray, int offset, int from, int to, int[] out, int outOffset) {
+        if (from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        for (int i = from; i < to; i++) {
+            out[outOffset + i - from] = get(compressedArray, offset, i);
+        }
+        return to - from;
+    }
 }
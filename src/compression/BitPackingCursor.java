@@ -0,0 +1,263 @@
+package compression;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+// Parcours séquentiel d'un tableau compressé : les valeurs sont décodées par blocs de
+// BLOCK_SIZE (decodeRange, donc les noyaux déroulés) dans un tampon interne, puis servies
+// depuis ce tampon. En-tête, masques et positions ne sont calculés qu'une fois par bloc,
+// au lieu d'une fois par valeur avec une boucle sur get(i).
+//
+// skipTo(i) repositionne le curseur en ne décodant que le bloc de i. Sur des données triées
+// (listes d'identifiants), advance(cible) saute à la première valeur >= cible : les blocs
+// sont écartés d'après leur dernière valeur (galop puis dichotomie), lue par get ou dans une
+// table précalculée (skipData) partagée par les curseurs d'un même tableau. Non thread-safe.
+public class BitPackingCursor implements PrimitiveIterator.OfInt {
+
+    // Multiple de 32 (groupes des noyaux) et taille de bloc de DeltaBitPacking
+    public static final int BLOCK_SIZE = 128;
+    private static final int BLOCK_SHIFT = 7;
+
+    private final BitPacking packer;
+    private final int[] compressedArray;
+    private final int offset;
+    private final int size;
+    private final int blockCount;
+
+    // Dernière valeur de chaque bloc (null : lue par get à la demande)
+    private final int[] skipData;
+
+    // Valeurs d'indices [blockStart, blockStart + limit) ; la prochaine est buffer[cursor]
+    private final int[] buffer = new int[BLOCK_SIZE];
+    private int blockStart;
+    private int cursor;
+    private int limit;
+
+    public BitPackingCursor(BitPacking packer, int[] compressedArray) {
+        this(packer, compressedArray, 0);
+    }
+
+    public BitPackingCursor(BitPacking packer, int[] compressedArray, int offset) {
+        this(packer, compressedArray, offset, sizeOf(packer, compressedArray, offset), null);
+    }
+
+    // Taille fournie par l'appelant (packer qui n'implémente pas ScanOperators) et table
+    // de saut éventuelle (cf. skipData)
+    public BitPackingCursor(BitPacking packer, int[] compressedArray, int offset, int size, int[] skipData) {
+        if (packer == null || compressedArray == null) {
+            throw new IllegalArgumentException("Le packer et le tableau compressé ne peuvent pas être null");
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("Taille invalide : " + size);
+        }
+        int blocks = (int) (((long) size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT);
+        if (skipData != null && skipData.length != blocks) {
+            throw new IllegalArgumentException("Table de saut invalide : " + skipData.length + " blocs au lieu de " + blocks);
+        }
+        this.packer = packer;
+        this.compressedArray = compressedArray;
+        this.offset = offset;
+        this.size = size;
+        this.blockCount = blocks;
+        this.skipData = skipData;
+    }
+
+    // Taille lue dans le tableau compressé, à travers les décorateurs (mesures, cache)
+    private static int sizeOf(BitPacking packer, int[] compressedArray, int offset) {
+        BitPacking p = packer;
+        while (!(p instanceof ScanOperators)) {
+            if (p instanceof InstrumentedBitPacking) {
+                p = ((InstrumentedBitPacking) p).getDelegate();
+            } else if (p instanceof CachedBitPacking) {
+                p = ((CachedBitPacking) p).getDelegate();
+            } else {
+                throw new IllegalArgumentException("Taille inconnue pour " + (p == null ? null : p.getClass().getSimpleName())
+                        + " : la fournir au constructeur");
+            }
+        }
+        long size = ((ScanOperators) p).size(compressedArray, offset);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tableau trop grand pour un curseur : " + size + " valeurs");
+        }
+        return (int) size;
+    }
+
+    // Table de saut : dernière valeur de chaque bloc de BLOCK_SIZE (un get par bloc)
+    public static int[] skipData(BitPacking packer, int[] compressedArray, int offset) {
+        int size = sizeOf(packer, compressedArray, offset);
+        int[] lasts = new int[(size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT];
+        for (int b = 0; b < lasts.length; b++) {
+            lasts[b] = packer.get(compressedArray, offset, Math.min(size, (b + 1) << BLOCK_SHIFT) - 1);
+        }
+        return lasts;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Indice de la prochaine valeur lue (size() en fin de parcours)
+    public int index() {
+        return blockStart + cursor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return blockStart + cursor < size;
+    }
+
+    @Override
+    public int nextInt() {
+        if (cursor == limit) {
+            refill();
+        }
+        return buffer[cursor++];
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        if (action == null) {
+            throw new IllegalArgumentException("L'action ne peut pas être null");
+        }
+        while (hasNext()) {
+            if (cursor == limit) {
+                refill();
+            }
+            for (; cursor < limit; cursor++) {
+                action.accept(buffer[cursor]);
+            }
+        }
+    }
+
+    // Copie au plus length valeurs dans out ; les blocs entiers sont décodés directement dans
+    // out. Retourne le nombre de valeurs copiées, -1 en fin de parcours.
+    public int read(int[] out, int outOffset, int length) {
+        if (out == null || length < 0 || outOffset < 0 || outOffset + length > out.length) {
+            throw new IllegalArgumentException("Plage de sortie invalide");
+        }
+        int next = blockStart + cursor;
+        if (next >= size) {
+            return length == 0 ? 0 : -1;
+        }
+        int count = Math.min(length, size - next);
+
+        // Reste du bloc chargé
+        int copied = Math.min(count, limit - cursor);
+        System.arraycopy(buffer, cursor, out, outOffset, copied);
+        cursor += copied;
+
+        // Suite : un seul decodeRange, puis curseur placé derrière sans charger de bloc
+        if (copied < count) {
+            packer.decodeRange(compressedArray, offset, next + copied, next + count, out, outOffset + copied);
+            moveTo(next + count);
+        }
+        return count;
+    }
+
+    // La prochaine valeur lue sera celle d'indice index (en avant comme en arrière)
+    public void skipTo(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " hors limites pour la taille " + size);
+        }
+        if (limit > 0 && index >= blockStart && index < blockStart + limit) {
+            cursor = index - blockStart;
+        } else {
+            moveTo(index);
+        }
+    }
+
+    // Données triées (croissantes au sens large) : place le curseur sur la première valeur
+    // >= target à partir de la position courante, que nextInt() retournera. Retourne false
+    // (curseur en fin de parcours) s'il n'y en a pas.
+    public boolean advance(int target) {
+        int next = blockStart + cursor;
+        if (next >= size) {
+            return false;
+        }
+
+        // Bloc courant
+        int first = next >>> BLOCK_SHIFT;
+        if (cursor < limit) {
+            if (buffer[limit - 1] >= target) {
+                cursor = lowerBound(cursor, limit, target);
+                return true;
+            }
+            first++;
+        }
+
+        // Galop sur les blocs suivants jusqu'à une dernière valeur >= target, puis dichotomie
+        int lo = first;
+        int hi = first;
+        int step = 1;
+        while (hi < blockCount && lastOfBlock(hi) < target) {
+            lo = hi + 1;
+            hi += step;
+            step <<= 1;
+        }
+        if (hi >= blockCount) {
+            hi = blockCount - 1;
+            if (lo > hi || lastOfBlock(hi) < target) {
+                moveTo(size);
+                return false;
+            }
+        }
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (lastOfBlock(mid) < target) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        load(lo);
+        cursor = lowerBound(Math.max(0, next - blockStart), limit, target);
+        return true;
+    }
+
+    private int lastOfBlock(int block) {
+        if (skipData != null) {
+            return skipData[block];
+        }
+        return packer.get(compressedArray, offset, Math.min(size, (block + 1) << BLOCK_SHIFT) - 1);
+    }
+
+    // Premier indice de buffer[from..to) dont la valeur est >= target (to si aucun)
+    private int lowerBound(int from, int to, int target) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (buffer[mid] < target) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // Position sans décodage : le bloc de index sera chargé à la prochaine lecture
+    private void moveTo(int index) {
+        blockStart = index;
+        cursor = 0;
+        limit = 0;
+    }
+
+    private void refill() {
+        int next = blockStart + cursor;
+        if (next >= size) {
+            throw new NoSuchElementException();
+        }
+        load(next >>> BLOCK_SHIFT);
+        cursor = next - blockStart;
+    }
+
+    private void load(int block) {
+        blockStart = block << BLOCK_SHIFT;
+        limit = Math.min(BLOCK_SIZE, size - blockStart);
+        packer.decodeRange(compressedArray, offset, blockStart, blockStart + limit, buffer, 0);
+        cursor = 0;
+    }
+}
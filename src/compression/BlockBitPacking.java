@@ -0,0 +1,362 @@
+package compression;
+
+import storage.WordStorage;
+
+import java.util.Arrays;
+
+// Conteneur par blocs au-dessus d'un packer existant.
+//
+// Les packers de base stockent la taille sur 16 bits (65 535 éléments max).
+// Ici le tableau est découpé en blocs de taille fixe (puissance de 2), chaque
+// bloc est compressé indépendamment par le packer interne (donc avec sa propre
+// largeur en bits) et un répertoire donne la position de chaque bloc.
+//
+// Format :
+//   [0]                 taille totale (32 bits de poids faible)
+//   [1]                 taille totale (32 bits de poids fort)
+//   [2]                 log2 de la taille de bloc
+//   [3 .. 3+nbBlocs-1]  répertoire : position de chaque bloc (relative au début du conteneur)
+//   [...]               blocs compressés par le packer interne
+public class BlockBitPacking implements BitPacking, ScanOperators {
+
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    static final int HEADER_SIZE = 3;
+
+    private final BitPacking inner;
+    private final int blockSize;
+    private final int blockShift;
+    // Scans du packer interne ; null s'il n'en a pas (blocs décodés puis comparés)
+    private final ScanOperators scans;
+
+    public BlockBitPacking(BitPacking inner) {
+        this(inner, DEFAULT_BLOCK_SIZE);
+    }
+
+    public BlockBitPacking(BitPacking inner, int blockSize) {
+        if (inner == null) {
+            throw new IllegalArgumentException("Le packer interne ne peut pas être null");
+        }
+        // Puissance de 2 pour un get(i) en O(1) par décalage, multiple de 32 pour rester aligné sur les mots
+        if (blockSize < 32 || blockSize > ConsecutiveBitPacking.MAX_SIZE || Integer.bitCount(blockSize) != 1) {
+            throw new IllegalArgumentException("Taille de bloc invalide : " + blockSize);
+        }
+        this.inner = inner;
+        this.blockSize = blockSize;
+        this.blockShift = Integer.numberOfTrailingZeros(blockSize);
+        this.scans = inner instanceof ScanOperators ? (ScanOperators) inner : null;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public BitPacking getInner() {
+        return inner;
+    }
+
+    @Override
+    public int[] compress(int[] array) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null ou vide");
+        }
+
+        int size = array.length;
+        int blockCount = blockCount(size);
+
+        // Estimation initiale : moitié de la taille d'origine, agrandie au besoin
+        int[] compressed = new int[HEADER_SIZE + blockCount + Math.max(16, size / 2)];
+        writeHeader(compressed, 0, size);
+
+        // Un seul tampon de la taille d'un bloc compressé : la mémoire de travail reste bornée
+        int[] packed = new int[inner.maxCompressedSize(blockSize)];
+        int position = HEADER_SIZE + blockCount;
+
+        for (int b = 0; b < blockCount; b++) {
+            int from = b << blockShift;
+            int length = Math.min(blockSize, size - from);
+
+            int words = inner.compressInto(array, from, length, packed, 0);
+            if (position + words > compressed.length) {
+                compressed = Arrays.copyOf(compressed, Math.max(position + words, compressed.length + (compressed.length >>> 1)));
+            }
+            System.arraycopy(packed, 0, compressed, position, words);
+            compressed[HEADER_SIZE + b] = position;
+            position += words;
+        }
+
+        return position == compressed.length ? compressed : Arrays.copyOf(compressed, position);
+    }
+
+    @Override
+    public int compressInto(int[] array, int offset, int length, int[] dest, int destOffset) {
+        if (array == null || length <= 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+
+        int blockCount = blockCount(length);
+        if (dest == null || destOffset < 0 || dest.length - destOffset < HEADER_SIZE + blockCount) {
+            throw new IllegalArgumentException("Tableau de destination trop petit");
+        }
+        writeHeader(dest, destOffset, length);
+
+        // Chaque bloc est compressé directement à sa place (le packer interne vérifie la capacité restante)
+        int position = HEADER_SIZE + blockCount;
+        for (int b = 0; b < blockCount; b++) {
+            int from = b << blockShift;
+            int blockLength = Math.min(blockSize, length - from);
+
+            dest[destOffset + HEADER_SIZE + b] = position;
+            position += inner.compressInto(array, offset + from, blockLength, dest, destOffset + position);
+        }
+
+        return position;
+    }
+
+    @Override
+    public int maxCompressedSize(int n) {
+        int fullBlocks = n >>> blockShift;
+        int rest = n & (blockSize - 1);
+        long max = HEADER_SIZE + blockCount(n) + (long) fullBlocks * inner.maxCompressedSize(blockSize)
+                + (rest > 0 ? inner.maxCompressedSize(rest) : 0);
+        return (int) Math.min(max, Integer.MAX_VALUE);
+    }
+
+    private int blockCount(int size) {
+        return (int) (((long) size + blockSize - 1) >>> blockShift);
+    }
+
+    private void writeHeader(int[] dest, int offset, int size) {
+        dest[offset] = size;
+        dest[offset + 1] = 0;
+        dest[offset + 2] = blockShift;
+    }
+
+    @Override
+    public int[] decompress(int[] compressedArray, int[] outputArray) {
+        decompressInto(compressedArray, 0, outputArray, 0);
+        return outputArray;
+    }
+
+    @Override
+    public int decompressInto(int[] compressedArray, int offset, int[] outputArray, int outputOffset) {
+        long size = readSize(compressedArray, offset);
+        if (size > Integer.MAX_VALUE || outputArray == null || outputArray.length - outputOffset < size) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        int shift = compressedArray[offset + 2];
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+
+        for (int b = 0; b < blockCount; b++) {
+            int blockOffset = offset + compressedArray[offset + HEADER_SIZE + b];
+            inner.decompressInto(compressedArray, blockOffset, outputArray, outputOffset + (b << shift));
+        }
+
+        return (int) size;
+    }
+
+    @Override
+    public int get(int[] compressedArray, int i) {
+        return get(compressedArray, 0, i);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int offset, int i) {
+        long size = readSize(compressedArray, offset);
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+        }
+
+        int shift = compressedArray[offset + 2];
+        int blockOffset = offset + compressedArray[offset + HEADER_SIZE + (i >>> shift)];
+        return inner.get(compressedArray, blockOffset, i & ((1 << shift) - 1));
+    }
+
+    @Override
+    public int get(WordStorage storage, long offset, int i) {
+        long size = StorageAccess.readSize(storage, offset);
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+        }
+
+        int shift = storage.getWord(offset + 2);
+        long blockOffset = offset + storage.getWord(offset + HEADER_SIZE + (i >>> shift));
+        return inner.get(storage, blockOffset, i & ((1 << shift) - 1));
+    }
+
+    // Chaque bloc est chargé seul (ses bornes viennent du répertoire) puis décodé par le packer interne
+    @Override
+    public int decompressInto(WordStorage storage, long offset, int[] outputArray, int outputOffset) {
+        long size = StorageAccess.readSize(storage, offset);
+        if (size > Integer.MAX_VALUE || outputArray == null || outputArray.length - outputOffset < size) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        int shift = storage.getWord(offset + 2);
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+
+        for (int b = 0; b < blockCount; b++) {
+            int start = storage.getWord(offset + HEADER_SIZE + b);
+            int length = (int) Math.min(1L << shift, size - ((long) b << shift));
+            // Dernier bloc : sa fin n'est pas dans le répertoire, borne par la taille maximale
+            long end = b + 1 < blockCount
+                    ? storage.getWord(offset + HEADER_SIZE + b + 1)
+                    : Math.min(start + (long) inner.maxCompressedSize(length), storage.wordCount() - offset);
+
+            int[] window = StorageAccess.load(storage, offset + start, (int) (end - start));
+            inner.decompressInto(window, 0, outputArray, outputOffset + (b << shift));
+        }
+
+        return (int) size;
+    }
+
+    @Override
+    public void getMany(int[] compressedArray, int offset, int[] indices, int[] out) {
+        long size = readSize(compressedArray, offset);
+        if (out.length < indices.length) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        int shift = compressedArray[offset + 2];
+        int localMask = (1 << shift) - 1;
+        for (int k = 0; k < indices.length; k++) {
+            int i = indices[k];
+            if (i < 0 || i >= size) {
+                throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+            }
+            int blockOffset = offset + compressedArray[offset + HEADER_SIZE + (i >>> shift)];
+            out[k] = inner.get(compressedArray, blockOffset, i & localMask);
+        }
+    }
+
+    @Override
+    public int decodeRange(int[] compressedArray, int offset, int from, int to, int[] out, int outOffset) {
+        long size = readSize(compressedArray, offset);
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        // Seuls les blocs couverts par la plage sont décodés
+        int shift = compressedArray[offset + 2];
+        int i = from;
+        int target = outOffset;
+        while (i < to) {
+            int block = i >>> shift;
+            int blockStart = block << shift;
+            int localTo = (int) Math.min(to - blockStart, 1L << shift);
+            int blockOffset = offset + compressedArray[offset + HEADER_SIZE + block];
+
+            int count = inner.decodeRange(compressedArray, blockOffset, i - blockStart, localTo, out, target);
+            i += count;
+            target += count;
+        }
+
+        return to - from;
+    }
+
+    // Scans bloc par bloc par le packer interne : chaque bloc a sa propre largeur, un bloc
+    // dont les bornes excluent l'intervalle (ou y sont contenues) est traité sans lire ses données.
+    // Un packer interne sans ScanOperators (packer instrumenté) est lu par morceaux décodés ;
+    // blockLength donne le nombre de valeurs du bloc b (le dernier peut être incomplet).
+    private static int blockLength(long size, int shift, int b) {
+        return (int) Math.min(1L << shift, size - ((long) b << shift));
+    }
+
+    @Override
+    public long size(int[] compressedArray, int offset) {
+        return readSize(compressedArray, offset);
+    }
+
+    @Override
+    public long count(int[] compressedArray, int offset, int lo, int hi) {
+        long size = readSize(compressedArray, offset);
+        int shift = compressedArray[offset + 2];
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+
+        long matches = 0;
+        for (int b = 0; b < blockCount; b++) {
+            int blockOffset = offset + compressedArray[offset + HEADER_SIZE + b];
+            matches += scans != null
+                    ? scans.count(compressedArray, blockOffset, lo, hi)
+                    : PackedScan.countDecoded(inner, compressedArray, blockOffset, blockLength(size, shift, b), lo, hi);
+        }
+        return matches;
+    }
+
+    @Override
+    public long filter(int[] compressedArray, int offset, int lo, int hi, long[] bitmap, long bitBase) {
+        long size = readSize(compressedArray, offset);
+        int shift = compressedArray[offset + 2];
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+
+        long matches = 0;
+        for (int b = 0; b < blockCount; b++) {
+            int blockOffset = offset + compressedArray[offset + HEADER_SIZE + b];
+            long blockBase = bitBase + ((long) b << shift);
+            matches += scans != null
+                    ? scans.filter(compressedArray, blockOffset, lo, hi, bitmap, blockBase)
+                    : PackedScan.filterDecoded(inner, compressedArray, blockOffset, blockLength(size, shift, b), lo, hi, bitmap, blockBase);
+        }
+        return matches;
+    }
+
+    @Override
+    public long sum(int[] compressedArray, int offset) {
+        long size = readSize(compressedArray, offset);
+        int shift = compressedArray[offset + 2];
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+
+        long sum = 0;
+        for (int b = 0; b < blockCount; b++) {
+            int blockOffset = offset + compressedArray[offset + HEADER_SIZE + b];
+            sum += scans != null
+                    ? scans.sum(compressedArray, blockOffset)
+                    : PackedScan.sumDecoded(inner, compressedArray, blockOffset, blockLength(size, shift, b));
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(int[] compressedArray, int offset) {
+        long size = readSize(compressedArray, offset);
+        int shift = compressedArray[offset + 2];
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+
+        int min = Integer.MAX_VALUE;
+        for (int b = 0; b < blockCount; b++) {
+            int blockOffset = offset + compressedArray[offset + HEADER_SIZE + b];
+            min = Math.min(min, scans != null
+                    ? scans.min(compressedArray, blockOffset)
+                    : PackedScan.minDecoded(inner, compressedArray, blockOffset, blockLength(size, shift, b)));
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] compressedArray, int offset) {
+        long size = readSize(compressedArray, offset);
+        int shift = compressedArray[offset + 2];
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+
+        int max = Integer.MIN_VALUE;
+        for (int b = 0; b < blockCount; b++) {
+            int blockOffset = offset + compressedArray[offset + HEADER_SIZE + b];
+            max = Math.max(max, scans != null
+                    ? scans.max(compressedArray, blockOffset)
+                    : PackedScan.maxDecoded(inner, compressedArray, blockOffset, blockLength(size, shift, b)));
+        }
+        return max;
+    }
+
+    // Taille totale stockée sur 64 bits dans les deux premiers mots du conteneur
+    public static long readSize(int[] compressedArray, int offset) {
+        if (compressedArray == null || compressedArray.length - offset < HEADER_SIZE) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+        return (compressedArray[offset] & 0xFFFFFFFFL) | ((long) compressedArray[offset + 1] << 32);
+    }
+}
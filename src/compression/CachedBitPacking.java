@@ -0,0 +1,402 @@
+package compression;
+
+import storage.WordStorage;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// Cache de blocs décodés pour les get(i) répétés sur des tableaux compressés « chauds ».
+//
+// get(i) décode (decodeRange) le bloc de blockSize valeurs qui contient i et le garde en cache,
+// associé à l'identité du tableau compressé, à sa position (offset) et au numéro de bloc : les
+// accès suivants au même bloc sont une lecture de tableau, sans en-tête ni extraction de bits.
+// Le cache a un budget mémoire strict (octets des blocs + surcoût estimé par entrée) et évince
+// les blocs les moins récemment utilisés (algorithme de l'horloge, approximation de LRU).
+// Le tableau compressé n'est pas compté dans le budget : il appartient à l'appelant, et chaque
+// entrée ne le référence que faiblement (par identité). Le cache ne retient donc aucun tableau
+// compressé ; les blocs d'un tableau devenu inaccessible sont retirés au prochain ajout dans
+// leur segment. Il est
+// découpé en segments indépendants (verrou, table et budget propres) ; un succès ne prend pas
+// de verrou.
+//
+// Le packer décoré doit implémenter ScanOperators (taille du tableau) ; sinon get est délégué
+// sans cache. Un tableau compressé ne doit pas être modifié tant qu'il est en cache
+// (invalidate(tableau) après réécriture d'un tampon réutilisé).
+public class CachedBitPacking implements BitPacking {
+
+    public static final int DEFAULT_BLOCK_SIZE = 256;
+
+    private static final int SEGMENTS = 16;
+
+    // En-tête du tableau de valeurs, objet Entry (référence faible comprise) et entrée de
+    // table (estimation 64 bits)
+    private static final int ENTRY_OVERHEAD = 112;
+
+    private final BitPacking delegate;
+    private final ScanOperators sizes;
+    private final int blockSize;
+    private final int blockShift;
+    private final long maxBytes;
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachedBitPacking(BitPacking delegate, long maxBytes) {
+        this(delegate, maxBytes, DEFAULT_BLOCK_SIZE);
+    }
+
+    public CachedBitPacking(BitPacking delegate, long maxBytes, int blockSize) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Le packer ne peut pas être null");
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Budget mémoire invalide : " + maxBytes);
+        }
+        if (blockSize < 1 || Integer.bitCount(blockSize) != 1) {
+            throw new IllegalArgumentException("Taille de bloc invalide : " + blockSize);
+        }
+        this.delegate = delegate;
+        this.sizes = delegate instanceof ScanOperators ? (ScanOperators) delegate : null;
+        this.blockSize = blockSize;
+        this.blockShift = Integer.numberOfTrailingZeros(blockSize);
+        this.maxBytes = maxBytes;
+        for (int s = 0; s < SEGMENTS; s++) {
+            segments[s] = new Segment(maxBytes / SEGMENTS, blockSize);
+        }
+    }
+
+    public BitPacking getDelegate() {
+        return delegate;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    // Mémoire occupée par les blocs en cache (estimation, surcoût compris, hors tables)
+    public long getCachedBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                bytes += segment.bytes;
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    public int get(int[] compressedArray, int i) {
+        return get(compressedArray, 0, i);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int offset, int i) {
+        if (sizes == null || compressedArray == null) {
+            return delegate.get(compressedArray, offset, i);
+        }
+        if (i < 0) {
+            throw new IndexOutOfBoundsException("Index hors limites: " + i);
+        }
+
+        int block = i >>> blockShift;
+        int hash = hash(compressedArray, offset, block);
+        Segment segment = segments[hash & (SEGMENTS - 1)];
+
+        int[] values = segment.lookup(compressedArray, offset, block, hash);
+        if (values != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            // Décodage hors verrou : les autres threads du segment ne sont pas bloqués
+            values = load(compressedArray, offset, block, i);
+            evictions.add(segment.insert(compressedArray, offset, block, hash, values));
+        }
+
+        int k = i & (blockSize - 1);
+        if (k >= values.length) {
+            throw new IndexOutOfBoundsException("Index hors limites: " + i);
+        }
+        return values[k];
+    }
+
+    private int[] load(int[] compressedArray, int offset, int block, int i) {
+        long size = sizes.size(compressedArray, offset);
+        long from = (long) block << blockShift;
+        if (from >= size) {
+            throw new IndexOutOfBoundsException("Index hors limites: " + i);
+        }
+        int length = (int) Math.min(blockSize, size - from);
+        int[] values = new int[length];
+        delegate.decodeRange(compressedArray, offset, (int) from, (int) from + length, values, 0);
+        return values;
+    }
+
+    private static int hash(int[] compressedArray, int offset, int block) {
+        int h = System.identityHashCode(compressedArray) + offset * 0x9E3779B9;
+        h ^= block * 0x85EBCA6B;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public void getMany(int[] compressedArray, int offset, int[] indices, int[] out) {
+        if (out.length < indices.length) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        for (int k = 0; k < indices.length; k++) {
+            out[k] = get(compressedArray, offset, indices[k]);
+        }
+    }
+
+    // Retire du cache tous les blocs d'un tableau compressé
+    public void invalidate(int[] compressedArray) {
+        for (Segment segment : segments) {
+            segment.removeIf(compressedArray);
+        }
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.removeIf(null);
+        }
+    }
+
+    // Les autres opérations ne passent pas par le cache
+
+    @Override
+    public int[] compress(int[] array) {
+        return delegate.compress(array);
+    }
+
+    @Override
+    public int compressInto(int[] array, int offset, int length, int[] dest, int destOffset) {
+        return delegate.compressInto(array, offset, length, dest, destOffset);
+    }
+
+    @Override
+    public int[] decompress(int[] compressedArray, int[] outputArray) {
+        return delegate.decompress(compressedArray, outputArray);
+    }
+
+    @Override
+    public int decompressInto(int[] compressedArray, int offset, int[] outputArray, int outputOffset) {
+        return delegate.decompressInto(compressedArray, offset, outputArray, outputOffset);
+    }
+
+    @Override
+    public int decodeRange(int[] compressedArray, int offset, int from, int to, int[] out, int outOffset) {
+        return delegate.decodeRange(compressedArray, offset, from, to, out, outOffset);
+    }
+
+    @Override
+    public int get(WordStorage storage, long offset, int i) {
+        return delegate.get(storage, offset, i);
+    }
+
+    @Override
+    public int decompressInto(WordStorage storage, long offset, int[] outputArray, int outputOffset) {
+        return delegate.decompressInto(storage, offset, outputArray, outputOffset);
+    }
+
+    @Override
+    public int maxCompressedSize(int n) {
+        return delegate.maxCompressedSize(n);
+    }
+
+    // Référence faible vers le tableau compressé : get() == tableau identifie l'entrée
+    private static final class Entry extends WeakReference<int[]> {
+        final int offset;
+        final int block;
+        final int hash;
+        final int[] values;
+
+        volatile Entry next; // chaînage de la table
+        Entry before;        // anneau de l'horloge (modifié sous verrou)
+        Entry after;
+
+        // Bit de référence de l'horloge, écrit sans verrou par les lectures
+        // (une écriture perdue ne fait que rendre l'éviction un peu moins précise)
+        boolean referenced;
+
+        // Retirée de la table et de l'anneau (une entrée évincée peut encore sortir de la file)
+        boolean removed;
+
+        Entry(int[] array, int offset, int block, int hash, int[] values, ReferenceQueue<int[]> queue) {
+            super(array, queue);
+            this.offset = offset;
+            this.block = block;
+            this.hash = hash;
+            this.values = values;
+        }
+    }
+
+    // Table de hachage chaînée de taille fixe (dimensionnée d'après le budget) et anneau
+    // d'éviction. Les recherches se font sans verrou ni allocation : les champs d'une entrée
+    // sont finaux, et une entrée ajoutée ou retirée pendant une recherche ne peut provoquer
+    // qu'un défaut de cache. Ajouts et évictions sont faits sous le verrou du segment.
+    //
+    // Éviction par l'algorithme de l'horloge (approximation de LRU) : un succès marque l'entrée,
+    // l'aiguille parcourt l'anneau, retire les marques et évince la première entrée non marquée.
+    // Contrairement à une liste LRU exacte, un succès n'écrit rien quand l'entrée est déjà marquée.
+    //
+    // Les entrées dont le tableau compressé a été collecté arrivent dans la file du segment et
+    // sont retirées au prochain ajout ; d'ici là, elles ne sont plus jamais trouvées et l'horloge
+    // les évince en premier.
+    private static final class Segment {
+        private final long budget;
+        private final Entry[] table;
+        private final ReferenceQueue<int[]> collected = new ReferenceQueue<>();
+        private Entry hand; // prochaine entrée examinée par l'horloge
+        long bytes;
+
+        Segment(long budget, int blockSize) {
+            this.budget = budget;
+            long maxEntries = Math.max(1, budget / (ENTRY_OVERHEAD + (long) blockSize * Integer.BYTES));
+            int length = Integer.highestOneBit((int) Math.min(1 << 30, maxEntries + (maxEntries >>> 1)) * 2 - 1);
+            this.table = new Entry[Math.max(16, length)];
+        }
+
+        int[] lookup(int[] array, int offset, int block, int hash) {
+            for (Entry e = table[index(hash, table.length)]; e != null; e = e.next) {
+                if (e.get() == array && e.offset == offset && e.block == block) {
+                    if (!e.referenced) {
+                        e.referenced = true;
+                    }
+                    return e.values;
+                }
+            }
+            return null;
+        }
+
+        // Retourne le nombre de blocs évincés
+        synchronized int insert(int[] array, int offset, int block, int hash, int[] values) {
+            long cost = ENTRY_OVERHEAD + (long) values.length * Integer.BYTES;
+            if (cost > budget) {
+                return 0;
+            }
+            purge();
+            int slot = index(hash, table.length);
+            for (Entry e = table[slot]; e != null; e = e.next) {
+                if (e.get() == array && e.offset == offset && e.block == block) {
+                    return 0; // inséré entre-temps par un autre thread
+                }
+            }
+
+            int evicted = 0;
+            while (bytes + cost > budget) {
+                evict();
+                evicted++;
+            }
+
+            Entry entry = new Entry(array, offset, block, hash, values, collected);
+            entry.next = table[slot];
+            table[slot] = entry;
+            linkBeforeHand(entry);
+            bytes += cost;
+            return evicted;
+        }
+
+        // Retire les entrées dont le tableau compressé a été collecté
+        private void purge() {
+            for (Object ref; (ref = collected.poll()) != null; ) {
+                Entry entry = (Entry) ref;
+                if (!entry.removed) {
+                    remove(entry);
+                }
+            }
+        }
+
+        private void evict() {
+            while (hand.referenced) {
+                hand.referenced = false;
+                hand = hand.after;
+            }
+            remove(hand);
+        }
+
+        // Retire les blocs du tableau donné (tous si array est null)
+        synchronized void removeIf(int[] array) {
+            while (hand != null && (array == null || hand.get() == array)) {
+                remove(hand);
+            }
+            if (hand == null) {
+                return;
+            }
+            for (Entry e = hand.after; e != hand; ) {
+                Entry next = e.after;
+                if (e.get() == array) {
+                    remove(e);
+                }
+                e = next;
+            }
+        }
+
+        private void remove(Entry entry) {
+            entry.removed = true;
+            int slot = index(entry.hash, table.length);
+            if (table[slot] == entry) {
+                table[slot] = entry.next;
+            } else {
+                Entry e = table[slot];
+                while (e.next != entry) {
+                    e = e.next;
+                }
+                e.next = entry.next;
+            }
+
+            if (entry.after == entry) {
+                hand = null;
+            } else {
+                entry.before.after = entry.after;
+                entry.after.before = entry.before;
+                if (hand == entry) {
+                    hand = entry.after;
+                }
+            }
+            bytes -= ENTRY_OVERHEAD + (long) entry.values.length * Integer.BYTES;
+        }
+
+        // Nouvelle entrée juste derrière l'aiguille : la dernière examinée par l'horloge
+        private void linkBeforeHand(Entry e) {
+            if (hand == null) {
+                e.before = e;
+                e.after = e;
+                hand = e;
+                return;
+            }
+            e.before = hand.before;
+            e.after = hand;
+            hand.before.after = e;
+            hand.before = e;
+        }
+
+        // Les bits de poids faible choisissent le segment : la table utilise les suivants
+        private static int index(int hash, int length) {
+            return (hash >>> 4) & (length - 1);
+        }
+    }
+}
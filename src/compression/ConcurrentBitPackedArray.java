@@ -0,0 +1,225 @@
+package compression;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Tableau compressé de taille et de largeur fixes, partagé entre threads lecteurs et écrivains.
+//
+// Format de ConsecutiveBitPacking (sans en-tête). Un groupe de 32 valeurs occupe exactement
+// bits mots et aucune valeur n'est à cheval sur deux groupes : chaque groupe a son propre
+// numéro de version, qui sert à la fois de verrou d'écriture et de seqlock.
+//   - Écriture : prise du groupe par CAS de la version (paire -> impaire), écriture des mots,
+//     puis publication de la version paire suivante. Les écrivains de groupes différents
+//     ne se gênent pas.
+//   - Lecture d'une valeur contenue dans un seul mot : une lecture acquire du mot, sans
+//     verrou ni version (chaque mot est écrit d'un bloc, la valeur y est l'ancienne ou la nouvelle).
+//   - Lecture d'une valeur à cheval sur deux mots : lecture optimiste encadrée par la version
+//     du groupe, recommencée si un écrivain est passé entre-temps.
+// Les lectures n'écrivent jamais en mémoire partagée et passent à l'échelle avec le nombre de cœurs.
+//
+// Une valeur plus large que la largeur du tableau est refusée (pas de recompression
+// concurrente) : dimensionner la largeur à la création, ou utiliser MutableBitPackedArray.
+public class ConcurrentBitPackedArray {
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final VarHandle VERSIONS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final int[] words;
+    private final int[] versions;
+    private final int size;
+    private final int bits;
+    private final int mask;
+    private final boolean signed;
+
+    // Tableau de size zéros sur bits bits
+    public ConcurrentBitPackedArray(int size, int bits, boolean signed) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Taille invalide : " + size);
+        }
+        if (bits < 1 || bits > 32) {
+            throw new IllegalArgumentException("Largeur invalide : " + bits);
+        }
+        long dataWords = ((long) size * bits + 31) >>> 5;
+        if (dataWords > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Tableau trop grand");
+        }
+        this.words = new int[(int) dataWords];
+        this.versions = new int[(size + 31) >>> 5];
+        this.size = size;
+        this.bits = bits;
+        this.mask = -1 >>> (32 - bits);
+        this.signed = signed;
+    }
+
+    // Largeur minimale pour contenir values ; prévoir plus large si des écritures suivront
+    public static ConcurrentBitPackedArray of(int[] values, boolean signed) {
+        if (values == null) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null");
+        }
+        int or = 0;
+        for (int value : values) {
+            or |= signed ? ZigZag.encode(value) : value;
+        }
+        int bits = or == 0 ? 1 : Integer.SIZE - Integer.numberOfLeadingZeros(or);
+        return of(values, bits, signed);
+    }
+
+    public static ConcurrentBitPackedArray of(int[] values, int bits, boolean signed) {
+        if (values == null) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null");
+        }
+        ConcurrentBitPackedArray array = new ConcurrentBitPackedArray(values.length, bits, signed);
+        for (int value : values) {
+            array.checkWidth(signed ? ZigZag.encode(value) : value);
+        }
+        ConsecutiveBitPacking.packWords(values, 0, values.length, bits, array.words, 0, signed);
+        // Publication des mots aux threads qui obtiendront la référence par une course
+        VarHandle.releaseFence();
+        return array;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getBits() {
+        return bits;
+    }
+
+    public int get(int i) {
+        checkIndex(i);
+        long bitPosition = (long) i * bits;
+        int index = (int) (bitPosition >>> 5);
+        int bitOffset = (int) bitPosition & 31;
+
+        int field;
+        if (bitOffset + bits <= 32) {
+            field = ((int) WORDS.getAcquire(words, index) >>> bitOffset) & mask;
+        } else {
+            field = readStraddling(i >>> 5, index, bitOffset);
+        }
+        return signed ? ZigZag.decode(field) : field;
+    }
+
+    // Lecture optimiste des deux mots d'une valeur à cheval, validée par la version du groupe
+    private int readStraddling(int group, int index, int bitOffset) {
+        while (true) {
+            int version = (int) VERSIONS.getAcquire(versions, group);
+            if ((version & 1) == 0) {
+                int low = (int) WORDS.getOpaque(words, index);
+                int high = (int) WORDS.getOpaque(words, index + 1);
+                VarHandle.loadLoadFence();
+                if ((int) VERSIONS.getOpaque(versions, group) == version) {
+                    return ((low >>> bitOffset) | (high << (32 - bitOffset))) & mask;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    public void set(int i, int value) {
+        checkIndex(i);
+        int field = signed ? ZigZag.encode(value) : value;
+        checkWidth(field);
+        int group = i >>> 5;
+        int version = lock(group);
+        write(i, field);
+        unlock(group, version);
+    }
+
+    // Remplace la valeur d'indice i si elle vaut expected ; atomique vis-à-vis des autres écritures
+    public boolean compareAndSet(int i, int expected, int newValue) {
+        checkIndex(i);
+        int field = signed ? ZigZag.encode(newValue) : newValue;
+        checkWidth(field);
+        int group = i >>> 5;
+        int version = lock(group);
+        try {
+            if (read(i) != expected) {
+                return false;
+            }
+            write(i, field);
+            return true;
+        } finally {
+            unlock(group, version);
+        }
+    }
+
+    // Ajoute delta à la valeur d'indice i et retourne l'ancienne valeur (compteurs) ;
+    // un résultat qui ne tient pas sur la largeur du tableau est refusé sans rien modifier
+    public int getAndAdd(int i, int delta) {
+        checkIndex(i);
+        int group = i >>> 5;
+        int version = lock(group);
+        try {
+            int previous = read(i);
+            int value = previous + delta;
+            int field = signed ? ZigZag.encode(value) : value;
+            checkWidth(field);
+            write(i, field);
+            return previous;
+        } finally {
+            unlock(group, version);
+        }
+    }
+
+    // Copie valeur par valeur : chaque valeur est cohérente, l'ensemble n'est pas un instantané
+    public int[] toArray() {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = get(i);
+        }
+        return values;
+    }
+
+    // Prise du groupe : CAS de la version paire vers la version impaire suivante
+    private int lock(int group) {
+        while (true) {
+            int version = (int) VERSIONS.getVolatile(versions, group);
+            if ((version & 1) == 0 && VERSIONS.compareAndSet(versions, group, version, version + 1)) {
+                return version;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private void unlock(int group, int version) {
+        VERSIONS.setRelease(versions, group, version + 2);
+    }
+
+    // Lecture sous verrou du groupe (aucun écrivain concurrent)
+    private int read(int i) {
+        int field = ConsecutiveBitPacking.extract(words, 0, (long) i * bits, bits);
+        return signed ? ZigZag.decode(field) : field;
+    }
+
+    // Écriture sous verrou du groupe : chaque mot est recalculé puis écrit d'un bloc (release),
+    // un lecteur sans verrou y voit l'ancienne ou la nouvelle valeur, jamais un mélange
+    private void write(int i, int field) {
+        long bitPosition = (long) i * bits;
+        int index = (int) (bitPosition >>> 5);
+        int bitOffset = (int) bitPosition & 31;
+
+        WORDS.setRelease(words, index, (words[index] & ~(mask << bitOffset)) | (field << bitOffset));
+        if (bitOffset + bits > 32) {
+            int spill = 32 - bitOffset;
+            WORDS.setRelease(words, index + 1, (words[index + 1] & ~(mask >>> spill)) | (field >>> spill));
+        }
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+        }
+    }
+
+    private void checkWidth(int field) {
+        if ((field & ~mask) != 0) {
+            throw new IllegalArgumentException("Valeur trop large pour " + bits + " bits");
+        }
+    }
+}
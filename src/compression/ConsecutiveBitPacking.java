@@ -1,90 +1,202 @@
 package compression;
 
-public class ConsecutiveBitPacking implements BitPacking {
+import storage.WordStorage;
+
+public class ConsecutiveBitPacking implements BitPacking, ScanOperators {
+
+    // La taille est stockée sur 16 bits dans l'en-tête
+    static final int MAX_SIZE = 0xFFFF;
+
+    // Groupe de 32 valeurs codées en zigzag avant le noyau (un par thread)
+    private static final ThreadLocal<int[]> GROUP = ThreadLocal.withInitial(() -> new int[32]);
+
+    // Mode signé : les valeurs sont codées en zigzag à la compression et décodées
+    // dans la même boucle que l'extraction (pas de passe de transformation séparée)
+    private final boolean signed;
+
+    public ConsecutiveBitPacking() {
+        this(false);
+    }
+
+    public ConsecutiveBitPacking(boolean signed) {
+        this.signed = signed;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
 
     @Override
     public int[] compress(int[] array) {
         if (array == null || array.length == 0) {
             throw new IllegalArgumentException("Le tableau ne peut pas être null ou vide");
         }
+        checkSize(array.length);
 
-        int originalSize = array.length;
-        int bitsPerElement = calculateMaxBitsNeeded(array);
+        int bitsPerElement = calculateMaxBitsNeeded(array, 0, array.length);
+        int[] compressed = new int[compressedSize(array.length, bitsPerElement)];
+        pack(array, 0, array.length, bitsPerElement, compressed, 0);
+        return compressed;
+    }
 
-        // Calcul de la taille du tableau compressé
-        long totalBits = (long) originalSize * bitsPerElement;
-        int compressedSize = (int) ((totalBits + 31) / 32); // Arrondi supérieur pour les bits
+    @Override
+    public int compressInto(int[] array, int offset, int length, int[] dest, int destOffset) {
+        if (array == null || length <= 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+        checkSize(length);
 
-        int[] compressed = new int[compressedSize + 1]; // +1 pour stocker les métadonnées
+        int bitsPerElement = calculateMaxBitsNeeded(array, offset, length);
+        int words = compressedSize(length, bitsPerElement);
+        if (dest == null || destOffset < 0 || dest.length - destOffset < words) {
+            throw new IllegalArgumentException("Tableau de destination trop petit");
+        }
 
-        // Stockage des métadonnées dans le premier entier
-        compressed[0] = (originalSize << 16) | (bitsPerElement & 0xFFFF);
+        pack(array, offset, length, bitsPerElement, dest, destOffset);
+        return words;
+    }
 
-        // Compression des données
-        long bitPosition = 0;
-        int mask = (1 << bitsPerElement) - 1; // Masque pour extraire les bits nécessaires
+    @Override
+    public int maxCompressedSize(int n) {
+        return 1 + n; // au pire 32 bits par valeur + l'en-tête
+    }
 
-        for (int i = 0; i < originalSize; i++) {
-            int value = array[i] & mask; // Application du masque pour sécurité
-            long currentBitPos = bitPosition;
+    // Taille compressée en mots, en-tête compris
+    static int compressedSize(int originalSize, int bitsPerElement) {
+        long totalBits = (long) originalSize * bitsPerElement;
+        return (int) ((totalBits + 31) / 32) + 1; // Arrondi supérieur, +1 pour les métadonnées
+    }
 
-            // Calcul de la position dans le tableau compressé (en tenant compte des métadonnées)
-            int arrayIndex = (int) (currentBitPos / 32) + 1;
-            int bitOffset = (int) (currentBitPos % 32);
+    private static void checkSize(int size) {
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("Tableau trop grand (max " + MAX_SIZE + " éléments), utiliser BlockBitPacking");
+        }
+    }
 
-            // Si la valeur tient entièrement dans l'entier courant
-            if (bitOffset + bitsPerElement <= 32) {
-                compressed[arrayIndex] |= (value << bitOffset);
-            } else {
-                // La valeur chevauche sur deux entiers
-                int bitsInCurrentInt = 32 - bitOffset;
-                int bitsInNextInt = bitsPerElement - bitsInCurrentInt;
+    private void pack(int[] array, int from, int originalSize, int bitsPerElement, int[] compressed, int base) {
+        // Stockage des métadonnées dans le premier entier
+        compressed[base] = (originalSize << 16) | (bitsPerElement & 0xFFFF);
+        packWords(array, from, originalSize, bitsPerElement, compressed, base + 1, signed);
+    }
 
-                // Partie dans l'entier courant
-                compressed[arrayIndex] |= ((value & ((1 << bitsInCurrentInt) - 1)) << bitOffset);
+    // Compresse count valeurs de array[from..] sur bits bits, à partir de compressed[outPos]
+    // (sans en-tête : réutilisé par les formats par blocs)
+    static void packWords(int[] array, int from, int count, int bitsPerElement, int[] compressed, int outPos) {
+        packWords(array, from, count, bitsPerElement, compressed, outPos, false);
+    }
 
-                // Partie dans l'entier suivant
-                if (arrayIndex + 1 < compressed.length) {
-                    compressed[arrayIndex + 1] |= (value >>> bitsInCurrentInt);
-                }
+    // Variante avec codage zigzag à la volée (un groupe de 32 valeurs à la fois)
+    static void packWords(int[] array, int from, int count, int bitsPerElement, int[] compressed, int outPos, boolean zigzag) {
+        // Groupes complets : 32 valeurs sur b bits remplissent exactement b mots
+        int fullGroups = count >>> 5;
+        if (zigzag) {
+            int[] group = GROUP.get();
+            for (int g = 0; g < fullGroups; g++) {
+                ZigZag.encode(array, from + (g << 5), group, 0, 32);
+                pack(group, 0, compressed, outPos + g * bitsPerElement, bitsPerElement);
+            }
+        } else {
+            for (int g = 0; g < fullGroups; g++) {
+                pack(array, from + (g << 5), compressed, outPos + g * bitsPerElement, bitsPerElement);
             }
+        }
 
-            bitPosition += bitsPerElement;
+        // Reste (moins de 32 valeurs) : accumulateur de 64 bits vidé mot par mot, chaque mot
+        // est écrit en entier (la destination peut être un tampon réutilisé)
+        long mask = -1L >>> (64 - bitsPerElement);
+        long buffer = 0;
+        int filled = 0;
+        int word = outPos + fullGroups * bitsPerElement;
+
+        for (int i = fullGroups << 5; i < count; i++) {
+            int value = zigzag ? ZigZag.encode(array[from + i]) : array[from + i];
+            buffer |= (value & mask) << filled;
+            filled += bitsPerElement;
+            if (filled >= 32) {
+                compressed[word++] = (int) buffer;
+                buffer >>>= 32;
+                filled -= 32;
+            }
+        }
+        if (filled > 0) {
+            compressed[word] = (int) buffer;
         }
+    }
 
-        return compressed;
+    // Opération inverse de packWords : décode count valeurs à partir de compressed[inPos]
+    static void unpackWords(int[] compressed, int inPos, int count, int bitsPerElement, int[] out, int outPos) {
+        unpackWords(compressed, inPos, count, bitsPerElement, out, outPos, false);
     }
 
-    private int calculateMaxBitsNeeded(int[] array) {
-        int max = 0;
-        for (int value : array) {
-            max = Math.max(max, value);
+    // Variante avec décodage zigzag de chaque groupe juste après son noyau
+    static void unpackWords(int[] compressed, int inPos, int count, int bitsPerElement, int[] out, int outPos, boolean zigzag) {
+        int fullGroups = count >>> 5;
+        for (int g = 0; g < fullGroups; g++) {
+            unpack(compressed, inPos + g * bitsPerElement, out, outPos + (g << 5), bitsPerElement);
+            if (zigzag) {
+                ZigZag.decode(out, outPos + (g << 5), 32);
+            }
+        }
+        for (int i = fullGroups << 5; i < count; i++) {
+            int value = extract(compressed, inPos, (long) i * bitsPerElement, bitsPerElement);
+            out[outPos + i] = zigzag ? ZigZag.decode(value) : value;
         }
-        return max == 0 ? 1 : Integer.SIZE - Integer.numberOfLeadingZeros(max);
+    }
+
+    // Largeur du OU de toutes les valeurs : un négatif non signé compte pour 32 bits
+    // (au lieu d'être tronqué par le masque), en mode signé on mesure la valeur zigzag
+    private int calculateMaxBitsNeeded(int[] array, int from, int length) {
+        int or = 0;
+        if (signed) {
+            for (int i = from; i < from + length; i++) {
+                or |= ZigZag.encode(array[i]);
+            }
+        } else {
+            for (int i = from; i < from + length; i++) {
+                or |= array[i];
+            }
+        }
+        return or == 0 ? 1 : Integer.SIZE - Integer.numberOfLeadingZeros(or);
     }
 
 
     @Override
     public int[] decompress(int[] compressedArray, int[] outputArray) {
-        if (compressedArray == null || compressedArray.length < 2) {
+        decompressInto(compressedArray, 0, outputArray, 0);
+        return outputArray;
+    }
+
+    @Override
+    public int decompressInto(int[] compressedArray, int offset, int[] outputArray, int outputOffset) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
             throw new IllegalArgumentException("Tableau compressé invalide");
         }
 
         // Extraction des métadonnées
-        int metadata = compressedArray[0];
+        int metadata = compressedArray[offset];
         int origSize = (metadata >>> 16) & 0xFFFF;
         int bitsPerElem = metadata & 0xFFFF;
 
-        if (outputArray.length < origSize) {
+        if (outputArray.length - outputOffset < origSize) {
             throw new IllegalArgumentException("Tableau de sortie trop petit");
         }
 
-        long bitPosition = 0;
-        int mask = (1 << bitsPerElem) - 1;
+        // Groupes complets de 32 valeurs : noyau déroulé (puis zigzag en mode signé)
+        int fullGroups = origSize >>> 5;
+        for (int g = 0; g < fullGroups; g++) {
+            unpack(compressedArray, offset + 1 + g * bitsPerElem, outputArray, outputOffset + (g << 5), bitsPerElem);
+            if (signed) {
+                ZigZag.decode(outputArray, outputOffset + (g << 5), 32);
+            }
+        }
+
+        // Reste : boucle scalaire
+        long bitPosition = (long) (fullGroups << 5) * bitsPerElem;
+        int mask = -1 >>> (32 - bitsPerElem);
 
-        for (int i = 0; i < origSize; i++) {
+        for (int i = fullGroups << 5; i < origSize; i++) {
             long currentBitPos = bitPosition;
-            int arrayIndex = (int) (currentBitPos / 32) + 1;
+            int arrayIndex = (int) (currentBitPos / 32) + offset + 1;
             int bitOffset = (int) (currentBitPos % 32);
 
             int value;
@@ -103,21 +215,26 @@ public class ConsecutiveBitPacking implements BitPacking {
                 value = lowerBits | upperBits;
             }
 
-            outputArray[i] = value;
+            outputArray[outputOffset + i] = signed ? ZigZag.decode(value) : value;
             bitPosition += bitsPerElem;
         }
 
-        return outputArray;
+        return origSize;
     }
 
     @Override
     public int get(int[] compressedArray, int index) {
-        if (compressedArray == null || compressedArray.length < 2) {
+        return get(compressedArray, 0, index);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int offset, int index) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
             throw new IllegalArgumentException("Tableau compressé invalide");
         }
 
         // Extraction des métadonnées
-        int metadata = compressedArray[0];
+        int metadata = compressedArray[offset];
         int origSize = (metadata >>> 16) & 0xFFFF;
         int bitsPerElem = metadata & 0xFFFF;
 
@@ -126,13 +243,14 @@ public class ConsecutiveBitPacking implements BitPacking {
         }
 
         long bitPosition = (long) index * bitsPerElem;
-        int arrayIndex = (int) (bitPosition / 32) + 1;
+        int arrayIndex = (int) (bitPosition / 32) + offset + 1;
         int bitOffset = (int) (bitPosition % 32);
-        int mask = (1 << bitsPerElem) - 1;
+        int mask = -1 >>> (32 - bitsPerElem);
+        int value;
 
         if (bitOffset + bitsPerElem <= 32) {
             // Valeur entièrement dans un entier
-            return (compressedArray[arrayIndex] >>> bitOffset) & mask;
+            value = (compressedArray[arrayIndex] >>> bitOffset) & mask;
         } else {
             // Valeur répartie sur deux entiers
             int bitsInCurrentInt = 32 - bitOffset;
@@ -141,9 +259,241 @@ public class ConsecutiveBitPacking implements BitPacking {
             int lowerBits = (compressedArray[arrayIndex] >>> bitOffset) & ((1 << bitsInCurrentInt) - 1);
             int upperBits = (compressedArray[arrayIndex + 1] & ((1 << bitsInNextInt) - 1)) << bitsInCurrentInt;
 
-            return lowerBits | upperBits;
+            value = lowerBits | upperBits;
+        }
+
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    @Override
+    public int get(WordStorage storage, long offset, int index) {
+        StorageAccess.checkHeader(storage, offset, 2);
+
+        int metadata = storage.getWord(offset);
+        int origSize = (metadata >>> 16) & 0xFFFF;
+        int bitsPerElem = metadata & 0xFFFF;
+
+        if (index < 0 || index >= origSize) {
+            throw new IndexOutOfBoundsException("Index hors limites: " + index);
+        }
+
+        int value = StorageAccess.extract(storage, offset + 1, (long) index * bitsPerElem, bitsPerElem);
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    // Le tableau compressé (au plus 65 536 mots) est chargé d'un coup puis décodé par les noyaux
+    @Override
+    public int decompressInto(WordStorage storage, long offset, int[] outputArray, int outputOffset) {
+        StorageAccess.checkHeader(storage, offset, 2);
+
+        int metadata = storage.getWord(offset);
+        int words = compressedSize((metadata >>> 16) & 0xFFFF, metadata & 0xFFFF);
+        return decompressInto(StorageAccess.load(storage, offset, words), 0, outputArray, outputOffset);
+    }
+
+    @Override
+    public void getMany(int[] compressedArray, int offset, int[] indices, int[] out) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+        if (out.length < indices.length) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        // Métadonnées extraites une seule fois pour tout le lot
+        int metadata = compressedArray[offset];
+        int origSize = (metadata >>> 16) & 0xFFFF;
+        int bitsPerElem = metadata & 0xFFFF;
+
+        for (int k = 0; k < indices.length; k++) {
+            int index = indices[k];
+            if (index < 0 || index >= origSize) {
+                throw new IndexOutOfBoundsException("Index hors limites: " + index);
+            }
+            int value = extract(compressedArray, offset + 1, (long) index * bitsPerElem, bitsPerElem);
+            out[k] = signed ? ZigZag.decode(value) : value;
         }
     }
 
+    @Override
+    public int decodeRange(int[] compressedArray, int offset, int from, int to, int[] out, int outOffset) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+
+        int metadata = compressedArray[offset];
+        int origSize = (metadata >>> 16) & 0xFFFF;
+        int bitsPerElem = metadata & 0xFFFF;
+
+        if (from < 0 || to > origSize || from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        // Début non aligné sur un groupe de 32 : valeur par valeur
+        int i = from;
+        int target = outOffset;
+        while (i < to && (i & 31) != 0) {
+            int value = extract(compressedArray, offset + 1, (long) i * bitsPerElem, bitsPerElem);
+            out[target++] = signed ? ZigZag.decode(value) : value;
+            i++;
+        }
+
+        // Groupes complets couverts par la plage : noyau déroulé, seuls ces mots sont lus
+        while (i + 32 <= to) {
+            unpack(compressedArray, offset + 1 + (i >>> 5) * bitsPerElem, out, target, bitsPerElem);
+            if (signed) {
+                ZigZag.decode(out, target, 32);
+            }
+            i += 32;
+            target += 32;
+        }
 
+        // Fin de plage
+        while (i < to) {
+            int value = extract(compressedArray, offset + 1, (long) i * bitsPerElem, bitsPerElem);
+            out[target++] = signed ? ZigZag.decode(value) : value;
+            i++;
+        }
+
+        return to - from;
+    }
+
+    // Scans sur les mots compressés (SWAR pour les largeurs qui divisent 32, noyaux sinon).
+    // Une largeur b borne les valeurs à [0, 2^b - 1] : un intervalle disjoint est rejeté,
+    // un intervalle qui la couvre est retenu en entier, sans lire les données.
+    @Override
+    public long size(int[] compressedArray, int offset) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+        return (compressedArray[offset] >>> 16) & 0xFFFF;
+    }
+
+    @Override
+    public long count(int[] compressedArray, int offset, int lo, int hi) {
+        int size = (int) size(compressedArray, offset);
+        int bits = compressedArray[offset] & 0xFFFF;
+        return PackedScan.count(compressedArray, offset + 1, size, bits, PackedScan.domain(signed, bits), lo, hi);
+    }
+
+    @Override
+    public long filter(int[] compressedArray, int offset, int lo, int hi, long[] bitmap, long bitBase) {
+        int size = (int) size(compressedArray, offset);
+        int bits = compressedArray[offset] & 0xFFFF;
+        return PackedScan.filter(compressedArray, offset + 1, size, bits, PackedScan.domain(signed, bits), lo, hi, bitmap, bitBase);
+    }
+
+    @Override
+    public long sum(int[] compressedArray, int offset) {
+        int size = (int) size(compressedArray, offset);
+        int bits = compressedArray[offset] & 0xFFFF;
+        return PackedScan.sum(compressedArray, offset + 1, size, bits, PackedScan.domain(signed, bits));
+    }
+
+    @Override
+    public int min(int[] compressedArray, int offset) {
+        int size = (int) size(compressedArray, offset);
+        int bits = compressedArray[offset] & 0xFFFF;
+        return (int) PackedScan.min(compressedArray, offset + 1, size, bits, PackedScan.domain(signed, bits));
+    }
+
+    @Override
+    public int max(int[] compressedArray, int offset) {
+        int size = (int) size(compressedArray, offset);
+        int bits = compressedArray[offset] & 0xFFFF;
+        return (int) PackedScan.max(compressedArray, offset + 1, size, bits, PackedScan.domain(signed, bits));
+    }
+
+    // Lecture de la valeur qui commence au bit bitPosition des données (words[base] = premier mot de données)
+    static int extract(int[] words, int base, long bitPosition, int bits) {
+        int arrayIndex = base + (int) (bitPosition >>> 5);
+        int bitOffset = (int) bitPosition & 31;
+        int mask = -1 >>> (32 - bits);
+
+        if (bitOffset + bits <= 32) {
+            return (words[arrayIndex] >>> bitOffset) & mask;
+        }
+        return ((words[arrayIndex] >>> bitOffset) | (words[arrayIndex + 1] << (32 - bitOffset))) & mask;
+    }
+
+    // Table de dispatch vers les noyaux déroulés de ConsecutiveKernels
+    // (32 valeurs de in[inPos..] vers exactement bits mots de out[outPos..])
+    static void pack(int[] in, int inPos, int[] out, int outPos, int bits) {
+        switch (bits) {
+            case 1: ConsecutiveKernels.pack1(in, inPos, out, outPos); break;
+            case 2: ConsecutiveKernels.pack2(in, inPos, out, outPos); break;
+            case 3: ConsecutiveKernels.pack3(in, inPos, out, outPos); break;
+            case 4: ConsecutiveKernels.pack4(in, inPos, out, outPos); break;
+            case 5: ConsecutiveKernels.pack5(in, inPos, out, outPos); break;
+            case 6: ConsecutiveKernels.pack6(in, inPos, out, outPos); break;
+            case 7: ConsecutiveKernels.pack7(in, inPos, out, outPos); break;
+            case 8: ConsecutiveKernels.pack8(in, inPos, out, outPos); break;
+            case 9: ConsecutiveKernels.pack9(in, inPos, out, outPos); break;
+            case 10: ConsecutiveKernels.pack10(in, inPos, out, outPos); break;
+            case 11: ConsecutiveKernels.pack11(in, inPos, out, outPos); break;
+            case 12: ConsecutiveKernels.pack12(in, inPos, out, outPos); break;
+            case 13: ConsecutiveKernels.pack13(in, inPos, out, outPos); break;
+            case 14: ConsecutiveKernels.pack14(in, inPos, out, outPos); break;
+            case 15: ConsecutiveKernels.pack15(in, inPos, out, outPos); break;
+            case 16: ConsecutiveKernels.pack16(in, inPos, out, outPos); break;
+            case 17: ConsecutiveKernels.pack17(in, inPos, out, outPos); break;
+            case 18: ConsecutiveKernels.pack18(in, inPos, out, outPos); break;
+            case 19: ConsecutiveKernels.pack19(in, inPos, out, outPos); break;
+            case 20: ConsecutiveKernels.pack20(in, inPos, out, outPos); break;
+            case 21: ConsecutiveKernels.pack21(in, inPos, out, outPos); break;
+            case 22: ConsecutiveKernels.pack22(in, inPos, out, outPos); break;
+            case 23: ConsecutiveKernels.pack23(in, inPos, out, outPos); break;
+            case 24: ConsecutiveKernels.pack24(in, inPos, out, outPos); break;
+            case 25: ConsecutiveKernels.pack25(in, inPos, out, outPos); break;
+            case 26: ConsecutiveKernels.pack26(in, inPos, out, outPos); break;
+            case 27: ConsecutiveKernels.pack27(in, inPos, out, outPos); break;
+            case 28: ConsecutiveKernels.pack28(in, inPos, out, outPos); break;
+            case 29: ConsecutiveKernels.pack29(in, inPos, out, outPos); break;
+            case 30: ConsecutiveKernels.pack30(in, inPos, out, outPos); break;
+            case 31: ConsecutiveKernels.pack31(in, inPos, out, outPos); break;
+            case 32: ConsecutiveKernels.pack32(in, inPos, out, outPos); break;
+            default: throw new IllegalArgumentException("Largeur invalide : " + bits);
+        }
+    }
+
+    static void unpack(int[] in, int inPos, int[] out, int outPos, int bits) {
+        switch (bits) {
+            case 1: ConsecutiveKernels.unpack1(in, inPos, out, outPos); break;
+            case 2: ConsecutiveKernels.unpack2(in, inPos, out, outPos); break;
+            case 3: ConsecutiveKernels.unpack3(in, inPos, out, outPos); break;
+            case 4: ConsecutiveKernels.unpack4(in, inPos, out, outPos); break;
+            case 5: ConsecutiveKernels.unpack5(in, inPos, out, outPos); break;
+            case 6: ConsecutiveKernels.unpack6(in, inPos, out, outPos); break;
+            case 7: ConsecutiveKernels.unpack7(in, inPos, out, outPos); break;
+            case 8: ConsecutiveKernels.unpack8(in, inPos, out, outPos); break;
+            case 9: ConsecutiveKernels.unpack9(in, inPos, out, outPos); break;
+            case 10: ConsecutiveKernels.unpack10(in, inPos, out, outPos); break;
+            case 11: ConsecutiveKernels.unpack11(in, inPos, out, outPos); break;
+            case 12: ConsecutiveKernels.unpack12(in, inPos, out, outPos); break;
+            case 13: ConsecutiveKernels.unpack13(in, inPos, out, outPos); break;
+            case 14: ConsecutiveKernels.unpack14(in, inPos, out, outPos); break;
+            case 15: ConsecutiveKernels.unpack15(in, inPos, out, outPos); break;
+            case 16: ConsecutiveKernels.unpack16(in, inPos, out, outPos); break;
+            case 17: ConsecutiveKernels.unpack17(in, inPos, out, outPos); break;
+            case 18: ConsecutiveKernels.unpack18(in, inPos, out, outPos); break;
+            case 19: ConsecutiveKernels.unpack19(in, inPos, out, outPos); break;
+            case 20: ConsecutiveKernels.unpack20(in, inPos, out, outPos); break;
+            case 21: ConsecutiveKernels.unpack21(in, inPos, out, outPos); break;
+            case 22: ConsecutiveKernels.unpack22(in, inPos, out, outPos); break;
+            case 23: ConsecutiveKernels.unpack23(in, inPos, out, outPos); break;
+            case 24: ConsecutiveKernels.unpack24(in, inPos, out, outPos); break;
+            case 25: ConsecutiveKernels.unpack25(in, inPos, out, outPos); break;
+            case 26: ConsecutiveKernels.unpack26(in, inPos, out, outPos); break;
+            case 27: ConsecutiveKernels.unpack27(in, inPos, out, outPos); break;
+            case 28: ConsecutiveKernels.unpack28(in, inPos, out, outPos); break;
+            case 29: ConsecutiveKernels.unpack29(in, inPos, out, outPos); break;
+            case 30: ConsecutiveKernels.unpack30(in, inPos, out, outPos); break;
+            case 31: ConsecutiveKernels.unpack31(in, inPos, out, outPos); break;
+            case 32: ConsecutiveKernels.unpack32(in, inPos, out, outPos); break;
+            default: throw new IllegalArgumentException("Largeur invalide : " + bits);
+        }
+    }
 }
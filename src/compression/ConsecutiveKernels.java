@@ -0,0 +1,2668 @@
+package compression;
+
+// Noyaux de compression/décompression déroulés, un par largeur de 1 à 32 bits.
+// Chaque noyau traite 32 valeurs qui occupent exactement b mots, avec des décalages
+// et des masques constants (aucune division, aucun branchement).
+// Le format est identique à celui de la boucle scalaire de ConsecutiveBitPacking.
+// Code généré par tools/GenerateKernels.java : ne pas modifier à la main.
+final class ConsecutiveKernels {
+
+    private ConsecutiveKernels() {
+    }
+
+    static void pack1(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x1)
+                | (in[inPos + 1] & 0x1) << 1
+                | (in[inPos + 2] & 0x1) << 2
+                | (in[inPos + 3] & 0x1) << 3
+                | (in[inPos + 4] & 0x1) << 4
+                | (in[inPos + 5] & 0x1) << 5
+                | (in[inPos + 6] & 0x1) << 6
+                | (in[inPos + 7] & 0x1) << 7
+                | (in[inPos + 8] & 0x1) << 8
+                | (in[inPos + 9] & 0x1) << 9
+                | (in[inPos + 10] & 0x1) << 10
+                | (in[inPos + 11] & 0x1) << 11
+                | (in[inPos + 12] & 0x1) << 12
+                | (in[inPos + 13] & 0x1) << 13
+                | (in[inPos + 14] & 0x1) << 14
+                | (in[inPos + 15] & 0x1) << 15
+                | (in[inPos + 16] & 0x1) << 16
+                | (in[inPos + 17] & 0x1) << 17
+                | (in[inPos + 18] & 0x1) << 18
+                | (in[inPos + 19] & 0x1) << 19
+                | (in[inPos + 20] & 0x1) << 20
+                | (in[inPos + 21] & 0x1) << 21
+                | (in[inPos + 22] & 0x1) << 22
+                | (in[inPos + 23] & 0x1) << 23
+                | (in[inPos + 24] & 0x1) << 24
+                | (in[inPos + 25] & 0x1) << 25
+                | (in[inPos + 26] & 0x1) << 26
+                | (in[inPos + 27] & 0x1) << 27
+                | (in[inPos + 28] & 0x1) << 28
+                | (in[inPos + 29] & 0x1) << 29
+                | (in[inPos + 30] & 0x1) << 30
+                | (in[inPos + 31] & 0x1) << 31;
+    }
+
+    static void unpack1(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x1;
+        out[outPos + 1] = (in[inPos] >>> 1) & 0x1;
+        out[outPos + 2] = (in[inPos] >>> 2) & 0x1;
+        out[outPos + 3] = (in[inPos] >>> 3) & 0x1;
+        out[outPos + 4] = (in[inPos] >>> 4) & 0x1;
+        out[outPos + 5] = (in[inPos] >>> 5) & 0x1;
+        out[outPos + 6] = (in[inPos] >>> 6) & 0x1;
+        out[outPos + 7] = (in[inPos] >>> 7) & 0x1;
+        out[outPos + 8] = (in[inPos] >>> 8) & 0x1;
+        out[outPos + 9] = (in[inPos] >>> 9) & 0x1;
+        out[outPos + 10] = (in[inPos] >>> 10) & 0x1;
+        out[outPos + 11] = (in[inPos] >>> 11) & 0x1;
+        out[outPos + 12] = (in[inPos] >>> 12) & 0x1;
+        out[outPos + 13] = (in[inPos] >>> 13) & 0x1;
+        out[outPos + 14] = (in[inPos] >>> 14) & 0x1;
+        out[outPos + 15] = (in[inPos] >>> 15) & 0x1;
+        out[outPos + 16] = (in[inPos] >>> 16) & 0x1;
+        out[outPos + 17] = (in[inPos] >>> 17) & 0x1;
+        out[outPos + 18] = (in[inPos] >>> 18) & 0x1;
+        out[outPos + 19] = (in[inPos] >>> 19) & 0x1;
+        out[outPos + 20] = (in[inPos] >>> 20) & 0x1;
+        out[outPos + 21] = (in[inPos] >>> 21) & 0x1;
+        out[outPos + 22] = (in[inPos] >>> 22) & 0x1;
+        out[outPos + 23] = (in[inPos] >>> 23) & 0x1;
+        out[outPos + 24] = (in[inPos] >>> 24) & 0x1;
+        out[outPos + 25] = (in[inPos] >>> 25) & 0x1;
+        out[outPos + 26] = (in[inPos] >>> 26) & 0x1;
+        out[outPos + 27] = (in[inPos] >>> 27) & 0x1;
+        out[outPos + 28] = (in[inPos] >>> 28) & 0x1;
+        out[outPos + 29] = (in[inPos] >>> 29) & 0x1;
+        out[outPos + 30] = (in[inPos] >>> 30) & 0x1;
+        out[outPos + 31] = in[inPos] >>> 31;
+    }
+
+    static void pack2(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x3)
+                | (in[inPos + 1] & 0x3) << 2
+                | (in[inPos + 2] & 0x3) << 4
+                | (in[inPos + 3] & 0x3) << 6
+                | (in[inPos + 4] & 0x3) << 8
+                | (in[inPos + 5] & 0x3) << 10
+                | (in[inPos + 6] & 0x3) << 12
+                | (in[inPos + 7] & 0x3) << 14
+                | (in[inPos + 8] & 0x3) << 16
+                | (in[inPos + 9] & 0x3) << 18
+                | (in[inPos + 10] & 0x3) << 20
+                | (in[inPos + 11] & 0x3) << 22
+                | (in[inPos + 12] & 0x3) << 24
+                | (in[inPos + 13] & 0x3) << 26
+                | (in[inPos + 14] & 0x3) << 28
+                | (in[inPos + 15] & 0x3) << 30;
+        out[outPos + 1] = (in[inPos + 16] & 0x3)
+                | (in[inPos + 17] & 0x3) << 2
+                | (in[inPos + 18] & 0x3) << 4
+                | (in[inPos + 19] & 0x3) << 6
+                | (in[inPos + 20] & 0x3) << 8
+                | (in[inPos + 21] & 0x3) << 10
+                | (in[inPos + 22] & 0x3) << 12
+                | (in[inPos + 23] & 0x3) << 14
+                | (in[inPos + 24] & 0x3) << 16
+                | (in[inPos + 25] & 0x3) << 18
+                | (in[inPos + 26] & 0x3) << 20
+                | (in[inPos + 27] & 0x3) << 22
+                | (in[inPos + 28] & 0x3) << 24
+                | (in[inPos + 29] & 0x3) << 26
+                | (in[inPos + 30] & 0x3) << 28
+                | (in[inPos + 31] & 0x3) << 30;
+    }
+
+    static void unpack2(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x3;
+        out[outPos + 1] = (in[inPos] >>> 2) & 0x3;
+        out[outPos + 2] = (in[inPos] >>> 4) & 0x3;
+        out[outPos + 3] = (in[inPos] >>> 6) & 0x3;
+        out[outPos + 4] = (in[inPos] >>> 8) & 0x3;
+        out[outPos + 5] = (in[inPos] >>> 10) & 0x3;
+        out[outPos + 6] = (in[inPos] >>> 12) & 0x3;
+        out[outPos + 7] = (in[inPos] >>> 14) & 0x3;
+        out[outPos + 8] = (in[inPos] >>> 16) & 0x3;
+        out[outPos + 9] = (in[inPos] >>> 18) & 0x3;
+        out[outPos + 10] = (in[inPos] >>> 20) & 0x3;
+        out[outPos + 11] = (in[inPos] >>> 22) & 0x3;
+        out[outPos + 12] = (in[inPos] >>> 24) & 0x3;
+        out[outPos + 13] = (in[inPos] >>> 26) & 0x3;
+        out[outPos + 14] = (in[inPos] >>> 28) & 0x3;
+        out[outPos + 15] = in[inPos] >>> 30;
+        out[outPos + 16] = in[inPos + 1] & 0x3;
+        out[outPos + 17] = (in[inPos + 1] >>> 2) & 0x3;
+        out[outPos + 18] = (in[inPos + 1] >>> 4) & 0x3;
+        out[outPos + 19] = (in[inPos + 1] >>> 6) & 0x3;
+        out[outPos + 20] = (in[inPos + 1] >>> 8) & 0x3;
+        out[outPos + 21] = (in[inPos + 1] >>> 10) & 0x3;
+        out[outPos + 22] = (in[inPos + 1] >>> 12) & 0x3;
+        out[outPos + 23] = (in[inPos + 1] >>> 14) & 0x3;
+        out[outPos + 24] = (in[inPos + 1] >>> 16) & 0x3;
+        out[outPos + 25] = (in[inPos + 1] >>> 18) & 0x3;
+        out[outPos + 26] = (in[inPos + 1] >>> 20) & 0x3;
+        out[outPos + 27] = (in[inPos + 1] >>> 22) & 0x3;
+        out[outPos + 28] = (in[inPos + 1] >>> 24) & 0x3;
+        out[outPos + 29] = (in[inPos + 1] >>> 26) & 0x3;
+        out[outPos + 30] = (in[inPos + 1] >>> 28) & 0x3;
+        out[outPos + 31] = in[inPos + 1] >>> 30;
+    }
+
+    static void pack3(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x7)
+                | (in[inPos + 1] & 0x7) << 3
+                | (in[inPos + 2] & 0x7) << 6
+                | (in[inPos + 3] & 0x7) << 9
+                | (in[inPos + 4] & 0x7) << 12
+                | (in[inPos + 5] & 0x7) << 15
+                | (in[inPos + 6] & 0x7) << 18
+                | (in[inPos + 7] & 0x7) << 21
+                | (in[inPos + 8] & 0x7) << 24
+                | (in[inPos + 9] & 0x7) << 27
+                | (in[inPos + 10] & 0x7) << 30;
+        out[outPos + 1] = (in[inPos + 10] & 0x7) >>> 2
+                | (in[inPos + 11] & 0x7) << 1
+                | (in[inPos + 12] & 0x7) << 4
+                | (in[inPos + 13] & 0x7) << 7
+                | (in[inPos + 14] & 0x7) << 10
+                | (in[inPos + 15] & 0x7) << 13
+                | (in[inPos + 16] & 0x7) << 16
+                | (in[inPos + 17] & 0x7) << 19
+                | (in[inPos + 18] & 0x7) << 22
+                | (in[inPos + 19] & 0x7) << 25
+                | (in[inPos + 20] & 0x7) << 28
+                | (in[inPos + 21] & 0x7) << 31;
+        out[outPos + 2] = (in[inPos + 21] & 0x7) >>> 1
+                | (in[inPos + 22] & 0x7) << 2
+                | (in[inPos + 23] & 0x7) << 5
+                | (in[inPos + 24] & 0x7) << 8
+                | (in[inPos + 25] & 0x7) << 11
+                | (in[inPos + 26] & 0x7) << 14
+                | (in[inPos + 27] & 0x7) << 17
+                | (in[inPos + 28] & 0x7) << 20
+                | (in[inPos + 29] & 0x7) << 23
+                | (in[inPos + 30] & 0x7) << 26
+                | (in[inPos + 31] & 0x7) << 29;
+    }
+
+    static void unpack3(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x7;
+        out[outPos + 1] = (in[inPos] >>> 3) & 0x7;
+        out[outPos + 2] = (in[inPos] >>> 6) & 0x7;
+        out[outPos + 3] = (in[inPos] >>> 9) & 0x7;
+        out[outPos + 4] = (in[inPos] >>> 12) & 0x7;
+        out[outPos + 5] = (in[inPos] >>> 15) & 0x7;
+        out[outPos + 6] = (in[inPos] >>> 18) & 0x7;
+        out[outPos + 7] = (in[inPos] >>> 21) & 0x7;
+        out[outPos + 8] = (in[inPos] >>> 24) & 0x7;
+        out[outPos + 9] = (in[inPos] >>> 27) & 0x7;
+        out[outPos + 10] = (in[inPos] >>> 30 | in[inPos + 1] << 2) & 0x7;
+        out[outPos + 11] = (in[inPos + 1] >>> 1) & 0x7;
+        out[outPos + 12] = (in[inPos + 1] >>> 4) & 0x7;
+        out[outPos + 13] = (in[inPos + 1] >>> 7) & 0x7;
+        out[outPos + 14] = (in[inPos + 1] >>> 10) & 0x7;
+        out[outPos + 15] = (in[inPos + 1] >>> 13) & 0x7;
+        out[outPos + 16] = (in[inPos + 1] >>> 16) & 0x7;
+        out[outPos + 17] = (in[inPos + 1] >>> 19) & 0x7;
+        out[outPos + 18] = (in[inPos + 1] >>> 22) & 0x7;
+        out[outPos + 19] = (in[inPos + 1] >>> 25) & 0x7;
+        out[outPos + 20] = (in[inPos + 1] >>> 28) & 0x7;
+        out[outPos + 21] = (in[inPos + 1] >>> 31 | in[inPos + 2] << 1) & 0x7;
+        out[outPos + 22] = (in[inPos + 2] >>> 2) & 0x7;
+        out[outPos + 23] = (in[inPos + 2] >>> 5) & 0x7;
+        out[outPos + 24] = (in[inPos + 2] >>> 8) & 0x7;
+        out[outPos + 25] = (in[inPos + 2] >>> 11) & 0x7;
+        out[outPos + 26] = (in[inPos + 2] >>> 14) & 0x7;
+        out[outPos + 27] = (in[inPos + 2] >>> 17) & 0x7;
+        out[outPos + 28] = (in[inPos + 2] >>> 20) & 0x7;
+        out[outPos + 29] = (in[inPos + 2] >>> 23) & 0x7;
+        out[outPos + 30] = (in[inPos + 2] >>> 26) & 0x7;
+        out[outPos + 31] = in[inPos + 2] >>> 29;
+    }
+
+    static void pack4(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0xF)
+                | (in[inPos + 1] & 0xF) << 4
+                | (in[inPos + 2] & 0xF) << 8
+                | (in[inPos + 3] & 0xF) << 12
+                | (in[inPos + 4] & 0xF) << 16
+                | (in[inPos + 5] & 0xF) << 20
+                | (in[inPos + 6] & 0xF) << 24
+                | (in[inPos + 7] & 0xF) << 28;
+        out[outPos + 1] = (in[inPos + 8] & 0xF)
+                | (in[inPos + 9] & 0xF) << 4
+                | (in[inPos + 10] & 0xF) << 8
+                | (in[inPos + 11] & 0xF) << 12
+                | (in[inPos + 12] & 0xF) << 16
+                | (in[inPos + 13] & 0xF) << 20
+                | (in[inPos + 14] & 0xF) << 24
+                | (in[inPos + 15] & 0xF) << 28;
+        out[outPos + 2] = (in[inPos + 16] & 0xF)
+                | (in[inPos + 17] & 0xF) << 4
+                | (in[inPos + 18] & 0xF) << 8
+                | (in[inPos + 19] & 0xF) << 12
+                | (in[inPos + 20] & 0xF) << 16
+                | (in[inPos + 21] & 0xF) << 20
+                | (in[inPos + 22] & 0xF) << 24
+                | (in[inPos + 23] & 0xF) << 28;
+        out[outPos + 3] = (in[inPos + 24] & 0xF)
+                | (in[inPos + 25] & 0xF) << 4
+                | (in[inPos + 26] & 0xF) << 8
+                | (in[inPos + 27] & 0xF) << 12
+                | (in[inPos + 28] & 0xF) << 16
+                | (in[inPos + 29] & 0xF) << 20
+                | (in[inPos + 30] & 0xF) << 24
+                | (in[inPos + 31] & 0xF) << 28;
+    }
+
+    static void unpack4(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0xF;
+        out[outPos + 1] = (in[inPos] >>> 4) & 0xF;
+        out[outPos + 2] = (in[inPos] >>> 8) & 0xF;
+        out[outPos + 3] = (in[inPos] >>> 12) & 0xF;
+        out[outPos + 4] = (in[inPos] >>> 16) & 0xF;
+        out[outPos + 5] = (in[inPos] >>> 20) & 0xF;
+        out[outPos + 6] = (in[inPos] >>> 24) & 0xF;
+        out[outPos + 7] = in[inPos] >>> 28;
+        out[outPos + 8] = in[inPos + 1] & 0xF;
+        out[outPos + 9] = (in[inPos + 1] >>> 4) & 0xF;
+        out[outPos + 10] = (in[inPos + 1] >>> 8) & 0xF;
+        out[outPos + 11] = (in[inPos + 1] >>> 12) & 0xF;
+        out[outPos + 12] = (in[inPos + 1] >>> 16) & 0xF;
+        out[outPos + 13] = (in[inPos + 1] >>> 20) & 0xF;
+        out[outPos + 14] = (in[inPos + 1] >>> 24) & 0xF;
+        out[outPos + 15] = in[inPos + 1] >>> 28;
+        out[outPos + 16] = in[inPos + 2] & 0xF;
+        out[outPos + 17] = (in[inPos + 2] >>> 4) & 0xF;
+        out[outPos + 18] = (in[inPos + 2] >>> 8) & 0xF;
+        out[outPos + 19] = (in[inPos + 2] >>> 12) & 0xF;
+        out[outPos + 20] = (in[inPos + 2] >>> 16) & 0xF;
+        out[outPos + 21] = (in[inPos + 2] >>> 20) & 0xF;
+        out[outPos + 22] = (in[inPos + 2] >>> 24) & 0xF;
+        out[outPos + 23] = in[inPos + 2] >>> 28;
+        out[outPos + 24] = in[inPos + 3] & 0xF;
+        out[outPos + 25] = (in[inPos + 3] >>> 4) & 0xF;
+        out[outPos + 26] = (in[inPos + 3] >>> 8) & 0xF;
+        out[outPos + 27] = (in[inPos + 3] >>> 12) & 0xF;
+        out[outPos + 28] = (in[inPos + 3] >>> 16) & 0xF;
+        out[outPos + 29] = (in[inPos + 3] >>> 20) & 0xF;
+        out[outPos + 30] = (in[inPos + 3] >>> 24) & 0xF;
+        out[outPos + 31] = in[inPos + 3] >>> 28;
+    }
+
+    static void pack5(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x1F)
+                | (in[inPos + 1] & 0x1F) << 5
+                | (in[inPos + 2] & 0x1F) << 10
+                | (in[inPos + 3] & 0x1F) << 15
+                | (in[inPos + 4] & 0x1F) << 20
+                | (in[inPos + 5] & 0x1F) << 25
+                | (in[inPos + 6] & 0x1F) << 30;
+        out[outPos + 1] = (in[inPos + 6] & 0x1F) >>> 2
+                | (in[inPos + 7] & 0x1F) << 3
+                | (in[inPos + 8] & 0x1F) << 8
+                | (in[inPos + 9] & 0x1F) << 13
+                | (in[inPos + 10] & 0x1F) << 18
+                | (in[inPos + 11] & 0x1F) << 23
+                | (in[inPos + 12] & 0x1F) << 28;
+        out[outPos + 2] = (in[inPos + 12] & 0x1F) >>> 4
+                | (in[inPos + 13] & 0x1F) << 1
+                | (in[inPos + 14] & 0x1F) << 6
+                | (in[inPos + 15] & 0x1F) << 11
+                | (in[inPos + 16] & 0x1F) << 16
+                | (in[inPos + 17] & 0x1F) << 21
+                | (in[inPos + 18] & 0x1F) << 26
+                | (in[inPos + 19] & 0x1F) << 31;
+        out[outPos + 3] = (in[inPos + 19] & 0x1F) >>> 1
+                | (in[inPos + 20] & 0x1F) << 4
+                | (in[inPos + 21] & 0x1F) << 9
+                | (in[inPos + 22] & 0x1F) << 14
+                | (in[inPos + 23] & 0x1F) << 19
+                | (in[inPos + 24] & 0x1F) << 24
+                | (in[inPos + 25] & 0x1F) << 29;
+        out[outPos + 4] = (in[inPos + 25] & 0x1F) >>> 3
+                | (in[inPos + 26] & 0x1F) << 2
+                | (in[inPos + 27] & 0x1F) << 7
+                | (in[inPos + 28] & 0x1F) << 12
+                | (in[inPos + 29] & 0x1F) << 17
+                | (in[inPos + 30] & 0x1F) << 22
+                | (in[inPos + 31] & 0x1F) << 27;
+    }
+
+    static void unpack5(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x1F;
+        out[outPos + 1] = (in[inPos] >>> 5) & 0x1F;
+        out[outPos + 2] = (in[inPos] >>> 10) & 0x1F;
+        out[outPos + 3] = (in[inPos] >>> 15) & 0x1F;
+        out[outPos + 4] = (in[inPos] >>> 20) & 0x1F;
+        out[outPos + 5] = (in[inPos] >>> 25) & 0x1F;
+        out[outPos + 6] = (in[inPos] >>> 30 | in[inPos + 1] << 2) & 0x1F;
+        out[outPos + 7] = (in[inPos + 1] >>> 3) & 0x1F;
+        out[outPos + 8] = (in[inPos + 1] >>> 8) & 0x1F;
+        out[outPos + 9] = (in[inPos + 1] >>> 13) & 0x1F;
+        out[outPos + 10] = (in[inPos + 1] >>> 18) & 0x1F;
+        out[outPos + 11] = (in[inPos + 1] >>> 23) & 0x1F;
+        out[outPos + 12] = (in[inPos + 1] >>> 28 | in[inPos + 2] << 4) & 0x1F;
+        out[outPos + 13] = (in[inPos + 2] >>> 1) & 0x1F;
+        out[outPos + 14] = (in[inPos + 2] >>> 6) & 0x1F;
+        out[outPos + 15] = (in[inPos + 2] >>> 11) & 0x1F;
+        out[outPos + 16] = (in[inPos + 2] >>> 16) & 0x1F;
+        out[outPos + 17] = (in[inPos + 2] >>> 21) & 0x1F;
+        out[outPos + 18] = (in[inPos + 2] >>> 26) & 0x1F;
+        out[outPos + 19] = (in[inPos + 2] >>> 31 | in[inPos + 3] << 1) & 0x1F;
+        out[outPos + 20] = (in[inPos + 3] >>> 4) & 0x1F;
+        out[outPos + 21] = (in[inPos + 3] >>> 9) & 0x1F;
+        out[outPos + 22] = (in[inPos + 3] >>> 14) & 0x1F;
+        out[outPos + 23] = (in[inPos + 3] >>> 19) & 0x1F;
+        out[outPos + 24] = (in[inPos + 3] >>> 24) & 0x1F;
+        out[outPos + 25] = (in[inPos + 3] >>> 29 | in[inPos + 4] << 3) & 0x1F;
+        out[outPos + 26] = (in[inPos + 4] >>> 2) & 0x1F;
+        out[outPos + 27] = (in[inPos + 4] >>> 7) & 0x1F;
+        out[outPos + 28] = (in[inPos + 4] >>> 12) & 0x1F;
+        out[outPos + 29] = (in[inPos + 4] >>> 17) & 0x1F;
+        out[outPos + 30] = (in[inPos + 4] >>> 22) & 0x1F;
+        out[outPos + 31] = in[inPos + 4] >>> 27;
+    }
+
+    static void pack6(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x3F)
+                | (in[inPos + 1] & 0x3F) << 6
+                | (in[inPos + 2] & 0x3F) << 12
+                | (in[inPos + 3] & 0x3F) << 18
+                | (in[inPos + 4] & 0x3F) << 24
+                | (in[inPos + 5] & 0x3F) << 30;
+        out[outPos + 1] = (in[inPos + 5] & 0x3F) >>> 2
+                | (in[inPos + 6] & 0x3F) << 4
+                | (in[inPos + 7] & 0x3F) << 10
+                | (in[inPos + 8] & 0x3F) << 16
+                | (in[inPos + 9] & 0x3F) << 22
+                | (in[inPos + 10] & 0x3F) << 28;
+        out[outPos + 2] = (in[inPos + 10] & 0x3F) >>> 4
+                | (in[inPos + 11] & 0x3F) << 2
+                | (in[inPos + 12] & 0x3F) << 8
+                | (in[inPos + 13] & 0x3F) << 14
+                | (in[inPos + 14] & 0x3F) << 20
+                | (in[inPos + 15] & 0x3F) << 26;
+        out[outPos + 3] = (in[inPos + 16] & 0x3F)
+                | (in[inPos + 17] & 0x3F) << 6
+                | (in[inPos + 18] & 0x3F) << 12
+                | (in[inPos + 19] & 0x3F) << 18
+                | (in[inPos + 20] & 0x3F) << 24
+                | (in[inPos + 21] & 0x3F) << 30;
+        out[outPos + 4] = (in[inPos + 21] & 0x3F) >>> 2
+                | (in[inPos + 22] & 0x3F) << 4
+                | (in[inPos + 23] & 0x3F) << 10
+                | (in[inPos + 24] & 0x3F) << 16
+                | (in[inPos + 25] & 0x3F) << 22
+                | (in[inPos + 26] & 0x3F) << 28;
+        out[outPos + 5] = (in[inPos + 26] & 0x3F) >>> 4
+                | (in[inPos + 27] & 0x3F) << 2
+                | (in[inPos + 28] & 0x3F) << 8
+                | (in[inPos + 29] & 0x3F) << 14
+                | (in[inPos + 30] & 0x3F) << 20
+                | (in[inPos + 31] & 0x3F) << 26;
+    }
+
+    static void unpack6(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x3F;
+        out[outPos + 1] = (in[inPos] >>> 6) & 0x3F;
+        out[outPos + 2] = (in[inPos] >>> 12) & 0x3F;
+        out[outPos + 3] = (in[inPos] >>> 18) & 0x3F;
+        out[outPos + 4] = (in[inPos] >>> 24) & 0x3F;
+        out[outPos + 5] = (in[inPos] >>> 30 | in[inPos + 1] << 2) & 0x3F;
+        out[outPos + 6] = (in[inPos + 1] >>> 4) & 0x3F;
+        out[outPos + 7] = (in[inPos + 1] >>> 10) & 0x3F;
+        out[outPos + 8] = (in[inPos + 1] >>> 16) & 0x3F;
+        out[outPos + 9] = (in[inPos + 1] >>> 22) & 0x3F;
+        out[outPos + 10] = (in[inPos + 1] >>> 28 | in[inPos + 2] << 4) & 0x3F;
+        out[outPos + 11] = (in[inPos + 2] >>> 2) & 0x3F;
+        out[outPos + 12] = (in[inPos + 2] >>> 8) & 0x3F;
+        out[outPos + 13] = (in[inPos + 2] >>> 14) & 0x3F;
+        out[outPos + 14] = (in[inPos + 2] >>> 20) & 0x3F;
+        out[outPos + 15] = in[inPos + 2] >>> 26;
+        out[outPos + 16] = in[inPos + 3] & 0x3F;
+        out[outPos + 17] = (in[inPos + 3] >>> 6) & 0x3F;
+        out[outPos + 18] = (in[inPos + 3] >>> 12) & 0x3F;
+        out[outPos + 19] = (in[inPos + 3] >>> 18) & 0x3F;
+        out[outPos + 20] = (in[inPos + 3] >>> 24) & 0x3F;
+        out[outPos + 21] = (in[inPos + 3] >>> 30 | in[inPos + 4] << 2) & 0x3F;
+        out[outPos + 22] = (in[inPos + 4] >>> 4) & 0x3F;
+        out[outPos + 23] = (in[inPos + 4] >>> 10) & 0x3F;
+        out[outPos + 24] = (in[inPos + 4] >>> 16) & 0x3F;
+        out[outPos + 25] = (in[inPos + 4] >>> 22) & 0x3F;
+        out[outPos + 26] = (in[inPos + 4] >>> 28 | in[inPos + 5] << 4) & 0x3F;
+        out[outPos + 27] = (in[inPos + 5] >>> 2) & 0x3F;
+        out[outPos + 28] = (in[inPos + 5] >>> 8) & 0x3F;
+        out[outPos + 29] = (in[inPos + 5] >>> 14) & 0x3F;
+        out[outPos + 30] = (in[inPos + 5] >>> 20) & 0x3F;
+        out[outPos + 31] = in[inPos + 5] >>> 26;
+    }
+
+    static void pack7(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x7F)
+                | (in[inPos + 1] & 0x7F) << 7
+                | (in[inPos + 2] & 0x7F) << 14
+                | (in[inPos + 3] & 0x7F) << 21
+                | (in[inPos + 4] & 0x7F) << 28;
+        out[outPos + 1] = (in[inPos + 4] & 0x7F) >>> 4
+                | (in[inPos + 5] & 0x7F) << 3
+                | (in[inPos + 6] & 0x7F) << 10
+                | (in[inPos + 7] & 0x7F) << 17
+                | (in[inPos + 8] & 0x7F) << 24
+                | (in[inPos + 9] & 0x7F) << 31;
+        out[outPos + 2] = (in[inPos + 9] & 0x7F) >>> 1
+                | (in[inPos + 10] & 0x7F) << 6
+                | (in[inPos + 11] & 0x7F) << 13
+                | (in[inPos + 12] & 0x7F) << 20
+                | (in[inPos + 13] & 0x7F) << 27;
+        out[outPos + 3] = (in[inPos + 13] & 0x7F) >>> 5
+                | (in[inPos + 14] & 0x7F) << 2
+                | (in[inPos + 15] & 0x7F) << 9
+                | (in[inPos + 16] & 0x7F) << 16
+                | (in[inPos + 17] & 0x7F) << 23
+                | (in[inPos + 18] & 0x7F) << 30;
+        out[outPos + 4] = (in[inPos + 18] & 0x7F) >>> 2
+                | (in[inPos + 19] & 0x7F) << 5
+                | (in[inPos + 20] & 0x7F) << 12
+                | (in[inPos + 21] & 0x7F) << 19
+                | (in[inPos + 22] & 0x7F) << 26;
+        out[outPos + 5] = (in[inPos + 22] & 0x7F) >>> 6
+                | (in[inPos + 23] & 0x7F) << 1
+                | (in[inPos + 24] & 0x7F) << 8
+                | (in[inPos + 25] & 0x7F) << 15
+                | (in[inPos + 26] & 0x7F) << 22
+                | (in[inPos + 27] & 0x7F) << 29;
+        out[outPos + 6] = (in[inPos + 27] & 0x7F) >>> 3
+                | (in[inPos + 28] & 0x7F) << 4
+                | (in[inPos + 29] & 0x7F) << 11
+                | (in[inPos + 30] & 0x7F) << 18
+                | (in[inPos + 31] & 0x7F) << 25;
+    }
+
+    static void unpack7(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x7F;
+        out[outPos + 1] = (in[inPos] >>> 7) & 0x7F;
+        out[outPos + 2] = (in[inPos] >>> 14) & 0x7F;
+        out[outPos + 3] = (in[inPos] >>> 21) & 0x7F;
+        out[outPos + 4] = (in[inPos] >>> 28 | in[inPos + 1] << 4) & 0x7F;
+        out[outPos + 5] = (in[inPos + 1] >>> 3) & 0x7F;
+        out[outPos + 6] = (in[inPos + 1] >>> 10) & 0x7F;
+        out[outPos + 7] = (in[inPos + 1] >>> 17) & 0x7F;
+        out[outPos + 8] = (in[inPos + 1] >>> 24) & 0x7F;
+        out[outPos + 9] = (in[inPos + 1] >>> 31 | in[inPos + 2] << 1) & 0x7F;
+        out[outPos + 10] = (in[inPos + 2] >>> 6) & 0x7F;
+        out[outPos + 11] = (in[inPos + 2] >>> 13) & 0x7F;
+        out[outPos + 12] = (in[inPos + 2] >>> 20) & 0x7F;
+        out[outPos + 13] = (in[inPos + 2] >>> 27 | in[inPos + 3] << 5) & 0x7F;
+        out[outPos + 14] = (in[inPos + 3] >>> 2) & 0x7F;
+        out[outPos + 15] = (in[inPos + 3] >>> 9) & 0x7F;
+        out[outPos + 16] = (in[inPos + 3] >>> 16) & 0x7F;
+        out[outPos + 17] = (in[inPos + 3] >>> 23) & 0x7F;
+        out[outPos + 18] = (in[inPos + 3] >>> 30 | in[inPos + 4] << 2) & 0x7F;
+        out[outPos + 19] = (in[inPos + 4] >>> 5) & 0x7F;
+        out[outPos + 20] = (in[inPos + 4] >>> 12) & 0x7F;
+        out[outPos + 21] = (in[inPos + 4] >>> 19) & 0x7F;
+        out[outPos + 22] = (in[inPos + 4] >>> 26 | in[inPos + 5] << 6) & 0x7F;
+        out[outPos + 23] = (in[inPos + 5] >>> 1) & 0x7F;
+        out[outPos + 24] = (in[inPos + 5] >>> 8) & 0x7F;
+        out[outPos + 25] = (in[inPos + 5] >>> 15) & 0x7F;
+        out[outPos + 26] = (in[inPos + 5] >>> 22) & 0x7F;
+        out[outPos + 27] = (in[inPos + 5] >>> 29 | in[inPos + 6] << 3) & 0x7F;
+        out[outPos + 28] = (in[inPos + 6] >>> 4) & 0x7F;
+        out[outPos + 29] = (in[inPos + 6] >>> 11) & 0x7F;
+        out[outPos + 30] = (in[inPos + 6] >>> 18) & 0x7F;
+        out[outPos + 31] = in[inPos + 6] >>> 25;
+    }
+
+    static void pack8(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0xFF)
+                | (in[inPos + 1] & 0xFF) << 8
+                | (in[inPos + 2] & 0xFF) << 16
+                | (in[inPos + 3] & 0xFF) << 24;
+        out[outPos + 1] = (in[inPos + 4] & 0xFF)
+                | (in[inPos + 5] & 0xFF) << 8
+                | (in[inPos + 6] & 0xFF) << 16
+                | (in[inPos + 7] & 0xFF) << 24;
+        out[outPos + 2] = (in[inPos + 8] & 0xFF)
+                | (in[inPos + 9] & 0xFF) << 8
+                | (in[inPos + 10] & 0xFF) << 16
+                | (in[inPos + 11] & 0xFF) << 24;
+        out[outPos + 3] = (in[inPos + 12] & 0xFF)
+                | (in[inPos + 13] & 0xFF) << 8
+                | (in[inPos + 14] & 0xFF) << 16
+                | (in[inPos + 15] & 0xFF) << 24;
+        out[outPos + 4] = (in[inPos + 16] & 0xFF)
+                | (in[inPos + 17] & 0xFF) << 8
+                | (in[inPos + 18] & 0xFF) << 16
+                | (in[inPos + 19] & 0xFF) << 24;
+        out[outPos + 5] = (in[inPos + 20] & 0xFF)
+                | (in[inPos + 21] & 0xFF) << 8
+                | (in[inPos + 22] & 0xFF) << 16
+                | (in[inPos + 23] & 0xFF) << 24;
+        out[outPos + 6] = (in[inPos + 24] & 0xFF)
+                | (in[inPos + 25] & 0xFF) << 8
+                | (in[inPos + 26] & 0xFF) << 16
+                | (in[inPos + 27] & 0xFF) << 24;
+        out[outPos + 7] = (in[inPos + 28] & 0xFF)
+                | (in[inPos + 29] & 0xFF) << 8
+                | (in[inPos + 30] & 0xFF) << 16
+                | (in[inPos + 31] & 0xFF) << 24;
+    }
+
+    static void unpack8(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0xFF;
+        out[outPos + 1] = (in[inPos] >>> 8) & 0xFF;
+        out[outPos + 2] = (in[inPos] >>> 16) & 0xFF;
+        out[outPos + 3] = in[inPos] >>> 24;
+        out[outPos + 4] = in[inPos + 1] & 0xFF;
+        out[outPos + 5] = (in[inPos + 1] >>> 8) & 0xFF;
+        out[outPos + 6] = (in[inPos + 1] >>> 16) & 0xFF;
+        out[outPos + 7] = in[inPos + 1] >>> 24;
+        out[outPos + 8] = in[inPos + 2] & 0xFF;
+        out[outPos + 9] = (in[inPos + 2] >>> 8) & 0xFF;
+        out[outPos + 10] = (in[inPos + 2] >>> 16) & 0xFF;
+        out[outPos + 11] = in[inPos + 2] >>> 24;
+        out[outPos + 12] = in[inPos + 3] & 0xFF;
+        out[outPos + 13] = (in[inPos + 3] >>> 8) & 0xFF;
+        out[outPos + 14] = (in[inPos + 3] >>> 16) & 0xFF;
+        out[outPos + 15] = in[inPos + 3] >>> 24;
+        out[outPos + 16] = in[inPos + 4] & 0xFF;
+        out[outPos + 17] = (in[inPos + 4] >>> 8) & 0xFF;
+        out[outPos + 18] = (in[inPos + 4] >>> 16) & 0xFF;
+        out[outPos + 19] = in[inPos + 4] >>> 24;
+        out[outPos + 20] = in[inPos + 5] & 0xFF;
+        out[outPos + 21] = (in[inPos + 5] >>> 8) & 0xFF;
+        out[outPos + 22] = (in[inPos + 5] >>> 16) & 0xFF;
+        out[outPos + 23] = in[inPos + 5] >>> 24;
+        out[outPos + 24] = in[inPos + 6] & 0xFF;
+        out[outPos + 25] = (in[inPos + 6] >>> 8) & 0xFF;
+        out[outPos + 26] = (in[inPos + 6] >>> 16) & 0xFF;
+        out[outPos + 27] = in[inPos + 6] >>> 24;
+        out[outPos + 28] = in[inPos + 7] & 0xFF;
+        out[outPos + 29] = (in[inPos + 7] >>> 8) & 0xFF;
+        out[outPos + 30] = (in[inPos + 7] >>> 16) & 0xFF;
+        out[outPos + 31] = in[inPos + 7] >>> 24;
+    }
+
+    static void pack9(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x1FF)
+                | (in[inPos + 1] & 0x1FF) << 9
+                | (in[inPos + 2] & 0x1FF) << 18
+                | (in[inPos + 3] & 0x1FF) << 27;
+        out[outPos + 1] = (in[inPos + 3] & 0x1FF) >>> 5
+                | (in[inPos + 4] & 0x1FF) << 4
+                | (in[inPos + 5] & 0x1FF) << 13
+                | (in[inPos + 6] & 0x1FF) << 22
+                | (in[inPos + 7] & 0x1FF) << 31;
+        out[outPos + 2] = (in[inPos + 7] & 0x1FF) >>> 1
+                | (in[inPos + 8] & 0x1FF) << 8
+                | (in[inPos + 9] & 0x1FF) << 17
+                | (in[inPos + 10] & 0x1FF) << 26;
+        out[outPos + 3] = (in[inPos + 10] & 0x1FF) >>> 6
+                | (in[inPos + 11] & 0x1FF) << 3
+                | (in[inPos + 12] & 0x1FF) << 12
+                | (in[inPos + 13] & 0x1FF) << 21
+                | (in[inPos + 14] & 0x1FF) << 30;
+        out[outPos + 4] = (in[inPos + 14] & 0x1FF) >>> 2
+                | (in[inPos + 15] & 0x1FF) << 7
+                | (in[inPos + 16] & 0x1FF) << 16
+                | (in[inPos + 17] & 0x1FF) << 25;
+        out[outPos + 5] = (in[inPos + 17] & 0x1FF) >>> 7
+                | (in[inPos + 18] & 0x1FF) << 2
+                | (in[inPos + 19] & 0x1FF) << 11
+                | (in[inPos + 20] & 0x1FF) << 20
+                | (in[inPos + 21] & 0x1FF) << 29;
+        out[outPos + 6] = (in[inPos + 21] & 0x1FF) >>> 3
+                | (in[inPos + 22] & 0x1FF) << 6
+                | (in[inPos + 23] & 0x1FF) << 15
+                | (in[inPos + 24] & 0x1FF) << 24;
+        out[outPos + 7] = (in[inPos + 24] & 0x1FF) >>> 8
+                | (in[inPos + 25] & 0x1FF) << 1
+                | (in[inPos + 26] & 0x1FF) << 10
+                | (in[inPos + 27] & 0x1FF) << 19
+                | (in[inPos + 28] & 0x1FF) << 28;
+        out[outPos + 8] = (in[inPos + 28] & 0x1FF) >>> 4
+                | (in[inPos + 29] & 0x1FF) << 5
+                | (in[inPos + 30] & 0x1FF) << 14
+                | (in[inPos + 31] & 0x1FF) << 23;
+    }
+
+    static void unpack9(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x1FF;
+        out[outPos + 1] = (in[inPos] >>> 9) & 0x1FF;
+        out[outPos + 2] = (in[inPos] >>> 18) & 0x1FF;
+        out[outPos + 3] = (in[inPos] >>> 27 | in[inPos + 1] << 5) & 0x1FF;
+        out[outPos + 4] = (in[inPos + 1] >>> 4) & 0x1FF;
+        out[outPos + 5] = (in[inPos + 1] >>> 13) & 0x1FF;
+        out[outPos + 6] = (in[inPos + 1] >>> 22) & 0x1FF;
+        out[outPos + 7] = (in[inPos + 1] >>> 31 | in[inPos + 2] << 1) & 0x1FF;
+        out[outPos + 8] = (in[inPos + 2] >>> 8) & 0x1FF;
+        out[outPos + 9] = (in[inPos + 2] >>> 17) & 0x1FF;
+        out[outPos + 10] = (in[inPos + 2] >>> 26 | in[inPos + 3] << 6) & 0x1FF;
+        out[outPos + 11] = (in[inPos + 3] >>> 3) & 0x1FF;
+        out[outPos + 12] = (in[inPos + 3] >>> 12) & 0x1FF;
+        out[outPos + 13] = (in[inPos + 3] >>> 21) & 0x1FF;
+        out[outPos + 14] = (in[inPos + 3] >>> 30 | in[inPos + 4] << 2) & 0x1FF;
+        out[outPos + 15] = (in[inPos + 4] >>> 7) & 0x1FF;
+        out[outPos + 16] = (in[inPos + 4] >>> 16) & 0x1FF;
+        out[outPos + 17] = (in[inPos + 4] >>> 25 | in[inPos + 5] << 7) & 0x1FF;
+        out[outPos + 18] = (in[inPos + 5] >>> 2) & 0x1FF;
+        out[outPos + 19] = (in[inPos + 5] >>> 11) & 0x1FF;
+        out[outPos + 20] = (in[inPos + 5] >>> 20) & 0x1FF;
+        out[outPos + 21] = (in[inPos + 5] >>> 29 | in[inPos + 6] << 3) & 0x1FF;
+        out[outPos + 22] = (in[inPos + 6] >>> 6) & 0x1FF;
+        out[outPos + 23] = (in[inPos + 6] >>> 15) & 0x1FF;
+        out[outPos + 24] = (in[inPos + 6] >>> 24 | in[inPos + 7] << 8) & 0x1FF;
+        out[outPos + 25] = (in[inPos + 7] >>> 1) & 0x1FF;
+        out[outPos + 26] = (in[inPos + 7] >>> 10) & 0x1FF;
+        out[outPos + 27] = (in[inPos + 7] >>> 19) & 0x1FF;
+        out[outPos + 28] = (in[inPos + 7] >>> 28 | in[inPos + 8] << 4) & 0x1FF;
+        out[outPos + 29] = (in[inPos + 8] >>> 5) & 0x1FF;
+        out[outPos + 30] = (in[inPos + 8] >>> 14) & 0x1FF;
+        out[outPos + 31] = in[inPos + 8] >>> 23;
+    }
+
+    static void pack10(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x3FF)
+                | (in[inPos + 1] & 0x3FF) << 10
+                | (in[inPos + 2] & 0x3FF) << 20
+                | (in[inPos + 3] & 0x3FF) << 30;
+        out[outPos + 1] = (in[inPos + 3] & 0x3FF) >>> 2
+                | (in[inPos + 4] & 0x3FF) << 8
+                | (in[inPos + 5] & 0x3FF) << 18
+                | (in[inPos + 6] & 0x3FF) << 28;
+        out[outPos + 2] = (in[inPos + 6] & 0x3FF) >>> 4
+                | (in[inPos + 7] & 0x3FF) << 6
+                | (in[inPos + 8] & 0x3FF) << 16
+                | (in[inPos + 9] & 0x3FF) << 26;
+        out[outPos + 3] = (in[inPos + 9] & 0x3FF) >>> 6
+                | (in[inPos + 10] & 0x3FF) << 4
+                | (in[inPos + 11] & 0x3FF) << 14
+                | (in[inPos + 12] & 0x3FF) << 24;
+        out[outPos + 4] = (in[inPos + 12] & 0x3FF) >>> 8
+                | (in[inPos + 13] & 0x3FF) << 2
+                | (in[inPos + 14] & 0x3FF) << 12
+                | (in[inPos + 15] & 0x3FF) << 22;
+        out[outPos + 5] = (in[inPos + 16] & 0x3FF)
+                | (in[inPos + 17] & 0x3FF) << 10
+                | (in[inPos + 18] & 0x3FF) << 20
+                | (in[inPos + 19] & 0x3FF) << 30;
+        out[outPos + 6] = (in[inPos + 19] & 0x3FF) >>> 2
+                | (in[inPos + 20] & 0x3FF) << 8
+                | (in[inPos + 21] & 0x3FF) << 18
+                | (in[inPos + 22] & 0x3FF) << 28;
+        out[outPos + 7] = (in[inPos + 22] & 0x3FF) >>> 4
+                | (in[inPos + 23] & 0x3FF) << 6
+                | (in[inPos + 24] & 0x3FF) << 16
+                | (in[inPos + 25] & 0x3FF) << 26;
+        out[outPos + 8] = (in[inPos + 25] & 0x3FF) >>> 6
+                | (in[inPos + 26] & 0x3FF) << 4
+                | (in[inPos + 27] & 0x3FF) << 14
+                | (in[inPos + 28] & 0x3FF) << 24;
+        out[outPos + 9] = (in[inPos + 28] & 0x3FF) >>> 8
+                | (in[inPos + 29] & 0x3FF) << 2
+                | (in[inPos + 30] & 0x3FF) << 12
+                | (in[inPos + 31] & 0x3FF) << 22;
+    }
+
+    static void unpack10(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x3FF;
+        out[outPos + 1] = (in[inPos] >>> 10) & 0x3FF;
+        out[outPos + 2] = (in[inPos] >>> 20) & 0x3FF;
+        out[outPos + 3] = (in[inPos] >>> 30 | in[inPos + 1] << 2) & 0x3FF;
+        out[outPos + 4] = (in[inPos + 1] >>> 8) & 0x3FF;
+        out[outPos + 5] = (in[inPos + 1] >>> 18) & 0x3FF;
+        out[outPos + 6] = (in[inPos + 1] >>> 28 | in[inPos + 2] << 4) & 0x3FF;
+        out[outPos + 7] = (in[inPos + 2] >>> 6) & 0x3FF;
+        out[outPos + 8] = (in[inPos + 2] >>> 16) & 0x3FF;
+        out[outPos + 9] = (in[inPos + 2] >>> 26 | in[inPos + 3] << 6) & 0x3FF;
+        out[outPos + 10] = (in[inPos + 3] >>> 4) & 0x3FF;
+        out[outPos + 11] = (in[inPos + 3] >>> 14) & 0x3FF;
+        out[outPos + 12] = (in[inPos + 3] >>> 24 | in[inPos + 4] << 8) & 0x3FF;
+        out[outPos + 13] = (in[inPos + 4] >>> 2) & 0x3FF;
+        out[outPos + 14] = (in[inPos + 4] >>> 12) & 0x3FF;
+        out[outPos + 15] = in[inPos + 4] >>> 22;
+        out[outPos + 16] = in[inPos + 5] & 0x3FF;
+        out[outPos + 17] = (in[inPos + 5] >>> 10) & 0x3FF;
+        out[outPos + 18] = (in[inPos + 5] >>> 20) & 0x3FF;
+        out[outPos + 19] = (in[inPos + 5] >>> 30 | in[inPos + 6] << 2) & 0x3FF;
+        out[outPos + 20] = (in[inPos + 6] >>> 8) & 0x3FF;
+        out[outPos + 21] = (in[inPos + 6] >>> 18) & 0x3FF;
+        out[outPos + 22] = (in[inPos + 6] >>> 28 | in[inPos + 7] << 4) & 0x3FF;
+        out[outPos + 23] = (in[inPos + 7] >>> 6) & 0x3FF;
+        out[outPos + 24] = (in[inPos + 7] >>> 16) & 0x3FF;
+        out[outPos + 25] = (in[inPos + 7] >>> 26 | in[inPos + 8] << 6) & 0x3FF;
+        out[outPos + 26] = (in[inPos + 8] >>> 4) & 0x3FF;
+        out[outPos + 27] = (in[inPos + 8] >>> 14) & 0x3FF;
+        out[outPos + 28] = (in[inPos + 8] >>> 24 | in[inPos + 9] << 8) & 0x3FF;
+        out[outPos + 29] = (in[inPos + 9] >>> 2) & 0x3FF;
+        out[outPos + 30] = (in[inPos + 9] >>> 12) & 0x3FF;
+        out[outPos + 31] = in[inPos + 9] >>> 22;
+    }
+
+    static void pack11(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x7FF)
+                | (in[inPos + 1] & 0x7FF) << 11
+                | (in[inPos + 2] & 0x7FF) << 22;
+        out[outPos + 1] = (in[inPos + 2] & 0x7FF) >>> 10
+                | (in[inPos + 3] & 0x7FF) << 1
+                | (in[inPos + 4] & 0x7FF) << 12
+                | (in[inPos + 5] & 0x7FF) << 23;
+        out[outPos + 2] = (in[inPos + 5] & 0x7FF) >>> 9
+                | (in[inPos + 6] & 0x7FF) << 2
+                | (in[inPos + 7] & 0x7FF) << 13
+                | (in[inPos + 8] & 0x7FF) << 24;
+        out[outPos + 3] = (in[inPos + 8] & 0x7FF) >>> 8
+                | (in[inPos + 9] & 0x7FF) << 3
+                | (in[inPos + 10] & 0x7FF) << 14
+                | (in[inPos + 11] & 0x7FF) << 25;
+        out[outPos + 4] = (in[inPos + 11] & 0x7FF) >>> 7
+                | (in[inPos + 12] & 0x7FF) << 4
+                | (in[inPos + 13] & 0x7FF) << 15
+                | (in[inPos + 14] & 0x7FF) << 26;
+        out[outPos + 5] = (in[inPos + 14] & 0x7FF) >>> 6
+                | (in[inPos + 15] & 0x7FF) << 5
+                | (in[inPos + 16] & 0x7FF) << 16
+                | (in[inPos + 17] & 0x7FF) << 27;
+        out[outPos + 6] = (in[inPos + 17] & 0x7FF) >>> 5
+                | (in[inPos + 18] & 0x7FF) << 6
+                | (in[inPos + 19] & 0x7FF) << 17
+                | (in[inPos + 20] & 0x7FF) << 28;
+        out[outPos + 7] = (in[inPos + 20] & 0x7FF) >>> 4
+                | (in[inPos + 21] & 0x7FF) << 7
+                | (in[inPos + 22] & 0x7FF) << 18
+                | (in[inPos + 23] & 0x7FF) << 29;
+        out[outPos + 8] = (in[inPos + 23] & 0x7FF) >>> 3
+                | (in[inPos + 24] & 0x7FF) << 8
+                | (in[inPos + 25] & 0x7FF) << 19
+                | (in[inPos + 26] & 0x7FF) << 30;
+        out[outPos + 9] = (in[inPos + 26] & 0x7FF) >>> 2
+                | (in[inPos + 27] & 0x7FF) << 9
+                | (in[inPos + 28] & 0x7FF) << 20
+                | (in[inPos + 29] & 0x7FF) << 31;
+        out[outPos + 10] = (in[inPos + 29] & 0x7FF) >>> 1
+                | (in[inPos + 30] & 0x7FF) << 10
+                | (in[inPos + 31] & 0x7FF) << 21;
+    }
+
+    static void unpack11(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x7FF;
+        out[outPos + 1] = (in[inPos] >>> 11) & 0x7FF;
+        out[outPos + 2] = (in[inPos] >>> 22 | in[inPos + 1] << 10) & 0x7FF;
+        out[outPos + 3] = (in[inPos + 1] >>> 1) & 0x7FF;
+        out[outPos + 4] = (in[inPos + 1] >>> 12) & 0x7FF;
+        out[outPos + 5] = (in[inPos + 1] >>> 23 | in[inPos + 2] << 9) & 0x7FF;
+        out[outPos + 6] = (in[inPos + 2] >>> 2) & 0x7FF;
+        out[outPos + 7] = (in[inPos + 2] >>> 13) & 0x7FF;
+        out[outPos + 8] = (in[inPos + 2] >>> 24 | in[inPos + 3] << 8) & 0x7FF;
+        out[outPos + 9] = (in[inPos + 3] >>> 3) & 0x7FF;
+        out[outPos + 10] = (in[inPos + 3] >>> 14) & 0x7FF;
+        out[outPos + 11] = (in[inPos + 3] >>> 25 | in[inPos + 4] << 7) & 0x7FF;
+        out[outPos + 12] = (in[inPos + 4] >>> 4) & 0x7FF;
+        out[outPos + 13] = (in[inPos + 4] >>> 15) & 0x7FF;
+        out[outPos + 14] = (in[inPos + 4] >>> 26 | in[inPos + 5] << 6) & 0x7FF;
+        out[outPos + 15] = (in[inPos + 5] >>> 5) & 0x7FF;
+        out[outPos + 16] = (in[inPos + 5] >>> 16) & 0x7FF;
+        out[outPos + 17] = (in[inPos + 5] >>> 27 | in[inPos + 6] << 5) & 0x7FF;
+        out[outPos + 18] = (in[inPos + 6] >>> 6) & 0x7FF;
+        out[outPos + 19] = (in[inPos + 6] >>> 17) & 0x7FF;
+        out[outPos + 20] = (in[inPos + 6] >>> 28 | in[inPos + 7] << 4) & 0x7FF;
+        out[outPos + 21] = (in[inPos + 7] >>> 7) & 0x7FF;
+        out[outPos + 22] = (in[inPos + 7] >>> 18) & 0x7FF;
+        out[outPos + 23] = (in[inPos + 7] >>> 29 | in[inPos + 8] << 3) & 0x7FF;
+        out[outPos + 24] = (in[inPos + 8] >>> 8) & 0x7FF;
+        out[outPos + 25] = (in[inPos + 8] >>> 19) & 0x7FF;
+        out[outPos + 26] = (in[inPos + 8] >>> 30 | in[inPos + 9] << 2) & 0x7FF;
+        out[outPos + 27] = (in[inPos + 9] >>> 9) & 0x7FF;
+        out[outPos + 28] = (in[inPos + 9] >>> 20) & 0x7FF;
+        out[outPos + 29] = (in[inPos + 9] >>> 31 | in[inPos + 10] << 1) & 0x7FF;
+        out[outPos + 30] = (in[inPos + 10] >>> 10) & 0x7FF;
+        out[outPos + 31] = in[inPos + 10] >>> 21;
+    }
+
+    static void pack12(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0xFFF)
+                | (in[inPos + 1] & 0xFFF) << 12
+                | (in[inPos + 2] & 0xFFF) << 24;
+        out[outPos + 1] = (in[inPos + 2] & 0xFFF) >>> 8
+                | (in[inPos + 3] & 0xFFF) << 4
+                | (in[inPos + 4] & 0xFFF) << 16
+                | (in[inPos + 5] & 0xFFF) << 28;
+        out[outPos + 2] = (in[inPos + 5] & 0xFFF) >>> 4
+                | (in[inPos + 6] & 0xFFF) << 8
+                | (in[inPos + 7] & 0xFFF) << 20;
+        out[outPos + 3] = (in[inPos + 8] & 0xFFF)
+                | (in[inPos + 9] & 0xFFF) << 12
+                | (in[inPos + 10] & 0xFFF) << 24;
+        out[outPos + 4] = (in[inPos + 10] & 0xFFF) >>> 8
+                | (in[inPos + 11] & 0xFFF) << 4
+                | (in[inPos + 12] & 0xFFF) << 16
+                | (in[inPos + 13] & 0xFFF) << 28;
+        out[outPos + 5] = (in[inPos + 13] & 0xFFF) >>> 4
+                | (in[inPos + 14] & 0xFFF) << 8
+                | (in[inPos + 15] & 0xFFF) << 20;
+        out[outPos + 6] = (in[inPos + 16] & 0xFFF)
+                | (in[inPos + 17] & 0xFFF) << 12
+                | (in[inPos + 18] & 0xFFF) << 24;
+        out[outPos + 7] = (in[inPos + 18] & 0xFFF) >>> 8
+                | (in[inPos + 19] & 0xFFF) << 4
+                | (in[inPos + 20] & 0xFFF) << 16
+                | (in[inPos + 21] & 0xFFF) << 28;
+        out[outPos + 8] = (in[inPos + 21] & 0xFFF) >>> 4
+                | (in[inPos + 22] & 0xFFF) << 8
+                | (in[inPos + 23] & 0xFFF) << 20;
+        out[outPos + 9] = (in[inPos + 24] & 0xFFF)
+                | (in[inPos + 25] & 0xFFF) << 12
+                | (in[inPos + 26] & 0xFFF) << 24;
+        out[outPos + 10] = (in[inPos + 26] & 0xFFF) >>> 8
+                | (in[inPos + 27] & 0xFFF) << 4
+                | (in[inPos + 28] & 0xFFF) << 16
+                | (in[inPos + 29] & 0xFFF) << 28;
+        out[outPos + 11] = (in[inPos + 29] & 0xFFF) >>> 4
+                | (in[inPos + 30] & 0xFFF) << 8
+                | (in[inPos + 31] & 0xFFF) << 20;
+    }
+
+    static void unpack12(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0xFFF;
+        out[outPos + 1] = (in[inPos] >>> 12) & 0xFFF;
+        out[outPos + 2] = (in[inPos] >>> 24 | in[inPos + 1] << 8) & 0xFFF;
+        out[outPos + 3] = (in[inPos + 1] >>> 4) & 0xFFF;
+        out[outPos + 4] = (in[inPos + 1] >>> 16) & 0xFFF;
+        out[outPos + 5] = (in[inPos + 1] >>> 28 | in[inPos + 2] << 4) & 0xFFF;
+        out[outPos + 6] = (in[inPos + 2] >>> 8) & 0xFFF;
+        out[outPos + 7] = in[inPos + 2] >>> 20;
+        out[outPos + 8] = in[inPos + 3] & 0xFFF;
+        out[outPos + 9] = (in[inPos + 3] >>> 12) & 0xFFF;
+        out[outPos + 10] = (in[inPos + 3] >>> 24 | in[inPos + 4] << 8) & 0xFFF;
+        out[outPos + 11] = (in[inPos + 4] >>> 4) & 0xFFF;
+        out[outPos + 12] = (in[inPos + 4] >>> 16) & 0xFFF;
+        out[outPos + 13] = (in[inPos + 4] >>> 28 | in[inPos + 5] << 4) & 0xFFF;
+        out[outPos + 14] = (in[inPos + 5] >>> 8) & 0xFFF;
+        out[outPos + 15] = in[inPos + 5] >>> 20;
+        out[outPos + 16] = in[inPos + 6] & 0xFFF;
+        out[outPos + 17] = (in[inPos + 6] >>> 12) & 0xFFF;
+        out[outPos + 18] = (in[inPos + 6] >>> 24 | in[inPos + 7] << 8) & 0xFFF;
+        out[outPos + 19] = (in[inPos + 7] >>> 4) & 0xFFF;
+        out[outPos + 20] = (in[inPos + 7] >>> 16) & 0xFFF;
+        out[outPos + 21] = (in[inPos + 7] >>> 28 | in[inPos + 8] << 4) & 0xFFF;
+        out[outPos + 22] = (in[inPos + 8] >>> 8) & 0xFFF;
+        out[outPos + 23] = in[inPos + 8] >>> 20;
+        out[outPos + 24] = in[inPos + 9] & 0xFFF;
+        out[outPos + 25] = (in[inPos + 9] >>> 12) & 0xFFF;
+        out[outPos + 26] = (in[inPos + 9] >>> 24 | in[inPos + 10] << 8) & 0xFFF;
+        out[outPos + 27] = (in[inPos + 10] >>> 4) & 0xFFF;
+        out[outPos + 28] = (in[inPos + 10] >>> 16) & 0xFFF;
+        out[outPos + 29] = (in[inPos + 10] >>> 28 | in[inPos + 11] << 4) & 0xFFF;
+        out[outPos + 30] = (in[inPos + 11] >>> 8) & 0xFFF;
+        out[outPos + 31] = in[inPos + 11] >>> 20;
+    }
+
+    static void pack13(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x1FFF)
+                | (in[inPos + 1] & 0x1FFF) << 13
+                | (in[inPos + 2] & 0x1FFF) << 26;
+        out[outPos + 1] = (in[inPos + 2] & 0x1FFF) >>> 6
+                | (in[inPos + 3] & 0x1FFF) << 7
+                | (in[inPos + 4] & 0x1FFF) << 20;
+        out[outPos + 2] = (in[inPos + 4] & 0x1FFF) >>> 12
+                | (in[inPos + 5] & 0x1FFF) << 1
+                | (in[inPos + 6] & 0x1FFF) << 14
+                | (in[inPos + 7] & 0x1FFF) << 27;
+        out[outPos + 3] = (in[inPos + 7] & 0x1FFF) >>> 5
+                | (in[inPos + 8] & 0x1FFF) << 8
+                | (in[inPos + 9] & 0x1FFF) << 21;
+        out[outPos + 4] = (in[inPos + 9] & 0x1FFF) >>> 11
+                | (in[inPos + 10] & 0x1FFF) << 2
+                | (in[inPos + 11] & 0x1FFF) << 15
+                | (in[inPos + 12] & 0x1FFF) << 28;
+        out[outPos + 5] = (in[inPos + 12] & 0x1FFF) >>> 4
+                | (in[inPos + 13] & 0x1FFF) << 9
+                | (in[inPos + 14] & 0x1FFF) << 22;
+        out[outPos + 6] = (in[inPos + 14] & 0x1FFF) >>> 10
+                | (in[inPos + 15] & 0x1FFF) << 3
+                | (in[inPos + 16] & 0x1FFF) << 16
+                | (in[inPos + 17] & 0x1FFF) << 29;
+        out[outPos + 7] = (in[inPos + 17] & 0x1FFF) >>> 3
+                | (in[inPos + 18] & 0x1FFF) << 10
+                | (in[inPos + 19] & 0x1FFF) << 23;
+        out[outPos + 8] = (in[inPos + 19] & 0x1FFF) >>> 9
+                | (in[inPos + 20] & 0x1FFF) << 4
+                | (in[inPos + 21] & 0x1FFF) << 17
+                | (in[inPos + 22] & 0x1FFF) << 30;
+        out[outPos + 9] = (in[inPos + 22] & 0x1FFF) >>> 2
+                | (in[inPos + 23] & 0x1FFF) << 11
+                | (in[inPos + 24] & 0x1FFF) << 24;
+        out[outPos + 10] = (in[inPos + 24] & 0x1FFF) >>> 8
+                | (in[inPos + 25] & 0x1FFF) << 5
+                | (in[inPos + 26] & 0x1FFF) << 18
+                | (in[inPos + 27] & 0x1FFF) << 31;
+        out[outPos + 11] = (in[inPos + 27] & 0x1FFF) >>> 1
+                | (in[inPos + 28] & 0x1FFF) << 12
+                | (in[inPos + 29] & 0x1FFF) << 25;
+        out[outPos + 12] = (in[inPos + 29] & 0x1FFF) >>> 7
+                | (in[inPos + 30] & 0x1FFF) << 6
+                | (in[inPos + 31] & 0x1FFF) << 19;
+    }
+
+    static void unpack13(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x1FFF;
+        out[outPos + 1] = (in[inPos] >>> 13) & 0x1FFF;
+        out[outPos + 2] = (in[inPos] >>> 26 | in[inPos + 1] << 6) & 0x1FFF;
+        out[outPos + 3] = (in[inPos + 1] >>> 7) & 0x1FFF;
+        out[outPos + 4] = (in[inPos + 1] >>> 20 | in[inPos + 2] << 12) & 0x1FFF;
+        out[outPos + 5] = (in[inPos + 2] >>> 1) & 0x1FFF;
+        out[outPos + 6] = (in[inPos + 2] >>> 14) & 0x1FFF;
+        out[outPos + 7] = (in[inPos + 2] >>> 27 | in[inPos + 3] << 5) & 0x1FFF;
+        out[outPos + 8] = (in[inPos + 3] >>> 8) & 0x1FFF;
+        out[outPos + 9] = (in[inPos + 3] >>> 21 | in[inPos + 4] << 11) & 0x1FFF;
+        out[outPos + 10] = (in[inPos + 4] >>> 2) & 0x1FFF;
+        out[outPos + 11] = (in[inPos + 4] >>> 15) & 0x1FFF;
+        out[outPos + 12] = (in[inPos + 4] >>> 28 | in[inPos + 5] << 4) & 0x1FFF;
+        out[outPos + 13] = (in[inPos + 5] >>> 9) & 0x1FFF;
+        out[outPos + 14] = (in[inPos + 5] >>> 22 | in[inPos + 6] << 10) & 0x1FFF;
+        out[outPos + 15] = (in[inPos + 6] >>> 3) & 0x1FFF;
+        out[outPos + 16] = (in[inPos + 6] >>> 16) & 0x1FFF;
+        out[outPos + 17] = (in[inPos + 6] >>> 29 | in[inPos + 7] << 3) & 0x1FFF;
+        out[outPos + 18] = (in[inPos + 7] >>> 10) & 0x1FFF;
+        out[outPos + 19] = (in[inPos + 7] >>> 23 | in[inPos + 8] << 9) & 0x1FFF;
+        out[outPos + 20] = (in[inPos + 8] >>> 4) & 0x1FFF;
+        out[outPos + 21] = (in[inPos + 8] >>> 17) & 0x1FFF;
+        out[outPos + 22] = (in[inPos + 8] >>> 30 | in[inPos + 9] << 2) & 0x1FFF;
+        out[outPos + 23] = (in[inPos + 9] >>> 11) & 0x1FFF;
+        out[outPos + 24] = (in[inPos + 9] >>> 24 | in[inPos + 10] << 8) & 0x1FFF;
+        out[outPos + 25] = (in[inPos + 10] >>> 5) & 0x1FFF;
+        out[outPos + 26] = (in[inPos + 10] >>> 18) & 0x1FFF;
+        out[outPos + 27] = (in[inPos + 10] >>> 31 | in[inPos + 11] << 1) & 0x1FFF;
+        out[outPos + 28] = (in[inPos + 11] >>> 12) & 0x1FFF;
+        out[outPos + 29] = (in[inPos + 11] >>> 25 | in[inPos + 12] << 7) & 0x1FFF;
+        out[outPos + 30] = (in[inPos + 12] >>> 6) & 0x1FFF;
+        out[outPos + 31] = in[inPos + 12] >>> 19;
+    }
+
+    static void pack14(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x3FFF)
+                | (in[inPos + 1] & 0x3FFF) << 14
+                | (in[inPos + 2] & 0x3FFF) << 28;
+        out[outPos + 1] = (in[inPos + 2] & 0x3FFF) >>> 4
+                | (in[inPos + 3] & 0x3FFF) << 10
+                | (in[inPos + 4] & 0x3FFF) << 24;
+        out[outPos + 2] = (in[inPos + 4] & 0x3FFF) >>> 8
+                | (in[inPos + 5] & 0x3FFF) << 6
+                | (in[inPos + 6] & 0x3FFF) << 20;
+        out[outPos + 3] = (in[inPos + 6] & 0x3FFF) >>> 12
+                | (in[inPos + 7] & 0x3FFF) << 2
+                | (in[inPos + 8] & 0x3FFF) << 16
+                | (in[inPos + 9] & 0x3FFF) << 30;
+        out[outPos + 4] = (in[inPos + 9] & 0x3FFF) >>> 2
+                | (in[inPos + 10] & 0x3FFF) << 12
+                | (in[inPos + 11] & 0x3FFF) << 26;
+        out[outPos + 5] = (in[inPos + 11] & 0x3FFF) >>> 6
+                | (in[inPos + 12] & 0x3FFF) << 8
+                | (in[inPos + 13] & 0x3FFF) << 22;
+        out[outPos + 6] = (in[inPos + 13] & 0x3FFF) >>> 10
+                | (in[inPos + 14] & 0x3FFF) << 4
+                | (in[inPos + 15] & 0x3FFF) << 18;
+        out[outPos + 7] = (in[inPos + 16] & 0x3FFF)
+                | (in[inPos + 17] & 0x3FFF) << 14
+                | (in[inPos + 18] & 0x3FFF) << 28;
+        out[outPos + 8] = (in[inPos + 18] & 0x3FFF) >>> 4
+                | (in[inPos + 19] & 0x3FFF) << 10
+                | (in[inPos + 20] & 0x3FFF) << 24;
+        out[outPos + 9] = (in[inPos + 20] & 0x3FFF) >>> 8
+                | (in[inPos + 21] & 0x3FFF) << 6
+                | (in[inPos + 22] & 0x3FFF) << 20;
+        out[outPos + 10] = (in[inPos + 22] & 0x3FFF) >>> 12
+                | (in[inPos + 23] & 0x3FFF) << 2
+                | (in[inPos + 24] & 0x3FFF) << 16
+                | (in[inPos + 25] & 0x3FFF) << 30;
+        out[outPos + 11] = (in[inPos + 25] & 0x3FFF) >>> 2
+                | (in[inPos + 26] & 0x3FFF) << 12
+                | (in[inPos + 27] & 0x3FFF) << 26;
+        out[outPos + 12] = (in[inPos + 27] & 0x3FFF) >>> 6
+                | (in[inPos + 28] & 0x3FFF) << 8
+                | (in[inPos + 29] & 0x3FFF) << 22;
+        out[outPos + 13] = (in[inPos + 29] & 0x3FFF) >>> 10
+                | (in[inPos + 30] & 0x3FFF) << 4
+                | (in[inPos + 31] & 0x3FFF) << 18;
+    }
+
+    static void unpack14(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x3FFF;
+        out[outPos + 1] = (in[inPos] >>> 14) & 0x3FFF;
+        out[outPos + 2] = (in[inPos] >>> 28 | in[inPos + 1] << 4) & 0x3FFF;
+        out[outPos + 3] = (in[inPos + 1] >>> 10) & 0x3FFF;
+        out[outPos + 4] = (in[inPos + 1] >>> 24 | in[inPos + 2] << 8) & 0x3FFF;
+        out[outPos + 5] = (in[inPos + 2] >>> 6) & 0x3FFF;
+        out[outPos + 6] = (in[inPos + 2] >>> 20 | in[inPos + 3] << 12) & 0x3FFF;
+        out[outPos + 7] = (in[inPos + 3] >>> 2) & 0x3FFF;
+        out[outPos + 8] = (in[inPos + 3] >>> 16) & 0x3FFF;
+        out[outPos + 9] = (in[inPos + 3] >>> 30 | in[inPos + 4] << 2) & 0x3FFF;
+        out[outPos + 10] = (in[inPos + 4] >>> 12) & 0x3FFF;
+        out[outPos + 11] = (in[inPos + 4] >>> 26 | in[inPos + 5] << 6) & 0x3FFF;
+        out[outPos + 12] = (in[inPos + 5] >>> 8) & 0x3FFF;
+        out[outPos + 13] = (in[inPos + 5] >>> 22 | in[inPos + 6] << 10) & 0x3FFF;
+        out[outPos + 14] = (in[inPos + 6] >>> 4) & 0x3FFF;
+        out[outPos + 15] = in[inPos + 6] >>> 18;
+        out[outPos + 16] = in[inPos + 7] & 0x3FFF;
+        out[outPos + 17] = (in[inPos + 7] >>> 14) & 0x3FFF;
+        out[outPos + 18] = (in[inPos + 7] >>> 28 | in[inPos + 8] << 4) & 0x3FFF;
+        out[outPos + 19] = (in[inPos + 8] >>> 10) & 0x3FFF;
+        out[outPos + 20] = (in[inPos + 8] >>> 24 | in[inPos + 9] << 8) & 0x3FFF;
+        out[outPos + 21] = (in[inPos + 9] >>> 6) & 0x3FFF;
+        out[outPos + 22] = (in[inPos + 9] >>> 20 | in[inPos + 10] << 12) & 0x3FFF;
+        out[outPos + 23] = (in[inPos + 10] >>> 2) & 0x3FFF;
+        out[outPos + 24] = (in[inPos + 10] >>> 16) & 0x3FFF;
+        out[outPos + 25] = (in[inPos + 10] >>> 30 | in[inPos + 11] << 2) & 0x3FFF;
+        out[outPos + 26] = (in[inPos + 11] >>> 12) & 0x3FFF;
+        out[outPos + 27] = (in[inPos + 11] >>> 26 | in[inPos + 12] << 6) & 0x3FFF;
+        out[outPos + 28] = (in[inPos + 12] >>> 8) & 0x3FFF;
+        out[outPos + 29] = (in[inPos + 12] >>> 22 | in[inPos + 13] << 10) & 0x3FFF;
+        out[outPos + 30] = (in[inPos + 13] >>> 4) & 0x3FFF;
+        out[outPos + 31] = in[inPos + 13] >>> 18;
+    }
+
+    static void pack15(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x7FFF)
+                | (in[inPos + 1] & 0x7FFF) << 15
+                | (in[inPos + 2] & 0x7FFF) << 30;
+        out[outPos + 1] = (in[inPos + 2] & 0x7FFF) >>> 2
+                | (in[inPos + 3] & 0x7FFF) << 13
+                | (in[inPos + 4] & 0x7FFF) << 28;
+        out[outPos + 2] = (in[inPos + 4] & 0x7FFF) >>> 4
+                | (in[inPos + 5] & 0x7FFF) << 11
+                | (in[inPos + 6] & 0x7FFF) << 26;
+        out[outPos + 3] = (in[inPos + 6] & 0x7FFF) >>> 6
+                | (in[inPos + 7] & 0x7FFF) << 9
+                | (in[inPos + 8] & 0x7FFF) << 24;
+        out[outPos + 4] = (in[inPos + 8] & 0x7FFF) >>> 8
+                | (in[inPos + 9] & 0x7FFF) << 7
+                | (in[inPos + 10] & 0x7FFF) << 22;
+        out[outPos + 5] = (in[inPos + 10] & 0x7FFF) >>> 10
+                | (in[inPos + 11] & 0x7FFF) << 5
+                | (in[inPos + 12] & 0x7FFF) << 20;
+        out[outPos + 6] = (in[inPos + 12] & 0x7FFF) >>> 12
+                | (in[inPos + 13] & 0x7FFF) << 3
+                | (in[inPos + 14] & 0x7FFF) << 18;
+        out[outPos + 7] = (in[inPos + 14] & 0x7FFF) >>> 14
+                | (in[inPos + 15] & 0x7FFF) << 1
+                | (in[inPos + 16] & 0x7FFF) << 16
+                | (in[inPos + 17] & 0x7FFF) << 31;
+        out[outPos + 8] = (in[inPos + 17] & 0x7FFF) >>> 1
+                | (in[inPos + 18] & 0x7FFF) << 14
+                | (in[inPos + 19] & 0x7FFF) << 29;
+        out[outPos + 9] = (in[inPos + 19] & 0x7FFF) >>> 3
+                | (in[inPos + 20] & 0x7FFF) << 12
+                | (in[inPos + 21] & 0x7FFF) << 27;
+        out[outPos + 10] = (in[inPos + 21] & 0x7FFF) >>> 5
+                | (in[inPos + 22] & 0x7FFF) << 10
+                | (in[inPos + 23] & 0x7FFF) << 25;
+        out[outPos + 11] = (in[inPos + 23] & 0x7FFF) >>> 7
+                | (in[inPos + 24] & 0x7FFF) << 8
+                | (in[inPos + 25] & 0x7FFF) << 23;
+        out[outPos + 12] = (in[inPos + 25] & 0x7FFF) >>> 9
+                | (in[inPos + 26] & 0x7FFF) << 6
+                | (in[inPos + 27] & 0x7FFF) << 21;
+        out[outPos + 13] = (in[inPos + 27] & 0x7FFF) >>> 11
+                | (in[inPos + 28] & 0x7FFF) << 4
+                | (in[inPos + 29] & 0x7FFF) << 19;
+        out[outPos + 14] = (in[inPos + 29] & 0x7FFF) >>> 13
+                | (in[inPos + 30] & 0x7FFF) << 2
+                | (in[inPos + 31] & 0x7FFF) << 17;
+    }
+
+    static void unpack15(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x7FFF;
+        out[outPos + 1] = (in[inPos] >>> 15) & 0x7FFF;
+        out[outPos + 2] = (in[inPos] >>> 30 | in[inPos + 1] << 2) & 0x7FFF;
+        out[outPos + 3] = (in[inPos + 1] >>> 13) & 0x7FFF;
+        out[outPos + 4] = (in[inPos + 1] >>> 28 | in[inPos + 2] << 4) & 0x7FFF;
+        out[outPos + 5] = (in[inPos + 2] >>> 11) & 0x7FFF;
+        out[outPos + 6] = (in[inPos + 2] >>> 26 | in[inPos + 3] << 6) & 0x7FFF;
+        out[outPos + 7] = (in[inPos + 3] >>> 9) & 0x7FFF;
+        out[outPos + 8] = (in[inPos + 3] >>> 24 | in[inPos + 4] << 8) & 0x7FFF;
+        out[outPos + 9] = (in[inPos + 4] >>> 7) & 0x7FFF;
+        out[outPos + 10] = (in[inPos + 4] >>> 22 | in[inPos + 5] << 10) & 0x7FFF;
+        out[outPos + 11] = (in[inPos + 5] >>> 5) & 0x7FFF;
+        out[outPos + 12] = (in[inPos + 5] >>> 20 | in[inPos + 6] << 12) & 0x7FFF;
+        out[outPos + 13] = (in[inPos + 6] >>> 3) & 0x7FFF;
+        out[outPos + 14] = (in[inPos + 6] >>> 18 | in[inPos + 7] << 14) & 0x7FFF;
+        out[outPos + 15] = (in[inPos + 7] >>> 1) & 0x7FFF;
+        out[outPos + 16] = (in[inPos + 7] >>> 16) & 0x7FFF;
+        out[outPos + 17] = (in[inPos + 7] >>> 31 | in[inPos + 8] << 1) & 0x7FFF;
+        out[outPos + 18] = (in[inPos + 8] >>> 14) & 0x7FFF;
+        out[outPos + 19] = (in[inPos + 8] >>> 29 | in[inPos + 9] << 3) & 0x7FFF;
+        out[outPos + 20] = (in[inPos + 9] >>> 12) & 0x7FFF;
+        out[outPos + 21] = (in[inPos + 9] >>> 27 | in[inPos + 10] << 5) & 0x7FFF;
+        out[outPos + 22] = (in[inPos + 10] >>> 10) & 0x7FFF;
+        out[outPos + 23] = (in[inPos + 10] >>> 25 | in[inPos + 11] << 7) & 0x7FFF;
+        out[outPos + 24] = (in[inPos + 11] >>> 8) & 0x7FFF;
+        out[outPos + 25] = (in[inPos + 11] >>> 23 | in[inPos + 12] << 9) & 0x7FFF;
+        out[outPos + 26] = (in[inPos + 12] >>> 6) & 0x7FFF;
+        out[outPos + 27] = (in[inPos + 12] >>> 21 | in[inPos + 13] << 11) & 0x7FFF;
+        out[outPos + 28] = (in[inPos + 13] >>> 4) & 0x7FFF;
+        out[outPos + 29] = (in[inPos + 13] >>> 19 | in[inPos + 14] << 13) & 0x7FFF;
+        out[outPos + 30] = (in[inPos + 14] >>> 2) & 0x7FFF;
+        out[outPos + 31] = in[inPos + 14] >>> 17;
+    }
+
+    static void pack16(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0xFFFF)
+                | (in[inPos + 1] & 0xFFFF) << 16;
+        out[outPos + 1] = (in[inPos + 2] & 0xFFFF)
+                | (in[inPos + 3] & 0xFFFF) << 16;
+        out[outPos + 2] = (in[inPos + 4] & 0xFFFF)
+                | (in[inPos + 5] & 0xFFFF) << 16;
+        out[outPos + 3] = (in[inPos + 6] & 0xFFFF)
+                | (in[inPos + 7] & 0xFFFF) << 16;
+        out[outPos + 4] = (in[inPos + 8] & 0xFFFF)
+                | (in[inPos + 9] & 0xFFFF) << 16;
+        out[outPos + 5] = (in[inPos + 10] & 0xFFFF)
+                | (in[inPos + 11] & 0xFFFF) << 16;
+        out[outPos + 6] = (in[inPos + 12] & 0xFFFF)
+                | (in[inPos + 13] & 0xFFFF) << 16;
+        out[outPos + 7] = (in[inPos + 14] & 0xFFFF)
+                | (in[inPos + 15] & 0xFFFF) << 16;
+        out[outPos + 8] = (in[inPos + 16] & 0xFFFF)
+                | (in[inPos + 17] & 0xFFFF) << 16;
+        out[outPos + 9] = (in[inPos + 18] & 0xFFFF)
+                | (in[inPos + 19] & 0xFFFF) << 16;
+        out[outPos + 10] = (in[inPos + 20] & 0xFFFF)
+                | (in[inPos + 21] & 0xFFFF) << 16;
+        out[outPos + 11] = (in[inPos + 22] & 0xFFFF)
+                | (in[inPos + 23] & 0xFFFF) << 16;
+        out[outPos + 12] = (in[inPos + 24] & 0xFFFF)
+                | (in[inPos + 25] & 0xFFFF) << 16;
+        out[outPos + 13] = (in[inPos + 26] & 0xFFFF)
+                | (in[inPos + 27] & 0xFFFF) << 16;
+        out[outPos + 14] = (in[inPos + 28] & 0xFFFF)
+                | (in[inPos + 29] & 0xFFFF) << 16;
+        out[outPos + 15] = (in[inPos + 30] & 0xFFFF)
+                | (in[inPos + 31] & 0xFFFF) << 16;
+    }
+
+    static void unpack16(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0xFFFF;
+        out[outPos + 1] = in[inPos] >>> 16;
+        out[outPos + 2] = in[inPos + 1] & 0xFFFF;
+        out[outPos + 3] = in[inPos + 1] >>> 16;
+        out[outPos + 4] = in[inPos + 2] & 0xFFFF;
+        out[outPos + 5] = in[inPos + 2] >>> 16;
+        out[outPos + 6] = in[inPos + 3] & 0xFFFF;
+        out[outPos + 7] = in[inPos + 3] >>> 16;
+        out[outPos + 8] = in[inPos + 4] & 0xFFFF;
+        out[outPos + 9] = in[inPos + 4] >>> 16;
+        out[outPos + 10] = in[inPos + 5] & 0xFFFF;
+        out[outPos + 11] = in[inPos + 5] >>> 16;
+        out[outPos + 12] = in[inPos + 6] & 0xFFFF;
+        out[outPos + 13] = in[inPos + 6] >>> 16;
+        out[outPos + 14] = in[inPos + 7] & 0xFFFF;
+        out[outPos + 15] = in[inPos + 7] >>> 16;
+        out[outPos + 16] = in[inPos + 8] & 0xFFFF;
+        out[outPos + 17] = in[inPos + 8] >>> 16;
+        out[outPos + 18] = in[inPos + 9] & 0xFFFF;
+        out[outPos + 19] = in[inPos + 9] >>> 16;
+        out[outPos + 20] = in[inPos + 10] & 0xFFFF;
+        out[outPos + 21] = in[inPos + 10] >>> 16;
+        out[outPos + 22] = in[inPos + 11] & 0xFFFF;
+        out[outPos + 23] = in[inPos + 11] >>> 16;
+        out[outPos + 24] = in[inPos + 12] & 0xFFFF;
+        out[outPos + 25] = in[inPos + 12] >>> 16;
+        out[outPos + 26] = in[inPos + 13] & 0xFFFF;
+        out[outPos + 27] = in[inPos + 13] >>> 16;
+        out[outPos + 28] = in[inPos + 14] & 0xFFFF;
+        out[outPos + 29] = in[inPos + 14] >>> 16;
+        out[outPos + 30] = in[inPos + 15] & 0xFFFF;
+        out[outPos + 31] = in[inPos + 15] >>> 16;
+    }
+
+    static void pack17(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x1FFFF)
+                | (in[inPos + 1] & 0x1FFFF) << 17;
+        out[outPos + 1] = (in[inPos + 1] & 0x1FFFF) >>> 15
+                | (in[inPos + 2] & 0x1FFFF) << 2
+                | (in[inPos + 3] & 0x1FFFF) << 19;
+        out[outPos + 2] = (in[inPos + 3] & 0x1FFFF) >>> 13
+                | (in[inPos + 4] & 0x1FFFF) << 4
+                | (in[inPos + 5] & 0x1FFFF) << 21;
+        out[outPos + 3] = (in[inPos + 5] & 0x1FFFF) >>> 11
+                | (in[inPos + 6] & 0x1FFFF) << 6
+                | (in[inPos + 7] & 0x1FFFF) << 23;
+        out[outPos + 4] = (in[inPos + 7] & 0x1FFFF) >>> 9
+                | (in[inPos + 8] & 0x1FFFF) << 8
+                | (in[inPos + 9] & 0x1FFFF) << 25;
+        out[outPos + 5] = (in[inPos + 9] & 0x1FFFF) >>> 7
+                | (in[inPos + 10] & 0x1FFFF) << 10
+                | (in[inPos + 11] & 0x1FFFF) << 27;
+        out[outPos + 6] = (in[inPos + 11] & 0x1FFFF) >>> 5
+                | (in[inPos + 12] & 0x1FFFF) << 12
+                | (in[inPos + 13] & 0x1FFFF) << 29;
+        out[outPos + 7] = (in[inPos + 13] & 0x1FFFF) >>> 3
+                | (in[inPos + 14] & 0x1FFFF) << 14
+                | (in[inPos + 15] & 0x1FFFF) << 31;
+        out[outPos + 8] = (in[inPos + 15] & 0x1FFFF) >>> 1
+                | (in[inPos + 16] & 0x1FFFF) << 16;
+        out[outPos + 9] = (in[inPos + 16] & 0x1FFFF) >>> 16
+                | (in[inPos + 17] & 0x1FFFF) << 1
+                | (in[inPos + 18] & 0x1FFFF) << 18;
+        out[outPos + 10] = (in[inPos + 18] & 0x1FFFF) >>> 14
+                | (in[inPos + 19] & 0x1FFFF) << 3
+                | (in[inPos + 20] & 0x1FFFF) << 20;
+        out[outPos + 11] = (in[inPos + 20] & 0x1FFFF) >>> 12
+                | (in[inPos + 21] & 0x1FFFF) << 5
+                | (in[inPos + 22] & 0x1FFFF) << 22;
+        out[outPos + 12] = (in[inPos + 22] & 0x1FFFF) >>> 10
+                | (in[inPos + 23] & 0x1FFFF) << 7
+                | (in[inPos + 24] & 0x1FFFF) << 24;
+        out[outPos + 13] = (in[inPos + 24] & 0x1FFFF) >>> 8
+                | (in[inPos + 25] & 0x1FFFF) << 9
+                | (in[inPos + 26] & 0x1FFFF) << 26;
+        out[outPos + 14] = (in[inPos + 26] & 0x1FFFF) >>> 6
+                | (in[inPos + 27] & 0x1FFFF) << 11
+                | (in[inPos + 28] & 0x1FFFF) << 28;
+        out[outPos + 15] = (in[inPos + 28] & 0x1FFFF) >>> 4
+                | (in[inPos + 29] & 0x1FFFF) << 13
+                | (in[inPos + 30] & 0x1FFFF) << 30;
+        out[outPos + 16] = (in[inPos + 30] & 0x1FFFF) >>> 2
+                | (in[inPos + 31] & 0x1FFFF) << 15;
+    }
+
+    static void unpack17(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x1FFFF;
+        out[outPos + 1] = (in[inPos] >>> 17 | in[inPos + 1] << 15) & 0x1FFFF;
+        out[outPos + 2] = (in[inPos + 1] >>> 2) & 0x1FFFF;
+        out[outPos + 3] = (in[inPos + 1] >>> 19 | in[inPos + 2] << 13) & 0x1FFFF;
+        out[outPos + 4] = (in[inPos + 2] >>> 4) & 0x1FFFF;
+        out[outPos + 5] = (in[inPos + 2] >>> 21 | in[inPos + 3] << 11) & 0x1FFFF;
+        out[outPos + 6] = (in[inPos + 3] >>> 6) & 0x1FFFF;
+        out[outPos + 7] = (in[inPos + 3] >>> 23 | in[inPos + 4] << 9) & 0x1FFFF;
+        out[outPos + 8] = (in[inPos + 4] >>> 8) & 0x1FFFF;
+        out[outPos + 9] = (in[inPos + 4] >>> 25 | in[inPos + 5] << 7) & 0x1FFFF;
+        out[outPos + 10] = (in[inPos + 5] >>> 10) & 0x1FFFF;
+        out[outPos + 11] = (in[inPos + 5] >>> 27 | in[inPos + 6] << 5) & 0x1FFFF;
+        out[outPos + 12] = (in[inPos + 6] >>> 12) & 0x1FFFF;
+        out[outPos + 13] = (in[inPos + 6] >>> 29 | in[inPos + 7] << 3) & 0x1FFFF;
+        out[outPos + 14] = (in[inPos + 7] >>> 14) & 0x1FFFF;
+        out[outPos + 15] = (in[inPos + 7] >>> 31 | in[inPos + 8] << 1) & 0x1FFFF;
+        out[outPos + 16] = (in[inPos + 8] >>> 16 | in[inPos + 9] << 16) & 0x1FFFF;
+        out[outPos + 17] = (in[inPos + 9] >>> 1) & 0x1FFFF;
+        out[outPos + 18] = (in[inPos + 9] >>> 18 | in[inPos + 10] << 14) & 0x1FFFF;
+        out[outPos + 19] = (in[inPos + 10] >>> 3) & 0x1FFFF;
+        out[outPos + 20] = (in[inPos + 10] >>> 20 | in[inPos + 11] << 12) & 0x1FFFF;
+        out[outPos + 21] = (in[inPos + 11] >>> 5) & 0x1FFFF;
+        out[outPos + 22] = (in[inPos + 11] >>> 22 | in[inPos + 12] << 10) & 0x1FFFF;
+        out[outPos + 23] = (in[inPos + 12] >>> 7) & 0x1FFFF;
+        out[outPos + 24] = (in[inPos + 12] >>> 24 | in[inPos + 13] << 8) & 0x1FFFF;
+        out[outPos + 25] = (in[inPos + 13] >>> 9) & 0x1FFFF;
+        out[outPos + 26] = (in[inPos + 13] >>> 26 | in[inPos + 14] << 6) & 0x1FFFF;
+        out[outPos + 27] = (in[inPos + 14] >>> 11) & 0x1FFFF;
+        out[outPos + 28] = (in[inPos + 14] >>> 28 | in[inPos + 15] << 4) & 0x1FFFF;
+        out[outPos + 29] = (in[inPos + 15] >>> 13) & 0x1FFFF;
+        out[outPos + 30] = (in[inPos + 15] >>> 30 | in[inPos + 16] << 2) & 0x1FFFF;
+        out[outPos + 31] = in[inPos + 16] >>> 15;
+    }
+
+    static void pack18(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x3FFFF)
+                | (in[inPos + 1] & 0x3FFFF) << 18;
+        out[outPos + 1] = (in[inPos + 1] & 0x3FFFF) >>> 14
+                | (in[inPos + 2] & 0x3FFFF) << 4
+                | (in[inPos + 3] & 0x3FFFF) << 22;
+        out[outPos + 2] = (in[inPos + 3] & 0x3FFFF) >>> 10
+                | (in[inPos + 4] & 0x3FFFF) << 8
+                | (in[inPos + 5] & 0x3FFFF) << 26;
+        out[outPos + 3] = (in[inPos + 5] & 0x3FFFF) >>> 6
+                | (in[inPos + 6] & 0x3FFFF) << 12
+                | (in[inPos + 7] & 0x3FFFF) << 30;
+        out[outPos + 4] = (in[inPos + 7] & 0x3FFFF) >>> 2
+                | (in[inPos + 8] & 0x3FFFF) << 16;
+        out[outPos + 5] = (in[inPos + 8] & 0x3FFFF) >>> 16
+                | (in[inPos + 9] & 0x3FFFF) << 2
+                | (in[inPos + 10] & 0x3FFFF) << 20;
+        out[outPos + 6] = (in[inPos + 10] & 0x3FFFF) >>> 12
+                | (in[inPos + 11] & 0x3FFFF) << 6
+                | (in[inPos + 12] & 0x3FFFF) << 24;
+        out[outPos + 7] = (in[inPos + 12] & 0x3FFFF) >>> 8
+                | (in[inPos + 13] & 0x3FFFF) << 10
+                | (in[inPos + 14] & 0x3FFFF) << 28;
+        out[outPos + 8] = (in[inPos + 14] & 0x3FFFF) >>> 4
+                | (in[inPos + 15] & 0x3FFFF) << 14;
+        out[outPos + 9] = (in[inPos + 16] & 0x3FFFF)
+                | (in[inPos + 17] & 0x3FFFF) << 18;
+        out[outPos + 10] = (in[inPos + 17] & 0x3FFFF) >>> 14
+                | (in[inPos + 18] & 0x3FFFF) << 4
+                | (in[inPos + 19] & 0x3FFFF) << 22;
+        out[outPos + 11] = (in[inPos + 19] & 0x3FFFF) >>> 10
+                | (in[inPos + 20] & 0x3FFFF) << 8
+                | (in[inPos + 21] & 0x3FFFF) << 26;
+        out[outPos + 12] = (in[inPos + 21] & 0x3FFFF) >>> 6
+                | (in[inPos + 22] & 0x3FFFF) << 12
+                | (in[inPos + 23] & 0x3FFFF) << 30;
+        out[outPos + 13] = (in[inPos + 23] & 0x3FFFF) >>> 2
+                | (in[inPos + 24] & 0x3FFFF) << 16;
+        out[outPos + 14] = (in[inPos + 24] & 0x3FFFF) >>> 16
+                | (in[inPos + 25] & 0x3FFFF) << 2
+                | (in[inPos + 26] & 0x3FFFF) << 20;
+        out[outPos + 15] = (in[inPos + 26] & 0x3FFFF) >>> 12
+                | (in[inPos + 27] & 0x3FFFF) << 6
+                | (in[inPos + 28] & 0x3FFFF) << 24;
+        out[outPos + 16] = (in[inPos + 28] & 0x3FFFF) >>> 8
+                | (in[inPos + 29] & 0x3FFFF) << 10
+                | (in[inPos + 30] & 0x3FFFF) << 28;
+        out[outPos + 17] = (in[inPos + 30] & 0x3FFFF) >>> 4
+                | (in[inPos + 31] & 0x3FFFF) << 14;
+    }
+
+    static void unpack18(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x3FFFF;
+        out[outPos + 1] = (in[inPos] >>> 18 | in[inPos + 1] << 14) & 0x3FFFF;
+        out[outPos + 2] = (in[inPos + 1] >>> 4) & 0x3FFFF;
+        out[outPos + 3] = (in[inPos + 1] >>> 22 | in[inPos + 2] << 10) & 0x3FFFF;
+        out[outPos + 4] = (in[inPos + 2] >>> 8) & 0x3FFFF;
+        out[outPos + 5] = (in[inPos + 2] >>> 26 | in[inPos + 3] << 6) & 0x3FFFF;
+        out[outPos + 6] = (in[inPos + 3] >>> 12) & 0x3FFFF;
+        out[outPos + 7] = (in[inPos + 3] >>> 30 | in[inPos + 4] << 2) & 0x3FFFF;
+        out[outPos + 8] = (in[inPos + 4] >>> 16 | in[inPos + 5] << 16) & 0x3FFFF;
+        out[outPos + 9] = (in[inPos + 5] >>> 2) & 0x3FFFF;
+        out[outPos + 10] = (in[inPos + 5] >>> 20 | in[inPos + 6] << 12) & 0x3FFFF;
+        out[outPos + 11] = (in[inPos + 6] >>> 6) & 0x3FFFF;
+        out[outPos + 12] = (in[inPos + 6] >>> 24 | in[inPos + 7] << 8) & 0x3FFFF;
+        out[outPos + 13] = (in[inPos + 7] >>> 10) & 0x3FFFF;
+        out[outPos + 14] = (in[inPos + 7] >>> 28 | in[inPos + 8] << 4) & 0x3FFFF;
+        out[outPos + 15] = in[inPos + 8] >>> 14;
+        out[outPos + 16] = in[inPos + 9] & 0x3FFFF;
+        out[outPos + 17] = (in[inPos + 9] >>> 18 | in[inPos + 10] << 14) & 0x3FFFF;
+        out[outPos + 18] = (in[inPos + 10] >>> 4) & 0x3FFFF;
+        out[outPos + 19] = (in[inPos + 10] >>> 22 | in[inPos + 11] << 10) & 0x3FFFF;
+        out[outPos + 20] = (in[inPos + 11] >>> 8) & 0x3FFFF;
+        out[outPos + 21] = (in[inPos + 11] >>> 26 | in[inPos + 12] << 6) & 0x3FFFF;
+        out[outPos + 22] = (in[inPos + 12] >>> 12) & 0x3FFFF;
+        out[outPos + 23] = (in[inPos + 12] >>> 30 | in[inPos + 13] << 2) & 0x3FFFF;
+        out[outPos + 24] = (in[inPos + 13] >>> 16 | in[inPos + 14] << 16) & 0x3FFFF;
+        out[outPos + 25] = (in[inPos + 14] >>> 2) & 0x3FFFF;
+        out[outPos + 26] = (in[inPos + 14] >>> 20 | in[inPos + 15] << 12) & 0x3FFFF;
+        out[outPos + 27] = (in[inPos + 15] >>> 6) & 0x3FFFF;
+        out[outPos + 28] = (in[inPos + 15] >>> 24 | in[inPos + 16] << 8) & 0x3FFFF;
+        out[outPos + 29] = (in[inPos + 16] >>> 10) & 0x3FFFF;
+        out[outPos + 30] = (in[inPos + 16] >>> 28 | in[inPos + 17] << 4) & 0x3FFFF;
+        out[outPos + 31] = in[inPos + 17] >>> 14;
+    }
+
+    static void pack19(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x7FFFF)
+                | (in[inPos + 1] & 0x7FFFF) << 19;
+        out[outPos + 1] = (in[inPos + 1] & 0x7FFFF) >>> 13
+                | (in[inPos + 2] & 0x7FFFF) << 6
+                | (in[inPos + 3] & 0x7FFFF) << 25;
+        out[outPos + 2] = (in[inPos + 3] & 0x7FFFF) >>> 7
+                | (in[inPos + 4] & 0x7FFFF) << 12
+                | (in[inPos + 5] & 0x7FFFF) << 31;
+        out[outPos + 3] = (in[inPos + 5] & 0x7FFFF) >>> 1
+                | (in[inPos + 6] & 0x7FFFF) << 18;
+        out[outPos + 4] = (in[inPos + 6] & 0x7FFFF) >>> 14
+                | (in[inPos + 7] & 0x7FFFF) << 5
+                | (in[inPos + 8] & 0x7FFFF) << 24;
+        out[outPos + 5] = (in[inPos + 8] & 0x7FFFF) >>> 8
+                | (in[inPos + 9] & 0x7FFFF) << 11
+                | (in[inPos + 10] & 0x7FFFF) << 30;
+        out[outPos + 6] = (in[inPos + 10] & 0x7FFFF) >>> 2
+                | (in[inPos + 11] & 0x7FFFF) << 17;
+        out[outPos + 7] = (in[inPos + 11] & 0x7FFFF) >>> 15
+                | (in[inPos + 12] & 0x7FFFF) << 4
+                | (in[inPos + 13] & 0x7FFFF) << 23;
+        out[outPos + 8] = (in[inPos + 13] & 0x7FFFF) >>> 9
+                | (in[inPos + 14] & 0x7FFFF) << 10
+                | (in[inPos + 15] & 0x7FFFF) << 29;
+        out[outPos + 9] = (in[inPos + 15] & 0x7FFFF) >>> 3
+                | (in[inPos + 16] & 0x7FFFF) << 16;
+        out[outPos + 10] = (in[inPos + 16] & 0x7FFFF) >>> 16
+                | (in[inPos + 17] & 0x7FFFF) << 3
+                | (in[inPos + 18] & 0x7FFFF) << 22;
+        out[outPos + 11] = (in[inPos + 18] & 0x7FFFF) >>> 10
+                | (in[inPos + 19] & 0x7FFFF) << 9
+                | (in[inPos + 20] & 0x7FFFF) << 28;
+        out[outPos + 12] = (in[inPos + 20] & 0x7FFFF) >>> 4
+                | (in[inPos + 21] & 0x7FFFF) << 15;
+        out[outPos + 13] = (in[inPos + 21] & 0x7FFFF) >>> 17
+                | (in[inPos + 22] & 0x7FFFF) << 2
+                | (in[inPos + 23] & 0x7FFFF) << 21;
+        out[outPos + 14] = (in[inPos + 23] & 0x7FFFF) >>> 11
+                | (in[inPos + 24] & 0x7FFFF) << 8
+                | (in[inPos + 25] & 0x7FFFF) << 27;
+        out[outPos + 15] = (in[inPos + 25] & 0x7FFFF) >>> 5
+                | (in[inPos + 26] & 0x7FFFF) << 14;
+        out[outPos + 16] = (in[inPos + 26] & 0x7FFFF) >>> 18
+                | (in[inPos + 27] & 0x7FFFF) << 1
+                | (in[inPos + 28] & 0x7FFFF) << 20;
+        out[outPos + 17] = (in[inPos + 28] & 0x7FFFF) >>> 12
+                | (in[inPos + 29] & 0x7FFFF) << 7
+                | (in[inPos + 30] & 0x7FFFF) << 26;
+        out[outPos + 18] = (in[inPos + 30] & 0x7FFFF) >>> 6
+                | (in[inPos + 31] & 0x7FFFF) << 13;
+    }
+
+    static void unpack19(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x7FFFF;
+        out[outPos + 1] = (in[inPos] >>> 19 | in[inPos + 1] << 13) & 0x7FFFF;
+        out[outPos + 2] = (in[inPos + 1] >>> 6) & 0x7FFFF;
+        out[outPos + 3] = (in[inPos + 1] >>> 25 | in[inPos + 2] << 7) & 0x7FFFF;
+        out[outPos + 4] = (in[inPos + 2] >>> 12) & 0x7FFFF;
+        out[outPos + 5] = (in[inPos + 2] >>> 31 | in[inPos + 3] << 1) & 0x7FFFF;
+        out[outPos + 6] = (in[inPos + 3] >>> 18 | in[inPos + 4] << 14) & 0x7FFFF;
+        out[outPos + 7] = (in[inPos + 4] >>> 5) & 0x7FFFF;
+        out[outPos + 8] = (in[inPos + 4] >>> 24 | in[inPos + 5] << 8) & 0x7FFFF;
+        out[outPos + 9] = (in[inPos + 5] >>> 11) & 0x7FFFF;
+        out[outPos + 10] = (in[inPos + 5] >>> 30 | in[inPos + 6] << 2) & 0x7FFFF;
+        out[outPos + 11] = (in[inPos + 6] >>> 17 | in[inPos + 7] << 15) & 0x7FFFF;
+        out[outPos + 12] = (in[inPos + 7] >>> 4) & 0x7FFFF;
+        out[outPos + 13] = (in[inPos + 7] >>> 23 | in[inPos + 8] << 9) & 0x7FFFF;
+        out[outPos + 14] = (in[inPos + 8] >>> 10) & 0x7FFFF;
+        out[outPos + 15] = (in[inPos + 8] >>> 29 | in[inPos + 9] << 3) & 0x7FFFF;
+        out[outPos + 16] = (in[inPos + 9] >>> 16 | in[inPos + 10] << 16) & 0x7FFFF;
+        out[outPos + 17] = (in[inPos + 10] >>> 3) & 0x7FFFF;
+        out[outPos + 18] = (in[inPos + 10] >>> 22 | in[inPos + 11] << 10) & 0x7FFFF;
+        out[outPos + 19] = (in[inPos + 11] >>> 9) & 0x7FFFF;
+        out[outPos + 20] = (in[inPos + 11] >>> 28 | in[inPos + 12] << 4) & 0x7FFFF;
+        out[outPos + 21] = (in[inPos + 12] >>> 15 | in[inPos + 13] << 17) & 0x7FFFF;
+        out[outPos + 22] = (in[inPos + 13] >>> 2) & 0x7FFFF;
+        out[outPos + 23] = (in[inPos + 13] >>> 21 | in[inPos + 14] << 11) & 0x7FFFF;
+        out[outPos + 24] = (in[inPos + 14] >>> 8) & 0x7FFFF;
+        out[outPos + 25] = (in[inPos + 14] >>> 27 | in[inPos + 15] << 5) & 0x7FFFF;
+        out[outPos + 26] = (in[inPos + 15] >>> 14 | in[inPos + 16] << 18) & 0x7FFFF;
+        out[outPos + 27] = (in[inPos + 16] >>> 1) & 0x7FFFF;
+        out[outPos + 28] = (in[inPos + 16] >>> 20 | in[inPos + 17] << 12) & 0x7FFFF;
+        out[outPos + 29] = (in[inPos + 17] >>> 7) & 0x7FFFF;
+        out[outPos + 30] = (in[inPos + 17] >>> 26 | in[inPos + 18] << 6) & 0x7FFFF;
+        out[outPos + 31] = in[inPos + 18] >>> 13;
+    }
+
+    static void pack20(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0xFFFFF)
+                | (in[inPos + 1] & 0xFFFFF) << 20;
+        out[outPos + 1] = (in[inPos + 1] & 0xFFFFF) >>> 12
+                | (in[inPos + 2] & 0xFFFFF) << 8
+                | (in[inPos + 3] & 0xFFFFF) << 28;
+        out[outPos + 2] = (in[inPos + 3] & 0xFFFFF) >>> 4
+                | (in[inPos + 4] & 0xFFFFF) << 16;
+        out[outPos + 3] = (in[inPos + 4] & 0xFFFFF) >>> 16
+                | (in[inPos + 5] & 0xFFFFF) << 4
+                | (in[inPos + 6] & 0xFFFFF) << 24;
+        out[outPos + 4] = (in[inPos + 6] & 0xFFFFF) >>> 8
+                | (in[inPos + 7] & 0xFFFFF) << 12;
+        out[outPos + 5] = (in[inPos + 8] & 0xFFFFF)
+                | (in[inPos + 9] & 0xFFFFF) << 20;
+        out[outPos + 6] = (in[inPos + 9] & 0xFFFFF) >>> 12
+                | (in[inPos + 10] & 0xFFFFF) << 8
+                | (in[inPos + 11] & 0xFFFFF) << 28;
+        out[outPos + 7] = (in[inPos + 11] & 0xFFFFF) >>> 4
+                | (in[inPos + 12] & 0xFFFFF) << 16;
+        out[outPos + 8] = (in[inPos + 12] & 0xFFFFF) >>> 16
+                | (in[inPos + 13] & 0xFFFFF) << 4
+                | (in[inPos + 14] & 0xFFFFF) << 24;
+        out[outPos + 9] = (in[inPos + 14] & 0xFFFFF) >>> 8
+                | (in[inPos + 15] & 0xFFFFF) << 12;
+        out[outPos + 10] = (in[inPos + 16] & 0xFFFFF)
+                | (in[inPos + 17] & 0xFFFFF) << 20;
+        out[outPos + 11] = (in[inPos + 17] & 0xFFFFF) >>> 12
+                | (in[inPos + 18] & 0xFFFFF) << 8
+                | (in[inPos + 19] & 0xFFFFF) << 28;
+        out[outPos + 12] = (in[inPos + 19] & 0xFFFFF) >>> 4
+                | (in[inPos + 20] & 0xFFFFF) << 16;
+        out[outPos + 13] = (in[inPos + 20] & 0xFFFFF) >>> 16
+                | (in[inPos + 21] & 0xFFFFF) << 4
+                | (in[inPos + 22] & 0xFFFFF) << 24;
+        out[outPos + 14] = (in[inPos + 22] & 0xFFFFF) >>> 8
+                | (in[inPos + 23] & 0xFFFFF) << 12;
+        out[outPos + 15] = (in[inPos + 24] & 0xFFFFF)
+                | (in[inPos + 25] & 0xFFFFF) << 20;
+        out[outPos + 16] = (in[inPos + 25] & 0xFFFFF) >>> 12
+                | (in[inPos + 26] & 0xFFFFF) << 8
+                | (in[inPos + 27] & 0xFFFFF) << 28;
+        out[outPos + 17] = (in[inPos + 27] & 0xFFFFF) >>> 4
+                | (in[inPos + 28] & 0xFFFFF) << 16;
+        out[outPos + 18] = (in[inPos + 28] & 0xFFFFF) >>> 16
+                | (in[inPos + 29] & 0xFFFFF) << 4
+                | (in[inPos + 30] & 0xFFFFF) << 24;
+        out[outPos + 19] = (in[inPos + 30] & 0xFFFFF) >>> 8
+                | (in[inPos + 31] & 0xFFFFF) << 12;
+    }
+
+    static void unpack20(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0xFFFFF;
+        out[outPos + 1] = (in[inPos] >>> 20 | in[inPos + 1] << 12) & 0xFFFFF;
+        out[outPos + 2] = (in[inPos + 1] >>> 8) & 0xFFFFF;
+        out[outPos + 3] = (in[inPos + 1] >>> 28 | in[inPos + 2] << 4) & 0xFFFFF;
+        out[outPos + 4] = (in[inPos + 2] >>> 16 | in[inPos + 3] << 16) & 0xFFFFF;
+        out[outPos + 5] = (in[inPos + 3] >>> 4) & 0xFFFFF;
+        out[outPos + 6] = (in[inPos + 3] >>> 24 | in[inPos + 4] << 8) & 0xFFFFF;
+        out[outPos + 7] = in[inPos + 4] >>> 12;
+        out[outPos + 8] = in[inPos + 5] & 0xFFFFF;
+        out[outPos + 9] = (in[inPos + 5] >>> 20 | in[inPos + 6] << 12) & 0xFFFFF;
+        out[outPos + 10] = (in[inPos + 6] >>> 8) & 0xFFFFF;
+        out[outPos + 11] = (in[inPos + 6] >>> 28 | in[inPos + 7] << 4) & 0xFFFFF;
+        out[outPos + 12] = (in[inPos + 7] >>> 16 | in[inPos + 8] << 16) & 0xFFFFF;
+        out[outPos + 13] = (in[inPos + 8] >>> 4) & 0xFFFFF;
+        out[outPos + 14] = (in[inPos + 8] >>> 24 | in[inPos + 9] << 8) & 0xFFFFF;
+        out[outPos + 15] = in[inPos + 9] >>> 12;
+        out[outPos + 16] = in[inPos + 10] & 0xFFFFF;
+        out[outPos + 17] = (in[inPos + 10] >>> 20 | in[inPos + 11] << 12) & 0xFFFFF;
+        out[outPos + 18] = (in[inPos + 11] >>> 8) & 0xFFFFF;
+        out[outPos + 19] = (in[inPos + 11] >>> 28 | in[inPos + 12] << 4) & 0xFFFFF;
+        out[outPos + 20] = (in[inPos + 12] >>> 16 | in[inPos + 13] << 16) & 0xFFFFF;
+        out[outPos + 21] = (in[inPos + 13] >>> 4) & 0xFFFFF;
+        out[outPos + 22] = (in[inPos + 13] >>> 24 | in[inPos + 14] << 8) & 0xFFFFF;
+        out[outPos + 23] = in[inPos + 14] >>> 12;
+        out[outPos + 24] = in[inPos + 15] & 0xFFFFF;
+        out[outPos + 25] = (in[inPos + 15] >>> 20 | in[inPos + 16] << 12) & 0xFFFFF;
+        out[outPos + 26] = (in[inPos + 16] >>> 8) & 0xFFFFF;
+        out[outPos + 27] = (in[inPos + 16] >>> 28 | in[inPos + 17] << 4) & 0xFFFFF;
+        out[outPos + 28] = (in[inPos + 17] >>> 16 | in[inPos + 18] << 16) & 0xFFFFF;
+        out[outPos + 29] = (in[inPos + 18] >>> 4) & 0xFFFFF;
+        out[outPos + 30] = (in[inPos + 18] >>> 24 | in[inPos + 19] << 8) & 0xFFFFF;
+        out[outPos + 31] = in[inPos + 19] >>> 12;
+    }
+
+    static void pack21(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x1FFFFF)
+                | (in[inPos + 1] & 0x1FFFFF) << 21;
+        out[outPos + 1] = (in[inPos + 1] & 0x1FFFFF) >>> 11
+                | (in[inPos + 2] & 0x1FFFFF) << 10
+                | (in[inPos + 3] & 0x1FFFFF) << 31;
+        out[outPos + 2] = (in[inPos + 3] & 0x1FFFFF) >>> 1
+                | (in[inPos + 4] & 0x1FFFFF) << 20;
+        out[outPos + 3] = (in[inPos + 4] & 0x1FFFFF) >>> 12
+                | (in[inPos + 5] & 0x1FFFFF) << 9
+                | (in[inPos + 6] & 0x1FFFFF) << 30;
+        out[outPos + 4] = (in[inPos + 6] & 0x1FFFFF) >>> 2
+                | (in[inPos + 7] & 0x1FFFFF) << 19;
+        out[outPos + 5] = (in[inPos + 7] & 0x1FFFFF) >>> 13
+                | (in[inPos + 8] & 0x1FFFFF) << 8
+                | (in[inPos + 9] & 0x1FFFFF) << 29;
+        out[outPos + 6] = (in[inPos + 9] & 0x1FFFFF) >>> 3
+                | (in[inPos + 10] & 0x1FFFFF) << 18;
+        out[outPos + 7] = (in[inPos + 10] & 0x1FFFFF) >>> 14
+                | (in[inPos + 11] & 0x1FFFFF) << 7
+                | (in[inPos + 12] & 0x1FFFFF) << 28;
+        out[outPos + 8] = (in[inPos + 12] & 0x1FFFFF) >>> 4
+                | (in[inPos + 13] & 0x1FFFFF) << 17;
+        out[outPos + 9] = (in[inPos + 13] & 0x1FFFFF) >>> 15
+                | (in[inPos + 14] & 0x1FFFFF) << 6
+                | (in[inPos + 15] & 0x1FFFFF) << 27;
+        out[outPos + 10] = (in[inPos + 15] & 0x1FFFFF) >>> 5
+                | (in[inPos + 16] & 0x1FFFFF) << 16;
+        out[outPos + 11] = (in[inPos + 16] & 0x1FFFFF) >>> 16
+                | (in[inPos + 17] & 0x1FFFFF) << 5
+                | (in[inPos + 18] & 0x1FFFFF) << 26;
+        out[outPos + 12] = (in[inPos + 18] & 0x1FFFFF) >>> 6
+                | (in[inPos + 19] & 0x1FFFFF) << 15;
+        out[outPos + 13] = (in[inPos + 19] & 0x1FFFFF) >>> 17
+                | (in[inPos + 20] & 0x1FFFFF) << 4
+                | (in[inPos + 21] & 0x1FFFFF) << 25;
+        out[outPos + 14] = (in[inPos + 21] & 0x1FFFFF) >>> 7
+                | (in[inPos + 22] & 0x1FFFFF) << 14;
+        out[outPos + 15] = (in[inPos + 22] & 0x1FFFFF) >>> 18
+                | (in[inPos + 23] & 0x1FFFFF) << 3
+                | (in[inPos + 24] & 0x1FFFFF) << 24;
+        out[outPos + 16] = (in[inPos + 24] & 0x1FFFFF) >>> 8
+                | (in[inPos + 25] & 0x1FFFFF) << 13;
+        out[outPos + 17] = (in[inPos + 25] & 0x1FFFFF) >>> 19
+                | (in[inPos + 26] & 0x1FFFFF) << 2
+                | (in[inPos + 27] & 0x1FFFFF) << 23;
+        out[outPos + 18] = (in[inPos + 27] & 0x1FFFFF) >>> 9
+                | (in[inPos + 28] & 0x1FFFFF) << 12;
+        out[outPos + 19] = (in[inPos + 28] & 0x1FFFFF) >>> 20
+                | (in[inPos + 29] & 0x1FFFFF) << 1
+                | (in[inPos + 30] & 0x1FFFFF) << 22;
+        out[outPos + 20] = (in[inPos + 30] & 0x1FFFFF) >>> 10
+                | (in[inPos + 31] & 0x1FFFFF) << 11;
+    }
+
+    static void unpack21(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x1FFFFF;
+        out[outPos + 1] = (in[inPos] >>> 21 | in[inPos + 1] << 11) & 0x1FFFFF;
+        out[outPos + 2] = (in[inPos + 1] >>> 10) & 0x1FFFFF;
+        out[outPos + 3] = (in[inPos + 1] >>> 31 | in[inPos + 2] << 1) & 0x1FFFFF;
+        out[outPos + 4] = (in[inPos + 2] >>> 20 | in[inPos + 3] << 12) & 0x1FFFFF;
+        out[outPos + 5] = (in[inPos + 3] >>> 9) & 0x1FFFFF;
+        out[outPos + 6] = (in[inPos + 3] >>> 30 | in[inPos + 4] << 2) & 0x1FFFFF;
+        out[outPos + 7] = (in[inPos + 4] >>> 19 | in[inPos + 5] << 13) & 0x1FFFFF;
+        out[outPos + 8] = (in[inPos + 5] >>> 8) & 0x1FFFFF;
+        out[outPos + 9] = (in[inPos + 5] >>> 29 | in[inPos + 6] << 3) & 0x1FFFFF;
+        out[outPos + 10] = (in[inPos + 6] >>> 18 | in[inPos + 7] << 14) & 0x1FFFFF;
+        out[outPos + 11] = (in[inPos + 7] >>> 7) & 0x1FFFFF;
+        out[outPos + 12] = (in[inPos + 7] >>> 28 | in[inPos + 8] << 4) & 0x1FFFFF;
+        out[outPos + 13] = (in[inPos + 8] >>> 17 | in[inPos + 9] << 15) & 0x1FFFFF;
+        out[outPos + 14] = (in[inPos + 9] >>> 6) & 0x1FFFFF;
+        out[outPos + 15] = (in[inPos + 9] >>> 27 | in[inPos + 10] << 5) & 0x1FFFFF;
+        out[outPos + 16] = (in[inPos + 10] >>> 16 | in[inPos + 11] << 16) & 0x1FFFFF;
+        out[outPos + 17] = (in[inPos + 11] >>> 5) & 0x1FFFFF;
+        out[outPos + 18] = (in[inPos + 11] >>> 26 | in[inPos + 12] << 6) & 0x1FFFFF;
+        out[outPos + 19] = (in[inPos + 12] >>> 15 | in[inPos + 13] << 17) & 0x1FFFFF;
+        out[outPos + 20] = (in[inPos + 13] >>> 4) & 0x1FFFFF;
+        out[outPos + 21] = (in[inPos + 13] >>> 25 | in[inPos + 14] << 7) & 0x1FFFFF;
+        out[outPos + 22] = (in[inPos + 14] >>> 14 | in[inPos + 15] << 18) & 0x1FFFFF;
+        out[outPos + 23] = (in[inPos + 15] >>> 3) & 0x1FFFFF;
+        out[outPos + 24] = (in[inPos + 15] >>> 24 | in[inPos + 16] << 8) & 0x1FFFFF;
+        out[outPos + 25] = (in[inPos + 16] >>> 13 | in[inPos + 17] << 19) & 0x1FFFFF;
+        out[outPos + 26] = (in[inPos + 17] >>> 2) & 0x1FFFFF;
+        out[outPos + 27] = (in[inPos + 17] >>> 23 | in[inPos + 18] << 9) & 0x1FFFFF;
+        out[outPos + 28] = (in[inPos + 18] >>> 12 | in[inPos + 19] << 20) & 0x1FFFFF;
+        out[outPos + 29] = (in[inPos + 19] >>> 1) & 0x1FFFFF;
+        out[outPos + 30] = (in[inPos + 19] >>> 22 | in[inPos + 20] << 10) & 0x1FFFFF;
+        out[outPos + 31] = in[inPos + 20] >>> 11;
+    }
+
+    static void pack22(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x3FFFFF)
+                | (in[inPos + 1] & 0x3FFFFF) << 22;
+        out[outPos + 1] = (in[inPos + 1] & 0x3FFFFF) >>> 10
+                | (in[inPos + 2] & 0x3FFFFF) << 12;
+        out[outPos + 2] = (in[inPos + 2] & 0x3FFFFF) >>> 20
+                | (in[inPos + 3] & 0x3FFFFF) << 2
+                | (in[inPos + 4] & 0x3FFFFF) << 24;
+        out[outPos + 3] = (in[inPos + 4] & 0x3FFFFF) >>> 8
+                | (in[inPos + 5] & 0x3FFFFF) << 14;
+        out[outPos + 4] = (in[inPos + 5] & 0x3FFFFF) >>> 18
+                | (in[inPos + 6] & 0x3FFFFF) << 4
+                | (in[inPos + 7] & 0x3FFFFF) << 26;
+        out[outPos + 5] = (in[inPos + 7] & 0x3FFFFF) >>> 6
+                | (in[inPos + 8] & 0x3FFFFF) << 16;
+        out[outPos + 6] = (in[inPos + 8] & 0x3FFFFF) >>> 16
+                | (in[inPos + 9] & 0x3FFFFF) << 6
+                | (in[inPos + 10] & 0x3FFFFF) << 28;
+        out[outPos + 7] = (in[inPos + 10] & 0x3FFFFF) >>> 4
+                | (in[inPos + 11] & 0x3FFFFF) << 18;
+        out[outPos + 8] = (in[inPos + 11] & 0x3FFFFF) >>> 14
+                | (in[inPos + 12] & 0x3FFFFF) << 8
+                | (in[inPos + 13] & 0x3FFFFF) << 30;
+        out[outPos + 9] = (in[inPos + 13] & 0x3FFFFF) >>> 2
+                | (in[inPos + 14] & 0x3FFFFF) << 20;
+        out[outPos + 10] = (in[inPos + 14] & 0x3FFFFF) >>> 12
+                | (in[inPos + 15] & 0x3FFFFF) << 10;
+        out[outPos + 11] = (in[inPos + 16] & 0x3FFFFF)
+                | (in[inPos + 17] & 0x3FFFFF) << 22;
+        out[outPos + 12] = (in[inPos + 17] & 0x3FFFFF) >>> 10
+                | (in[inPos + 18] & 0x3FFFFF) << 12;
+        out[outPos + 13] = (in[inPos + 18] & 0x3FFFFF) >>> 20
+                | (in[inPos + 19] & 0x3FFFFF) << 2
+                | (in[inPos + 20] & 0x3FFFFF) << 24;
+        out[outPos + 14] = (in[inPos + 20] & 0x3FFFFF) >>> 8
+                | (in[inPos + 21] & 0x3FFFFF) << 14;
+        out[outPos + 15] = (in[inPos + 21] & 0x3FFFFF) >>> 18
+                | (in[inPos + 22] & 0x3FFFFF) << 4
+                | (in[inPos + 23] & 0x3FFFFF) << 26;
+        out[outPos + 16] = (in[inPos + 23] & 0x3FFFFF) >>> 6
+                | (in[inPos + 24] & 0x3FFFFF) << 16;
+        out[outPos + 17] = (in[inPos + 24] & 0x3FFFFF) >>> 16
+                | (in[inPos + 25] & 0x3FFFFF) << 6
+                | (in[inPos + 26] & 0x3FFFFF) << 28;
+        out[outPos + 18] = (in[inPos + 26] & 0x3FFFFF) >>> 4
+                | (in[inPos + 27] & 0x3FFFFF) << 18;
+        out[outPos + 19] = (in[inPos + 27] & 0x3FFFFF) >>> 14
+                | (in[inPos + 28] & 0x3FFFFF) << 8
+                | (in[inPos + 29] & 0x3FFFFF) << 30;
+        out[outPos + 20] = (in[inPos + 29] & 0x3FFFFF) >>> 2
+                | (in[inPos + 30] & 0x3FFFFF) << 20;
+        out[outPos + 21] = (in[inPos + 30] & 0x3FFFFF) >>> 12
+                | (in[inPos + 31] & 0x3FFFFF) << 10;
+    }
+
+    static void unpack22(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x3FFFFF;
+        out[outPos + 1] = (in[inPos] >>> 22 | in[inPos + 1] << 10) & 0x3FFFFF;
+        out[outPos + 2] = (in[inPos + 1] >>> 12 | in[inPos + 2] << 20) & 0x3FFFFF;
+        out[outPos + 3] = (in[inPos + 2] >>> 2) & 0x3FFFFF;
+        out[outPos + 4] = (in[inPos + 2] >>> 24 | in[inPos + 3] << 8) & 0x3FFFFF;
+        out[outPos + 5] = (in[inPos + 3] >>> 14 | in[inPos + 4] << 18) & 0x3FFFFF;
+        out[outPos + 6] = (in[inPos + 4] >>> 4) & 0x3FFFFF;
+        out[outPos + 7] = (in[inPos + 4] >>> 26 | in[inPos + 5] << 6) & 0x3FFFFF;
+        out[outPos + 8] = (in[inPos + 5] >>> 16 | in[inPos + 6] << 16) & 0x3FFFFF;
+        out[outPos + 9] = (in[inPos + 6] >>> 6) & 0x3FFFFF;
+        out[outPos + 10] = (in[inPos + 6] >>> 28 | in[inPos + 7] << 4) & 0x3FFFFF;
+        out[outPos + 11] = (in[inPos + 7] >>> 18 | in[inPos + 8] << 14) & 0x3FFFFF;
+        out[outPos + 12] = (in[inPos + 8] >>> 8) & 0x3FFFFF;
+        out[outPos + 13] = (in[inPos + 8] >>> 30 | in[inPos + 9] << 2) & 0x3FFFFF;
+        out[outPos + 14] = (in[inPos + 9] >>> 20 | in[inPos + 10] << 12) & 0x3FFFFF;
+        out[outPos + 15] = in[inPos + 10] >>> 10;
+        out[outPos + 16] = in[inPos + 11] & 0x3FFFFF;
+        out[outPos + 17] = (in[inPos + 11] >>> 22 | in[inPos + 12] << 10) & 0x3FFFFF;
+        out[outPos + 18] = (in[inPos + 12] >>> 12 | in[inPos + 13] << 20) & 0x3FFFFF;
+        out[outPos + 19] = (in[inPos + 13] >>> 2) & 0x3FFFFF;
+        out[outPos + 20] = (in[inPos + 13] >>> 24 | in[inPos + 14] << 8) & 0x3FFFFF;
+        out[outPos + 21] = (in[inPos + 14] >>> 14 | in[inPos + 15] << 18) & 0x3FFFFF;
+        out[outPos + 22] = (in[inPos + 15] >>> 4) & 0x3FFFFF;
+        out[outPos + 23] = (in[inPos + 15] >>> 26 | in[inPos + 16] << 6) & 0x3FFFFF;
+        out[outPos + 24] = (in[inPos + 16] >>> 16 | in[inPos + 17] << 16) & 0x3FFFFF;
+        out[outPos + 25] = (in[inPos + 17] >>> 6) & 0x3FFFFF;
+        out[outPos + 26] = (in[inPos + 17] >>> 28 | in[inPos + 18] << 4) & 0x3FFFFF;
+        out[outPos + 27] = (in[inPos + 18] >>> 18 | in[inPos + 19] << 14) & 0x3FFFFF;
+        out[outPos + 28] = (in[inPos + 19] >>> 8) & 0x3FFFFF;
+        out[outPos + 29] = (in[inPos + 19] >>> 30 | in[inPos + 20] << 2) & 0x3FFFFF;
+        out[outPos + 30] = (in[inPos + 20] >>> 20 | in[inPos + 21] << 12) & 0x3FFFFF;
+        out[outPos + 31] = in[inPos + 21] >>> 10;
+    }
+
+    static void pack23(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x7FFFFF)
+                | (in[inPos + 1] & 0x7FFFFF) << 23;
+        out[outPos + 1] = (in[inPos + 1] & 0x7FFFFF) >>> 9
+                | (in[inPos + 2] & 0x7FFFFF) << 14;
+        out[outPos + 2] = (in[inPos + 2] & 0x7FFFFF) >>> 18
+                | (in[inPos + 3] & 0x7FFFFF) << 5
+                | (in[inPos + 4] & 0x7FFFFF) << 28;
+        out[outPos + 3] = (in[inPos + 4] & 0x7FFFFF) >>> 4
+                | (in[inPos + 5] & 0x7FFFFF) << 19;
+        out[outPos + 4] = (in[inPos + 5] & 0x7FFFFF) >>> 13
+                | (in[inPos + 6] & 0x7FFFFF) << 10;
+        out[outPos + 5] = (in[inPos + 6] & 0x7FFFFF) >>> 22
+                | (in[inPos + 7] & 0x7FFFFF) << 1
+                | (in[inPos + 8] & 0x7FFFFF) << 24;
+        out[outPos + 6] = (in[inPos + 8] & 0x7FFFFF) >>> 8
+                | (in[inPos + 9] & 0x7FFFFF) << 15;
+        out[outPos + 7] = (in[inPos + 9] & 0x7FFFFF) >>> 17
+                | (in[inPos + 10] & 0x7FFFFF) << 6
+                | (in[inPos + 11] & 0x7FFFFF) << 29;
+        out[outPos + 8] = (in[inPos + 11] & 0x7FFFFF) >>> 3
+                | (in[inPos + 12] & 0x7FFFFF) << 20;
+        out[outPos + 9] = (in[inPos + 12] & 0x7FFFFF) >>> 12
+                | (in[inPos + 13] & 0x7FFFFF) << 11;
+        out[outPos + 10] = (in[inPos + 13] & 0x7FFFFF) >>> 21
+                | (in[inPos + 14] & 0x7FFFFF) << 2
+                | (in[inPos + 15] & 0x7FFFFF) << 25;
+        out[outPos + 11] = (in[inPos + 15] & 0x7FFFFF) >>> 7
+                | (in[inPos + 16] & 0x7FFFFF) << 16;
+        out[outPos + 12] = (in[inPos + 16] & 0x7FFFFF) >>> 16
+                | (in[inPos + 17] & 0x7FFFFF) << 7
+                | (in[inPos + 18] & 0x7FFFFF) << 30;
+        out[outPos + 13] = (in[inPos + 18] & 0x7FFFFF) >>> 2
+                | (in[inPos + 19] & 0x7FFFFF) << 21;
+        out[outPos + 14] = (in[inPos + 19] & 0x7FFFFF) >>> 11
+                | (in[inPos + 20] & 0x7FFFFF) << 12;
+        out[outPos + 15] = (in[inPos + 20] & 0x7FFFFF) >>> 20
+                | (in[inPos + 21] & 0x7FFFFF) << 3
+                | (in[inPos + 22] & 0x7FFFFF) << 26;
+        out[outPos + 16] = (in[inPos + 22] & 0x7FFFFF) >>> 6
+                | (in[inPos + 23] & 0x7FFFFF) << 17;
+        out[outPos + 17] = (in[inPos + 23] & 0x7FFFFF) >>> 15
+                | (in[inPos + 24] & 0x7FFFFF) << 8
+                | (in[inPos + 25] & 0x7FFFFF) << 31;
+        out[outPos + 18] = (in[inPos + 25] & 0x7FFFFF) >>> 1
+                | (in[inPos + 26] & 0x7FFFFF) << 22;
+        out[outPos + 19] = (in[inPos + 26] & 0x7FFFFF) >>> 10
+                | (in[inPos + 27] & 0x7FFFFF) << 13;
+        out[outPos + 20] = (in[inPos + 27] & 0x7FFFFF) >>> 19
+                | (in[inPos + 28] & 0x7FFFFF) << 4
+                | (in[inPos + 29] & 0x7FFFFF) << 27;
+        out[outPos + 21] = (in[inPos + 29] & 0x7FFFFF) >>> 5
+                | (in[inPos + 30] & 0x7FFFFF) << 18;
+        out[outPos + 22] = (in[inPos + 30] & 0x7FFFFF) >>> 14
+                | (in[inPos + 31] & 0x7FFFFF) << 9;
+    }
+
+    static void unpack23(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x7FFFFF;
+        out[outPos + 1] = (in[inPos] >>> 23 | in[inPos + 1] << 9) & 0x7FFFFF;
+        out[outPos + 2] = (in[inPos + 1] >>> 14 | in[inPos + 2] << 18) & 0x7FFFFF;
+        out[outPos + 3] = (in[inPos + 2] >>> 5) & 0x7FFFFF;
+        out[outPos + 4] = (in[inPos + 2] >>> 28 | in[inPos + 3] << 4) & 0x7FFFFF;
+        out[outPos + 5] = (in[inPos + 3] >>> 19 | in[inPos + 4] << 13) & 0x7FFFFF;
+        out[outPos + 6] = (in[inPos + 4] >>> 10 | in[inPos + 5] << 22) & 0x7FFFFF;
+        out[outPos + 7] = (in[inPos + 5] >>> 1) & 0x7FFFFF;
+        out[outPos + 8] = (in[inPos + 5] >>> 24 | in[inPos + 6] << 8) & 0x7FFFFF;
+        out[outPos + 9] = (in[inPos + 6] >>> 15 | in[inPos + 7] << 17) & 0x7FFFFF;
+        out[outPos + 10] = (in[inPos + 7] >>> 6) & 0x7FFFFF;
+        out[outPos + 11] = (in[inPos + 7] >>> 29 | in[inPos + 8] << 3) & 0x7FFFFF;
+        out[outPos + 12] = (in[inPos + 8] >>> 20 | in[inPos + 9] << 12) & 0x7FFFFF;
+        out[outPos + 13] = (in[inPos + 9] >>> 11 | in[inPos + 10] << 21) & 0x7FFFFF;
+        out[outPos + 14] = (in[inPos + 10] >>> 2) & 0x7FFFFF;
+        out[outPos + 15] = (in[inPos + 10] >>> 25 | in[inPos + 11] << 7) & 0x7FFFFF;
+        out[outPos + 16] = (in[inPos + 11] >>> 16 | in[inPos + 12] << 16) & 0x7FFFFF;
+        out[outPos + 17] = (in[inPos + 12] >>> 7) & 0x7FFFFF;
+        out[outPos + 18] = (in[inPos + 12] >>> 30 | in[inPos + 13] << 2) & 0x7FFFFF;
+        out[outPos + 19] = (in[inPos + 13] >>> 21 | in[inPos + 14] << 11) & 0x7FFFFF;
+        out[outPos + 20] = (in[inPos + 14] >>> 12 | in[inPos + 15] << 20) & 0x7FFFFF;
+        out[outPos + 21] = (in[inPos + 15] >>> 3) & 0x7FFFFF;
+        out[outPos + 22] = (in[inPos + 15] >>> 26 | in[inPos + 16] << 6) & 0x7FFFFF;
+        out[outPos + 23] = (in[inPos + 16] >>> 17 | in[inPos + 17] << 15) & 0x7FFFFF;
+        out[outPos + 24] = (in[inPos + 17] >>> 8) & 0x7FFFFF;
+        out[outPos + 25] = (in[inPos + 17] >>> 31 | in[inPos + 18] << 1) & 0x7FFFFF;
+        out[outPos + 26] = (in[inPos + 18] >>> 22 | in[inPos + 19] << 10) & 0x7FFFFF;
+        out[outPos + 27] = (in[inPos + 19] >>> 13 | in[inPos + 20] << 19) & 0x7FFFFF;
+        out[outPos + 28] = (in[inPos + 20] >>> 4) & 0x7FFFFF;
+        out[outPos + 29] = (in[inPos + 20] >>> 27 | in[inPos + 21] << 5) & 0x7FFFFF;
+        out[outPos + 30] = (in[inPos + 21] >>> 18 | in[inPos + 22] << 14) & 0x7FFFFF;
+        out[outPos + 31] = in[inPos + 22] >>> 9;
+    }
+
+    static void pack24(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0xFFFFFF)
+                | (in[inPos + 1] & 0xFFFFFF) << 24;
+        out[outPos + 1] = (in[inPos + 1] & 0xFFFFFF) >>> 8
+                | (in[inPos + 2] & 0xFFFFFF) << 16;
+        out[outPos + 2] = (in[inPos + 2] & 0xFFFFFF) >>> 16
+                | (in[inPos + 3] & 0xFFFFFF) << 8;
+        out[outPos + 3] = (in[inPos + 4] & 0xFFFFFF)
+                | (in[inPos + 5] & 0xFFFFFF) << 24;
+        out[outPos + 4] = (in[inPos + 5] & 0xFFFFFF) >>> 8
+                | (in[inPos + 6] & 0xFFFFFF) << 16;
+        out[outPos + 5] = (in[inPos + 6] & 0xFFFFFF) >>> 16
+                | (in[inPos + 7] & 0xFFFFFF) << 8;
+        out[outPos + 6] = (in[inPos + 8] & 0xFFFFFF)
+                | (in[inPos + 9] & 0xFFFFFF) << 24;
+        out[outPos + 7] = (in[inPos + 9] & 0xFFFFFF) >>> 8
+                | (in[inPos + 10] & 0xFFFFFF) << 16;
+        out[outPos + 8] = (in[inPos + 10] & 0xFFFFFF) >>> 16
+                | (in[inPos + 11] & 0xFFFFFF) << 8;
+        out[outPos + 9] = (in[inPos + 12] & 0xFFFFFF)
+                | (in[inPos + 13] & 0xFFFFFF) << 24;
+        out[outPos + 10] = (in[inPos + 13] & 0xFFFFFF) >>> 8
+                | (in[inPos + 14] & 0xFFFFFF) << 16;
+        out[outPos + 11] = (in[inPos + 14] & 0xFFFFFF) >>> 16
+                | (in[inPos + 15] & 0xFFFFFF) << 8;
+        out[outPos + 12] = (in[inPos + 16] & 0xFFFFFF)
+                | (in[inPos + 17] & 0xFFFFFF) << 24;
+        out[outPos + 13] = (in[inPos + 17] & 0xFFFFFF) >>> 8
+                | (in[inPos + 18] & 0xFFFFFF) << 16;
+        out[outPos + 14] = (in[inPos + 18] & 0xFFFFFF) >>> 16
+                | (in[inPos + 19] & 0xFFFFFF) << 8;
+        out[outPos + 15] = (in[inPos + 20] & 0xFFFFFF)
+                | (in[inPos + 21] & 0xFFFFFF) << 24;
+        out[outPos + 16] = (in[inPos + 21] & 0xFFFFFF) >>> 8
+                | (in[inPos + 22] & 0xFFFFFF) << 16;
+        out[outPos + 17] = (in[inPos + 22] & 0xFFFFFF) >>> 16
+                | (in[inPos + 23] & 0xFFFFFF) << 8;
+        out[outPos + 18] = (in[inPos + 24] & 0xFFFFFF)
+                | (in[inPos + 25] & 0xFFFFFF) << 24;
+        out[outPos + 19] = (in[inPos + 25] & 0xFFFFFF) >>> 8
+                | (in[inPos + 26] & 0xFFFFFF) << 16;
+        out[outPos + 20] = (in[inPos + 26] & 0xFFFFFF) >>> 16
+                | (in[inPos + 27] & 0xFFFFFF) << 8;
+        out[outPos + 21] = (in[inPos + 28] & 0xFFFFFF)
+                | (in[inPos + 29] & 0xFFFFFF) << 24;
+        out[outPos + 22] = (in[inPos + 29] & 0xFFFFFF) >>> 8
+                | (in[inPos + 30] & 0xFFFFFF) << 16;
+        out[outPos + 23] = (in[inPos + 30] & 0xFFFFFF) >>> 16
+                | (in[inPos + 31] & 0xFFFFFF) << 8;
+    }
+
+    static void unpack24(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0xFFFFFF;
+        out[outPos + 1] = (in[inPos] >>> 24 | in[inPos + 1] << 8) & 0xFFFFFF;
+        out[outPos + 2] = (in[inPos + 1] >>> 16 | in[inPos + 2] << 16) & 0xFFFFFF;
+        out[outPos + 3] = in[inPos + 2] >>> 8;
+        out[outPos + 4] = in[inPos + 3] & 0xFFFFFF;
+        out[outPos + 5] = (in[inPos + 3] >>> 24 | in[inPos + 4] << 8) & 0xFFFFFF;
+        out[outPos + 6] = (in[inPos + 4] >>> 16 | in[inPos + 5] << 16) & 0xFFFFFF;
+        out[outPos + 7] = in[inPos + 5] >>> 8;
+        out[outPos + 8] = in[inPos + 6] & 0xFFFFFF;
+        out[outPos + 9] = (in[inPos + 6] >>> 24 | in[inPos + 7] << 8) & 0xFFFFFF;
+        out[outPos + 10] = (in[inPos + 7] >>> 16 | in[inPos + 8] << 16) & 0xFFFFFF;
+        out[outPos + 11] = in[inPos + 8] >>> 8;
+        out[outPos + 12] = in[inPos + 9] & 0xFFFFFF;
+        out[outPos + 13] = (in[inPos + 9] >>> 24 | in[inPos + 10] << 8) & 0xFFFFFF;
+        out[outPos + 14] = (in[inPos + 10] >>> 16 | in[inPos + 11] << 16) & 0xFFFFFF;
+        out[outPos + 15] = in[inPos + 11] >>> 8;
+        out[outPos + 16] = in[inPos + 12] & 0xFFFFFF;
+        out[outPos + 17] = (in[inPos + 12] >>> 24 | in[inPos + 13] << 8) & 0xFFFFFF;
+        out[outPos + 18] = (in[inPos + 13] >>> 16 | in[inPos + 14] << 16) & 0xFFFFFF;
+        out[outPos + 19] = in[inPos + 14] >>> 8;
+        out[outPos + 20] = in[inPos + 15] & 0xFFFFFF;
+        out[outPos + 21] = (in[inPos + 15] >>> 24 | in[inPos + 16] << 8) & 0xFFFFFF;
+        out[outPos + 22] = (in[inPos + 16] >>> 16 | in[inPos + 17] << 16) & 0xFFFFFF;
+        out[outPos + 23] = in[inPos + 17] >>> 8;
+        out[outPos + 24] = in[inPos + 18] & 0xFFFFFF;
+        out[outPos + 25] = (in[inPos + 18] >>> 24 | in[inPos + 19] << 8) & 0xFFFFFF;
+        out[outPos + 26] = (in[inPos + 19] >>> 16 | in[inPos + 20] << 16) & 0xFFFFFF;
+        out[outPos + 27] = in[inPos + 20] >>> 8;
+        out[outPos + 28] = in[inPos + 21] & 0xFFFFFF;
+        out[outPos + 29] = (in[inPos + 21] >>> 24 | in[inPos + 22] << 8) & 0xFFFFFF;
+        out[outPos + 30] = (in[inPos + 22] >>> 16 | in[inPos + 23] << 16) & 0xFFFFFF;
+        out[outPos + 31] = in[inPos + 23] >>> 8;
+    }
+
+    static void pack25(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x1FFFFFF)
+                | (in[inPos + 1] & 0x1FFFFFF) << 25;
+        out[outPos + 1] = (in[inPos + 1] & 0x1FFFFFF) >>> 7
+                | (in[inPos + 2] & 0x1FFFFFF) << 18;
+        out[outPos + 2] = (in[inPos + 2] & 0x1FFFFFF) >>> 14
+                | (in[inPos + 3] & 0x1FFFFFF) << 11;
+        out[outPos + 3] = (in[inPos + 3] & 0x1FFFFFF) >>> 21
+                | (in[inPos + 4] & 0x1FFFFFF) << 4
+                | (in[inPos + 5] & 0x1FFFFFF) << 29;
+        out[outPos + 4] = (in[inPos + 5] & 0x1FFFFFF) >>> 3
+                | (in[inPos + 6] & 0x1FFFFFF) << 22;
+        out[outPos + 5] = (in[inPos + 6] & 0x1FFFFFF) >>> 10
+                | (in[inPos + 7] & 0x1FFFFFF) << 15;
+        out[outPos + 6] = (in[inPos + 7] & 0x1FFFFFF) >>> 17
+                | (in[inPos + 8] & 0x1FFFFFF) << 8;
+        out[outPos + 7] = (in[inPos + 8] & 0x1FFFFFF) >>> 24
+                | (in[inPos + 9] & 0x1FFFFFF) << 1
+                | (in[inPos + 10] & 0x1FFFFFF) << 26;
+        out[outPos + 8] = (in[inPos + 10] & 0x1FFFFFF) >>> 6
+                | (in[inPos + 11] & 0x1FFFFFF) << 19;
+        out[outPos + 9] = (in[inPos + 11] & 0x1FFFFFF) >>> 13
+                | (in[inPos + 12] & 0x1FFFFFF) << 12;
+        out[outPos + 10] = (in[inPos + 12] & 0x1FFFFFF) >>> 20
+                | (in[inPos + 13] & 0x1FFFFFF) << 5
+                | (in[inPos + 14] & 0x1FFFFFF) << 30;
+        out[outPos + 11] = (in[inPos + 14] & 0x1FFFFFF) >>> 2
+                | (in[inPos + 15] & 0x1FFFFFF) << 23;
+        out[outPos + 12] = (in[inPos + 15] & 0x1FFFFFF) >>> 9
+                | (in[inPos + 16] & 0x1FFFFFF) << 16;
+        out[outPos + 13] = (in[inPos + 16] & 0x1FFFFFF) >>> 16
+                | (in[inPos + 17] & 0x1FFFFFF) << 9;
+        out[outPos + 14] = (in[inPos + 17] & 0x1FFFFFF) >>> 23
+                | (in[inPos + 18] & 0x1FFFFFF) << 2
+                | (in[inPos + 19] & 0x1FFFFFF) << 27;
+        out[outPos + 15] = (in[inPos + 19] & 0x1FFFFFF) >>> 5
+                | (in[inPos + 20] & 0x1FFFFFF) << 20;
+        out[outPos + 16] = (in[inPos + 20] & 0x1FFFFFF) >>> 12
+                | (in[inPos + 21] & 0x1FFFFFF) << 13;
+        out[outPos + 17] = (in[inPos + 21] & 0x1FFFFFF) >>> 19
+                | (in[inPos + 22] & 0x1FFFFFF) << 6
+                | (in[inPos + 23] & 0x1FFFFFF) << 31;
+        out[outPos + 18] = (in[inPos + 23] & 0x1FFFFFF) >>> 1
+                | (in[inPos + 24] & 0x1FFFFFF) << 24;
+        out[outPos + 19] = (in[inPos + 24] & 0x1FFFFFF) >>> 8
+                | (in[inPos + 25] & 0x1FFFFFF) << 17;
+        out[outPos + 20] = (in[inPos + 25] & 0x1FFFFFF) >>> 15
+                | (in[inPos + 26] & 0x1FFFFFF) << 10;
+        out[outPos + 21] = (in[inPos + 26] & 0x1FFFFFF) >>> 22
+                | (in[inPos + 27] & 0x1FFFFFF) << 3
+                | (in[inPos + 28] & 0x1FFFFFF) << 28;
+        out[outPos + 22] = (in[inPos + 28] & 0x1FFFFFF) >>> 4
+                | (in[inPos + 29] & 0x1FFFFFF) << 21;
+        out[outPos + 23] = (in[inPos + 29] & 0x1FFFFFF) >>> 11
+                | (in[inPos + 30] & 0x1FFFFFF) << 14;
+        out[outPos + 24] = (in[inPos + 30] & 0x1FFFFFF) >>> 18
+                | (in[inPos + 31] & 0x1FFFFFF) << 7;
+    }
+
+    static void unpack25(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x1FFFFFF;
+        out[outPos + 1] = (in[inPos] >>> 25 | in[inPos + 1] << 7) & 0x1FFFFFF;
+        out[outPos + 2] = (in[inPos + 1] >>> 18 | in[inPos + 2] << 14) & 0x1FFFFFF;
+        out[outPos + 3] = (in[inPos + 2] >>> 11 | in[inPos + 3] << 21) & 0x1FFFFFF;
+        out[outPos + 4] = (in[inPos + 3] >>> 4) & 0x1FFFFFF;
+        out[outPos + 5] = (in[inPos + 3] >>> 29 | in[inPos + 4] << 3) & 0x1FFFFFF;
+        out[outPos + 6] = (in[inPos + 4] >>> 22 | in[inPos + 5] << 10) & 0x1FFFFFF;
+        out[outPos + 7] = (in[inPos + 5] >>> 15 | in[inPos + 6] << 17) & 0x1FFFFFF;
+        out[outPos + 8] = (in[inPos + 6] >>> 8 | in[inPos + 7] << 24) & 0x1FFFFFF;
+        out[outPos + 9] = (in[inPos + 7] >>> 1) & 0x1FFFFFF;
+        out[outPos + 10] = (in[inPos + 7] >>> 26 | in[inPos + 8] << 6) & 0x1FFFFFF;
+        out[outPos + 11] = (in[inPos + 8] >>> 19 | in[inPos + 9] << 13) & 0x1FFFFFF;
+        out[outPos + 12] = (in[inPos + 9] >>> 12 | in[inPos + 10] << 20) & 0x1FFFFFF;
+        out[outPos + 13] = (in[inPos + 10] >>> 5) & 0x1FFFFFF;
+        out[outPos + 14] = (in[inPos + 10] >>> 30 | in[inPos + 11] << 2) & 0x1FFFFFF;
+        out[outPos + 15] = (in[inPos + 11] >>> 23 | in[inPos + 12] << 9) & 0x1FFFFFF;
+        out[outPos + 16] = (in[inPos + 12] >>> 16 | in[inPos + 13] << 16) & 0x1FFFFFF;
+        out[outPos + 17] = (in[inPos + 13] >>> 9 | in[inPos + 14] << 23) & 0x1FFFFFF;
+        out[outPos + 18] = (in[inPos + 14] >>> 2) & 0x1FFFFFF;
+        out[outPos + 19] = (in[inPos + 14] >>> 27 | in[inPos + 15] << 5) & 0x1FFFFFF;
+        out[outPos + 20] = (in[inPos + 15] >>> 20 | in[inPos + 16] << 12) & 0x1FFFFFF;
+        out[outPos + 21] = (in[inPos + 16] >>> 13 | in[inPos + 17] << 19) & 0x1FFFFFF;
+        out[outPos + 22] = (in[inPos + 17] >>> 6) & 0x1FFFFFF;
+        out[outPos + 23] = (in[inPos + 17] >>> 31 | in[inPos + 18] << 1) & 0x1FFFFFF;
+        out[outPos + 24] = (in[inPos + 18] >>> 24 | in[inPos + 19] << 8) & 0x1FFFFFF;
+        out[outPos + 25] = (in[inPos + 19] >>> 17 | in[inPos + 20] << 15) & 0x1FFFFFF;
+        out[outPos + 26] = (in[inPos + 20] >>> 10 | in[inPos + 21] << 22) & 0x1FFFFFF;
+        out[outPos + 27] = (in[inPos + 21] >>> 3) & 0x1FFFFFF;
+        out[outPos + 28] = (in[inPos + 21] >>> 28 | in[inPos + 22] << 4) & 0x1FFFFFF;
+        out[outPos + 29] = (in[inPos + 22] >>> 21 | in[inPos + 23] << 11) & 0x1FFFFFF;
+        out[outPos + 30] = (in[inPos + 23] >>> 14 | in[inPos + 24] << 18) & 0x1FFFFFF;
+        out[outPos + 31] = in[inPos + 24] >>> 7;
+    }
+
+    static void pack26(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x3FFFFFF)
+                | (in[inPos + 1] & 0x3FFFFFF) << 26;
+        out[outPos + 1] = (in[inPos + 1] & 0x3FFFFFF) >>> 6
+                | (in[inPos + 2] & 0x3FFFFFF) << 20;
+        out[outPos + 2] = (in[inPos + 2] & 0x3FFFFFF) >>> 12
+                | (in[inPos + 3] & 0x3FFFFFF) << 14;
+        out[outPos + 3] = (in[inPos + 3] & 0x3FFFFFF) >>> 18
+                | (in[inPos + 4] & 0x3FFFFFF) << 8;
+        out[outPos + 4] = (in[inPos + 4] & 0x3FFFFFF) >>> 24
+                | (in[inPos + 5] & 0x3FFFFFF) << 2
+                | (in[inPos + 6] & 0x3FFFFFF) << 28;
+        out[outPos + 5] = (in[inPos + 6] & 0x3FFFFFF) >>> 4
+                | (in[inPos + 7] & 0x3FFFFFF) << 22;
+        out[outPos + 6] = (in[inPos + 7] & 0x3FFFFFF) >>> 10
+                | (in[inPos + 8] & 0x3FFFFFF) << 16;
+        out[outPos + 7] = (in[inPos + 8] & 0x3FFFFFF) >>> 16
+                | (in[inPos + 9] & 0x3FFFFFF) << 10;
+        out[outPos + 8] = (in[inPos + 9] & 0x3FFFFFF) >>> 22
+                | (in[inPos + 10] & 0x3FFFFFF) << 4
+                | (in[inPos + 11] & 0x3FFFFFF) << 30;
+        out[outPos + 9] = (in[inPos + 11] & 0x3FFFFFF) >>> 2
+                | (in[inPos + 12] & 0x3FFFFFF) << 24;
+        out[outPos + 10] = (in[inPos + 12] & 0x3FFFFFF) >>> 8
+                | (in[inPos + 13] & 0x3FFFFFF) << 18;
+        out[outPos + 11] = (in[inPos + 13] & 0x3FFFFFF) >>> 14
+                | (in[inPos + 14] & 0x3FFFFFF) << 12;
+        out[outPos + 12] = (in[inPos + 14] & 0x3FFFFFF) >>> 20
+                | (in[inPos + 15] & 0x3FFFFFF) << 6;
+        out[outPos + 13] = (in[inPos + 16] & 0x3FFFFFF)
+                | (in[inPos + 17] & 0x3FFFFFF) << 26;
+        out[outPos + 14] = (in[inPos + 17] & 0x3FFFFFF) >>> 6
+                | (in[inPos + 18] & 0x3FFFFFF) << 20;
+        out[outPos + 15] = (in[inPos + 18] & 0x3FFFFFF) >>> 12
+                | (in[inPos + 19] & 0x3FFFFFF) << 14;
+        out[outPos + 16] = (in[inPos + 19] & 0x3FFFFFF) >>> 18
+                | (in[inPos + 20] & 0x3FFFFFF) << 8;
+        out[outPos + 17] = (in[inPos + 20] & 0x3FFFFFF) >>> 24
+                | (in[inPos + 21] & 0x3FFFFFF) << 2
+                | (in[inPos + 22] & 0x3FFFFFF) << 28;
+        out[outPos + 18] = (in[inPos + 22] & 0x3FFFFFF) >>> 4
+                | (in[inPos + 23] & 0x3FFFFFF) << 22;
+        out[outPos + 19] = (in[inPos + 23] & 0x3FFFFFF) >>> 10
+                | (in[inPos + 24] & 0x3FFFFFF) << 16;
+        out[outPos + 20] = (in[inPos + 24] & 0x3FFFFFF) >>> 16
+                | (in[inPos + 25] & 0x3FFFFFF) << 10;
+        out[outPos + 21] = (in[inPos + 25] & 0x3FFFFFF) >>> 22
+                | (in[inPos + 26] & 0x3FFFFFF) << 4
+                | (in[inPos + 27] & 0x3FFFFFF) << 30;
+        out[outPos + 22] = (in[inPos + 27] & 0x3FFFFFF) >>> 2
+                | (in[inPos + 28] & 0x3FFFFFF) << 24;
+        out[outPos + 23] = (in[inPos + 28] & 0x3FFFFFF) >>> 8
+                | (in[inPos + 29] & 0x3FFFFFF) << 18;
+        out[outPos + 24] = (in[inPos + 29] & 0x3FFFFFF) >>> 14
+                | (in[inPos + 30] & 0x3FFFFFF) << 12;
+        out[outPos + 25] = (in[inPos + 30] & 0x3FFFFFF) >>> 20
+                | (in[inPos + 31] & 0x3FFFFFF) << 6;
+    }
+
+    static void unpack26(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x3FFFFFF;
+        out[outPos + 1] = (in[inPos] >>> 26 | in[inPos + 1] << 6) & 0x3FFFFFF;
+        out[outPos + 2] = (in[inPos + 1] >>> 20 | in[inPos + 2] << 12) & 0x3FFFFFF;
+        out[outPos + 3] = (in[inPos + 2] >>> 14 | in[inPos + 3] << 18) & 0x3FFFFFF;
+        out[outPos + 4] = (in[inPos + 3] >>> 8 | in[inPos + 4] << 24) & 0x3FFFFFF;
+        out[outPos + 5] = (in[inPos + 4] >>> 2) & 0x3FFFFFF;
+        out[outPos + 6] = (in[inPos + 4] >>> 28 | in[inPos + 5] << 4) & 0x3FFFFFF;
+        out[outPos + 7] = (in[inPos + 5] >>> 22 | in[inPos + 6] << 10) & 0x3FFFFFF;
+        out[outPos + 8] = (in[inPos + 6] >>> 16 | in[inPos + 7] << 16) & 0x3FFFFFF;
+        out[outPos + 9] = (in[inPos + 7] >>> 10 | in[inPos + 8] << 22) & 0x3FFFFFF;
+        out[outPos + 10] = (in[inPos + 8] >>> 4) & 0x3FFFFFF;
+        out[outPos + 11] = (in[inPos + 8] >>> 30 | in[inPos + 9] << 2) & 0x3FFFFFF;
+        out[outPos + 12] = (in[inPos + 9] >>> 24 | in[inPos + 10] << 8) & 0x3FFFFFF;
+        out[outPos + 13] = (in[inPos + 10] >>> 18 | in[inPos + 11] << 14) & 0x3FFFFFF;
+        out[outPos + 14] = (in[inPos + 11] >>> 12 | in[inPos + 12] << 20) & 0x3FFFFFF;
+        out[outPos + 15] = in[inPos + 12] >>> 6;
+        out[outPos + 16] = in[inPos + 13] & 0x3FFFFFF;
+        out[outPos + 17] = (in[inPos + 13] >>> 26 | in[inPos + 14] << 6) & 0x3FFFFFF;
+        out[outPos + 18] = (in[inPos + 14] >>> 20 | in[inPos + 15] << 12) & 0x3FFFFFF;
+        out[outPos + 19] = (in[inPos + 15] >>> 14 | in[inPos + 16] << 18) & 0x3FFFFFF;
+        out[outPos + 20] = (in[inPos + 16] >>> 8 | in[inPos + 17] << 24) & 0x3FFFFFF;
+        out[outPos + 21] = (in[inPos + 17] >>> 2) & 0x3FFFFFF;
+        out[outPos + 22] = (in[inPos + 17] >>> 28 | in[inPos + 18] << 4) & 0x3FFFFFF;
+        out[outPos + 23] = (in[inPos + 18] >>> 22 | in[inPos + 19] << 10) & 0x3FFFFFF;
+        out[outPos + 24] = (in[inPos + 19] >>> 16 | in[inPos + 20] << 16) & 0x3FFFFFF;
+        out[outPos + 25] = (in[inPos + 20] >>> 10 | in[inPos + 21] << 22) & 0x3FFFFFF;
+        out[outPos + 26] = (in[inPos + 21] >>> 4) & 0x3FFFFFF;
+        out[outPos + 27] = (in[inPos + 21] >>> 30 | in[inPos + 22] << 2) & 0x3FFFFFF;
+        out[outPos + 28] = (in[inPos + 22] >>> 24 | in[inPos + 23] << 8) & 0x3FFFFFF;
+        out[outPos + 29] = (in[inPos + 23] >>> 18 | in[inPos + 24] << 14) & 0x3FFFFFF;
+        out[outPos + 30] = (in[inPos + 24] >>> 12 | in[inPos + 25] << 20) & 0x3FFFFFF;
+        out[outPos + 31] = in[inPos + 25] >>> 6;
+    }
+
+    static void pack27(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x7FFFFFF)
+                | (in[inPos + 1] & 0x7FFFFFF) << 27;
+        out[outPos + 1] = (in[inPos + 1] & 0x7FFFFFF) >>> 5
+                | (in[inPos + 2] & 0x7FFFFFF) << 22;
+        out[outPos + 2] = (in[inPos + 2] & 0x7FFFFFF) >>> 10
+                | (in[inPos + 3] & 0x7FFFFFF) << 17;
+        out[outPos + 3] = (in[inPos + 3] & 0x7FFFFFF) >>> 15
+                | (in[inPos + 4] & 0x7FFFFFF) << 12;
+        out[outPos + 4] = (in[inPos + 4] & 0x7FFFFFF) >>> 20
+                | (in[inPos + 5] & 0x7FFFFFF) << 7;
+        out[outPos + 5] = (in[inPos + 5] & 0x7FFFFFF) >>> 25
+                | (in[inPos + 6] & 0x7FFFFFF) << 2
+                | (in[inPos + 7] & 0x7FFFFFF) << 29;
+        out[outPos + 6] = (in[inPos + 7] & 0x7FFFFFF) >>> 3
+                | (in[inPos + 8] & 0x7FFFFFF) << 24;
+        out[outPos + 7] = (in[inPos + 8] & 0x7FFFFFF) >>> 8
+                | (in[inPos + 9] & 0x7FFFFFF) << 19;
+        out[outPos + 8] = (in[inPos + 9] & 0x7FFFFFF) >>> 13
+                | (in[inPos + 10] & 0x7FFFFFF) << 14;
+        out[outPos + 9] = (in[inPos + 10] & 0x7FFFFFF) >>> 18
+                | (in[inPos + 11] & 0x7FFFFFF) << 9;
+        out[outPos + 10] = (in[inPos + 11] & 0x7FFFFFF) >>> 23
+                | (in[inPos + 12] & 0x7FFFFFF) << 4
+                | (in[inPos + 13] & 0x7FFFFFF) << 31;
+        out[outPos + 11] = (in[inPos + 13] & 0x7FFFFFF) >>> 1
+                | (in[inPos + 14] & 0x7FFFFFF) << 26;
+        out[outPos + 12] = (in[inPos + 14] & 0x7FFFFFF) >>> 6
+                | (in[inPos + 15] & 0x7FFFFFF) << 21;
+        out[outPos + 13] = (in[inPos + 15] & 0x7FFFFFF) >>> 11
+                | (in[inPos + 16] & 0x7FFFFFF) << 16;
+        out[outPos + 14] = (in[inPos + 16] & 0x7FFFFFF) >>> 16
+                | (in[inPos + 17] & 0x7FFFFFF) << 11;
+        out[outPos + 15] = (in[inPos + 17] & 0x7FFFFFF) >>> 21
+                | (in[inPos + 18] & 0x7FFFFFF) << 6;
+        out[outPos + 16] = (in[inPos + 18] & 0x7FFFFFF) >>> 26
+                | (in[inPos + 19] & 0x7FFFFFF) << 1
+                | (in[inPos + 20] & 0x7FFFFFF) << 28;
+        out[outPos + 17] = (in[inPos + 20] & 0x7FFFFFF) >>> 4
+                | (in[inPos + 21] & 0x7FFFFFF) << 23;
+        out[outPos + 18] = (in[inPos + 21] & 0x7FFFFFF) >>> 9
+                | (in[inPos + 22] & 0x7FFFFFF) << 18;
+        out[outPos + 19] = (in[inPos + 22] & 0x7FFFFFF) >>> 14
+                | (in[inPos + 23] & 0x7FFFFFF) << 13;
+        out[outPos + 20] = (in[inPos + 23] & 0x7FFFFFF) >>> 19
+                | (in[inPos + 24] & 0x7FFFFFF) << 8;
+        out[outPos + 21] = (in[inPos + 24] & 0x7FFFFFF) >>> 24
+                | (in[inPos + 25] & 0x7FFFFFF) << 3
+                | (in[inPos + 26] & 0x7FFFFFF) << 30;
+        out[outPos + 22] = (in[inPos + 26] & 0x7FFFFFF) >>> 2
+                | (in[inPos + 27] & 0x7FFFFFF) << 25;
+        out[outPos + 23] = (in[inPos + 27] & 0x7FFFFFF) >>> 7
+                | (in[inPos + 28] & 0x7FFFFFF) << 20;
+        out[outPos + 24] = (in[inPos + 28] & 0x7FFFFFF) >>> 12
+                | (in[inPos + 29] & 0x7FFFFFF) << 15;
+        out[outPos + 25] = (in[inPos + 29] & 0x7FFFFFF) >>> 17
+                | (in[inPos + 30] & 0x7FFFFFF) << 10;
+        out[outPos + 26] = (in[inPos + 30] & 0x7FFFFFF) >>> 22
+                | (in[inPos + 31] & 0x7FFFFFF) << 5;
+    }
+
+    static void unpack27(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x7FFFFFF;
+        out[outPos + 1] = (in[inPos] >>> 27 | in[inPos + 1] << 5) & 0x7FFFFFF;
+        out[outPos + 2] = (in[inPos + 1] >>> 22 | in[inPos + 2] << 10) & 0x7FFFFFF;
+        out[outPos + 3] = (in[inPos + 2] >>> 17 | in[inPos + 3] << 15) & 0x7FFFFFF;
+        out[outPos + 4] = (in[inPos + 3] >>> 12 | in[inPos + 4] << 20) & 0x7FFFFFF;
+        out[outPos + 5] = (in[inPos + 4] >>> 7 | in[inPos + 5] << 25) & 0x7FFFFFF;
+        out[outPos + 6] = (in[inPos + 5] >>> 2) & 0x7FFFFFF;
+        out[outPos + 7] = (in[inPos + 5] >>> 29 | in[inPos + 6] << 3) & 0x7FFFFFF;
+        out[outPos + 8] = (in[inPos + 6] >>> 24 | in[inPos + 7] << 8) & 0x7FFFFFF;
+        out[outPos + 9] = (in[inPos + 7] >>> 19 | in[inPos + 8] << 13) & 0x7FFFFFF;
+        out[outPos + 10] = (in[inPos + 8] >>> 14 | in[inPos + 9] << 18) & 0x7FFFFFF;
+        out[outPos + 11] = (in[inPos + 9] >>> 9 | in[inPos + 10] << 23) & 0x7FFFFFF;
+        out[outPos + 12] = (in[inPos + 10] >>> 4) & 0x7FFFFFF;
+        out[outPos + 13] = (in[inPos + 10] >>> 31 | in[inPos + 11] << 1) & 0x7FFFFFF;
+        out[outPos + 14] = (in[inPos + 11] >>> 26 | in[inPos + 12] << 6) & 0x7FFFFFF;
+        out[outPos + 15] = (in[inPos + 12] >>> 21 | in[inPos + 13] << 11) & 0x7FFFFFF;
+        out[outPos + 16] = (in[inPos + 13] >>> 16 | in[inPos + 14] << 16) & 0x7FFFFFF;
+        out[outPos + 17] = (in[inPos + 14] >>> 11 | in[inPos + 15] << 21) & 0x7FFFFFF;
+        out[outPos + 18] = (in[inPos + 15] >>> 6 | in[inPos + 16] << 26) & 0x7FFFFFF;
+        out[outPos + 19] = (in[inPos + 16] >>> 1) & 0x7FFFFFF;
+        out[outPos + 20] = (in[inPos + 16] >>> 28 | in[inPos + 17] << 4) & 0x7FFFFFF;
+        out[outPos + 21] = (in[inPos + 17] >>> 23 | in[inPos + 18] << 9) & 0x7FFFFFF;
+        out[outPos + 22] = (in[inPos + 18] >>> 18 | in[inPos + 19] << 14) & 0x7FFFFFF;
+        out[outPos + 23] = (in[inPos + 19] >>> 13 | in[inPos + 20] << 19) & 0x7FFFFFF;
+        out[outPos + 24] = (in[inPos + 20] >>> 8 | in[inPos + 21] << 24) & 0x7FFFFFF;
+        out[outPos + 25] = (in[inPos + 21] >>> 3) & 0x7FFFFFF;
+        out[outPos + 26] = (in[inPos + 21] >>> 30 | in[inPos + 22] << 2) & 0x7FFFFFF;
+        out[outPos + 27] = (in[inPos + 22] >>> 25 | in[inPos + 23] << 7) & 0x7FFFFFF;
+        out[outPos + 28] = (in[inPos + 23] >>> 20 | in[inPos + 24] << 12) & 0x7FFFFFF;
+        out[outPos + 29] = (in[inPos + 24] >>> 15 | in[inPos + 25] << 17) & 0x7FFFFFF;
+        out[outPos + 30] = (in[inPos + 25] >>> 10 | in[inPos + 26] << 22) & 0x7FFFFFF;
+        out[outPos + 31] = in[inPos + 26] >>> 5;
+    }
+
+    static void pack28(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0xFFFFFFF)
+                | (in[inPos + 1] & 0xFFFFFFF) << 28;
+        out[outPos + 1] = (in[inPos + 1] & 0xFFFFFFF) >>> 4
+                | (in[inPos + 2] & 0xFFFFFFF) << 24;
+        out[outPos + 2] = (in[inPos + 2] & 0xFFFFFFF) >>> 8
+                | (in[inPos + 3] & 0xFFFFFFF) << 20;
+        out[outPos + 3] = (in[inPos + 3] & 0xFFFFFFF) >>> 12
+                | (in[inPos + 4] & 0xFFFFFFF) << 16;
+        out[outPos + 4] = (in[inPos + 4] & 0xFFFFFFF) >>> 16
+                | (in[inPos + 5] & 0xFFFFFFF) << 12;
+        out[outPos + 5] = (in[inPos + 5] & 0xFFFFFFF) >>> 20
+                | (in[inPos + 6] & 0xFFFFFFF) << 8;
+        out[outPos + 6] = (in[inPos + 6] & 0xFFFFFFF) >>> 24
+                | (in[inPos + 7] & 0xFFFFFFF) << 4;
+        out[outPos + 7] = (in[inPos + 8] & 0xFFFFFFF)
+                | (in[inPos + 9] & 0xFFFFFFF) << 28;
+        out[outPos + 8] = (in[inPos + 9] & 0xFFFFFFF) >>> 4
+                | (in[inPos + 10] & 0xFFFFFFF) << 24;
+        out[outPos + 9] = (in[inPos + 10] & 0xFFFFFFF) >>> 8
+                | (in[inPos + 11] & 0xFFFFFFF) << 20;
+        out[outPos + 10] = (in[inPos + 11] & 0xFFFFFFF) >>> 12
+                | (in[inPos + 12] & 0xFFFFFFF) << 16;
+        out[outPos + 11] = (in[inPos + 12] & 0xFFFFFFF) >>> 16
+                | (in[inPos + 13] & 0xFFFFFFF) << 12;
+        out[outPos + 12] = (in[inPos + 13] & 0xFFFFFFF) >>> 20
+                | (in[inPos + 14] & 0xFFFFFFF) << 8;
+        out[outPos + 13] = (in[inPos + 14] & 0xFFFFFFF) >>> 24
+                | (in[inPos + 15] & 0xFFFFFFF) << 4;
+        out[outPos + 14] = (in[inPos + 16] & 0xFFFFFFF)
+                | (in[inPos + 17] & 0xFFFFFFF) << 28;
+        out[outPos + 15] = (in[inPos + 17] & 0xFFFFFFF) >>> 4
+                | (in[inPos + 18] & 0xFFFFFFF) << 24;
+        out[outPos + 16] = (in[inPos + 18] & 0xFFFFFFF) >>> 8
+                | (in[inPos + 19] & 0xFFFFFFF) << 20;
+        out[outPos + 17] = (in[inPos + 19] & 0xFFFFFFF) >>> 12
+                | (in[inPos + 20] & 0xFFFFFFF) << 16;
+        out[outPos + 18] = (in[inPos + 20] & 0xFFFFFFF) >>> 16
+                | (in[inPos + 21] & 0xFFFFFFF) << 12;
+        out[outPos + 19] = (in[inPos + 21] & 0xFFFFFFF) >>> 20
+                | (in[inPos + 22] & 0xFFFFFFF) << 8;
+        out[outPos + 20] = (in[inPos + 22] & 0xFFFFFFF) >>> 24
+                | (in[inPos + 23] & 0xFFFFFFF) << 4;
+        out[outPos + 21] = (in[inPos + 24] & 0xFFFFFFF)
+                | (in[inPos + 25] & 0xFFFFFFF) << 28;
+        out[outPos + 22] = (in[inPos + 25] & 0xFFFFFFF) >>> 4
+                | (in[inPos + 26] & 0xFFFFFFF) << 24;
+        out[outPos + 23] = (in[inPos + 26] & 0xFFFFFFF) >>> 8
+                | (in[inPos + 27] & 0xFFFFFFF) << 20;
+        out[outPos + 24] = (in[inPos + 27] & 0xFFFFFFF) >>> 12
+                | (in[inPos + 28] & 0xFFFFFFF) << 16;
+        out[outPos + 25] = (in[inPos + 28] & 0xFFFFFFF) >>> 16
+                | (in[inPos + 29] & 0xFFFFFFF) << 12;
+        out[outPos + 26] = (in[inPos + 29] & 0xFFFFFFF) >>> 20
+                | (in[inPos + 30] & 0xFFFFFFF) << 8;
+        out[outPos + 27] = (in[inPos + 30] & 0xFFFFFFF) >>> 24
+                | (in[inPos + 31] & 0xFFFFFFF) << 4;
+    }
+
+    static void unpack28(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0xFFFFFFF;
+        out[outPos + 1] = (in[inPos] >>> 28 | in[inPos + 1] << 4) & 0xFFFFFFF;
+        out[outPos + 2] = (in[inPos + 1] >>> 24 | in[inPos + 2] << 8) & 0xFFFFFFF;
+        out[outPos + 3] = (in[inPos + 2] >>> 20 | in[inPos + 3] << 12) & 0xFFFFFFF;
+        out[outPos + 4] = (in[inPos + 3] >>> 16 | in[inPos + 4] << 16) & 0xFFFFFFF;
+        out[outPos + 5] = (in[inPos + 4] >>> 12 | in[inPos + 5] << 20) & 0xFFFFFFF;
+        out[outPos + 6] = (in[inPos + 5] >>> 8 | in[inPos + 6] << 24) & 0xFFFFFFF;
+        out[outPos + 7] = in[inPos + 6] >>> 4;
+        out[outPos + 8] = in[inPos + 7] & 0xFFFFFFF;
+        out[outPos + 9] = (in[inPos + 7] >>> 28 | in[inPos + 8] << 4) & 0xFFFFFFF;
+        out[outPos + 10] = (in[inPos + 8] >>> 24 | in[inPos + 9] << 8) & 0xFFFFFFF;
+        out[outPos + 11] = (in[inPos + 9] >>> 20 | in[inPos + 10] << 12) & 0xFFFFFFF;
+        out[outPos + 12] = (in[inPos + 10] >>> 16 | in[inPos + 11] << 16) & 0xFFFFFFF;
+        out[outPos + 13] = (in[inPos + 11] >>> 12 | in[inPos + 12] << 20) & 0xFFFFFFF;
+        out[outPos + 14] = (in[inPos + 12] >>> 8 | in[inPos + 13] << 24) & 0xFFFFFFF;
+        out[outPos + 15] = in[inPos + 13] >>> 4;
+        out[outPos + 16] = in[inPos + 14] & 0xFFFFFFF;
+        out[outPos + 17] = (in[inPos + 14] >>> 28 | in[inPos + 15] << 4) & 0xFFFFFFF;
+        out[outPos + 18] = (in[inPos + 15] >>> 24 | in[inPos + 16] << 8) & 0xFFFFFFF;
+        out[outPos + 19] = (in[inPos + 16] >>> 20 | in[inPos + 17] << 12) & 0xFFFFFFF;
+        out[outPos + 20] = (in[inPos + 17] >>> 16 | in[inPos + 18] << 16) & 0xFFFFFFF;
+        out[outPos + 21] = (in[inPos + 18] >>> 12 | in[inPos + 19] << 20) & 0xFFFFFFF;
+        out[outPos + 22] = (in[inPos + 19] >>> 8 | in[inPos + 20] << 24) & 0xFFFFFFF;
+        out[outPos + 23] = in[inPos + 20] >>> 4;
+        out[outPos + 24] = in[inPos + 21] & 0xFFFFFFF;
+        out[outPos + 25] = (in[inPos + 21] >>> 28 | in[inPos + 22] << 4) & 0xFFFFFFF;
+        out[outPos + 26] = (in[inPos + 22] >>> 24 | in[inPos + 23] << 8) & 0xFFFFFFF;
+        out[outPos + 27] = (in[inPos + 23] >>> 20 | in[inPos + 24] << 12) & 0xFFFFFFF;
+        out[outPos + 28] = (in[inPos + 24] >>> 16 | in[inPos + 25] << 16) & 0xFFFFFFF;
+        out[outPos + 29] = (in[inPos + 25] >>> 12 | in[inPos + 26] << 20) & 0xFFFFFFF;
+        out[outPos + 30] = (in[inPos + 26] >>> 8 | in[inPos + 27] << 24) & 0xFFFFFFF;
+        out[outPos + 31] = in[inPos + 27] >>> 4;
+    }
+
+    static void pack29(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x1FFFFFFF)
+                | (in[inPos + 1] & 0x1FFFFFFF) << 29;
+        out[outPos + 1] = (in[inPos + 1] & 0x1FFFFFFF) >>> 3
+                | (in[inPos + 2] & 0x1FFFFFFF) << 26;
+        out[outPos + 2] = (in[inPos + 2] & 0x1FFFFFFF) >>> 6
+                | (in[inPos + 3] & 0x1FFFFFFF) << 23;
+        out[outPos + 3] = (in[inPos + 3] & 0x1FFFFFFF) >>> 9
+                | (in[inPos + 4] & 0x1FFFFFFF) << 20;
+        out[outPos + 4] = (in[inPos + 4] & 0x1FFFFFFF) >>> 12
+                | (in[inPos + 5] & 0x1FFFFFFF) << 17;
+        out[outPos + 5] = (in[inPos + 5] & 0x1FFFFFFF) >>> 15
+                | (in[inPos + 6] & 0x1FFFFFFF) << 14;
+        out[outPos + 6] = (in[inPos + 6] & 0x1FFFFFFF) >>> 18
+                | (in[inPos + 7] & 0x1FFFFFFF) << 11;
+        out[outPos + 7] = (in[inPos + 7] & 0x1FFFFFFF) >>> 21
+                | (in[inPos + 8] & 0x1FFFFFFF) << 8;
+        out[outPos + 8] = (in[inPos + 8] & 0x1FFFFFFF) >>> 24
+                | (in[inPos + 9] & 0x1FFFFFFF) << 5;
+        out[outPos + 9] = (in[inPos + 9] & 0x1FFFFFFF) >>> 27
+                | (in[inPos + 10] & 0x1FFFFFFF) << 2
+                | (in[inPos + 11] & 0x1FFFFFFF) << 31;
+        out[outPos + 10] = (in[inPos + 11] & 0x1FFFFFFF) >>> 1
+                | (in[inPos + 12] & 0x1FFFFFFF) << 28;
+        out[outPos + 11] = (in[inPos + 12] & 0x1FFFFFFF) >>> 4
+                | (in[inPos + 13] & 0x1FFFFFFF) << 25;
+        out[outPos + 12] = (in[inPos + 13] & 0x1FFFFFFF) >>> 7
+                | (in[inPos + 14] & 0x1FFFFFFF) << 22;
+        out[outPos + 13] = (in[inPos + 14] & 0x1FFFFFFF) >>> 10
+                | (in[inPos + 15] & 0x1FFFFFFF) << 19;
+        out[outPos + 14] = (in[inPos + 15] & 0x1FFFFFFF) >>> 13
+                | (in[inPos + 16] & 0x1FFFFFFF) << 16;
+        out[outPos + 15] = (in[inPos + 16] & 0x1FFFFFFF) >>> 16
+                | (in[inPos + 17] & 0x1FFFFFFF) << 13;
+        out[outPos + 16] = (in[inPos + 17] & 0x1FFFFFFF) >>> 19
+                | (in[inPos + 18] & 0x1FFFFFFF) << 10;
+        out[outPos + 17] = (in[inPos + 18] & 0x1FFFFFFF) >>> 22
+                | (in[inPos + 19] & 0x1FFFFFFF) << 7;
+        out[outPos + 18] = (in[inPos + 19] & 0x1FFFFFFF) >>> 25
+                | (in[inPos + 20] & 0x1FFFFFFF) << 4;
+        out[outPos + 19] = (in[inPos + 20] & 0x1FFFFFFF) >>> 28
+                | (in[inPos + 21] & 0x1FFFFFFF) << 1
+                | (in[inPos + 22] & 0x1FFFFFFF) << 30;
+        out[outPos + 20] = (in[inPos + 22] & 0x1FFFFFFF) >>> 2
+                | (in[inPos + 23] & 0x1FFFFFFF) << 27;
+        out[outPos + 21] = (in[inPos + 23] & 0x1FFFFFFF) >>> 5
+                | (in[inPos + 24] & 0x1FFFFFFF) << 24;
+        out[outPos + 22] = (in[inPos + 24] & 0x1FFFFFFF) >>> 8
+                | (in[inPos + 25] & 0x1FFFFFFF) << 21;
+        out[outPos + 23] = (in[inPos + 25] & 0x1FFFFFFF) >>> 11
+                | (in[inPos + 26] & 0x1FFFFFFF) << 18;
+        out[outPos + 24] = (in[inPos + 26] & 0x1FFFFFFF) >>> 14
+                | (in[inPos + 27] & 0x1FFFFFFF) << 15;
+        out[outPos + 25] = (in[inPos + 27] & 0x1FFFFFFF) >>> 17
+                | (in[inPos + 28] & 0x1FFFFFFF) << 12;
+        out[outPos + 26] = (in[inPos + 28] & 0x1FFFFFFF) >>> 20
+                | (in[inPos + 29] & 0x1FFFFFFF) << 9;
+        out[outPos + 27] = (in[inPos + 29] & 0x1FFFFFFF) >>> 23
+                | (in[inPos + 30] & 0x1FFFFFFF) << 6;
+        out[outPos + 28] = (in[inPos + 30] & 0x1FFFFFFF) >>> 26
+                | (in[inPos + 31] & 0x1FFFFFFF) << 3;
+    }
+
+    static void unpack29(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x1FFFFFFF;
+        out[outPos + 1] = (in[inPos] >>> 29 | in[inPos + 1] << 3) & 0x1FFFFFFF;
+        out[outPos + 2] = (in[inPos + 1] >>> 26 | in[inPos + 2] << 6) & 0x1FFFFFFF;
+        out[outPos + 3] = (in[inPos + 2] >>> 23 | in[inPos + 3] << 9) & 0x1FFFFFFF;
+        out[outPos + 4] = (in[inPos + 3] >>> 20 | in[inPos + 4] << 12) & 0x1FFFFFFF;
+        out[outPos + 5] = (in[inPos + 4] >>> 17 | in[inPos + 5] << 15) & 0x1FFFFFFF;
+        out[outPos + 6] = (in[inPos + 5] >>> 14 | in[inPos + 6] << 18) & 0x1FFFFFFF;
+        out[outPos + 7] = (in[inPos + 6] >>> 11 | in[inPos + 7] << 21) & 0x1FFFFFFF;
+        out[outPos + 8] = (in[inPos + 7] >>> 8 | in[inPos + 8] << 24) & 0x1FFFFFFF;
+        out[outPos + 9] = (in[inPos + 8] >>> 5 | in[inPos + 9] << 27) & 0x1FFFFFFF;
+        out[outPos + 10] = (in[inPos + 9] >>> 2) & 0x1FFFFFFF;
+        out[outPos + 11] = (in[inPos + 9] >>> 31 | in[inPos + 10] << 1) & 0x1FFFFFFF;
+        out[outPos + 12] = (in[inPos + 10] >>> 28 | in[inPos + 11] << 4) & 0x1FFFFFFF;
+        out[outPos + 13] = (in[inPos + 11] >>> 25 | in[inPos + 12] << 7) & 0x1FFFFFFF;
+        out[outPos + 14] = (in[inPos + 12] >>> 22 | in[inPos + 13] << 10) & 0x1FFFFFFF;
+        out[outPos + 15] = (in[inPos + 13] >>> 19 | in[inPos + 14] << 13) & 0x1FFFFFFF;
+        out[outPos + 16] = (in[inPos + 14] >>> 16 | in[inPos + 15] << 16) & 0x1FFFFFFF;
+        out[outPos + 17] = (in[inPos + 15] >>> 13 | in[inPos + 16] << 19) & 0x1FFFFFFF;
+        out[outPos + 18] = (in[inPos + 16] >>> 10 | in[inPos + 17] << 22) & 0x1FFFFFFF;
+        out[outPos + 19] = (in[inPos + 17] >>> 7 | in[inPos + 18] << 25) & 0x1FFFFFFF;
+        out[outPos + 20] = (in[inPos + 18] >>> 4 | in[inPos + 19] << 28) & 0x1FFFFFFF;
+        out[outPos + 21] = (in[inPos + 19] >>> 1) & 0x1FFFFFFF;
+        out[outPos + 22] = (in[inPos + 19] >>> 30 | in[inPos + 20] << 2) & 0x1FFFFFFF;
+        out[outPos + 23] = (in[inPos + 20] >>> 27 | in[inPos + 21] << 5) & 0x1FFFFFFF;
+        out[outPos + 24] = (in[inPos + 21] >>> 24 | in[inPos + 22] << 8) & 0x1FFFFFFF;
+        out[outPos + 25] = (in[inPos + 22] >>> 21 | in[inPos + 23] << 11) & 0x1FFFFFFF;
+        out[outPos + 26] = (in[inPos + 23] >>> 18 | in[inPos + 24] << 14) & 0x1FFFFFFF;
+        out[outPos + 27] = (in[inPos + 24] >>> 15 | in[inPos + 25] << 17) & 0x1FFFFFFF;
+        out[outPos + 28] = (in[inPos + 25] >>> 12 | in[inPos + 26] << 20) & 0x1FFFFFFF;
+        out[outPos + 29] = (in[inPos + 26] >>> 9 | in[inPos + 27] << 23) & 0x1FFFFFFF;
+        out[outPos + 30] = (in[inPos + 27] >>> 6 | in[inPos + 28] << 26) & 0x1FFFFFFF;
+        out[outPos + 31] = in[inPos + 28] >>> 3;
+    }
+
+    static void pack30(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x3FFFFFFF)
+                | (in[inPos + 1] & 0x3FFFFFFF) << 30;
+        out[outPos + 1] = (in[inPos + 1] & 0x3FFFFFFF) >>> 2
+                | (in[inPos + 2] & 0x3FFFFFFF) << 28;
+        out[outPos + 2] = (in[inPos + 2] & 0x3FFFFFFF) >>> 4
+                | (in[inPos + 3] & 0x3FFFFFFF) << 26;
+        out[outPos + 3] = (in[inPos + 3] & 0x3FFFFFFF) >>> 6
+                | (in[inPos + 4] & 0x3FFFFFFF) << 24;
+        out[outPos + 4] = (in[inPos + 4] & 0x3FFFFFFF) >>> 8
+                | (in[inPos + 5] & 0x3FFFFFFF) << 22;
+        out[outPos + 5] = (in[inPos + 5] & 0x3FFFFFFF) >>> 10
+                | (in[inPos + 6] & 0x3FFFFFFF) << 20;
+        out[outPos + 6] = (in[inPos + 6] & 0x3FFFFFFF) >>> 12
+                | (in[inPos + 7] & 0x3FFFFFFF) << 18;
+        out[outPos + 7] = (in[inPos + 7] & 0x3FFFFFFF) >>> 14
+                | (in[inPos + 8] & 0x3FFFFFFF) << 16;
+        out[outPos + 8] = (in[inPos + 8] & 0x3FFFFFFF) >>> 16
+                | (in[inPos + 9] & 0x3FFFFFFF) << 14;
+        out[outPos + 9] = (in[inPos + 9] & 0x3FFFFFFF) >>> 18
+                | (in[inPos + 10] & 0x3FFFFFFF) << 12;
+        out[outPos + 10] = (in[inPos + 10] & 0x3FFFFFFF) >>> 20
+                | (in[inPos + 11] & 0x3FFFFFFF) << 10;
+        out[outPos + 11] = (in[inPos + 11] & 0x3FFFFFFF) >>> 22
+                | (in[inPos + 12] & 0x3FFFFFFF) << 8;
+        out[outPos + 12] = (in[inPos + 12] & 0x3FFFFFFF) >>> 24
+                | (in[inPos + 13] & 0x3FFFFFFF) << 6;
+        out[outPos + 13] = (in[inPos + 13] & 0x3FFFFFFF) >>> 26
+                | (in[inPos + 14] & 0x3FFFFFFF) << 4;
+        out[outPos + 14] = (in[inPos + 14] & 0x3FFFFFFF) >>> 28
+                | (in[inPos + 15] & 0x3FFFFFFF) << 2;
+        out[outPos + 15] = (in[inPos + 16] & 0x3FFFFFFF)
+                | (in[inPos + 17] & 0x3FFFFFFF) << 30;
+        out[outPos + 16] = (in[inPos + 17] & 0x3FFFFFFF) >>> 2
+                | (in[inPos + 18] & 0x3FFFFFFF) << 28;
+        out[outPos + 17] = (in[inPos + 18] & 0x3FFFFFFF) >>> 4
+                | (in[inPos + 19] & 0x3FFFFFFF) << 26;
+        out[outPos + 18] = (in[inPos + 19] & 0x3FFFFFFF) >>> 6
+                | (in[inPos + 20] & 0x3FFFFFFF) << 24;
+        out[outPos + 19] = (in[inPos + 20] & 0x3FFFFFFF) >>> 8
+                | (in[inPos + 21] & 0x3FFFFFFF) << 22;
+        out[outPos + 20] = (in[inPos + 21] & 0x3FFFFFFF) >>> 10
+                | (in[inPos + 22] & 0x3FFFFFFF) << 20;
+        out[outPos + 21] = (in[inPos + 22] & 0x3FFFFFFF) >>> 12
+                | (in[inPos + 23] & 0x3FFFFFFF) << 18;
+        out[outPos + 22] = (in[inPos + 23] & 0x3FFFFFFF) >>> 14
+                | (in[inPos + 24] & 0x3FFFFFFF) << 16;
+        out[outPos + 23] = (in[inPos + 24] & 0x3FFFFFFF) >>> 16
+                | (in[inPos + 25] & 0x3FFFFFFF) << 14;
+        out[outPos + 24] = (in[inPos + 25] & 0x3FFFFFFF) >>> 18
+                | (in[inPos + 26] & 0x3FFFFFFF) << 12;
+        out[outPos + 25] = (in[inPos + 26] & 0x3FFFFFFF) >>> 20
+                | (in[inPos + 27] & 0x3FFFFFFF) << 10;
+        out[outPos + 26] = (in[inPos + 27] & 0x3FFFFFFF) >>> 22
+                | (in[inPos + 28] & 0x3FFFFFFF) << 8;
+        out[outPos + 27] = (in[inPos + 28] & 0x3FFFFFFF) >>> 24
+                | (in[inPos + 29] & 0x3FFFFFFF) << 6;
+        out[outPos + 28] = (in[inPos + 29] & 0x3FFFFFFF) >>> 26
+                | (in[inPos + 30] & 0x3FFFFFFF) << 4;
+        out[outPos + 29] = (in[inPos + 30] & 0x3FFFFFFF) >>> 28
+                | (in[inPos + 31] & 0x3FFFFFFF) << 2;
+    }
+
+    static void unpack30(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x3FFFFFFF;
+        out[outPos + 1] = (in[inPos] >>> 30 | in[inPos + 1] << 2) & 0x3FFFFFFF;
+        out[outPos + 2] = (in[inPos + 1] >>> 28 | in[inPos + 2] << 4) & 0x3FFFFFFF;
+        out[outPos + 3] = (in[inPos + 2] >>> 26 | in[inPos + 3] << 6) & 0x3FFFFFFF;
+        out[outPos + 4] = (in[inPos + 3] >>> 24 | in[inPos + 4] << 8) & 0x3FFFFFFF;
+        out[outPos + 5] = (in[inPos + 4] >>> 22 | in[inPos + 5] << 10) & 0x3FFFFFFF;
+        out[outPos + 6] = (in[inPos + 5] >>> 20 | in[inPos + 6] << 12) & 0x3FFFFFFF;
+        out[outPos + 7] = (in[inPos + 6] >>> 18 | in[inPos + 7] << 14) & 0x3FFFFFFF;
+        out[outPos + 8] = (in[inPos + 7] >>> 16 | in[inPos + 8] << 16) & 0x3FFFFFFF;
+        out[outPos + 9] = (in[inPos + 8] >>> 14 | in[inPos + 9] << 18) & 0x3FFFFFFF;
+        out[outPos + 10] = (in[inPos + 9] >>> 12 | in[inPos + 10] << 20) & 0x3FFFFFFF;
+        out[outPos + 11] = (in[inPos + 10] >>> 10 | in[inPos + 11] << 22) & 0x3FFFFFFF;
+        out[outPos + 12] = (in[inPos + 11] >>> 8 | in[inPos + 12] << 24) & 0x3FFFFFFF;
+        out[outPos + 13] = (in[inPos + 12] >>> 6 | in[inPos + 13] << 26) & 0x3FFFFFFF;
+        out[outPos + 14] = (in[inPos + 13] >>> 4 | in[inPos + 14] << 28) & 0x3FFFFFFF;
+        out[outPos + 15] = in[inPos + 14] >>> 2;
+        out[outPos + 16] = in[inPos + 15] & 0x3FFFFFFF;
+        out[outPos + 17] = (in[inPos + 15] >>> 30 | in[inPos + 16] << 2) & 0x3FFFFFFF;
+        out[outPos + 18] = (in[inPos + 16] >>> 28 | in[inPos + 17] << 4) & 0x3FFFFFFF;
+        out[outPos + 19] = (in[inPos + 17] >>> 26 | in[inPos + 18] << 6) & 0x3FFFFFFF;
+        out[outPos + 20] = (in[inPos + 18] >>> 24 | in[inPos + 19] << 8) & 0x3FFFFFFF;
+        out[outPos + 21] = (in[inPos + 19] >>> 22 | in[inPos + 20] << 10) & 0x3FFFFFFF;
+        out[outPos + 22] = (in[inPos + 20] >>> 20 | in[inPos + 21] << 12) & 0x3FFFFFFF;
+        out[outPos + 23] = (in[inPos + 21] >>> 18 | in[inPos + 22] << 14) & 0x3FFFFFFF;
+        out[outPos + 24] = (in[inPos + 22] >>> 16 | in[inPos + 23] << 16) & 0x3FFFFFFF;
+        out[outPos + 25] = (in[inPos + 23] >>> 14 | in[inPos + 24] << 18) & 0x3FFFFFFF;
+        out[outPos + 26] = (in[inPos + 24] >>> 12 | in[inPos + 25] << 20) & 0x3FFFFFFF;
+        out[outPos + 27] = (in[inPos + 25] >>> 10 | in[inPos + 26] << 22) & 0x3FFFFFFF;
+        out[outPos + 28] = (in[inPos + 26] >>> 8 | in[inPos + 27] << 24) & 0x3FFFFFFF;
+        out[outPos + 29] = (in[inPos + 27] >>> 6 | in[inPos + 28] << 26) & 0x3FFFFFFF;
+        out[outPos + 30] = (in[inPos + 28] >>> 4 | in[inPos + 29] << 28) & 0x3FFFFFFF;
+        out[outPos + 31] = in[inPos + 29] >>> 2;
+    }
+
+    static void pack31(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = (in[inPos] & 0x7FFFFFFF)
+                | (in[inPos + 1] & 0x7FFFFFFF) << 31;
+        out[outPos + 1] = (in[inPos + 1] & 0x7FFFFFFF) >>> 1
+                | (in[inPos + 2] & 0x7FFFFFFF) << 30;
+        out[outPos + 2] = (in[inPos + 2] & 0x7FFFFFFF) >>> 2
+                | (in[inPos + 3] & 0x7FFFFFFF) << 29;
+        out[outPos + 3] = (in[inPos + 3] & 0x7FFFFFFF) >>> 3
+                | (in[inPos + 4] & 0x7FFFFFFF) << 28;
+        out[outPos + 4] = (in[inPos + 4] & 0x7FFFFFFF) >>> 4
+                | (in[inPos + 5] & 0x7FFFFFFF) << 27;
+        out[outPos + 5] = (in[inPos + 5] & 0x7FFFFFFF) >>> 5
+                | (in[inPos + 6] & 0x7FFFFFFF) << 26;
+        out[outPos + 6] = (in[inPos + 6] & 0x7FFFFFFF) >>> 6
+                | (in[inPos + 7] & 0x7FFFFFFF) << 25;
+        out[outPos + 7] = (in[inPos + 7] & 0x7FFFFFFF) >>> 7
+                | (in[inPos + 8] & 0x7FFFFFFF) << 24;
+        out[outPos + 8] = (in[inPos + 8] & 0x7FFFFFFF) >>> 8
+                | (in[inPos + 9] & 0x7FFFFFFF) << 23;
+        out[outPos + 9] = (in[inPos + 9] & 0x7FFFFFFF) >>> 9
+                | (in[inPos + 10] & 0x7FFFFFFF) << 22;
+        out[outPos + 10] = (in[inPos + 10] & 0x7FFFFFFF) >>> 10
+                | (in[inPos + 11] & 0x7FFFFFFF) << 21;
+        out[outPos + 11] = (in[inPos + 11] & 0x7FFFFFFF) >>> 11
+                | (in[inPos + 12] & 0x7FFFFFFF) << 20;
+        out[outPos + 12] = (in[inPos + 12] & 0x7FFFFFFF) >>> 12
+                | (in[inPos + 13] & 0x7FFFFFFF) << 19;
+        out[outPos + 13] = (in[inPos + 13] & 0x7FFFFFFF) >>> 13
+                | (in[inPos + 14] & 0x7FFFFFFF) << 18;
+        out[outPos + 14] = (in[inPos + 14] & 0x7FFFFFFF) >>> 14
+                | (in[inPos + 15] & 0x7FFFFFFF) << 17;
+        out[outPos + 15] = (in[inPos + 15] & 0x7FFFFFFF) >>> 15
+                | (in[inPos + 16] & 0x7FFFFFFF) << 16;
+        out[outPos + 16] = (in[inPos + 16] & 0x7FFFFFFF) >>> 16
+                | (in[inPos + 17] & 0x7FFFFFFF) << 15;
+        out[outPos + 17] = (in[inPos + 17] & 0x7FFFFFFF) >>> 17
+                | (in[inPos + 18] & 0x7FFFFFFF) << 14;
+        out[outPos + 18] = (in[inPos + 18] & 0x7FFFFFFF) >>> 18
+                | (in[inPos + 19] & 0x7FFFFFFF) << 13;
+        out[outPos + 19] = (in[inPos + 19] & 0x7FFFFFFF) >>> 19
+                | (in[inPos + 20] & 0x7FFFFFFF) << 12;
+        out[outPos + 20] = (in[inPos + 20] & 0x7FFFFFFF) >>> 20
+                | (in[inPos + 21] & 0x7FFFFFFF) << 11;
+        out[outPos + 21] = (in[inPos + 21] & 0x7FFFFFFF) >>> 21
+                | (in[inPos + 22] & 0x7FFFFFFF) << 10;
+        out[outPos + 22] = (in[inPos + 22] & 0x7FFFFFFF) >>> 22
+                | (in[inPos + 23] & 0x7FFFFFFF) << 9;
+        out[outPos + 23] = (in[inPos + 23] & 0x7FFFFFFF) >>> 23
+                | (in[inPos + 24] & 0x7FFFFFFF) << 8;
+        out[outPos + 24] = (in[inPos + 24] & 0x7FFFFFFF) >>> 24
+                | (in[inPos + 25] & 0x7FFFFFFF) << 7;
+        out[outPos + 25] = (in[inPos + 25] & 0x7FFFFFFF) >>> 25
+                | (in[inPos + 26] & 0x7FFFFFFF) << 6;
+        out[outPos + 26] = (in[inPos + 26] & 0x7FFFFFFF) >>> 26
+                | (in[inPos + 27] & 0x7FFFFFFF) << 5;
+        out[outPos + 27] = (in[inPos + 27] & 0x7FFFFFFF) >>> 27
+                | (in[inPos + 28] & 0x7FFFFFFF) << 4;
+        out[outPos + 28] = (in[inPos + 28] & 0x7FFFFFFF) >>> 28
+                | (in[inPos + 29] & 0x7FFFFFFF) << 3;
+        out[outPos + 29] = (in[inPos + 29] & 0x7FFFFFFF) >>> 29
+                | (in[inPos + 30] & 0x7FFFFFFF) << 2;
+        out[outPos + 30] = (in[inPos + 30] & 0x7FFFFFFF) >>> 30
+                | (in[inPos + 31] & 0x7FFFFFFF) << 1;
+    }
+
+    static void unpack31(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos] & 0x7FFFFFFF;
+        out[outPos + 1] = (in[inPos] >>> 31 | in[inPos + 1] << 1) & 0x7FFFFFFF;
+        out[outPos + 2] = (in[inPos + 1] >>> 30 | in[inPos + 2] << 2) & 0x7FFFFFFF;
+        out[outPos + 3] = (in[inPos + 2] >>> 29 | in[inPos + 3] << 3) & 0x7FFFFFFF;
+        out[outPos + 4] = (in[inPos + 3] >>> 28 | in[inPos + 4] << 4) & 0x7FFFFFFF;
+        out[outPos + 5] = (in[inPos + 4] >>> 27 | in[inPos + 5] << 5) & 0x7FFFFFFF;
+        out[outPos + 6] = (in[inPos + 5] >>> 26 | in[inPos + 6] << 6) & 0x7FFFFFFF;
+        out[outPos + 7] = (in[inPos + 6] >>> 25 | in[inPos + 7] << 7) & 0x7FFFFFFF;
+        out[outPos + 8] = (in[inPos + 7] >>> 24 | in[inPos + 8] << 8) & 0x7FFFFFFF;
+        out[outPos + 9] = (in[inPos + 8] >>> 23 | in[inPos + 9] << 9) & 0x7FFFFFFF;
+        out[outPos + 10] = (in[inPos + 9] >>> 22 | in[inPos + 10] << 10) & 0x7FFFFFFF;
+        out[outPos + 11] = (in[inPos + 10] >>> 21 | in[inPos + 11] << 11) & 0x7FFFFFFF;
+        out[outPos + 12] = (in[inPos + 11] >>> 20 | in[inPos + 12] << 12) & 0x7FFFFFFF;
+        out[outPos + 13] = (in[inPos + 12] >>> 19 | in[inPos + 13] << 13) & 0x7FFFFFFF;
+        out[outPos + 14] = (in[inPos + 13] >>> 18 | in[inPos + 14] << 14) & 0x7FFFFFFF;
+        out[outPos + 15] = (in[inPos + 14] >>> 17 | in[inPos + 15] << 15) & 0x7FFFFFFF;
+        out[outPos + 16] = (in[inPos + 15] >>> 16 | in[inPos + 16] << 16) & 0x7FFFFFFF;
+        out[outPos + 17] = (in[inPos + 16] >>> 15 | in[inPos + 17] << 17) & 0x7FFFFFFF;
+        out[outPos + 18] = (in[inPos + 17] >>> 14 | in[inPos + 18] << 18) & 0x7FFFFFFF;
+        out[outPos + 19] = (in[inPos + 18] >>> 13 | in[inPos + 19] << 19) & 0x7FFFFFFF;
+        out[outPos + 20] = (in[inPos + 19] >>> 12 | in[inPos + 20] << 20) & 0x7FFFFFFF;
+        out[outPos + 21] = (in[inPos + 20] >>> 11 | in[inPos + 21] << 21) & 0x7FFFFFFF;
+        out[outPos + 22] = (in[inPos + 21] >>> 10 | in[inPos + 22] << 22) & 0x7FFFFFFF;
+        out[outPos + 23] = (in[inPos + 22] >>> 9 | in[inPos + 23] << 23) & 0x7FFFFFFF;
+        out[outPos + 24] = (in[inPos + 23] >>> 8 | in[inPos + 24] << 24) & 0x7FFFFFFF;
+        out[outPos + 25] = (in[inPos + 24] >>> 7 | in[inPos + 25] << 25) & 0x7FFFFFFF;
+        out[outPos + 26] = (in[inPos + 25] >>> 6 | in[inPos + 26] << 26) & 0x7FFFFFFF;
+        out[outPos + 27] = (in[inPos + 26] >>> 5 | in[inPos + 27] << 27) & 0x7FFFFFFF;
+        out[outPos + 28] = (in[inPos + 27] >>> 4 | in[inPos + 28] << 28) & 0x7FFFFFFF;
+        out[outPos + 29] = (in[inPos + 28] >>> 3 | in[inPos + 29] << 29) & 0x7FFFFFFF;
+        out[outPos + 30] = (in[inPos + 29] >>> 2 | in[inPos + 30] << 30) & 0x7FFFFFFF;
+        out[outPos + 31] = in[inPos + 30] >>> 1;
+    }
+
+    static void pack32(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos];
+        out[outPos + 1] = in[inPos + 1];
+        out[outPos + 2] = in[inPos + 2];
+        out[outPos + 3] = in[inPos + 3];
+        out[outPos + 4] = in[inPos + 4];
+        out[outPos + 5] = in[inPos + 5];
+        out[outPos + 6] = in[inPos + 6];
+        out[outPos + 7] = in[inPos + 7];
+        out[outPos + 8] = in[inPos + 8];
+        out[outPos + 9] = in[inPos + 9];
+        out[outPos + 10] = in[inPos + 10];
+        out[outPos + 11] = in[inPos + 11];
+        out[outPos + 12] = in[inPos + 12];
+        out[outPos + 13] = in[inPos + 13];
+        out[outPos + 14] = in[inPos + 14];
+        out[outPos + 15] = in[inPos + 15];
+        out[outPos + 16] = in[inPos + 16];
+        out[outPos + 17] = in[inPos + 17];
+        out[outPos + 18] = in[inPos + 18];
+        out[outPos + 19] = in[inPos + 19];
+        out[outPos + 20] = in[inPos + 20];
+        out[outPos + 21] = in[inPos + 21];
+        out[outPos + 22] = in[inPos + 22];
+        out[outPos + 23] = in[inPos + 23];
+        out[outPos + 24] = in[inPos + 24];
+        out[outPos + 25] = in[inPos + 25];
+        out[outPos + 26] = in[inPos + 26];
+        out[outPos + 27] = in[inPos + 27];
+        out[outPos + 28] = in[inPos + 28];
+        out[outPos + 29] = in[inPos + 29];
+        out[outPos + 30] = in[inPos + 30];
+        out[outPos + 31] = in[inPos + 31];
+    }
+
+    static void unpack32(int[] in, int inPos, int[] out, int outPos) {
+        out[outPos] = in[inPos];
+        out[outPos + 1] = in[inPos + 1];
+        out[outPos + 2] = in[inPos + 2];
+        out[outPos + 3] = in[inPos + 3];
+        out[outPos + 4] = in[inPos + 4];
+        out[outPos + 5] = in[inPos + 5];
+        out[outPos + 6] = in[inPos + 6];
+        out[outPos + 7] = in[inPos + 7];
+        out[outPos + 8] = in[inPos + 8];
+        out[outPos + 9] = in[inPos + 9];
+        out[outPos + 10] = in[inPos + 10];
+        out[outPos + 11] = in[inPos + 11];
+        out[outPos + 12] = in[inPos + 12];
+        out[outPos + 13] = in[inPos + 13];
+        out[outPos + 14] = in[inPos + 14];
+        out[outPos + 15] = in[inPos + 15];
+        out[outPos + 16] = in[inPos + 16];
+        out[outPos + 17] = in[inPos + 17];
+        out[outPos + 18] = in[inPos + 18];
+        out[outPos + 19] = in[inPos + 19];
+        out[outPos + 20] = in[inPos + 20];
+        out[outPos + 21] = in[inPos + 21];
+        out[outPos + 22] = in[inPos + 22];
+        out[outPos + 23] = in[inPos + 23];
+        out[outPos + 24] = in[inPos + 24];
+        out[outPos + 25] = in[inPos + 25];
+        out[outPos + 26] = in[inPos + 26];
+        out[outPos + 27] = in[inPos + 27];
+        out[outPos + 28] = in[inPos + 28];
+        out[outPos + 29] = in[inPos + 29];
+        out[outPos + 30] = in[inPos + 30];
+        out[outPos + 31] = in[inPos + 31];
+    }
+}
@@ -0,0 +1,347 @@
+package compression;
+
+import storage.WordStorage;
+
+// Codage différentiel avant bit packing, pour les suites triées ou régulières.
+//
+// Ordre 1 (delta) : on stocke les écarts entre valeurs consécutives.
+// Ordre 2 (delta of delta) : on stocke les écarts entre écarts consécutifs
+// (timestamps à pas quasi constant : les doubles écarts sont proches de 0).
+//
+// Le tableau est découpé en blocs de 128 valeurs. Chaque bloc stocke sa première
+// valeur (et son premier écart à l'ordre 2) : le décodage repart de cette base,
+// get(i) ne parcourt donc qu'un seul bloc. Comme pour FrameOfReferenceBitPacking,
+// on soustrait le minimum des écarts du bloc avant la compression, ce qui gère les
+// écarts négatifs sans bit de signe. Les calculs se font modulo 2^32.
+//
+// Format (en-tête et répertoire identiques à BlockBitPacking) :
+//   [0..1]              taille totale sur 64 bits
+//   [2]                 log2 de la taille de bloc
+//   [3 .. 3+nbBlocs-1]  position de chaque bloc
+//   bloc ordre 1 :      [première valeur][écart min][bits][écarts compressés]
+//   bloc ordre 2 :      [première valeur][premier écart][double écart min][bits][doubles écarts compressés]
+// Les slots des positions sans écart (0, et 1 à l'ordre 2) valent 0, ce qui garde
+// les groupes de 32 alignés pour les noyaux déroulés.
+public class DeltaBitPacking implements BitPacking, ScanOperators {
+
+    static final int BLOCK_SIZE = 128;
+    private static final int BLOCK_SHIFT = 7;
+
+    // Tampon d'un bloc réutilisé (un par thread) ; les deux dernières cases reçoivent
+    // l'écart minimum et le premier écart du bloc encodé
+    private static final ThreadLocal<int[]> SCRATCH = ThreadLocal.withInitial(() -> new int[BLOCK_SIZE + 2]);
+    private static final int SCRATCH_MIN = BLOCK_SIZE;
+    private static final int SCRATCH_FIRST_DELTA = BLOCK_SIZE + 1;
+
+    private final int order;
+    private final int blockHeader;
+
+    public DeltaBitPacking(int order) {
+        if (order != 1 && order != 2) {
+            throw new IllegalArgumentException("Ordre de différence non supporté : " + order);
+        }
+        this.order = order;
+        this.blockHeader = order + 2;
+    }
+
+    public int getOrder() {
+        return order;
+    }
+
+    @Override
+    public int[] compress(int[] array) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null ou vide");
+        }
+
+        int[] compressed = new int[compressedSize(array, 0, array.length)];
+        pack(array, 0, array.length, compressed, 0);
+        return compressed;
+    }
+
+    @Override
+    public int compressInto(int[] array, int offset, int length, int[] dest, int destOffset) {
+        if (array == null || length <= 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+
+        int words = compressedSize(array, offset, length);
+        if (dest == null || destOffset < 0 || dest.length - destOffset < words) {
+            throw new IllegalArgumentException("Tableau de destination trop petit");
+        }
+
+        pack(array, offset, length, dest, destOffset);
+        return words;
+    }
+
+    @Override
+    public int maxCompressedSize(int n) {
+        int blockCount = (n + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        return BlockBitPacking.HEADER_SIZE + blockCount * (1 + blockHeader) + n;
+    }
+
+    private int compressedSize(int[] array, int from, int length) {
+        int[] scratch = SCRATCH.get();
+        int blockCount = (length + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        long words = BlockBitPacking.HEADER_SIZE + (long) blockCount * (1 + blockHeader);
+
+        for (int start = 0; start < length; start += BLOCK_SIZE) {
+            int len = Math.min(BLOCK_SIZE, length - start);
+            int bits = encodeBlock(array, from + start, len, scratch);
+            words += ((long) len * bits + 31) / 32;
+        }
+
+        if (words > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tableau compressé trop grand");
+        }
+        return (int) words;
+    }
+
+    // Calcule les slots du bloc dans scratch et retourne leur largeur
+    private int encodeBlock(int[] array, int start, int len, int[] scratch) {
+        // Écarts (ordre 1) puis écarts d'écarts (ordre 2), calculés de la fin vers le début
+        for (int k = len - 1; k >= 1; k--) {
+            scratch[k] = array[start + k] - array[start + k - 1];
+        }
+        if (order == 2) {
+            for (int k = len - 1; k >= 2; k--) {
+                scratch[k] = scratch[k] - scratch[k - 1];
+            }
+        }
+
+        int min = 0;
+        if (len > order) {
+            min = scratch[order];
+            for (int k = order + 1; k < len; k++) {
+                min = Math.min(min, scratch[k]);
+            }
+        }
+        scratch[SCRATCH_MIN] = min;
+        scratch[SCRATCH_FIRST_DELTA] = len > 1 ? array[start + 1] - array[start] : 0;
+
+        int or = 0;
+        for (int k = 0; k < order && k < len; k++) {
+            scratch[k] = 0;
+        }
+        for (int k = order; k < len; k++) {
+            scratch[k] -= min;
+            or |= scratch[k];
+        }
+        return Integer.SIZE - Integer.numberOfLeadingZeros(or);
+    }
+
+    private void pack(int[] array, int from, int length, int[] dest, int base) {
+        int blockCount = (length + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        dest[base] = length;
+        dest[base + 1] = 0;
+        dest[base + 2] = BLOCK_SHIFT;
+
+        int[] scratch = SCRATCH.get();
+        int position = BlockBitPacking.HEADER_SIZE + blockCount;
+
+        for (int b = 0; b < blockCount; b++) {
+            int start = from + (b << BLOCK_SHIFT);
+            int len = Math.min(BLOCK_SIZE, length - (b << BLOCK_SHIFT));
+            int bits = encodeBlock(array, start, len, scratch);
+
+            int p = base + position;
+            dest[base + BlockBitPacking.HEADER_SIZE + b] = position;
+            dest[p++] = array[start];
+            if (order == 2) {
+                dest[p++] = scratch[SCRATCH_FIRST_DELTA];
+            }
+            dest[p++] = scratch[SCRATCH_MIN];
+            dest[p++] = bits;
+            if (bits > 0) {
+                ConsecutiveBitPacking.packWords(scratch, 0, len, bits, dest, p);
+            }
+            position += blockHeader + (int) (((long) len * bits + 31) / 32);
+        }
+    }
+
+    @Override
+    public int[] decompress(int[] compressedArray, int[] outputArray) {
+        decompressInto(compressedArray, 0, outputArray, 0);
+        return outputArray;
+    }
+
+    @Override
+    public int decompressInto(int[] compressedArray, int offset, int[] outputArray, int outputOffset) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        return decodeRange(compressedArray, offset, 0, (int) size, outputArray, outputOffset);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int i) {
+        return get(compressedArray, 0, i);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int offset, int i) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+        }
+
+        // Somme préfixe depuis la base du bloc : seul le début du bloc (jusqu'à i) est décodé,
+        // avec les noyaux déroulés, dans le tampon du thread
+        int position = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + (i >>> BLOCK_SHIFT)];
+        int local = i & (BLOCK_SIZE - 1);
+        int[] scratch = SCRATCH.get();
+        decodeBlock(compressedArray, position, local + 1, scratch, 0);
+        return scratch[local];
+    }
+
+    @Override
+    public int get(WordStorage storage, long offset, int i) {
+        long size = StorageAccess.readSize(storage, offset);
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+        }
+
+        // Seuls l'en-tête du bloc et les mots jusqu'à la valeur i sont chargés
+        long position = offset + storage.getWord(offset + BlockBitPacking.HEADER_SIZE + (i >>> BLOCK_SHIFT));
+        int local = i & (BLOCK_SIZE - 1);
+        int bits = storage.getWord(position + blockHeader - 1);
+        int[] window = StorageAccess.load(storage, position, blockHeader + (int) (((long) (local + 1) * bits + 31) / 32));
+
+        int[] scratch = SCRATCH.get();
+        decodeBlock(window, 0, local + 1, scratch, 0);
+        return scratch[local];
+    }
+
+    @Override
+    public int decompressInto(WordStorage storage, long offset, int[] outputArray, int outputOffset) {
+        long size = StorageAccess.readSize(storage, offset);
+        if (size > Integer.MAX_VALUE || outputArray == null || outputArray.length - outputOffset < size) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        int blockCount = (int) ((size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT);
+        for (int b = 0; b < blockCount; b++) {
+            long position = offset + storage.getWord(offset + BlockBitPacking.HEADER_SIZE + b);
+            int length = (int) Math.min(BLOCK_SIZE, size - ((long) b << BLOCK_SHIFT));
+            int bits = storage.getWord(position + blockHeader - 1);
+            int[] window = StorageAccess.load(storage, position, blockHeader + (int) (((long) length * bits + 31) / 32));
+            decodeBlock(window, 0, length, outputArray, outputOffset + (b << BLOCK_SHIFT));
+        }
+
+        return (int) size;
+    }
+
+    @Override
+    public int decodeRange(int[] compressedArray, int offset, int from, int to, int[] out, int outOffset) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out == null || out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        int[] scratch = SCRATCH.get();
+        int i = from;
+        int target = outOffset;
+        while (i < to) {
+            int block = i >>> BLOCK_SHIFT;
+            int blockStart = block << BLOCK_SHIFT;
+            int localFrom = i - blockStart;
+            int localTo = (int) Math.min(to - blockStart, Math.min(BLOCK_SIZE, size - blockStart));
+            int count = localTo - localFrom;
+
+            // Bloc décodé jusqu'à localTo : directement dans la sortie s'il commence la plage,
+            // sinon dans le tampon puis copié
+            int position = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + block];
+            if (localFrom == 0) {
+                decodeBlock(compressedArray, position, localTo, out, target);
+            } else {
+                decodeBlock(compressedArray, position, localTo, scratch, 0);
+                System.arraycopy(scratch, localFrom, out, target, count);
+            }
+
+            i += count;
+            target += count;
+        }
+
+        return to - from;
+    }
+
+    // Scans : une valeur dépend de toutes les précédentes du bloc (somme préfixe), elles
+    // sont donc décodées par morceaux (noyaux puis somme préfixe) avant comparaison
+    @Override
+    public long size(int[] compressedArray, int offset) {
+        return BlockBitPacking.readSize(compressedArray, offset);
+    }
+
+    @Override
+    public long count(int[] compressedArray, int offset, int lo, int hi) {
+        return PackedScan.countDecoded(this, compressedArray, offset, scanSize(compressedArray, offset), lo, hi);
+    }
+
+    @Override
+    public long filter(int[] compressedArray, int offset, int lo, int hi, long[] bitmap, long bitBase) {
+        return PackedScan.filterDecoded(this, compressedArray, offset, scanSize(compressedArray, offset), lo, hi, bitmap, bitBase);
+    }
+
+    @Override
+    public long sum(int[] compressedArray, int offset) {
+        return PackedScan.sumDecoded(this, compressedArray, offset, scanSize(compressedArray, offset));
+    }
+
+    @Override
+    public int min(int[] compressedArray, int offset) {
+        return PackedScan.minDecoded(this, compressedArray, offset, scanSize(compressedArray, offset));
+    }
+
+    @Override
+    public int max(int[] compressedArray, int offset) {
+        return PackedScan.maxDecoded(this, compressedArray, offset, scanSize(compressedArray, offset));
+    }
+
+    private static int scanSize(int[] compressedArray, int offset) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tableau compressé trop grand");
+        }
+        return (int) size;
+    }
+
+    // Décode les count premières valeurs d'un bloc : slots puis somme préfixe sur place
+    private void decodeBlock(int[] compressedArray, int position, int count, int[] out, int outPos) {
+        int data = position + blockHeader;
+        int bits = compressedArray[data - 1];
+        int min = compressedArray[data - 2];
+
+        if (bits == 0) {
+            for (int k = 0; k < count; k++) {
+                out[outPos + k] = 0;
+            }
+        } else {
+            ConsecutiveBitPacking.unpackWords(compressedArray, data, count, bits, out, outPos);
+        }
+
+        int value = compressedArray[position];
+        out[outPos] = value;
+        if (order == 1) {
+            for (int k = 1; k < count; k++) {
+                value += out[outPos + k] + min;
+                out[outPos + k] = value;
+            }
+            return;
+        }
+
+        if (count > 1) {
+            int delta = compressedArray[position + 1];
+            value += delta;
+            out[outPos + 1] = value;
+            for (int k = 2; k < count; k++) {
+                delta += out[outPos + k] + min;
+                value += delta;
+                out[outPos + k] = value;
+            }
+        }
+    }
+}
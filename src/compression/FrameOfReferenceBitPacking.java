@@ -0,0 +1,354 @@
+package compression;
+
+import storage.WordStorage;
+
+// Frame of reference : chaque bloc de 128 valeurs stocke son minimum et les écarts
+// (valeur - minimum) compressés de façon consécutive sur la largeur propre au bloc.
+// La largeur dépend de l'amplitude du bloc et non de la valeur absolue maximale :
+// des valeurs grandes mais proches (identifiants, timestamps) se compressent bien.
+// Les calculs se font modulo 2^32, les valeurs négatives sont donc acceptées.
+//
+// Format (en-tête et répertoire identiques à BlockBitPacking) :
+//   [0..1]              taille totale sur 64 bits
+//   [2]                 log2 de la taille de bloc
+//   [3 .. 3+nbBlocs-1]  position de chaque bloc
+//   bloc :              [minimum][bits][écarts compressés] (aucun mot si bits = 0)
+public class FrameOfReferenceBitPacking implements BitPacking, ScanOperators {
+
+    static final int BLOCK_SIZE = 128;
+    private static final int BLOCK_SHIFT = 7;
+    private static final int BLOCK_HEADER = 2;
+
+    // Tampon d'un bloc réutilisé (un par thread) : compressInto n'alloue rien
+    private static final ThreadLocal<int[]> SCRATCH = ThreadLocal.withInitial(() -> new int[BLOCK_SIZE]);
+
+    @Override
+    public int[] compress(int[] array) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null ou vide");
+        }
+
+        int[] compressed = new int[compressedSize(array, 0, array.length)];
+        pack(array, 0, array.length, compressed, 0);
+        return compressed;
+    }
+
+    @Override
+    public int compressInto(int[] array, int offset, int length, int[] dest, int destOffset) {
+        if (array == null || length <= 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+
+        int words = compressedSize(array, offset, length);
+        if (dest == null || destOffset < 0 || dest.length - destOffset < words) {
+            throw new IllegalArgumentException("Tableau de destination trop petit");
+        }
+
+        pack(array, offset, length, dest, destOffset);
+        return words;
+    }
+
+    @Override
+    public int maxCompressedSize(int n) {
+        int blockCount = (n + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        return BlockBitPacking.HEADER_SIZE + blockCount * (1 + BLOCK_HEADER) + n;
+    }
+
+    // Première passe : taille exacte (minimum et largeur de chaque bloc)
+    private int compressedSize(int[] array, int from, int length) {
+        int blockCount = (length + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        long words = BlockBitPacking.HEADER_SIZE + (long) blockCount * (1 + BLOCK_HEADER);
+
+        for (int start = 0; start < length; start += BLOCK_SIZE) {
+            int len = Math.min(BLOCK_SIZE, length - start);
+            int min = min(array, from + start, len);
+            int bits = blockBits(array, from + start, len, min);
+            words += ((long) len * bits + 31) / 32;
+        }
+
+        if (words > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tableau compressé trop grand");
+        }
+        return (int) words;
+    }
+
+    private void pack(int[] array, int from, int length, int[] dest, int base) {
+        int blockCount = (length + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        dest[base] = length;
+        dest[base + 1] = 0;
+        dest[base + 2] = BLOCK_SHIFT;
+
+        int[] scratch = SCRATCH.get();
+        int position = BlockBitPacking.HEADER_SIZE + blockCount;
+
+        for (int b = 0; b < blockCount; b++) {
+            int start = from + (b << BLOCK_SHIFT);
+            int len = Math.min(BLOCK_SIZE, length - (b << BLOCK_SHIFT));
+
+            int min = min(array, start, len);
+            int bits = blockBits(array, start, len, min);
+            for (int k = 0; k < len; k++) {
+                scratch[k] = array[start + k] - min;
+            }
+
+            dest[base + BlockBitPacking.HEADER_SIZE + b] = position;
+            dest[base + position] = min;
+            dest[base + position + 1] = bits;
+            if (bits > 0) {
+                ConsecutiveBitPacking.packWords(scratch, 0, len, bits, dest, base + position + BLOCK_HEADER);
+            }
+            position += BLOCK_HEADER + (int) (((long) len * bits + 31) / 32);
+        }
+    }
+
+    private static int min(int[] array, int from, int length) {
+        int min = array[from];
+        for (int i = from + 1; i < from + length; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    // Largeur des écarts au minimum (0 si le bloc est constant)
+    private static int blockBits(int[] array, int from, int length, int min) {
+        int or = 0;
+        for (int i = from; i < from + length; i++) {
+            or |= array[i] - min;
+        }
+        return Integer.SIZE - Integer.numberOfLeadingZeros(or);
+    }
+
+    @Override
+    public int[] decompress(int[] compressedArray, int[] outputArray) {
+        decompressInto(compressedArray, 0, outputArray, 0);
+        return outputArray;
+    }
+
+    @Override
+    public int decompressInto(int[] compressedArray, int offset, int[] outputArray, int outputOffset) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        return decodeRange(compressedArray, offset, 0, (int) size, outputArray, outputOffset);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int i) {
+        return get(compressedArray, 0, i);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int offset, int i) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+        }
+
+        // Le minimum du bloc sert de base : un seul accès au répertoire puis une extraction
+        int position = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + (i >>> BLOCK_SHIFT)];
+        int min = compressedArray[position];
+        int bits = compressedArray[position + 1];
+        if (bits == 0) {
+            return min;
+        }
+        return min + ConsecutiveBitPacking.extract(compressedArray, position + BLOCK_HEADER, (long) (i & (BLOCK_SIZE - 1)) * bits, bits);
+    }
+
+    @Override
+    public int decodeRange(int[] compressedArray, int offset, int from, int to, int[] out, int outOffset) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out == null || out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        int i = from;
+        int target = outOffset;
+        while (i < to) {
+            int block = i >>> BLOCK_SHIFT;
+            int blockStart = block << BLOCK_SHIFT;
+            int blockLength = (int) Math.min(BLOCK_SIZE, size - blockStart);
+            int localFrom = i - blockStart;
+            int localTo = Math.min(to - blockStart, blockLength);
+            int count = localTo - localFrom;
+
+            int position = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + block];
+            decodeBlock(compressedArray, position, localFrom, count, out, target);
+
+            i += count;
+            target += count;
+        }
+
+        return to - from;
+    }
+
+    // Décode count valeurs d'un bloc à partir de l'indice localFrom (relatif au bloc)
+    private static void decodeBlock(int[] compressedArray, int position, int localFrom, int count, int[] out, int target) {
+        int min = compressedArray[position];
+        int bits = compressedArray[position + 1];
+
+        if (bits == 0) {
+            for (int k = 0; k < count; k++) {
+                out[target + k] = min;
+            }
+            return;
+        }
+
+        if (localFrom == 0) {
+            // Début de bloc : noyaux déroulés
+            ConsecutiveBitPacking.unpackWords(compressedArray, position + BLOCK_HEADER, count, bits, out, target);
+        } else {
+            for (int k = 0; k < count; k++) {
+                out[target + k] = ConsecutiveBitPacking.extract(compressedArray, position + BLOCK_HEADER, (long) (localFrom + k) * bits, bits);
+            }
+        }
+        for (int k = 0; k < count; k++) {
+            out[target + k] += min;
+        }
+    }
+
+    // Scans bloc par bloc : le minimum et la largeur d'un bloc bornent ses valeurs à
+    // [min, min + 2^bits - 1]. Un bloc disjoint de l'intervalle est sauté, un bloc contenu
+    // est retenu en entier ; sinon l'intervalle est ramené aux écarts [lo - min, hi - min]
+    // et comparé sur les écarts compressés (SWAR pour les largeurs qui divisent 32).
+    @Override
+    public long size(int[] compressedArray, int offset) {
+        return BlockBitPacking.readSize(compressedArray, offset);
+    }
+
+    @Override
+    public long count(int[] compressedArray, int offset, int lo, int hi) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        int blockCount = (int) ((size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT);
+
+        long matches = 0;
+        for (int b = 0; b < blockCount; b++) {
+            int position = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + b];
+            int length = (int) Math.min(BLOCK_SIZE, size - ((long) b << BLOCK_SHIFT));
+            int min = compressedArray[position];
+            int bits = compressedArray[position + 1];
+            if (bits == 0) {
+                matches += min >= lo && min <= hi ? length : 0;
+            } else {
+                matches += PackedScan.count(compressedArray, position + BLOCK_HEADER, length, bits,
+                        PackedScan.UNSIGNED, (long) lo - min, (long) hi - min);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public long filter(int[] compressedArray, int offset, int lo, int hi, long[] bitmap, long bitBase) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        int blockCount = (int) ((size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT);
+
+        long matches = 0;
+        for (int b = 0; b < blockCount; b++) {
+            int position = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + b];
+            int length = (int) Math.min(BLOCK_SIZE, size - ((long) b << BLOCK_SHIFT));
+            long blockBase = bitBase + ((long) b << BLOCK_SHIFT);
+            int min = compressedArray[position];
+            int bits = compressedArray[position + 1];
+            if (bits == 0) {
+                if (min >= lo && min <= hi) {
+                    PackedScan.setRange(bitmap, blockBase, length);
+                    matches += length;
+                }
+            } else {
+                matches += PackedScan.filter(compressedArray, position + BLOCK_HEADER, length, bits,
+                        PackedScan.UNSIGNED, (long) lo - min, (long) hi - min, bitmap, blockBase);
+            }
+        }
+        return matches;
+    }
+
+    // Somme des valeurs = somme des écarts + longueur * minimum, bloc par bloc
+    @Override
+    public long sum(int[] compressedArray, int offset) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        int blockCount = (int) ((size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT);
+
+        long sum = 0;
+        for (int b = 0; b < blockCount; b++) {
+            int position = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + b];
+            int length = (int) Math.min(BLOCK_SIZE, size - ((long) b << BLOCK_SHIFT));
+            int bits = compressedArray[position + 1];
+            sum += (long) length * compressedArray[position];
+            if (bits > 0) {
+                sum += PackedScan.sum(compressedArray, position + BLOCK_HEADER, length, bits, PackedScan.UNSIGNED);
+            }
+        }
+        return sum;
+    }
+
+    // Le minimum de chaque bloc est stocké : aucun écart n'est lu
+    @Override
+    public int min(int[] compressedArray, int offset) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        int blockCount = (int) ((size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT);
+
+        int min = Integer.MAX_VALUE;
+        for (int b = 0; b < blockCount; b++) {
+            min = Math.min(min, compressedArray[offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + b]]);
+        }
+        return min;
+    }
+
+    // Seuls les blocs dont la borne min + 2^bits - 1 dépasse le maximum courant sont lus
+    @Override
+    public int max(int[] compressedArray, int offset) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        int blockCount = (int) ((size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT);
+
+        long max = Long.MIN_VALUE;
+        for (int b = 0; b < blockCount; b++) {
+            int position = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + b];
+            int length = (int) Math.min(BLOCK_SIZE, size - ((long) b << BLOCK_SHIFT));
+            long min = compressedArray[position];
+            int bits = compressedArray[position + 1];
+            if (min + (1L << bits) - 1 > max) {
+                max = Math.max(max, bits == 0 ? min : min + PackedScan.max(compressedArray, position + BLOCK_HEADER, length, bits, PackedScan.UNSIGNED));
+            }
+        }
+        return (int) max;
+    }
+
+    @Override
+    public int get(WordStorage storage, long offset, int i) {
+        long size = StorageAccess.readSize(storage, offset);
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+        }
+
+        long position = offset + storage.getWord(offset + BlockBitPacking.HEADER_SIZE + (i >>> BLOCK_SHIFT));
+        int min = storage.getWord(position);
+        int bits = storage.getWord(position + 1);
+        if (bits == 0) {
+            return min;
+        }
+        return min + StorageAccess.extract(storage, position + BLOCK_HEADER, (long) (i & (BLOCK_SIZE - 1)) * bits, bits);
+    }
+
+    // Un bloc à la fois : sa taille compressée se déduit de sa largeur
+    @Override
+    public int decompressInto(WordStorage storage, long offset, int[] outputArray, int outputOffset) {
+        long size = StorageAccess.readSize(storage, offset);
+        if (size > Integer.MAX_VALUE || outputArray == null || outputArray.length - outputOffset < size) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        int blockCount = (int) ((size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT);
+        for (int b = 0; b < blockCount; b++) {
+            long position = offset + storage.getWord(offset + BlockBitPacking.HEADER_SIZE + b);
+            int length = (int) Math.min(BLOCK_SIZE, size - ((long) b << BLOCK_SHIFT));
+            int bits = storage.getWord(position + 1);
+            int[] window = StorageAccess.load(storage, position, BLOCK_HEADER + (int) (((long) length * bits + 31) / 32));
+            decodeBlock(window, 0, 0, length, outputArray, outputOffset + (b << BLOCK_SHIFT));
+        }
+
+        return (int) size;
+    }
+}
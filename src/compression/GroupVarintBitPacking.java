@@ -0,0 +1,382 @@
+package compression;
+
+import storage.WordStorage;
+
+import java.nio.ByteBuffer;
+
+// Group Varint : chaque valeur occupe 1 à 4 octets selon sa magnitude, et non la largeur
+// commune du tableau ; une grande valeur isolée ne coûte que ses propres octets. Les
+// valeurs sont groupées par 4 derrière un octet de contrôle (cf. VarintKernels) :
+//   [contrôle][valeur 0][valeur 1][valeur 2][valeur 3][contrôle]...
+// Le décodage lit les longueurs du groupe dans la table LENGTHS au lieu de tester un bit
+// de continuation par octet (LEB128).
+//
+// Le format int[] ajoute un répertoire par bloc de 128 valeurs (get parcourt au plus 31
+// octets de contrôle). encode/decode écrivent et lisent une trame directement dans un
+// ByteBuffer (transport) ; avec jdk.incubator.vector, decode place les octets de chaque
+// groupe par une permutation (VarintVectorKernels).
+public class GroupVarintBitPacking implements BitPacking, ScanOperators {
+
+    private static final boolean VECTOR_AVAILABLE = VerticalBitPacking.isVectorAvailable();
+
+    // Mode signé : codage zigzag, un petit négatif tient sur un octet
+    private final boolean signed;
+
+    public GroupVarintBitPacking() {
+        this(false);
+    }
+
+    public GroupVarintBitPacking(boolean signed) {
+        this.signed = signed;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
+    @Override
+    public int[] compress(int[] array) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null ou vide");
+        }
+
+        int dataBytes = dataBytes(array, 0, array.length);
+        int[] compressed = new int[VarintKernels.words(array.length, dataBytes)];
+        pack(array, 0, array.length, dataBytes, compressed, 0);
+        return compressed;
+    }
+
+    @Override
+    public int compressInto(int[] array, int offset, int length, int[] dest, int destOffset) {
+        if (array == null || length <= 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+
+        int dataBytes = dataBytes(array, offset, length);
+        int words = VarintKernels.words(length, dataBytes);
+        if (dest == null || destOffset < 0 || dest.length - destOffset < words) {
+            throw new IllegalArgumentException("Tableau de destination trop petit");
+        }
+
+        pack(array, offset, length, dataBytes, dest, destOffset);
+        return words;
+    }
+
+    @Override
+    public int maxCompressedSize(int n) {
+        return VarintKernels.maxWords(n);
+    }
+
+    // Un octet de contrôle par groupe, puis les octets des valeurs
+    private int dataBytes(int[] array, int from, int length) {
+        return VarintKernels.checkSize(((length + 3L) >>> 2) + VarintKernels.valueBytes(array, from, length, signed));
+    }
+
+    // Accumulateur 64 bits sans branchement (les longueurs variables rendent un test
+    // imprévisible) : le mot courant et le suivant sont toujours écrits, puis l'avancement
+    // (0 à 2 mots) se calcule. L'octet de contrôle est ajouté avec la première valeur du
+    // groupe (au plus 40 bits).
+    private void pack(int[] array, int from, int length, int dataBytes, int[] dest, int base) {
+        dest[base] = length;
+        dest[base + 1] = dataBytes;
+        int directory = base + VarintKernels.HEADER_SIZE;
+
+        int word = VarintKernels.dataBase(base, length);
+        long buffer = 0;
+        int filled = 0;
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            int v = value(array[from + i]);
+            int code = VarintKernels.code(v);
+            long bytes = v & 0xFFFFFFFFL;
+            int bits = (code + 1) << 3;
+            if ((i & 3) == 0) {
+                if ((i & (VarintKernels.BLOCK_SIZE - 1)) == 0) {
+                    dest[directory + (i >>> VarintKernels.BLOCK_SHIFT)] = position;
+                }
+                // Codes inutilisés à 0 dans un dernier groupe incomplet
+                int count = Math.min(4, length - i);
+                int control = code;
+                for (int k = 1; k < count; k++) {
+                    control |= VarintKernels.code(value(array[from + i + k])) << (k << 1);
+                }
+                bytes = (bytes << 8) | control;
+                bits += 8;
+                position += 1 + VarintKernels.groupLength(control, count);
+            }
+
+            buffer |= bytes << filled;
+            filled += bits;
+            dest[word] = (int) buffer;
+            dest[word + 1] = (int) (buffer >>> 32);
+            int full = filled >>> 5;
+            word += full;
+            buffer = (buffer >>> (full << 4)) >>> (full << 4);
+            filled -= full << 5;
+        }
+        if (filled > 0) {
+            dest[word++] = (int) buffer;
+        }
+        dest[word] = 0;
+    }
+
+    private int value(int v) {
+        return signed ? ZigZag.encode(v) : v;
+    }
+
+    @Override
+    public int[] decompress(int[] compressedArray, int[] outputArray) {
+        decompressInto(compressedArray, 0, outputArray, 0);
+        return outputArray;
+    }
+
+    @Override
+    public int decompressInto(int[] compressedArray, int offset, int[] outputArray, int outputOffset) {
+        int size = VarintKernels.readSize(compressedArray, offset);
+        return decodeRange(compressedArray, offset, 0, size, outputArray, outputOffset);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int i) {
+        return get(compressedArray, 0, i);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int offset, int i) {
+        int size = VarintKernels.readSize(compressedArray, offset);
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+        }
+
+        int data = VarintKernels.dataBase(offset, size);
+        int position = groupPosition(compressedArray, offset, data, i);
+        int control = VarintKernels.byteAt(compressedArray, data, position);
+        int k = i & 3;
+        int value = VarintKernels.read4(compressedArray, data, position + 1 + VarintKernels.offsetInGroup(control, k))
+                & VarintKernels.MASKS[(control >>> (k << 1)) & 3];
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    // Position de l'octet de contrôle du groupe de i : début du bloc, puis groupes sautés
+    private static int groupPosition(int[] compressedArray, int offset, int data, int i) {
+        int position = compressedArray[offset + VarintKernels.HEADER_SIZE + (i >>> VarintKernels.BLOCK_SHIFT)];
+        for (int g = (i & (VarintKernels.BLOCK_SIZE - 1)) >>> 2; g > 0; g--) {
+            position += 1 + VarintKernels.LENGTHS[VarintKernels.byteAt(compressedArray, data, position)];
+        }
+        return position;
+    }
+
+    // Sur un stockage : répertoire et octets de contrôle du bloc lus mot à mot, comme sur int[]
+    @Override
+    public int get(WordStorage storage, long offset, int i) {
+        int size = VarintKernels.readSize(storage, offset);
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+        }
+
+        long data = VarintKernels.dataBase(offset, size);
+        int position = storage.getWord(offset + VarintKernels.HEADER_SIZE + (i >>> VarintKernels.BLOCK_SHIFT));
+        for (int g = (i & (VarintKernels.BLOCK_SIZE - 1)) >>> 2; g > 0; g--) {
+            position += 1 + VarintKernels.LENGTHS[VarintKernels.byteAt(storage, data, position)];
+        }
+        int control = VarintKernels.byteAt(storage, data, position);
+        int k = i & 3;
+        int value = VarintKernels.read4(storage, data, position + 1 + VarintKernels.offsetInGroup(control, k))
+                & VarintKernels.MASKS[(control >>> (k << 1)) & 3];
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    // Chaque bloc de 128 valeurs (bornes en octets données par le répertoire) est chargé seul
+    @Override
+    public int decompressInto(WordStorage storage, long offset, int[] outputArray, int outputOffset) {
+        int size = VarintKernels.readSize(storage, offset);
+        if (outputArray == null || outputOffset < 0 || outputArray.length - outputOffset < size) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        long data = VarintKernels.dataBase(offset, size);
+        for (int from = 0; from < size; from += VarintKernels.BLOCK_SIZE) {
+            int b = from >>> VarintKernels.BLOCK_SHIFT;
+            int start = storage.getWord(offset + VarintKernels.HEADER_SIZE + b);
+            int[] window = VarintKernels.loadBytes(storage, data, start, VarintKernels.blockEnd(storage, offset, size, b));
+            int position = start & 3;
+            int count = Math.min(VarintKernels.BLOCK_SIZE, size - from);
+            int target = outputOffset + from;
+            for (int g = 0; g < count >>> 2; g++) {
+                int control = VarintKernels.byteAt(window, 0, position);
+                position = VarintKernels.decodeGroup(window, 0, position + 1, control, outputArray, target);
+                target += 4;
+            }
+            if ((count & 3) != 0) {
+                int control = VarintKernels.byteAt(window, 0, position);
+                VarintKernels.decodePartial(window, 0, position + 1, control, 0, count & 3, outputArray, target);
+            }
+        }
+
+        if (signed) {
+            ZigZag.decode(outputArray, outputOffset, size);
+        }
+        return size;
+    }
+
+    @Override
+    public int decodeRange(int[] compressedArray, int offset, int from, int to, int[] out, int outOffset) {
+        int size = VarintKernels.readSize(compressedArray, offset);
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out == null || out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        if (from == to) {
+            return 0;
+        }
+
+        int data = VarintKernels.dataBase(offset, size);
+        int position = groupPosition(compressedArray, offset, data, from);
+        int group = from & ~3;
+        int target = outOffset;
+
+        // Premier groupe entamé, groupes complets, puis dernier groupe entamé
+        if (group < from || to - group < 4) {
+            int control = VarintKernels.byteAt(compressedArray, data, position);
+            int toK = Math.min(4, to - group);
+            VarintKernels.decodePartial(compressedArray, data, position + 1, control, from - group, toK, out, target);
+            target += toK - (from - group);
+            position += 1 + VarintKernels.groupLength(control, Math.min(4, size - group));
+            group += 4;
+        }
+        for (; group + 4 <= to; group += 4) {
+            int control = VarintKernels.byteAt(compressedArray, data, position);
+            position = VarintKernels.decodeGroup(compressedArray, data, position + 1, control, out, target);
+            target += 4;
+        }
+        if (group < to) {
+            int control = VarintKernels.byteAt(compressedArray, data, position);
+            VarintKernels.decodePartial(compressedArray, data, position + 1, control, 0, to - group, out, target);
+        }
+
+        if (signed) {
+            ZigZag.decode(out, outOffset, to - from);
+        }
+        return to - from;
+    }
+
+    // Taille d'une trame de length valeurs (4 octets de taille compris) ; borne supérieure
+    // pour dimensionner un tampon : maxEncodedSize
+    public int encodedSize(int[] array, int offset, int length) {
+        if (array == null || length < 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+        return VarintKernels.checkSize(Integer.BYTES + ((length + 3L) >>> 2) + VarintKernels.valueBytes(array, offset, length, signed));
+    }
+
+    public static int maxEncodedSize(int n) {
+        return VarintKernels.checkSize(Integer.BYTES + ((n + 3L) >>> 2) + 4L * n);
+    }
+
+    // Écrit la trame de array[offset .. offset+length) à la position de dest (en petit
+    // boutiste, quel que soit l'ordre de dest) et avance cette position ; retourne le
+    // nombre d'octets écrits
+    public int encode(int[] array, int offset, int length, ByteBuffer dest) {
+        VarintKernels.checkEncode(array, offset, length, dest);
+        int bytes = encodedSize(array, offset, length);
+        if (dest.remaining() < bytes) {
+            throw new IllegalArgumentException("Tampon de destination trop petit : " + bytes + " octets nécessaires");
+        }
+
+        ByteBuffer buffer = VarintKernels.littleEndian(dest);
+        int start = dest.position();
+        int end = start + bytes;
+        buffer.putInt(start, length);
+        int position = start + Integer.BYTES;
+
+        for (int i = 0; i < length; i += 4) {
+            int count = Math.min(4, length - i);
+            int control = 0;
+            for (int k = 0; k < count; k++) {
+                control |= VarintKernels.code(value(array[offset + i + k])) << (k << 1);
+            }
+            buffer.put(position++, (byte) control);
+            for (int k = 0; k < count; k++) {
+                int code = (control >>> (k << 1)) & 3;
+                VarintKernels.write(buffer, position, value(array[offset + i + k]), code, end);
+                position += code + 1;
+            }
+        }
+
+        dest.position(end);
+        return bytes;
+    }
+
+    // Lit une trame à la position de src dans outputArray et avance cette position ;
+    // retourne le nombre de valeurs
+    public int decode(ByteBuffer src, int[] outputArray, int outputOffset) {
+        int size = VarintKernels.readFrameSize(src, outputArray, outputOffset);
+        ByteBuffer buffer = VarintKernels.littleEndian(src);
+        int position = src.position() + Integer.BYTES;
+        int fullGroups = size >>> 2;
+
+        try {
+            // Permutation d'octets tant que 3 groupes complets suivent (16 octets lisibles
+            // derrière le contrôle), zigzag appliqué dans le registre
+            int g = 0;
+            if (VECTOR_AVAILABLE && fullGroups > 3) {
+                g = fullGroups - 3;
+                position = VarintVectorKernels.decodeGroups(buffer, position, g, outputArray, outputOffset, signed);
+            }
+            int scalarFrom = g << 2;
+            for (; g < fullGroups; g++) {
+                int control = buffer.get(position) & 0xFF;
+                position = VarintKernels.decodeGroup(buffer, position + 1, control, outputArray, outputOffset + (g << 2));
+            }
+            if ((size & 3) != 0) {
+                int control = buffer.get(position) & 0xFF;
+                position = VarintKernels.decodePartial(buffer, position + 1, control, size & 3, outputArray, outputOffset + (g << 2));
+            }
+            if (signed) {
+                ZigZag.decode(outputArray, outputOffset + scalarFrom, size - scalarFrom);
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Trame incomplète : " + size + " valeurs annoncées", e);
+        }
+        // Les chargements de 16 octets peuvent lire au-delà de la limite d'un tampon sur le tas
+        if (position > src.limit()) {
+            throw new IllegalArgumentException("Trame incomplète : " + size + " valeurs annoncées");
+        }
+
+        src.position(position);
+        return size;
+    }
+
+    // Scans : les valeurs n'ont pas de largeur commune, elles sont décodées par morceaux
+    @Override
+    public long size(int[] compressedArray, int offset) {
+        return VarintKernels.readSize(compressedArray, offset);
+    }
+
+    @Override
+    public long count(int[] compressedArray, int offset, int lo, int hi) {
+        return PackedScan.countDecoded(this, compressedArray, offset, VarintKernels.readSize(compressedArray, offset), lo, hi);
+    }
+
+    @Override
+    public long filter(int[] compressedArray, int offset, int lo, int hi, long[] bitmap, long bitBase) {
+        return PackedScan.filterDecoded(this, compressedArray, offset, VarintKernels.readSize(compressedArray, offset), lo, hi, bitmap, bitBase);
+    }
+
+    @Override
+    public long sum(int[] compressedArray, int offset) {
+        return PackedScan.sumDecoded(this, compressedArray, offset, VarintKernels.readSize(compressedArray, offset));
+    }
+
+    @Override
+    public int min(int[] compressedArray, int offset) {
+        return PackedScan.minDecoded(this, compressedArray, offset, VarintKernels.readSize(compressedArray, offset));
+    }
+
+    @Override
+    public int max(int[] compressedArray, int offset) {
+        return PackedScan.maxDecoded(this, compressedArray, offset, VarintKernels.readSize(compressedArray, offset));
+    }
+}
@@ -0,0 +1,181 @@
+package compression;
+
+import metrics.CodecMetrics;
+import storage.WordStorage;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Décorateur de mesure : délègue au packer et enregistre dans un CodecMetrics le nombre
+// d'appels, les durées, le taux de compression, la largeur retenue et la part d'overflows.
+//
+// Le format compressé est celui du packer décoré. Quand les mesures sont désactivées, chaque
+// appel ne coûte qu'une lecture volatile. get est compté à chaque appel, mais sa durée
+// (du même ordre que System.nanoTime) n'est mesurée que sur un appel sur 64.
+//
+// Largeur et overflows sont lus dans l'en-tête produit par les packers de base (Consecutive,
+// NonConsecutive, Vertical, Overflow, Patched), bloc par bloc pour les conteneurs (Block, Parallel) ;
+// les autres formats (FOR, Delta, AUTO) ne contribuent qu'aux compteurs et aux durées.
+public class InstrumentedBitPacking implements BitPacking {
+
+    private static final int GET_SAMPLE_MASK = 63;
+
+    private final BitPacking delegate;
+    private final CodecMetrics metrics;
+
+    public InstrumentedBitPacking(BitPacking delegate, CodecMetrics metrics) {
+        if (delegate == null || metrics == null) {
+            throw new IllegalArgumentException("Le packer et les mesures ne peuvent pas être null");
+        }
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    public BitPacking getDelegate() {
+        return delegate;
+    }
+
+    public CodecMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public int[] compress(int[] array) {
+        if (!metrics.isEnabled()) {
+            return delegate.compress(array);
+        }
+        long start = System.nanoTime();
+        int[] compressed = delegate.compress(array);
+        metrics.recordCompress(array.length, compressed.length, System.nanoTime() - start);
+        recordLayout(delegate, compressed, 0);
+        return compressed;
+    }
+
+    @Override
+    public int compressInto(int[] array, int offset, int length, int[] dest, int destOffset) {
+        if (!metrics.isEnabled()) {
+            return delegate.compressInto(array, offset, length, dest, destOffset);
+        }
+        long start = System.nanoTime();
+        int words = delegate.compressInto(array, offset, length, dest, destOffset);
+        metrics.recordCompress(length, words, System.nanoTime() - start);
+        recordLayout(delegate, dest, destOffset);
+        return words;
+    }
+
+    @Override
+    public int[] decompress(int[] compressedArray, int[] outputArray) {
+        if (!metrics.isEnabled()) {
+            return delegate.decompress(compressedArray, outputArray);
+        }
+        // decompress équivaut à decompressInto à l'offset 0 : on compte les valeurs décodées,
+        // pas la longueur du tableau de sortie (souvent plus grand, tampon réutilisé)
+        long start = System.nanoTime();
+        int values = delegate.decompressInto(compressedArray, 0, outputArray, 0);
+        metrics.recordDecompress(values, System.nanoTime() - start);
+        return outputArray;
+    }
+
+    @Override
+    public int decompressInto(int[] compressedArray, int offset, int[] outputArray, int outputOffset) {
+        if (!metrics.isEnabled()) {
+            return delegate.decompressInto(compressedArray, offset, outputArray, outputOffset);
+        }
+        long start = System.nanoTime();
+        int values = delegate.decompressInto(compressedArray, offset, outputArray, outputOffset);
+        metrics.recordDecompress(values, System.nanoTime() - start);
+        return values;
+    }
+
+    @Override
+    public int decompressInto(WordStorage storage, long offset, int[] outputArray, int outputOffset) {
+        if (!metrics.isEnabled()) {
+            return delegate.decompressInto(storage, offset, outputArray, outputOffset);
+        }
+        long start = System.nanoTime();
+        int values = delegate.decompressInto(storage, offset, outputArray, outputOffset);
+        metrics.recordDecompress(values, System.nanoTime() - start);
+        return values;
+    }
+
+    @Override
+    public int decodeRange(int[] compressedArray, int offset, int from, int to, int[] out, int outOffset) {
+        if (!metrics.isEnabled()) {
+            return delegate.decodeRange(compressedArray, offset, from, to, out, outOffset);
+        }
+        long start = System.nanoTime();
+        int values = delegate.decodeRange(compressedArray, offset, from, to, out, outOffset);
+        metrics.recordDecompress(values, System.nanoTime() - start);
+        return values;
+    }
+
+    @Override
+    public int get(int[] compressedArray, int i) {
+        return get(compressedArray, 0, i);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int offset, int i) {
+        if (!metrics.isEnabled()) {
+            return delegate.get(compressedArray, offset, i);
+        }
+        metrics.recordGet(1);
+        if ((ThreadLocalRandom.current().nextInt() & GET_SAMPLE_MASK) != 0) {
+            return delegate.get(compressedArray, offset, i);
+        }
+        long start = System.nanoTime();
+        int value = delegate.get(compressedArray, offset, i);
+        metrics.recordGetLatency(System.nanoTime() - start);
+        return value;
+    }
+
+    @Override
+    public int get(WordStorage storage, long offset, int i) {
+        if (metrics.isEnabled()) {
+            metrics.recordGet(1);
+        }
+        return delegate.get(storage, offset, i);
+    }
+
+    @Override
+    public void getMany(int[] compressedArray, int offset, int[] indices, int[] out) {
+        if (metrics.isEnabled()) {
+            metrics.recordGet(indices.length);
+        }
+        delegate.getMany(compressedArray, offset, indices, out);
+    }
+
+    @Override
+    public int maxCompressedSize(int n) {
+        return delegate.maxCompressedSize(n);
+    }
+
+    // Largeur (et overflows) de chaque tableau de base contenu dans le résultat
+    private void recordLayout(BitPacking packer, int[] compressed, int offset) {
+        if (compressed.length - offset < 1) {
+            return;
+        }
+
+        if (packer instanceof BlockBitPacking || packer instanceof ParallelBitPacking) {
+            BitPacking inner = packer instanceof BlockBitPacking
+                    ? ((BlockBitPacking) packer).getInner()
+                    : ((ParallelBitPacking) packer).getInner();
+            long size = BlockBitPacking.readSize(compressed, offset);
+            int blockShift = compressed[offset + 2];
+            long blockCount = (size + (1L << blockShift) - 1) >>> blockShift;
+            for (int b = 0; b < blockCount; b++) {
+                recordLayout(inner, compressed, offset + compressed[offset + BlockBitPacking.HEADER_SIZE + b]);
+            }
+        } else if (packer instanceof OverflowBitPacking) {
+            int meta = compressed[offset];
+            metrics.recordWidth((meta & 0xFF) - 1);
+            metrics.recordOverflows((meta >>> 16) & 0xFFFF, (meta >>> 8) & 0xFF);
+        } else if (packer instanceof PatchedBitPacking) {
+            int meta = compressed[offset];
+            metrics.recordWidth(meta & 0xFFFF);
+            metrics.recordOverflows((meta >>> 16) & 0xFFFF, compressed[offset + 1] >>> 8);
+        } else if (packer instanceof ConsecutiveBitPacking || packer instanceof NonConsecutiveBitPacking
+                || packer instanceof VerticalBitPacking) {
+            metrics.recordWidth(compressed[offset] & 0xFFFF);
+        }
+    }
+}
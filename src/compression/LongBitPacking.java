@@ -0,0 +1,50 @@
+package compression;
+
+// Équivalent 64 bits de BitPacking : valeurs long, mots compressés de 64 bits, largeurs de 1 à 64.
+//
+// L'en-tête occupe un mot de 64 bits, la taille y tient sur 32 bits : pas de limite de
+// 65 535 éléments ni de conteneur par blocs (jusqu'à Integer.MAX_VALUE valeurs).
+public interface LongBitPacking {
+
+    long[] compress(long[] array);
+    long[] decompress(long[] compressedArray, long[] outputArray);
+    long get(long[] compressedArray, int i);
+
+    // Variantes sans allocation, sur des tampons fournis par l'appelant (cf. BitPacking)
+    int compressInto(long[] array, int offset, int length, long[] dest, int destOffset);
+    int decompressInto(long[] compressedArray, int offset, long[] outputArray, int outputOffset);
+    long get(long[] compressedArray, int offset, int i);
+
+    // Borne supérieure de la taille compressée (en mots de 64 bits) pour n valeurs
+    int maxCompressedSize(int n);
+
+    default void getMany(long[] compressedArray, int[] indices, long[] out) {
+        getMany(compressedArray, 0, indices, out);
+    }
+
+    default void getMany(long[] compressedArray, int offset, int[] indices, long[] out) {
+        if (out.length < indices.length) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        for (int k = 0; k < indices.length; k++) {
+            out[k] = get(compressedArray, offset, indices[k]);
+        }
+    }
+
+    default int decodeRange(long[] compressedArray, int from, int to, long[] out) {
+        return decodeRange(compressedArray, 0, from, to, out, 0);
+    }
+
+    default int decodeRange(long[] compressedArray, int offset, int from, int to, long[] out, int outOffset) {
+        if (from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        for (int i = from; i < to; i++) {
+            out[outOffset + i - from] = get(compressedArray, offset, i);
+        }
+        return to - from;
+    }
+}
@@ -0,0 +1,254 @@
+package compression;
+
+// Bit packing avec chevauchement sur des mots de 64 bits (valeurs long, largeurs de 1 à 64).
+//
+// Format :
+//   [0]     taille (bits 8 à 39) | bits par élément (8 bits de poids faible)
+//   [1...]  ceil(taille * b / 64) mots de valeurs, une valeur pouvant être à cheval sur deux mots
+public class LongConsecutiveBitPacking implements LongBitPacking {
+
+    // Mode signé : codage zigzag à la compression, décodage dans la boucle d'extraction
+    private final boolean signed;
+
+    public LongConsecutiveBitPacking() {
+        this(false);
+    }
+
+    public LongConsecutiveBitPacking(boolean signed) {
+        this.signed = signed;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
+    @Override
+    public long[] compress(long[] array) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null ou vide");
+        }
+
+        int bitsPerElement = calculateMaxBitsNeeded(array, 0, array.length, signed);
+        long[] compressed = new long[compressedSize(array.length, bitsPerElement)];
+        compressed[0] = header(array.length, bitsPerElement);
+        packWords(array, 0, array.length, bitsPerElement, compressed, 1, signed);
+        return compressed;
+    }
+
+    @Override
+    public int compressInto(long[] array, int offset, int length, long[] dest, int destOffset) {
+        if (array == null || length <= 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+
+        int bitsPerElement = calculateMaxBitsNeeded(array, offset, length, signed);
+        int words = compressedSize(length, bitsPerElement);
+        if (dest == null || destOffset < 0 || dest.length - destOffset < words) {
+            throw new IllegalArgumentException("Tableau de destination trop petit");
+        }
+
+        dest[destOffset] = header(length, bitsPerElement);
+        packWords(array, offset, length, bitsPerElement, dest, destOffset + 1, signed);
+        return words;
+    }
+
+    @Override
+    public int maxCompressedSize(int n) {
+        return 1 + n; // au pire 64 bits par valeur + l'en-tête
+    }
+
+    // Taille compressée en mots, en-tête compris
+    static int compressedSize(int originalSize, int bitsPerElement) {
+        return (int) (((long) originalSize * bitsPerElement + 63) >>> 6) + 1;
+    }
+
+    static long header(int size, int bitsPerElement) {
+        return ((long) size << 8) | bitsPerElement;
+    }
+
+    static int headerSize(long header) {
+        return (int) (header >>> 8);
+    }
+
+    static int headerBits(long header) {
+        return (int) header & 0xFF;
+    }
+
+    // Largeur du OU de toutes les valeurs (valeur zigzag en mode signé) ; un négatif
+    // non signé compte pour 64 bits
+    static int calculateMaxBitsNeeded(long[] array, int from, int length, boolean signed) {
+        long or = 0;
+        if (signed) {
+            for (int i = from; i < from + length; i++) {
+                or |= ZigZag.encode(array[i]);
+            }
+        } else {
+            for (int i = from; i < from + length; i++) {
+                or |= array[i];
+            }
+        }
+        return or == 0 ? 1 : Long.SIZE - Long.numberOfLeadingZeros(or);
+    }
+
+    // Compresse count valeurs de array[from..] sur bits bits à partir de compressed[outPos] :
+    // le mot courant est assemblé en registre et écrit une seule fois
+    static void packWords(long[] array, int from, int count, int bits, long[] compressed, int outPos, boolean zigzag) {
+        long mask = -1L >>> (64 - bits);
+        long word = 0;
+        int filled = 0;
+        int w = outPos;
+
+        for (int i = from; i < from + count; i++) {
+            long value = (zigzag ? ZigZag.encode(array[i]) : array[i]) & mask;
+            word |= value << filled;
+            filled += bits;
+            if (filled >= 64) {
+                compressed[w++] = word;
+                filled -= 64;
+                // Bits de la valeur qui débordent sur le mot suivant
+                word = filled == 0 ? 0 : value >>> (bits - filled);
+            }
+        }
+        if (filled > 0) {
+            compressed[w] = word;
+        }
+    }
+
+    // Opération inverse de packWords : le mot courant reste en registre
+    static void unpackWords(long[] compressed, int inPos, int count, int bits, long[] out, int outPos, boolean zigzag) {
+        long mask = -1L >>> (64 - bits);
+        int w = inPos;
+        long word = count > 0 ? compressed[w] : 0;
+        int used = 0;
+
+        for (int i = outPos; i < outPos + count; i++) {
+            if (used == 64) {
+                word = compressed[++w];
+                used = 0;
+            }
+            long value;
+            if (used + bits <= 64) {
+                value = (word >>> used) & mask;
+                used += bits;
+            } else {
+                long next = compressed[++w];
+                value = ((word >>> used) | (next << (64 - used))) & mask;
+                word = next;
+                used += bits - 64;
+            }
+            out[i] = zigzag ? ZigZag.decode(value) : value;
+        }
+    }
+
+    // Lecture de la valeur qui commence au bit bitPosition des données (words[base] = premier mot de données)
+    static long extract(long[] words, int base, long bitPosition, int bits) {
+        int arrayIndex = base + (int) (bitPosition >>> 6);
+        int bitOffset = (int) bitPosition & 63;
+        long mask = -1L >>> (64 - bits);
+
+        if (bitOffset + bits <= 64) {
+            return (words[arrayIndex] >>> bitOffset) & mask;
+        }
+        return ((words[arrayIndex] >>> bitOffset) | (words[arrayIndex + 1] << (64 - bitOffset))) & mask;
+    }
+
+    @Override
+    public long[] decompress(long[] compressedArray, long[] outputArray) {
+        if (compressedArray == null || compressedArray.length == 0) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+
+        int size = headerSize(compressedArray[0]);
+        if (outputArray == null || outputArray.length < size) {
+            outputArray = new long[size];
+        }
+
+        decompressInto(compressedArray, 0, outputArray, 0);
+        return outputArray;
+    }
+
+    @Override
+    public int decompressInto(long[] compressedArray, int offset, long[] outputArray, int outputOffset) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+
+        int size = headerSize(compressedArray[offset]);
+        int bits = headerBits(compressedArray[offset]);
+        if (outputArray == null || outputArray.length - outputOffset < size) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        unpackWords(compressedArray, offset + 1, size, bits, outputArray, outputOffset, signed);
+        return size;
+    }
+
+    @Override
+    public long get(long[] compressedArray, int index) {
+        return get(compressedArray, 0, index);
+    }
+
+    @Override
+    public long get(long[] compressedArray, int offset, int index) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+
+        long header = compressedArray[offset];
+        int size = headerSize(header);
+        int bits = headerBits(header);
+
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index hors limites: " + index);
+        }
+
+        long value = extract(compressedArray, offset + 1, (long) index * bits, bits);
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    @Override
+    public void getMany(long[] compressedArray, int offset, int[] indices, long[] out) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+        if (out.length < indices.length) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        // En-tête décodé une seule fois pour tout le lot
+        int size = headerSize(compressedArray[offset]);
+        int bits = headerBits(compressedArray[offset]);
+
+        for (int k = 0; k < indices.length; k++) {
+            int index = indices[k];
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index hors limites: " + index);
+            }
+            long value = extract(compressedArray, offset + 1, (long) index * bits, bits);
+            out[k] = signed ? ZigZag.decode(value) : value;
+        }
+    }
+
+    @Override
+    public int decodeRange(long[] compressedArray, int offset, int from, int to, long[] out, int outOffset) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+
+        int size = headerSize(compressedArray[offset]);
+        int bits = headerBits(compressedArray[offset]);
+
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        for (int i = from; i < to; i++) {
+            long value = extract(compressedArray, offset + 1, (long) i * bits, bits);
+            out[outOffset + i - from] = signed ? ZigZag.decode(value) : value;
+        }
+        return to - from;
+    }
+}
@@ -0,0 +1,180 @@
+package compression;
+
+// Bit packing sans chevauchement sur des mots de 64 bits : chaque mot contient floor(64 / b)
+// valeurs entières rangées à partir du bit 0, une valeur se lit toujours dans un seul mot.
+// Au-delà de 32 bits, un mot ne contient qu'une valeur (la largeur ne compte plus).
+//
+// Format :
+//   [0]     taille (bits 8 à 39) | bits par élément (8 bits de poids faible)
+//   [1...]  ceil(taille / floor(64 / b)) mots de valeurs
+public class LongNonConsecutiveBitPacking implements LongBitPacking {
+
+    // Mode signé : codage zigzag à la compression, décodage dans la boucle d'extraction
+    private final boolean signed;
+
+    public LongNonConsecutiveBitPacking() {
+        this(false);
+    }
+
+    public LongNonConsecutiveBitPacking(boolean signed) {
+        this.signed = signed;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
+    @Override
+    public long[] compress(long[] array) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null ou vide");
+        }
+
+        int bitsPerElement = LongConsecutiveBitPacking.calculateMaxBitsNeeded(array, 0, array.length, signed);
+        long[] compressed = new long[compressedSize(array.length, bitsPerElement)];
+        pack(array, 0, array.length, bitsPerElement, compressed, 0);
+        return compressed;
+    }
+
+    @Override
+    public int compressInto(long[] array, int offset, int length, long[] dest, int destOffset) {
+        if (array == null || length <= 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+
+        int bitsPerElement = LongConsecutiveBitPacking.calculateMaxBitsNeeded(array, offset, length, signed);
+        int words = compressedSize(length, bitsPerElement);
+        if (dest == null || destOffset < 0 || dest.length - destOffset < words) {
+            throw new IllegalArgumentException("Tableau de destination trop petit");
+        }
+
+        pack(array, offset, length, bitsPerElement, dest, destOffset);
+        return words;
+    }
+
+    @Override
+    public int maxCompressedSize(int n) {
+        return 1 + n;
+    }
+
+    static int compressedSize(int originalSize, int bitsPerElement) {
+        int perWord = 64 / bitsPerElement;
+        return (int) (((long) originalSize + perWord - 1) / perWord) + 1; // +1 pour l'en-tête
+    }
+
+    private void pack(long[] array, int from, int originalSize, int bitsPerElement, long[] compressed, int base) {
+        compressed[base] = LongConsecutiveBitPacking.header(originalSize, bitsPerElement);
+
+        // Chaque mot est assemblé en registre puis écrit une seule fois
+        int perWord = 64 / bitsPerElement;
+        long mask = -1L >>> (64 - bitsPerElement);
+        int arrayIndex = base + 1;
+
+        for (int i = 0; i < originalSize; i += perWord) {
+            int count = Math.min(perWord, originalSize - i);
+            long word = 0;
+            for (int k = 0; k < count; k++) {
+                long value = signed ? ZigZag.encode(array[from + i + k]) : array[from + i + k];
+                word |= (value & mask) << (k * bitsPerElement);
+            }
+            compressed[arrayIndex++] = word;
+        }
+    }
+
+    @Override
+    public long[] decompress(long[] compressedArray, long[] outputArray) {
+        if (compressedArray == null || compressedArray.length == 0) {
+            throw new IllegalArgumentException("Le tableau compressé ne peut pas être null ou vide");
+        }
+
+        int originalSize = LongConsecutiveBitPacking.headerSize(compressedArray[0]);
+        if (outputArray == null || outputArray.length < originalSize) {
+            outputArray = new long[originalSize];
+        }
+
+        decompressInto(compressedArray, 0, outputArray, 0);
+        return outputArray;
+    }
+
+    @Override
+    public int decompressInto(long[] compressedArray, int offset, long[] outputArray, int outputOffset) {
+        if (compressedArray == null || compressedArray.length - offset <= 0) {
+            throw new IllegalArgumentException("Le tableau compressé ne peut pas être null ou vide");
+        }
+
+        int originalSize = LongConsecutiveBitPacking.headerSize(compressedArray[offset]);
+        int bitsPerElement = LongConsecutiveBitPacking.headerBits(compressedArray[offset]);
+        if (outputArray == null || outputArray.length - outputOffset < originalSize) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        decodeWords(compressedArray, offset + 1, 0, originalSize, bitsPerElement, outputArray, outputOffset);
+        return originalSize;
+    }
+
+    // Décode les valeurs [from, to) mot par mot, chaque mot n'étant lu qu'une fois
+    private void decodeWords(long[] compressedArray, int data, int from, int to, int bitsPerElement, long[] out, int outOffset) {
+        int perWord = 64 / bitsPerElement;
+        long mask = -1L >>> (64 - bitsPerElement);
+        int target = outOffset;
+        int i = from;
+
+        while (i < to) {
+            int wordIndex = i / perWord;
+            int k = i - wordIndex * perWord;
+            int end = Math.min(to, (wordIndex + 1) * perWord);
+            long word = compressedArray[data + wordIndex] >>> (k * bitsPerElement);
+            for (; i < end; i++) {
+                long value = word & mask;
+                out[target++] = signed ? ZigZag.decode(value) : value;
+                word >>>= bitsPerElement & 63;
+            }
+        }
+    }
+
+    @Override
+    public long get(long[] compressedArray, int index) {
+        return get(compressedArray, 0, index);
+    }
+
+    @Override
+    public long get(long[] compressedArray, int offset, int index) {
+        if (compressedArray == null || compressedArray.length - offset <= 0) {
+            throw new IllegalArgumentException("Le tableau compressé ne peut pas être null ou vide");
+        }
+
+        long header = compressedArray[offset];
+        int originalSize = LongConsecutiveBitPacking.headerSize(header);
+        int bitsPerElement = LongConsecutiveBitPacking.headerBits(header);
+
+        if (index < 0 || index >= originalSize) {
+            throw new IndexOutOfBoundsException("Index hors limites: " + index);
+        }
+
+        int perWord = 64 / bitsPerElement;
+        int wordIndex = index / perWord;
+        long value = (compressedArray[offset + 1 + wordIndex] >>> ((index - wordIndex * perWord) * bitsPerElement))
+                & (-1L >>> (64 - bitsPerElement));
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    @Override
+    public int decodeRange(long[] compressedArray, int offset, int from, int to, long[] out, int outOffset) {
+        if (compressedArray == null || compressedArray.length - offset <= 0) {
+            throw new IllegalArgumentException("Le tableau compressé ne peut pas être null ou vide");
+        }
+
+        int originalSize = LongConsecutiveBitPacking.headerSize(compressedArray[offset]);
+        int bitsPerElement = LongConsecutiveBitPacking.headerBits(compressedArray[offset]);
+
+        if (from < 0 || to > originalSize || from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        decodeWords(compressedArray, offset + 1, from, to, bitsPerElement, out, outOffset);
+        return to - from;
+    }
+}
@@ -0,0 +1,265 @@
+package compression;
+
+import java.util.Arrays;
+
+// Bit packing avec zone d'overflow sur des mots de 64 bits : les valeurs tiennent sur un seuil
+// de b bits, les rares valeurs plus larges (identifiants ou horodatages aberrants) sont rangées
+// en entier dans une zone d'overflow et leur slot contient le bit d'overflow et leur index.
+//
+// Format :
+//   [0]     taille (bits 8 à 39) | bits par slot, bit d'overflow compris (8 bits de poids faible)
+//   [1]     nombre d'overflows
+//   [2...]  slots (chevauchement comme LongConsecutiveBitPacking), puis la zone d'overflow
+public class LongOverflowBitPacking implements LongBitPacking {
+
+    // Histogramme réutilisé d'un appel à l'autre (un par thread)
+    private static final ThreadLocal<int[]> HISTOGRAM = ThreadLocal.withInitial(() -> new int[65]);
+
+    // Mode signé : les slots contiennent la valeur zigzag, la zone d'overflow la valeur d'origine
+    private final boolean signed;
+
+    public LongOverflowBitPacking() {
+        this(false);
+    }
+
+    public LongOverflowBitPacking(boolean signed) {
+        this.signed = signed;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
+    @Override
+    public long[] compress(long[] array) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null ou vide");
+        }
+
+        int[] histogram = HISTOGRAM.get();
+        int optimalBits = analyze(array, 0, array.length, histogram);
+        int overflowCount = countAbove(histogram, optimalBits);
+
+        long[] compressed = new long[compressedSize(array.length, optimalBits, overflowCount)];
+        pack(array, 0, array.length, optimalBits, overflowCount, compressed, 0);
+        return compressed;
+    }
+
+    @Override
+    public int compressInto(long[] array, int offset, int length, long[] dest, int destOffset) {
+        if (array == null || length <= 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+
+        int[] histogram = HISTOGRAM.get();
+        int optimalBits = analyze(array, offset, length, histogram);
+        int overflowCount = countAbove(histogram, optimalBits);
+
+        int words = compressedSize(length, optimalBits, overflowCount);
+        if (dest == null || destOffset < 0 || dest.length - destOffset < words) {
+            throw new IllegalArgumentException("Tableau de destination trop petit");
+        }
+
+        pack(array, offset, length, optimalBits, overflowCount, dest, destOffset);
+        return words;
+    }
+
+    @Override
+    public int maxCompressedSize(int n) {
+        // Au pire 64 bits par slot + la zone d'overflow (valeurs sur 64 bits)
+        return (int) Math.min(Integer.MAX_VALUE, 2 + 2L * n);
+    }
+
+    static int compressedSize(int size, int optimalBits, int overflowCount) {
+        int bitsPerElement = optimalBits + 1; // +1 pour le bit d'overflow
+        return 2 + (int) (((long) size * bitsPerElement + 63) >>> 6) + overflowCount;
+    }
+
+    // Histogramme des longueurs en bits (une seule passe) puis seuil optimal en O(64)
+    private int analyze(long[] array, int from, int length, int[] histogram) {
+        Arrays.fill(histogram, 0);
+        for (int i = from; i < from + length; i++) {
+            long value = signed ? ZigZag.encode(array[i]) : array[i];
+            histogram[64 - Long.numberOfLeadingZeros(value)]++;
+        }
+
+        int maxBits = 1;
+        for (int bits = 64; bits > 0; bits--) {
+            if (histogram[bits] != 0) {
+                maxBits = bits;
+                break;
+            }
+        }
+        return optimalBits(histogram, length, maxBits);
+    }
+
+    static int countAbove(int[] histogram, int bits) {
+        int count = 0;
+        for (int b = bits + 1; b <= 64; b++) {
+            count += histogram[b];
+        }
+        return count;
+    }
+
+    // Seuil qui minimise la taille compressée. Un slot sans overflow demande maxBits + 1 bits,
+    // impossible à 64 bits : le seuil est alors au plus 63 et les valeurs sur 64 bits vont en overflow
+    static int optimalBits(int[] histogram, int size, int maxBits) {
+        int bestBits = Math.min(maxBits, 63);
+        long bestSize = maxBits < 64 ? (long) size * (maxBits + 1) : Long.MAX_VALUE;
+
+        int overflowCount = 0;
+        for (int bits = maxBits - 1; bits >= 1; bits--) {
+            overflowCount += histogram[bits + 1];
+            // L'index d'overflow doit tenir dans les bits de valeur du slot
+            // (toujours vrai au-delà de 31 bits, le nombre d'overflows étant un int)
+            if (bits < 31 && overflowCount > (1 << bits)) break;
+
+            long totalSize = (long) size * (bits + 1) + (long) overflowCount * 64;
+            if (totalSize < bestSize) {
+                bestSize = totalSize;
+                bestBits = bits;
+            }
+        }
+
+        return bestBits;
+    }
+
+    private void pack(long[] array, int from, int length, int optimalBits, int overflowCount, long[] compressed, int base) {
+        int bitsPerElement = optimalBits + 1; // +1 pour le bit d'overflow
+        int slotWords = (int) (((long) length * bitsPerElement + 63) >>> 6);
+        int overflowStart = base + 2 + slotWords;
+
+        compressed[base] = LongConsecutiveBitPacking.header(length, bitsPerElement);
+        compressed[base + 1] = overflowCount;
+
+        // Slots assemblés en registre (comme LongConsecutiveBitPacking.packWords), les valeurs
+        // overflow sont écrites directement dans la zone d'overflow
+        long flag = 1L << optimalBits;
+        long word = 0;
+        int filled = 0;
+        int w = base + 2;
+        int overflowIdx = 0;
+
+        for (int i = from; i < from + length; i++) {
+            long value = signed ? ZigZag.encode(array[i]) : array[i];
+            long encoded;
+            if ((value >>> optimalBits) != 0) {
+                compressed[overflowStart + overflowIdx] = array[i];
+                encoded = flag | overflowIdx++;
+            } else {
+                encoded = value;
+            }
+
+            word |= encoded << filled;
+            filled += bitsPerElement;
+            if (filled >= 64) {
+                compressed[w++] = word;
+                filled -= 64;
+                word = filled == 0 ? 0 : encoded >>> (bitsPerElement - filled);
+            }
+        }
+        if (filled > 0) {
+            compressed[w] = word;
+        }
+    }
+
+    @Override
+    public long[] decompress(long[] compressedArray, long[] outputArray) {
+        if (compressedArray == null || compressedArray.length < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+
+        int size = LongConsecutiveBitPacking.headerSize(compressedArray[0]);
+        if (outputArray == null || outputArray.length < size) {
+            outputArray = new long[size];
+        }
+
+        decompressInto(compressedArray, 0, outputArray, 0);
+        return outputArray;
+    }
+
+    @Override
+    public int decompressInto(long[] compressedArray, int offset, long[] outputArray, int outputOffset) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+
+        int size = LongConsecutiveBitPacking.headerSize(compressedArray[offset]);
+        int bitsPerElement = LongConsecutiveBitPacking.headerBits(compressedArray[offset]);
+        if (outputArray == null || outputArray.length - outputOffset < size) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        // Slots décodés en bloc, puis les slots marqués sont remplacés par leur valeur d'overflow
+        LongConsecutiveBitPacking.unpackWords(compressedArray, offset + 2, size, bitsPerElement, outputArray, outputOffset, false);
+
+        int flagShift = bitsPerElement - 1;
+        long valueMask = (1L << flagShift) - 1;
+        int overflowStart = offset + 2 + (int) (((long) size * bitsPerElement + 63) >>> 6);
+        for (int i = outputOffset; i < outputOffset + size; i++) {
+            long value = outputArray[i];
+            if ((value >>> flagShift) != 0) {
+                outputArray[i] = compressedArray[overflowStart + (int) (value & valueMask)];
+            } else if (signed) {
+                outputArray[i] = ZigZag.decode(value);
+            }
+        }
+
+        return size;
+    }
+
+    @Override
+    public long get(long[] compressedArray, int index) {
+        return get(compressedArray, 0, index);
+    }
+
+    @Override
+    public long get(long[] compressedArray, int offset, int index) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+
+        long header = compressedArray[offset];
+        int size = LongConsecutiveBitPacking.headerSize(header);
+        int bitsPerElement = LongConsecutiveBitPacking.headerBits(header);
+
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index hors limites");
+        }
+
+        return slotValue(compressedArray, offset, size, bitsPerElement, index);
+    }
+
+    private long slotValue(long[] compressedArray, int offset, int size, int bitsPerElement, int index) {
+        int flagShift = bitsPerElement - 1;
+        long value = LongConsecutiveBitPacking.extract(compressedArray, offset + 2, (long) index * bitsPerElement, bitsPerElement);
+
+        if ((value >>> flagShift) != 0) {
+            int overflowStart = offset + 2 + (int) (((long) size * bitsPerElement + 63) >>> 6);
+            return compressedArray[overflowStart + (int) (value & ((1L << flagShift) - 1))];
+        }
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    @Override
+    public int decodeRange(long[] compressedArray, int offset, int from, int to, long[] out, int outOffset) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+
+        int size = LongConsecutiveBitPacking.headerSize(compressedArray[offset]);
+        int bitsPerElement = LongConsecutiveBitPacking.headerBits(compressedArray[offset]);
+
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        for (int i = from; i < to; i++) {
+            out[outOffset + i - from] = slotValue(compressedArray, offset, size, bitsPerElement, i);
+        }
+        return to - from;
+    }
+}
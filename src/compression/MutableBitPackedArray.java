@@ -0,0 +1,253 @@
+package compression;
+
+import java.util.Arrays;
+
+// Tableau compressé modifiable : set(i, v), append(v) et ajout groupé, sans cycle
+// décompression / modification / compression.
+//
+// Les valeurs sont rangées au format de ConsecutiveBitPacking (sans en-tête) sur une largeur
+// commune : get(i) est la même extraction que ConsecutiveBitPacking.get. Quand une valeur
+// écrite dépasse la largeur courante, tout le tableau est recompressé sur la nouvelle largeur
+// (groupes de 32 valeurs, par les noyaux). La largeur ne fait que croître, il y a donc au
+// plus 31 recompressions sur toute la vie du tableau : le coût est amorti sur les écritures.
+// La capacité (en mots) croît d'un facteur 1,5 comme celle d'une ArrayList.
+//
+// En mode signé, les valeurs sont stockées en zigzag. Non thread-safe.
+public class MutableBitPackedArray {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    // Groupe de 32 valeurs réutilisé par thread pour la recompression
+    private static final ThreadLocal<int[]> GROUP = ThreadLocal.withInitial(() -> new int[32]);
+
+    private final boolean signed;
+    private int[] words;
+    private int bits;
+    private int size;
+
+    public MutableBitPackedArray() {
+        this(false);
+    }
+
+    public MutableBitPackedArray(boolean signed) {
+        this(signed, 1, DEFAULT_CAPACITY);
+    }
+
+    // Largeur et capacité initiales connues : évite les premières recompressions
+    public MutableBitPackedArray(boolean signed, int initialBits, int initialCapacity) {
+        if (initialBits < 1 || initialBits > 32) {
+            throw new IllegalArgumentException("Largeur invalide : " + initialBits);
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacité invalide : " + initialCapacity);
+        }
+        this.signed = signed;
+        this.bits = initialBits;
+        this.words = new int[wordsFor(initialCapacity, initialBits)];
+    }
+
+    // Reprend un tableau produit par ConsecutiveBitPacking (même mode signé)
+    public static MutableBitPackedArray fromCompressed(int[] compressedArray, boolean signed) {
+        if (compressedArray == null || compressedArray.length < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+        int size = (compressedArray[0] >>> 16) & 0xFFFF;
+        int bits = compressedArray[0] & 0xFFFF;
+        int dataWords = ConsecutiveBitPacking.compressedSize(size, bits) - 1;
+
+        MutableBitPackedArray array = new MutableBitPackedArray(signed, bits, size);
+        System.arraycopy(compressedArray, 1, array.words, 0, dataWords);
+        array.size = size;
+        return array;
+    }
+
+    public static MutableBitPackedArray of(int[] values, boolean signed) {
+        if (values == null) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null");
+        }
+        MutableBitPackedArray array = new MutableBitPackedArray(signed, 1, values.length);
+        array.appendAll(values, 0, values.length);
+        return array;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Largeur courante en bits
+    public int getBits() {
+        return bits;
+    }
+
+    // Capacité actuelle (en valeurs) sans agrandissement ni recompression
+    public int capacity() {
+        return (int) Math.min(Integer.MAX_VALUE, ((long) words.length * 32 - 32) / bits);
+    }
+
+    // Mots de données pour n valeurs, plus un mot de marge : une valeur à cheval sur la fin
+    // des données peut être lue et écrite sans test de limite
+    private static int wordsFor(int n, int bits) {
+        long dataWords = ((long) n * bits + 31) >>> 5;
+        if (dataWords + 1 > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Tableau trop grand");
+        }
+        return (int) dataWords + 1;
+    }
+
+    public int get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+        }
+        int value = ConsecutiveBitPacking.extract(words, 0, (long) i * bits, bits);
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    public void set(int i, int value) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+        }
+        int field = signed ? ZigZag.encode(value) : value;
+        ensureBits(width(field));
+        write(i, field);
+    }
+
+    public void append(int value) {
+        int field = signed ? ZigZag.encode(value) : value;
+        ensureBits(width(field));
+        ensureCapacity(size + 1);
+        write(size++, field);
+    }
+
+    public void appendAll(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null");
+        }
+        appendAll(values, 0, values.length);
+    }
+
+    // Ajout groupé : largeur du lot calculée en une passe (au plus une recompression),
+    // puis groupes de 32 valeurs compressés par les noyaux une fois la fin alignée
+    public void appendAll(int[] values, int offset, int length) {
+        if (values == null || length < 0 || offset < 0 || offset + length > values.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+        if (length == 0) {
+            return;
+        }
+
+        int or = 0;
+        for (int k = offset; k < offset + length; k++) {
+            or |= signed ? ZigZag.encode(values[k]) : values[k];
+        }
+        ensureBits(width(or));
+        ensureCapacity(size + length);
+
+        // Début jusqu'à la frontière de groupe : valeur par valeur
+        int k = offset;
+        int end = offset + length;
+        while (k < end && (size & 31) != 0) {
+            write(size++, signed ? ZigZag.encode(values[k]) : values[k]);
+            k++;
+        }
+
+        // Le reste commence au début d'un mot : même écriture que ConsecutiveBitPacking
+        if (k < end) {
+            ConsecutiveBitPacking.packWords(values, k, end - k, bits, words, (size >>> 5) * bits, signed);
+            size += end - k;
+        }
+    }
+
+    // Valeurs [0, size) dans outputArray à partir de outputOffset
+    public int decompressInto(int[] outputArray, int outputOffset) {
+        if (outputArray == null || outputOffset < 0 || outputArray.length - outputOffset < size) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        ConsecutiveBitPacking.unpackWords(words, 0, size, bits, outputArray, outputOffset, signed);
+        return size;
+    }
+
+    public int[] toArray() {
+        int[] values = new int[size];
+        decompressInto(values, 0);
+        return values;
+    }
+
+    // Copie au format de ConsecutiveBitPacking (en-tête compris), lisible par ce packer
+    public int[] toCompressed() {
+        if (size > ConsecutiveBitPacking.MAX_SIZE) {
+            throw new IllegalArgumentException("Tableau trop grand (max " + ConsecutiveBitPacking.MAX_SIZE + " éléments), utiliser BlockBitPacking");
+        }
+        int dataWords = ConsecutiveBitPacking.compressedSize(size, bits) - 1;
+        int[] compressed = new int[dataWords + 1];
+        compressed[0] = (size << 16) | bits;
+        System.arraycopy(words, 0, compressed, 1, dataWords);
+        return compressed;
+    }
+
+    public void clear() {
+        size = 0;
+        Arrays.fill(words, 0);
+    }
+
+    // Libère la capacité inutilisée
+    public void trimToSize() {
+        int needed = wordsFor(size, bits);
+        if (needed < words.length) {
+            words = Arrays.copyOf(words, needed);
+        }
+    }
+
+    private static int width(int field) {
+        return field == 0 ? 1 : Integer.SIZE - Integer.numberOfLeadingZeros(field);
+    }
+
+    // Écrit le champ (déjà codé) à l'indice i : effacement puis OU, sur un ou deux mots
+    private void write(int i, int field) {
+        long bitPosition = (long) i * bits;
+        int index = (int) (bitPosition >>> 5);
+        int bitOffset = (int) bitPosition & 31;
+        int mask = -1 >>> (32 - bits);
+        field &= mask;
+
+        words[index] = (words[index] & ~(mask << bitOffset)) | (field << bitOffset);
+        if (bitOffset + bits > 32) {
+            int spill = 32 - bitOffset;
+            words[index + 1] = (words[index + 1] & ~(mask >>> spill)) | (field >>> spill);
+        }
+    }
+
+    private void ensureCapacity(int n) {
+        int needed = wordsFor(n, bits);
+        if (needed > words.length) {
+            words = Arrays.copyOf(words, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(needed, (long) words.length * 3 / 2)));
+        }
+    }
+
+    // Recompression sur newBits bits si la largeur courante ne suffit plus ; les champs sont
+    // recopiés tels quels (un champ zigzag reste valide sur une largeur supérieure)
+    private void ensureBits(int newBits) {
+        if (newBits <= bits) {
+            return;
+        }
+
+        int[] widened = new int[Math.max(wordsFor(size, newBits), (int) Math.min(Integer.MAX_VALUE - 8, (long) words.length * newBits / bits))];
+        int[] group = GROUP.get();
+        int fullGroups = size >>> 5;
+        for (int g = 0; g < fullGroups; g++) {
+            ConsecutiveBitPacking.unpack(words, g * bits, group, 0, bits);
+            ConsecutiveBitPacking.pack(group, 0, widened, g * newBits, newBits);
+        }
+
+        int oldBits = bits;
+        int[] old = words;
+        words = widened;
+        bits = newBits;
+        for (int i = fullGroups << 5; i < size; i++) {
+            write(i, ConsecutiveBitPacking.extract(old, 0, (long) i * oldBits, oldBits));
+        }
+    }
+}
@@ -1,111 +1,322 @@
 package compression;
 
-public class NonConsecutiveBitPacking implements BitPacking{
+import storage.WordStorage;
+
+// Bit packing sans chevauchement : chaque mot contient floor(32 / b) valeurs entières,
+// rangées à partir du bit 0 ; les bits restants en haut du mot sont à zéro. Une valeur se
+// lit donc toujours dans un seul mot (un décalage + un masque), au prix de 32 mod b bits
+// perdus par mot quand b ne divise pas 32. Pour les largeurs qui divisent 32, la disposition
+// est identique à celle de ConsecutiveBitPacking.
+//
+// Format :
+//   [0]     taille (16 bits de poids fort) | bits par élément (16 bits de poids faible)
+//   [1...]  ceil(taille / floor(32 / b)) mots de valeurs
+//
+// Le mot de la valeur i est i / floor(32 / b) : la division est remplacée par une
+// multiplication par l'inverse précalculé de chaque largeur (exacte pour i < 2^16).
+public class NonConsecutiveBitPacking implements BitPacking, ScanOperators {
+
+    // Valeurs par mot et inverse en virgule fixe (32 bits) pour chaque largeur
+    private static final int[] PER_WORD = new int[33];
+    private static final long[] RECIPROCAL = new long[33];
+
+    static {
+        for (int bits = 1; bits <= 32; bits++) {
+            PER_WORD[bits] = 32 / bits;
+            RECIPROCAL[bits] = ((1L << 32) + PER_WORD[bits] - 1) / PER_WORD[bits];
+        }
+    }
+
+    // Mode signé : codage zigzag à la compression, décodage dans la boucle d'extraction
+    private final boolean signed;
+
+    public NonConsecutiveBitPacking() {
+        this(false);
+    }
+
+    public NonConsecutiveBitPacking(boolean signed) {
+        this.signed = signed;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
     @Override
     public int[] compress(int[] array) {
         if (array == null || array.length == 0) {
             throw new IllegalArgumentException("Le tableau ne peut pas être null ou vide");
         }
+        checkSize(array.length);
 
-        int originalSize = array.length;
-        int bitsPerElement = calculateMaxBitsNeeded(array);
-
-        // Calcul de la taille du tableau compressé
-        long totalBits = (long) originalSize * bitsPerElement;
-        int compressedSize = (int) ((totalBits +31) / 32);
+        int bitsPerElement = calculateMaxBitsNeeded(array, 0, array.length);
+        int[] compressed = new int[compressedSize(array.length, bitsPerElement)];
+        pack(array, 0, array.length, bitsPerElement, compressed, 0);
+        return compressed;
+    }
 
-        int[] compressed = new int[compressedSize + 1]; // +1 pour les métadonnés
+    @Override
+    public int compressInto(int[] array, int offset, int length, int[] dest, int destOffset) {
+        if (array == null || length <= 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+        checkSize(length);
 
-        //Stockage des métadonnées dans l'en tête
-        compressed[0] = (originalSize << 16) | (bitsPerElement & 0xFFFF);
+        int bitsPerElement = calculateMaxBitsNeeded(array, offset, length);
+        int words = compressedSize(length, bitsPerElement);
+        if (dest == null || destOffset < 0 || dest.length - destOffset < words) {
+            throw new IllegalArgumentException("Tableau de destination trop petit");
+        }
 
-        // Compression des données
-        long bitPosition = 0;
-        int mask = (1 << bitsPerElement) - 1; // Masque pour récup seulement les bits nécessaires
+        pack(array, offset, length, bitsPerElement, dest, destOffset);
+        return words;
+    }
 
-        for (int i = 0; i < originalSize; i++) {
-            int value = array[i] & mask;
-            long currentBitPos = bitPosition;
+    @Override
+    public int maxCompressedSize(int n) {
+        return 1 + n;
+    }
 
-            // Calcul de la position
-            int arrayIndex = (int) (currentBitPos / 32) + 1;
-            int bitOffset = (int) (currentBitPos % 32);
+    static int compressedSize(int originalSize, int bitsPerElement) {
+        int perWord = PER_WORD[bitsPerElement];
+        return (originalSize + perWord - 1) / perWord + 1; // +1 pour les métadonnés
+    }
 
-            // Si la valeur tient entièrement dans l'entier courant
-            if (bitOffset + bitsPerElement <= 32) {
-                compressed[arrayIndex] |= (value << bitOffset);
-            }
+    // Indice (relatif aux données) du mot qui contient la valeur i
+    static int wordIndex(int i, int bitsPerElement) {
+        return (int) ((i * RECIPROCAL[bitsPerElement]) >>> 32);
+    }
 
-            bitPosition += bitsPerElement;
+    private static void checkSize(int size) {
+        if (size > ConsecutiveBitPacking.MAX_SIZE) {
+            throw new IllegalArgumentException("Tableau trop grand (max " + ConsecutiveBitPacking.MAX_SIZE + " éléments), utiliser BlockBitPacking");
         }
+    }
 
-        return compressed;
+    private void pack(int[] array, int from, int originalSize, int bitsPerElement, int[] compressed, int base) {
+        //Stockage des métadonnées dans l'en tête
+        compressed[base] = (originalSize << 16) | (bitsPerElement & 0xFFFF);
+
+        // Chaque mot est assemblé en registre puis écrit une seule fois
+        // (pas de remise à zéro préalable d'un tampon réutilisé)
+        int perWord = PER_WORD[bitsPerElement];
+        int mask = -1 >>> (32 - bitsPerElement); // Masque pour récup seulement les bits nécessaires
+        int arrayIndex = base + 1;
+
+        for (int i = 0; i < originalSize; i += perWord) {
+            int count = Math.min(perWord, originalSize - i);
+            int word = 0;
+            for (int k = 0; k < count; k++) {
+                int value = signed ? ZigZag.encode(array[from + i + k]) : array[from + i + k];
+                word |= (value & mask) << (k * bitsPerElement);
+            }
+            compressed[arrayIndex++] = word;
+        }
     }
 
     @Override
     public int[] decompress(int[] compressedArray, int[] outputArray) {
-        if (compressedArray == null || compressedArray.length == 0) {
+        decompressInto(compressedArray, 0, outputArray, 0);
+        return outputArray;
+    }
+
+    @Override
+    public int decompressInto(int[] compressedArray, int offset, int[] outputArray, int outputOffset) {
+        if (compressedArray == null || compressedArray.length - offset <= 0) {
             throw new IllegalArgumentException("Le tableau compressé ne peut pas être null ou vide");
         }
 
         // Extraction des métadonnées
-        int originalSize = (compressedArray[0] >>> 16) & 0xFFFF;
-        int bitsPerElement = compressedArray[0] & 0xFFFF;
+        int originalSize = (compressedArray[offset] >>> 16) & 0xFFFF;
+        int bitsPerElement = compressedArray[offset] & 0xFFFF;
 
-        if (outputArray == null || outputArray.length < originalSize) {
-            outputArray = new int[originalSize];
+        if (outputArray == null || outputArray.length - outputOffset < originalSize) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
         }
 
-        int mask = (1 << bitsPerElement) - 1;
-        long bitPosition = 0;
-
-        for (int i = 0; i < originalSize; i++) {
-            long currentBitPos = bitPosition;
-            int arrayIndex = (int) (currentBitPos / 32) + 1;
-            int bitOffset = (int) (currentBitPos % 32);
+        decodeWords(compressedArray, offset + 1, 0, originalSize, bitsPerElement, outputArray, outputOffset);
+        return originalSize;
+    }
 
-            // Extraction de la valeur depuis le tableau compressé
-            int value = (compressedArray[arrayIndex] >>> bitOffset) & mask;
-            outputArray[i] = value;
+    // Décode les valeurs [from, to) : mot par mot, un décalage et un masque par valeur
+    private void decodeWords(int[] compressedArray, int data, int from, int to, int bitsPerElement, int[] out, int outOffset) {
+        int perWord = PER_WORD[bitsPerElement];
+        int mask = -1 >>> (32 - bitsPerElement);
+        int arrayIndex = data + wordIndex(from, bitsPerElement);
+        int slot = from - (arrayIndex - data) * perWord;
+        int target = outOffset;
 
-            bitPosition += bitsPerElement;
+        for (int i = from; i < to; ) {
+            int word = compressedArray[arrayIndex++] >>> (slot * bitsPerElement);
+            int end = Math.min(to, i + perWord - slot);
+            for (; i < end; i++) {
+                int value = word & mask;
+                out[target++] = signed ? ZigZag.decode(value) : value;
+                // Décalage ignoré (modulo 32) à 32 bits, où le mot ne contient qu'une valeur
+                word >>>= bitsPerElement;
+            }
+            slot = 0;
         }
-
-        return outputArray;
     }
 
     @Override
     public int get(int[] compressedArray, int i) {
-        if (compressedArray == null || compressedArray.length == 0) {
+        return get(compressedArray, 0, i);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int offset, int i) {
+        if (compressedArray == null || compressedArray.length - offset <= 0) {
             throw new IllegalArgumentException("Le tableau compressé ne peut pas être null ou vide");
         }
 
         // Extraction des métadonnées
-        int originalSize = (compressedArray[0] >>> 16) & 0xFFFF;
-        int bitsPerElement = compressedArray[0] & 0xFFFF;
+        int originalSize = (compressedArray[offset] >>> 16) & 0xFFFF;
+        int bitsPerElement = compressedArray[offset] & 0xFFFF;
 
         if (i < 0 || i >= originalSize) {
             throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + originalSize);
         }
 
-        // Calcul de la position du i-ème élément
-        long bitPosition = (long) i * bitsPerElement;
-        int arrayIndex = (int) (bitPosition / 32) + 1;
-        int bitOffset = (int) (bitPosition % 32);
-
-        int mask = (1 << bitsPerElement) - 1;
+        // Position du i-ème élément : mot par l'inverse précalculé, puis rang dans le mot
+        int word = wordIndex(i, bitsPerElement);
+        int bitOffset = (i - word * PER_WORD[bitsPerElement]) * bitsPerElement;
+        int mask = -1 >>> (32 - bitsPerElement);
 
         // Extraction de la valeur
-        int value = (compressedArray[arrayIndex] >>> bitOffset) & mask;
+        int value = (compressedArray[offset + 1 + word] >>> bitOffset) & mask;
+
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    @Override
+    public int get(WordStorage storage, long offset, int i) {
+        StorageAccess.checkHeader(storage, offset, 1);
+
+        int originalSize = (storage.getWord(offset) >>> 16) & 0xFFFF;
+        int bitsPerElement = storage.getWord(offset) & 0xFFFF;
 
-        return value;
+        if (i < 0 || i >= originalSize) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + originalSize);
+        }
+
+        int word = wordIndex(i, bitsPerElement);
+        int bitOffset = (i - word * PER_WORD[bitsPerElement]) * bitsPerElement;
+        int mask = -1 >>> (32 - bitsPerElement);
+        int value = (storage.getWord(offset + 1 + word) >>> bitOffset) & mask;
+
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    @Override
+    public int decompressInto(WordStorage storage, long offset, int[] outputArray, int outputOffset) {
+        StorageAccess.checkHeader(storage, offset, 1);
+
+        int metadata = storage.getWord(offset);
+        int words = compressedSize((metadata >>> 16) & 0xFFFF, metadata & 0xFFFF);
+        return decompressInto(StorageAccess.load(storage, offset, words), 0, outputArray, outputOffset);
+    }
+
+    @Override
+    public void getMany(int[] compressedArray, int offset, int[] indices, int[] out) {
+        if (compressedArray == null || compressedArray.length - offset <= 0) {
+            throw new IllegalArgumentException("Le tableau compressé ne peut pas être null ou vide");
+        }
+        if (out.length < indices.length) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        // Métadonnées, masque et inverse lus une seule fois pour tout le lot
+        int originalSize = (compressedArray[offset] >>> 16) & 0xFFFF;
+        int bitsPerElement = compressedArray[offset] & 0xFFFF;
+        int mask = -1 >>> (32 - bitsPerElement);
+        int perWord = PER_WORD[bitsPerElement];
+        long reciprocal = RECIPROCAL[bitsPerElement];
+
+        for (int k = 0; k < indices.length; k++) {
+            int i = indices[k];
+            if (i < 0 || i >= originalSize) {
+                throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + originalSize);
+            }
+            int word = (int) ((i * reciprocal) >>> 32);
+            int value = (compressedArray[offset + word + 1] >>> ((i - word * perWord) * bitsPerElement)) & mask;
+            out[k] = signed ? ZigZag.decode(value) : value;
+        }
+    }
+
+    @Override
+    public int decodeRange(int[] compressedArray, int offset, int from, int to, int[] out, int outOffset) {
+        if (compressedArray == null || compressedArray.length - offset <= 0) {
+            throw new IllegalArgumentException("Le tableau compressé ne peut pas être null ou vide");
+        }
+
+        int originalSize = (compressedArray[offset] >>> 16) & 0xFFFF;
+        int bitsPerElement = compressedArray[offset] & 0xFFFF;
+
+        if (from < 0 || to > originalSize || from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        // Seuls les mots couverts par la plage sont lus
+        decodeWords(compressedArray, offset + 1, from, to, bitsPerElement, out, outOffset);
+        return to - from;
+    }
+
+    // Scans : aucune valeur n'est à cheval sur deux mots, la comparaison SWAR s'applique
+    // directement aux mots quelle que soit la largeur (valeurs non signées) ; en mode signé
+    // (zigzag), à 32 bits et pour les agrégats, les valeurs sont décodées par morceaux
+    @Override
+    public long size(int[] compressedArray, int offset) {
+        if (compressedArray == null || compressedArray.length - offset <= 0) {
+            throw new IllegalArgumentException("Le tableau compressé ne peut pas être null ou vide");
+        }
+        return (compressedArray[offset] >>> 16) & 0xFFFF;
+    }
+
+    @Override
+    public long count(int[] compressedArray, int offset, int lo, int hi) {
+        int size = (int) size(compressedArray, offset);
+        int bits = compressedArray[offset] & 0xFFFF;
+        if (PackedScan.domain(signed, bits) != PackedScan.UNSIGNED) {
+            return PackedScan.countDecoded(this, compressedArray, offset, size, lo, hi);
+        }
+        return PackedScan.countAligned(compressedArray, offset + 1, size, bits, PER_WORD[bits], lo, hi);
+    }
+
+    @Override
+    public long filter(int[] compressedArray, int offset, int lo, int hi, long[] bitmap, long bitBase) {
+        int size = (int) size(compressedArray, offset);
+        int bits = compressedArray[offset] & 0xFFFF;
+        if (PackedScan.domain(signed, bits) != PackedScan.UNSIGNED) {
+            return PackedScan.filterDecoded(this, compressedArray, offset, size, lo, hi, bitmap, bitBase);
+        }
+        return PackedScan.filterAligned(compressedArray, offset + 1, size, bits, PER_WORD[bits], lo, hi, bitmap, bitBase);
+    }
+
+    @Override
+    public long sum(int[] compressedArray, int offset) {
+        return PackedScan.sumDecoded(this, compressedArray, offset, (int) size(compressedArray, offset));
+    }
+
+    @Override
+    public int min(int[] compressedArray, int offset) {
+        return PackedScan.minDecoded(this, compressedArray, offset, (int) size(compressedArray, offset));
+    }
+
+    @Override
+    public int max(int[] compressedArray, int offset) {
+        return PackedScan.maxDecoded(this, compressedArray, offset, (int) size(compressedArray, offset));
     }
 
-    private int calculateMaxBitsNeeded(int[] array) {
-        int max = 0;
-        for (int value : array) {
-            max = Math.max(max, value);
+    // Largeur du OU des valeurs (valeurs zigzag en mode signé) : un négatif n'est plus tronqué
+    private int calculateMaxBitsNeeded(int[] array, int from, int length) {
+        int or = 0;
+        for (int i = from; i < from + length; i++) {
+            or |= signed ? ZigZag.encode(array[i]) : array[i];
         }
-        return max == 0 ? 1 : Integer.SIZE - Integer.numberOfLeadingZeros(max);
+        return or == 0 ? 1 : Integer.SIZE - Integer.numberOfLeadingZeros(or);
     }
 }
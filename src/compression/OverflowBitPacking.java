@@ -1,51 +1,145 @@
 package compression;
 
-import java.util.ArrayList;
-import java.util.List;
+import storage.WordStorage;
 
-public class OverflowBitPacking implements BitPacking {
+import java.util.Arrays;
+
+public class OverflowBitPacking implements BitPacking, ScanOperators {
+
+    // Le nombre d'overflows est stocké sur 8 bits dans l'en-tête
+    static final int MAX_OVERFLOWS = 0xFF;
+
+    // Largeur 0 dans l'en-tête : aucun seuil ne convient (valeurs sur 32 bits trop nombreuses
+    // pour la zone d'overflow), les valeurs sont stockées telles quelles sur 32 bits, sans bit
+    // ni zone d'overflow
+    static final int RAW = 0;
+
+    // Histogramme réutilisé d'un appel à l'autre (un par thread) : compress n'alloue que le résultat
+    private static final ThreadLocal<int[]> HISTOGRAM = ThreadLocal.withInitial(() -> new int[33]);
+
+    // Mode signé : les slots contiennent la valeur zigzag (décodée à l'extraction),
+    // la zone d'overflow garde la valeur d'origine
+    private final boolean signed;
+
+    public OverflowBitPacking() {
+        this(false);
+    }
+
+    public OverflowBitPacking(boolean signed) {
+        this.signed = signed;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
 
     @Override
     public int[] compress(int[] array) {
         if (array == null || array.length == 0) {
             return new int[0];
         }
+        checkSize(array.length);
 
-        // 1. Trouver le seuil optimal
-        int maxBits = findMaxBits(array);
-        int optimalBits = findOptimalBits(array, maxBits);
-        int threshold = (1 << optimalBits) - 1;
+        // 1. Trouver le seuil optimal (le nombre d'overflows est connu d'avance)
+        int[] histogram = HISTOGRAM.get();
+        int optimalBits = analyze(array, 0, array.length, histogram);
+        int overflowCount = countAbove(histogram, optimalBits);
 
-        // 2. Identifier les valeurs en overflow
-        List<Integer> overflowValues = new ArrayList<>();
-        for (int value : array) {
-            if (value > threshold) {
-                overflowValues.add(value);
-            }
+        // 2. Créer le tableau et compresser
+        int[] compressed = new int[compressedSize(array.length, optimalBits, overflowCount)];
+        pack(array, 0, array.length, optimalBits, overflowCount, compressed, 0);
+        return compressed;
+    }
+
+    @Override
+    public int compressInto(int[] array, int offset, int length, int[] dest, int destOffset) {
+        if (array == null || length < 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+        if (length == 0) {
+            return 0;
+        }
+        checkSize(length);
+
+        int[] histogram = HISTOGRAM.get();
+        int optimalBits = analyze(array, offset, length, histogram);
+        int overflowCount = countAbove(histogram, optimalBits);
+
+        int words = compressedSize(length, optimalBits, overflowCount);
+        if (dest == null || destOffset < 0 || dest.length - destOffset < words) {
+            throw new IllegalArgumentException("Tableau de destination trop petit");
+        }
+
+        pack(array, offset, length, optimalBits, overflowCount, dest, destOffset);
+        return words;
+    }
+
+    @Override
+    public int maxCompressedSize(int n) {
+        // Au pire 32 bits par slot + la zone d'overflow (valeurs sur 32 bits)
+        return 1 + n + Math.min(n, MAX_OVERFLOWS);
+    }
+
+    private static void checkSize(int size) {
+        if (size > ConsecutiveBitPacking.MAX_SIZE) {
+            throw new IllegalArgumentException("Tableau trop grand (max " + ConsecutiveBitPacking.MAX_SIZE + " éléments), utiliser BlockBitPacking");
+        }
+    }
+
+    static int compressedSize(int size, int optimalBits, int overflowCount) {
+        if (optimalBits == 32) {
+            return 1 + size;
+        }
+        int bitsPerElement = optimalBits + 1; // +1 pour le bit d'overflow
+        return 1 + (int) (((long) size * bitsPerElement + 31) / 32) + overflowCount;
+    }
+
+    // Histogramme des longueurs en bits (une seule passe) puis seuil optimal en O(32)
+    private int analyze(int[] array, int from, int length, int[] histogram) {
+        Arrays.fill(histogram, 0);
+        for (int i = from; i < from + length; i++) {
+            int value = signed ? ZigZag.encode(array[i]) : array[i];
+            histogram[32 - Integer.numberOfLeadingZeros(value)]++;
+        }
+
+        return optimalBits(histogram, length, findMaxBits(histogram));
+    }
+
+    private void pack(int[] array, int from, int length, int optimalBits, int overflowCount, int[] compressed, int base) {
+        if (optimalBits == 32) {
+            compressed[base] = (length << 16) | RAW;
+            System.arraycopy(array, from, compressed, base + 1, length);
+            return;
         }
 
-        // 3. Calculer la taille et créer le tableau
         int bitsPerElement = optimalBits + 1; // +1 pour le bit d'overflow
-        int compressedSize = (int) (((long) array.length * bitsPerElement + 31) / 32);
-        int[] compressed = new int[1 + compressedSize + overflowValues.size()];
+        int compressedSize = (int) (((long) length * bitsPerElement + 31) / 32);
 
-        // 4. Stocker les métadonnées (format: [size][overflow count][bits])
-        compressed[0] = (array.length << 16) | (overflowValues.size() << 8) | bitsPerElement;
+        // Stocker les métadonnées (format: [size][overflow count][bits])
+        compressed[base] = (length << 16) | (overflowCount << 8) | bitsPerElement;
 
-        // 5. Compresser
+        // Remise à zéro des slots : la destination peut être un tampon réutilisé
+        int overflowStart = base + 1 + compressedSize;
+        for (int w = base + 1; w < overflowStart; w++) {
+            compressed[w] = 0;
+        }
+
+        // Compresser, les valeurs overflow sont écrites directement dans la zone d'overflow
         long bitPos = 0;
         int overflowIdx = 0;
-        int mask = (1 << bitsPerElement) - 1;
+        int mask = -1 >>> (32 - bitsPerElement);
 
-        for (int value : array) {
+        for (int i = from; i < from + length; i++) {
+            int value = signed ? ZigZag.encode(array[i]) : array[i];
             int encoded;
-            if (value > threshold) {
+            if ((value >>> optimalBits) != 0) {
+                compressed[overflowStart + overflowIdx] = array[i];
                 encoded = (1 << (bitsPerElement - 1)) | overflowIdx++;
             } else {
                 encoded = value;
             }
 
-            int arrayIdx = (int) (bitPos / 32) + 1;
+            int arrayIdx = (int) (bitPos / 32) + base + 1;
             int bitOffset = (int) (bitPos % 32);
 
             if (bitOffset + bitsPerElement <= 32) {
@@ -58,44 +152,45 @@ public class OverflowBitPacking implements BitPacking {
 
             bitPos += bitsPerElement;
         }
-
-        // 6. Copier les valeurs overflow
-        int overflowStart = 1 + compressedSize;
-        for (int i = 0; i < overflowValues.size(); i++) {
-            compressed[overflowStart + i] = overflowValues.get(i);
-        }
-
-        return compressed;
     }
 
     @Override
     public int[] decompress(int[] compressedArray, int[] outputArray) {
-        if (compressedArray == null || compressedArray.length < 1) {
+        decompressInto(compressedArray, 0, outputArray, 0);
+        return outputArray;
+    }
+
+    @Override
+    public int decompressInto(int[] compressedArray, int offset, int[] outputArray, int outputOffset) {
+        if (compressedArray == null || compressedArray.length - offset < 1) {
             throw new IllegalArgumentException("Tableau compressé invalide");
         }
 
         // Extraction métadonnées
-        int meta = compressedArray[0];
+        int meta = compressedArray[offset];
         int size = (meta >>> 16) & 0xFFFF;
-        int overflowCount = (meta >>> 8) & 0xFF;
         int bitsPerElement = meta & 0xFF;
 
-        if (outputArray == null || outputArray.length < size) {
-            outputArray = new int[size];
+        if (outputArray == null || outputArray.length - outputOffset < size) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        if (bitsPerElement == RAW) {
+            System.arraycopy(compressedArray, offset + 1, outputArray, outputOffset, size);
+            return size;
         }
 
         int compressedSize = (int) (((long) size * bitsPerElement + 31) / 32);
-        int overflowStart = 1 + compressedSize;
+        int overflowStart = offset + 1 + compressedSize;
         int valueMask = (1 << (bitsPerElement - 1)) - 1;
         long bitPos = 0;
 
         for (int i = 0; i < size; i++) {
-            int arrayIdx = (int) (bitPos / 32) + 1;
+            int arrayIdx = (int) (bitPos / 32) + offset + 1;
             int bitOffset = (int) (bitPos % 32);
             int value;
 
             if (bitOffset + bitsPerElement <= 32) {
-                value = (compressedArray[arrayIdx] >>> bitOffset) & ((1 << bitsPerElement) - 1);
+                value = (compressedArray[arrayIdx] >>> bitOffset) & (-1 >>> (32 - bitsPerElement));
             } else {
                 int firstBits = 32 - bitOffset;
                 int lower = (compressedArray[arrayIdx] >>> bitOffset) & ((1 << firstBits) - 1);
@@ -105,38 +200,46 @@ public class OverflowBitPacking implements BitPacking {
 
             // Vérifier le bit d'overflow
             if ((value >>> (bitsPerElement - 1)) == 1) {
-                outputArray[i] = compressedArray[overflowStart + (value & valueMask)];
+                outputArray[outputOffset + i] = compressedArray[overflowStart + (value & valueMask)];
             } else {
-                outputArray[i] = value & valueMask;
+                outputArray[outputOffset + i] = signed ? ZigZag.decode(value & valueMask) : value & valueMask;
             }
 
             bitPos += bitsPerElement;
         }
 
-        return outputArray;
+        return size;
     }
 
     @Override
     public int get(int[] compressedArray, int index) {
-        if (compressedArray == null || compressedArray.length < 1) {
+        return get(compressedArray, 0, index);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int offset, int index) {
+        if (compressedArray == null || compressedArray.length - offset < 1) {
             throw new IllegalArgumentException("Tableau compressé invalide");
         }
 
-        int meta = compressedArray[0];
+        int meta = compressedArray[offset];
         int size = (meta >>> 16) & 0xFFFF;
         int bitsPerElement = meta & 0xFF;
 
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Index hors limites");
         }
+        if (bitsPerElement == RAW) {
+            return compressedArray[offset + 1 + index];
+        }
 
         long bitPos = (long) index * bitsPerElement;
-        int arrayIdx = (int) (bitPos / 32) + 1;
+        int arrayIdx = (int) (bitPos / 32) + offset + 1;
         int bitOffset = (int) (bitPos % 32);
         int value;
 
         if (bitOffset + bitsPerElement <= 32) {
-            value = (compressedArray[arrayIdx] >>> bitOffset) & ((1 << bitsPerElement) - 1);
+            value = (compressedArray[arrayIdx] >>> bitOffset) & (-1 >>> (32 - bitsPerElement));
         } else {
             int firstBits = 32 - bitOffset;
             int lower = (compressedArray[arrayIdx] >>> bitOffset) & ((1 << firstBits) - 1);
@@ -147,34 +250,309 @@ public class OverflowBitPacking implements BitPacking {
         int valueMask = (1 << (bitsPerElement - 1)) - 1;
         if ((value >>> (bitsPerElement - 1)) == 1) {
             int compressedSize = (int) (((long) size * bitsPerElement + 31) / 32);
-            int overflowStart = 1 + compressedSize;
+            int overflowStart = offset + 1 + compressedSize;
             return compressedArray[overflowStart + (value & valueMask)];
         }
 
-        return value & valueMask;
+        return signed ? ZigZag.decode(value & valueMask) : value & valueMask;
     }
 
-    private int findMaxBits(int[] array) {
-        int max = 0;
-        for (int value : array) {
-            if (value > max) max = value;
+    @Override
+    public int get(WordStorage storage, long offset, int index) {
+        StorageAccess.checkHeader(storage, offset, 1);
+
+        int meta = storage.getWord(offset);
+        int size = (meta >>> 16) & 0xFFFF;
+        int bitsPerElement = meta & 0xFF;
+
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index hors limites");
+        }
+        if (bitsPerElement == RAW) {
+            return storage.getWord(offset + 1 + index);
+        }
+
+        int flagShift = bitsPerElement - 1;
+        int valueMask = (1 << flagShift) - 1;
+        int value = StorageAccess.extract(storage, offset + 1, (long) index * bitsPerElement, bitsPerElement);
+
+        if ((value >>> flagShift) == 1) {
+            long overflowStart = offset + 1 + ((long) size * bitsPerElement + 31) / 32;
+            return storage.getWord(overflowStart + (value & valueMask));
         }
-        return max == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(max);
+        return signed ? ZigZag.decode(value & valueMask) : value & valueMask;
     }
 
-    private int findOptimalBits(int[] array, int maxBits) {
-        int bestBits = maxBits;
-        long bestSize = Long.MAX_VALUE;
+    // Slots et zone d'overflow sont contigus : chargés d'un coup puis décodés comme un int[]
+    @Override
+    public int decompressInto(WordStorage storage, long offset, int[] outputArray, int outputOffset) {
+        StorageAccess.checkHeader(storage, offset, 1);
+
+        int meta = storage.getWord(offset);
+        int bits = meta & 0xFF;
+        int words = compressedSize((meta >>> 16) & 0xFFFF, bits == RAW ? 32 : bits - 1, (meta >>> 8) & 0xFF);
+        return decompressInto(StorageAccess.load(storage, offset, words), 0, outputArray, outputOffset);
+    }
+
+    @Override
+    public void getMany(int[] compressedArray, int offset, int[] indices, int[] out) {
+        if (compressedArray == null || compressedArray.length - offset < 1) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+        if (out.length < indices.length) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        // Métadonnées, masques et début de la zone d'overflow calculés une seule fois
+        int meta = compressedArray[offset];
+        int size = (meta >>> 16) & 0xFFFF;
+        int bitsPerElement = meta & 0xFF;
+        int overflowStart = offset + 1 + (int) (((long) size * bitsPerElement + 31) / 32);
+        int flagShift = bitsPerElement - 1;
+        int valueMask = (1 << flagShift) - 1;
+
+        for (int k = 0; k < indices.length; k++) {
+            int index = indices[k];
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index hors limites");
+            }
+            if (bitsPerElement == RAW) {
+                out[k] = compressedArray[offset + 1 + index];
+                continue;
+            }
+            int value = ConsecutiveBitPacking.extract(compressedArray, offset + 1, (long) index * bitsPerElement, bitsPerElement);
+            if ((value >>> flagShift) == 1) {
+                out[k] = compressedArray[overflowStart + (value & valueMask)];
+            } else {
+                out[k] = signed ? ZigZag.decode(value) : value;
+            }
+        }
+    }
 
-        for (int bits = 4; bits < maxBits; bits++) {
-            int threshold = (1 << bits) - 1;
-            int overflowCount = 0;
+    @Override
+    public int decodeRange(int[] compressedArray, int offset, int from, int to, int[] out, int outOffset) {
+        if (compressedArray == null || compressedArray.length - offset < 1) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
 
-            for (int value : array) {
-                if (value > threshold) overflowCount++;
+        int meta = compressedArray[offset];
+        int size = (meta >>> 16) & 0xFFFF;
+        int bitsPerElement = meta & 0xFF;
+
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        if (bitsPerElement == RAW) {
+            System.arraycopy(compressedArray, offset + 1 + from, out, outOffset, to - from);
+            return to - from;
+        }
+
+        int overflowStart = offset + 1 + (int) (((long) size * bitsPerElement + 31) / 32);
+        int flagShift = bitsPerElement - 1;
+        int valueMask = (1 << flagShift) - 1;
+
+        // Les slots sont compressés de façon consécutive : on réutilise les noyaux déroulés
+        // sur les groupes complets, puis on remplace les slots marqués par leur valeur d'overflow
+        int i = from;
+        int target = outOffset;
+        while (i < to && (i & 31) != 0) {
+            out[target++] = ConsecutiveBitPacking.extract(compressedArray, offset + 1, (long) i * bitsPerElement, bitsPerElement);
+            i++;
+        }
+        while (i + 32 <= to) {
+            ConsecutiveBitPacking.unpack(compressedArray, offset + 1 + (i >>> 5) * bitsPerElement, out, target, bitsPerElement);
+            i += 32;
+            target += 32;
+        }
+        while (i < to) {
+            out[target++] = ConsecutiveBitPacking.extract(compressedArray, offset + 1, (long) i * bitsPerElement, bitsPerElement);
+            i++;
+        }
+
+        for (int k = outOffset; k < target; k++) {
+            int value = out[k];
+            if ((value >>> flagShift) == 1) {
+                out[k] = compressedArray[overflowStart + (value & valueMask)];
+            } else if (signed) {
+                out[k] = ZigZag.decode(value);
             }
+        }
+
+        return to - from;
+    }
+
+    // Scans : les slots sont comparés sur place et la zone d'overflow est parcourue à part
+    // (chaque valeur d'overflow y figure une seule fois). En mode non signé, un slot marqué
+    // vaut au moins 2^(b-1) : borner l'intervalle aux valeurs directes [0, 2^(b-1) - 1]
+    // suffit à l'écarter, et les noyaux communs (SWAR compris) lisent les slots tels quels.
+    // En mode signé (slots en zigzag) et sans zone d'overflow (RAW), les valeurs sont
+    // décodées par morceaux.
+    @Override
+    public long size(int[] compressedArray, int offset) {
+        if (compressedArray == null || compressedArray.length - offset < 1) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+        return (compressedArray[offset] >>> 16) & 0xFFFF;
+    }
+
+    private static int overflowStart(int[] compressedArray, int offset, int size) {
+        int bitsPerElement = compressedArray[offset] & 0xFF;
+        return offset + 1 + (int) (((long) size * bitsPerElement + 31) / 32);
+    }
+
+    @Override
+    public long count(int[] compressedArray, int offset, int lo, int hi) {
+        int size = (int) size(compressedArray, offset);
+        if (signed || (compressedArray[offset] & 0xFF) == RAW) {
+            return PackedScan.countDecoded(this, compressedArray, offset, size, lo, hi);
+        }
+
+        int meta = compressedArray[offset];
+        int bitsPerElement = meta & 0xFF;
+        int overflowStart = overflowStart(compressedArray, offset, size);
+        int overflowEnd = overflowStart + ((meta >>> 8) & 0xFF);
+
+        long matches = 0;
+        for (int k = overflowStart; k < overflowEnd; k++) {
+            if (compressedArray[k] >= lo && compressedArray[k] <= hi) {
+                matches++;
+            }
+        }
+        long directMax = (1L << (bitsPerElement - 1)) - 1;
+        return matches + PackedScan.count(compressedArray, offset + 1, size, bitsPerElement, PackedScan.UNSIGNED, lo, Math.min(hi, directMax));
+    }
+
+    @Override
+    public long filter(int[] compressedArray, int offset, int lo, int hi, long[] bitmap, long bitBase) {
+        int size = (int) size(compressedArray, offset);
+        if (signed || (compressedArray[offset] & 0xFF) == RAW) {
+            return PackedScan.filterDecoded(this, compressedArray, offset, size, lo, hi, bitmap, bitBase);
+        }
+
+        int meta = compressedArray[offset];
+        int bitsPerElement = meta & 0xFF;
+        int overflowStart = overflowStart(compressedArray, offset, size);
+        int overflowEnd = overflowStart + ((meta >>> 8) & 0xFF);
+
+        long directMax = (1L << (bitsPerElement - 1)) - 1;
+        long matches = PackedScan.filter(compressedArray, offset + 1, size, bitsPerElement, PackedScan.UNSIGNED,
+                lo, Math.min(hi, directMax), bitmap, bitBase);
+
+        // Les slots ne sont relus pour leurs marques que si une valeur d'overflow est retenue
+        boolean overflowHit = false;
+        for (int k = overflowStart; k < overflowEnd && !overflowHit; k++) {
+            overflowHit = compressedArray[k] >= lo && compressedArray[k] <= hi;
+        }
+        if (!overflowHit) {
+            return matches;
+        }
+
+        int flagShift = bitsPerElement - 1;
+        int valueMask = (1 << flagShift) - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = ConsecutiveBitPacking.extract(compressedArray, offset + 1, (long) i * bitsPerElement, bitsPerElement);
+            if ((slot >>> flagShift) == 1) {
+                int value = compressedArray[overflowStart + (slot & valueMask)];
+                if (value >= lo && value <= hi) {
+                    PackedScan.setBit(bitmap, bitBase + i);
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public long sum(int[] compressedArray, int offset) {
+        int size = (int) size(compressedArray, offset);
+        if (signed || (compressedArray[offset] & 0xFF) == RAW) {
+            return PackedScan.sumDecoded(this, compressedArray, offset, size);
+        }
+
+        int meta = compressedArray[offset];
+        int bitsPerElement = meta & 0xFF;
+        int overflowCount = (meta >>> 8) & 0xFF;
+        int overflowStart = overflowStart(compressedArray, offset, size);
+
+        // Les slots marqués valent 2^(b-1) + index, les index 0 .. overflowCount-1 une fois chacun :
+        // leur contribution est retirée de la somme de tous les slots, sans les repérer
+        long sum = PackedScan.sum(compressedArray, offset + 1, size, bitsPerElement, PackedScan.UNSIGNED);
+        sum -= ((long) overflowCount << (bitsPerElement - 1)) + (long) overflowCount * (overflowCount - 1) / 2;
+        for (int k = overflowStart; k < overflowStart + overflowCount; k++) {
+            sum += compressedArray[k];
+        }
+        return sum;
+    }
+
+    @Override
+    public int min(int[] compressedArray, int offset) {
+        int size = (int) size(compressedArray, offset);
+        if (signed || (compressedArray[offset] & 0xFF) == RAW) {
+            return PackedScan.minDecoded(this, compressedArray, offset, size);
+        }
+
+        int meta = compressedArray[offset];
+        int bitsPerElement = meta & 0xFF;
+        int overflowCount = (meta >>> 8) & 0xFF;
+        int overflowStart = overflowStart(compressedArray, offset, size);
+
+        // Un slot marqué dépasse toute valeur directe : le minimum des slots est une valeur directe
+        // dès qu'il en existe une
+        int min = Integer.MAX_VALUE;
+        for (int k = overflowStart; k < overflowStart + overflowCount; k++) {
+            min = Math.min(min, compressedArray[k]);
+        }
+        if (size > overflowCount) {
+            min = (int) Math.min(min, PackedScan.min(compressedArray, offset + 1, size, bitsPerElement, PackedScan.UNSIGNED));
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] compressedArray, int offset) {
+        int size = (int) size(compressedArray, offset);
+        if (signed || ((compressedArray[offset] >>> 8) & 0xFF) != 0 || (compressedArray[offset] & 0xFF) == RAW) {
+            return PackedScan.maxDecoded(this, compressedArray, offset, size);
+        }
+        int bitsPerElement = compressedArray[offset] & 0xFF;
+        return (int) PackedScan.max(compressedArray, offset + 1, size, bitsPerElement, PackedScan.UNSIGNED);
+    }
+
+    // Plus grande longueur en bits présente (une valeur négative compte pour 32 bits)
+    static int findMaxBits(int[] histogram) {
+        for (int bits = 32; bits > 0; bits--) {
+            if (histogram[bits] != 0) return bits;
+        }
+        return 1;
+    }
+
+    // Nombre de valeurs qui ne tiennent pas sur bits bits
+    static int countAbove(int[] histogram, int bits) {
+        int count = 0;
+        for (int b = bits + 1; b <= 32; b++) {
+            count += histogram[b];
+        }
+        return count;
+    }
+
+    // Seuil qui minimise la taille compressée ; 32 si aucun seuil n'est utilisable
+    // (valeurs sur 32 bits en trop grand nombre pour la zone d'overflow) : format RAW
+    static int optimalBits(int[] histogram, int size, int maxBits) {
+        // Sans overflow : maxBits bits + le bit d'overflow (impossible sur 32 bits)
+        int bestBits = maxBits;
+        long bestSize = maxBits < 32 ? (long) size * (maxBits + 1) : Long.MAX_VALUE;
+
+        // On parcourt les largeurs de haut en bas en cumulant les overflows
+        int overflowCount = 0;
+        for (int bits = Math.min(maxBits, 32) - 1; bits >= 4; bits--) {
+            overflowCount += histogram[bits + 1];
+            // L'index d'overflow doit tenir dans l'en-tête et dans les bits de valeur du slot
+            if (overflowCount > MAX_OVERFLOWS || overflowCount > (1L << bits)) break;
 
-            long totalSize = (long) array.length * (bits + 1) + (long) overflowCount * 32;
+            long totalSize = (long) size * (bits + 1) + (long) overflowCount * 32;
             if (totalSize < bestSize) {
                 bestSize = totalSize;
                 bestBits = bits;
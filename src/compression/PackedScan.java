@@ -0,0 +1,438 @@
+package compression;
+
+// Noyaux communs des ScanOperators, sur count champs de bits bits rangés consécutivement
+// à partir de words[base] (format de ConsecutiveBitPacking.packWords).
+//
+// Les comparaisons portent sur la valeur du champ selon son domaine :
+//   UNSIGNED : champ non signé, 0 .. 2^bits - 1 (valeurs positives, écarts de FOR)
+//   SIGNED   : champ de 32 bits lu comme un int (négatifs d'un packer non signé)
+//   ZIGZAG   : champ décodé en zigzag (packer en mode signé)
+// Les bornes sont des long pour couvrir les trois domaines.
+//
+// Domaine UNSIGNED et champs alignés sur les mots (largeur qui divise 32 en disposition
+// consécutive, toute largeur en disposition NonConsecutive) : la comparaison se fait en SWAR
+// sur un mot entier. Les champs pairs et impairs sont séparés dans des couloirs de 2 * bits
+// bits, le bit bits de chaque couloir sert de garde :
+//   (champ | garde) - lo   conserve la garde ssi champ >= lo
+//   (hi | garde) - champ   conserve la garde ssi champ <= hi
+// sans retenue d'un couloir à l'autre. Un popcount des gardes restantes donne le comptage.
+// Autres cas : groupes de 32 champs décodés par le noyau dans un tampon de 32 entiers.
+final class PackedScan {
+
+    static final int UNSIGNED = 0;
+    static final int SIGNED = 1;
+    static final int ZIGZAG = 2;
+
+    // Valeurs décodées par groupe de 32, ou par morceau pour les formats sans accès aux champs
+    private static final int CHUNK_SIZE = 1024;
+    private static final ThreadLocal<int[]> GROUP = ThreadLocal.withInitial(() -> new int[32]);
+    private static final ThreadLocal<int[]> CHUNK = ThreadLocal.withInitial(() -> new int[CHUNK_SIZE]);
+
+    private PackedScan() {
+    }
+
+    // Domaine des champs d'un packer : zigzag en mode signé, négatifs bruts sur 32 bits sinon
+    static int domain(boolean signed, int bits) {
+        return signed ? ZIGZAG : (bits == 32 ? SIGNED : UNSIGNED);
+    }
+
+    private static boolean swar(int domain, int bits) {
+        return domain == UNSIGNED && bits <= 16 && (32 % bits) == 0;
+    }
+
+    static void setBit(long[] bitmap, long bit) {
+        bitmap[(int) (bit >>> 6)] |= 1L << bit;
+    }
+
+    // Valeur d'un champ du tampon de groupe (déjà décodé en zigzag si besoin)
+    private static long value(int field, int domain) {
+        return domain == UNSIGNED ? field & 0xFFFFFFFFL : field;
+    }
+
+    private static int field(int[] words, int base, int i, int bits, int domain) {
+        int field = ConsecutiveBitPacking.extract(words, base, (long) i * bits, bits);
+        return domain == ZIGZAG ? ZigZag.decode(field) : field;
+    }
+
+    private static void unpackGroup(int[] words, int base, int g, int bits, int domain, int[] group) {
+        ConsecutiveBitPacking.unpack(words, base + g * bits, group, 0, bits);
+        if (domain == ZIGZAG) {
+            ZigZag.decode(group, 0, 32);
+        }
+    }
+
+    static long count(int[] words, int base, int count, int bits, int domain, long lo, long hi) {
+        if (lo > hi || count == 0) {
+            return 0;
+        }
+        if (domain == UNSIGNED) {
+            // Bornes du domaine : bloc entièrement rejeté ou entièrement retenu sans lecture
+            long max = (1L << bits) - 1;
+            if (hi < 0 || lo > max) {
+                return 0;
+            }
+            if (lo <= 0 && hi >= max) {
+                return count;
+            }
+            lo = Math.max(lo, 0);
+            hi = Math.min(hi, max);
+        }
+        if (swar(domain, bits)) {
+            return countSwar(words, base, count, bits, 32 / bits, lo, hi);
+        }
+
+        // Comparaison sans branchement : v est dans [lo, hi] ssi (v - lo) | (hi - v) est positif
+        long matches = 0;
+        int[] group = GROUP.get();
+        int fullGroups = count >>> 5;
+        for (int g = 0; g < fullGroups; g++) {
+            unpackGroup(words, base, g, bits, domain, group);
+            for (int k = 0; k < 32; k++) {
+                long v = value(group[k], domain);
+                matches += ~((v - lo) | (hi - v)) >>> 63;
+            }
+        }
+        for (int i = fullGroups << 5; i < count; i++) {
+            long v = value(field(words, base, i, bits, domain), domain);
+            if (v >= lo && v <= hi) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    // Disposition alignée (NonConsecutiveBitPacking) : perWord champs par mot à partir du bit 0,
+    // jamais à cheval sur deux mots ; domaine UNSIGNED uniquement
+    static long countAligned(int[] words, int base, int count, int bits, int perWord, long lo, long hi) {
+        long max = (1L << bits) - 1;
+        if (lo > hi || count == 0 || hi < 0 || lo > max) {
+            return 0;
+        }
+        if (lo <= 0 && hi >= max) {
+            return count;
+        }
+        return countSwar(words, base, count, bits, perWord, Math.max(lo, 0), Math.min(hi, max));
+    }
+
+    static long filterAligned(int[] words, int base, int count, int bits, int perWord, long lo, long hi, long[] bitmap, long bitBase) {
+        long max = (1L << bits) - 1;
+        if (lo > hi || count == 0 || hi < 0 || lo > max) {
+            return 0;
+        }
+        if (lo <= 0 && hi >= max) {
+            setRange(bitmap, bitBase, count);
+            return count;
+        }
+        return filterSwar(words, base, count, bits, perWord, Math.max(lo, 0), Math.min(hi, max), bitmap, bitBase);
+    }
+
+    // Répète pattern dans lanes couloirs de 2 * bits bits
+    private static long lanes(int lanes, int bits, long pattern) {
+        long result = 0;
+        for (int j = 0; j < lanes; j++) {
+            result |= pattern << (2 * bits * j);
+        }
+        return result;
+    }
+
+    // Champs dans [lo, hi] du dernier mot incomplet (les champs de remplissage sont ignorés)
+    private static long tail(int word, int bits, int fields, long lo, long hi, long[] bitmap, long bitBase) {
+        long matches = 0;
+        long mask = (1L << bits) - 1;
+        for (int j = 0; j < fields; j++) {
+            long v = (word & 0xFFFFFFFFL) >>> (j * bits) & mask;
+            if (v >= lo && v <= hi) {
+                if (bitmap != null) {
+                    setBit(bitmap, bitBase + j);
+                }
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static long countSwar(int[] words, int base, int count, int bits, int perWord, long lo, long hi) {
+        int evenLanes = (perWord + 1) >>> 1;
+        int oddLanes = perWord >>> 1;
+        long field = (1L << bits) - 1;
+        long evenLow = lanes(evenLanes, bits, field);
+        long evenGuards = lanes(evenLanes, bits, 1L << bits);
+        long evenLos = lanes(evenLanes, bits, lo);
+        long evenHis = lanes(evenLanes, bits, hi) | evenGuards;
+        long oddLow = lanes(oddLanes, bits, field);
+        long oddGuards = lanes(oddLanes, bits, 1L << bits);
+        long oddLos = lanes(oddLanes, bits, lo);
+        long oddHis = lanes(oddLanes, bits, hi) | oddGuards;
+
+        long matches = 0;
+        int fullWords = count / perWord;
+        for (int w = 0; w < fullWords; w++) {
+            long x = words[base + w] & 0xFFFFFFFFL;
+            long even = x & evenLow;
+            long odd = (x >>> bits) & oddLow;
+            long evenHits = ((even | evenGuards) - evenLos) & (evenHis - even) & evenGuards;
+            long oddHits = ((odd | oddGuards) - oddLos) & (oddHis - odd) & oddGuards;
+            matches += Long.bitCount(evenHits) + Long.bitCount(oddHits);
+        }
+
+        int rest = count - fullWords * perWord;
+        if (rest > 0) {
+            matches += tail(words[base + fullWords], bits, rest, lo, hi, null, 0);
+        }
+        return matches;
+    }
+
+    static long filter(int[] words, int base, int count, int bits, int domain, long lo, long hi, long[] bitmap, long bitBase) {
+        if (lo > hi || count == 0) {
+            return 0;
+        }
+        if (domain == UNSIGNED) {
+            long max = (1L << bits) - 1;
+            if (hi < 0 || lo > max) {
+                return 0;
+            }
+            if (lo <= 0 && hi >= max) {
+                setRange(bitmap, bitBase, count);
+                return count;
+            }
+            lo = Math.max(lo, 0);
+            hi = Math.min(hi, max);
+        }
+        if (swar(domain, bits)) {
+            return filterSwar(words, base, count, bits, 32 / bits, lo, hi, bitmap, bitBase);
+        }
+
+        long matches = 0;
+        int[] group = GROUP.get();
+        int fullGroups = count >>> 5;
+        for (int g = 0; g < fullGroups; g++) {
+            unpackGroup(words, base, g, bits, domain, group);
+            for (int k = 0; k < 32; k++) {
+                long v = value(group[k], domain);
+                if (v >= lo && v <= hi) {
+                    setBit(bitmap, bitBase + (g << 5) + k);
+                    matches++;
+                }
+            }
+        }
+        for (int i = fullGroups << 5; i < count; i++) {
+            long v = value(field(words, base, i, bits, domain), domain);
+            if (v >= lo && v <= hi) {
+                setBit(bitmap, bitBase + i);
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static long filterSwar(int[] words, int base, int count, int bits, int perWord, long lo, long hi, long[] bitmap, long bitBase) {
+        int evenLanes = (perWord + 1) >>> 1;
+        int oddLanes = perWord >>> 1;
+        long field = (1L << bits) - 1;
+        long evenLow = lanes(evenLanes, bits, field);
+        long evenGuards = lanes(evenLanes, bits, 1L << bits);
+        long evenLos = lanes(evenLanes, bits, lo);
+        long evenHis = lanes(evenLanes, bits, hi) | evenGuards;
+        long oddLow = lanes(oddLanes, bits, field);
+        long oddGuards = lanes(oddLanes, bits, 1L << bits);
+        long oddLos = lanes(oddLanes, bits, lo);
+        long oddHis = lanes(oddLanes, bits, hi) | oddGuards;
+        // Garde au bit 2 * bits * j + bits  ->  champ 2j (pairs) ou 2j + 1 (impairs)
+        int laneBits = 2 * bits;
+
+        long matches = 0;
+        int fullWords = count / perWord;
+        for (int w = 0; w < fullWords; w++) {
+            long x = words[base + w] & 0xFFFFFFFFL;
+            long even = x & evenLow;
+            long odd = (x >>> bits) & oddLow;
+            long evenHits = ((even | evenGuards) - evenLos) & (evenHis - even) & evenGuards;
+            long oddHits = ((odd | oddGuards) - oddLos) & (oddHis - odd) & oddGuards;
+            if ((evenHits | oddHits) == 0) {
+                continue;
+            }
+
+            long first = bitBase + (long) w * perWord;
+            matches += Long.bitCount(evenHits) + Long.bitCount(oddHits);
+            while (evenHits != 0) {
+                int j = (Long.numberOfTrailingZeros(evenHits) - bits) / laneBits;
+                setBit(bitmap, first + 2 * j);
+                evenHits &= evenHits - 1;
+            }
+            while (oddHits != 0) {
+                int j = (Long.numberOfTrailingZeros(oddHits) - bits) / laneBits;
+                setBit(bitmap, first + 2 * j + 1);
+                oddHits &= oddHits - 1;
+            }
+        }
+
+        int rest = count - fullWords * perWord;
+        if (rest > 0) {
+            matches += tail(words[base + fullWords], bits, rest, lo, hi, bitmap, bitBase + (long) fullWords * perWord);
+        }
+        return matches;
+    }
+
+    // Bits [from, from + count) à 1, mot par mot
+    static void setRange(long[] bitmap, long from, long count) {
+        long to = from + count;
+        while (from < to) {
+            int shift = (int) (from & 63);
+            int n = (int) Math.min(64 - shift, to - from);
+            bitmap[(int) (from >>> 6)] |= (-1L >>> (64 - n)) << shift;
+            from += n;
+        }
+    }
+
+    static long sum(int[] words, int base, int count, int bits, int domain) {
+        long sum = 0;
+
+        // Largeurs 1, 2, 4 : somme par plans de bits, un popcount par plan et par mot
+        // (le plan j contient le bit j de chaque champ)
+        int fullWords = 0;
+        if (swar(domain, bits) && bits <= 4) {
+            int perWord = 32 / bits;
+            fullWords = count / perWord;
+            int plane = 0;
+            for (int s = 0; s < 32; s += bits) {
+                plane |= 1 << s;
+            }
+            for (int w = 0; w < fullWords; w++) {
+                int x = words[base + w];
+                for (int j = 0; j < bits; j++) {
+                    sum += (long) Integer.bitCount(x & (plane << j)) << j;
+                }
+            }
+            for (int i = fullWords * perWord; i < count; i++) {
+                sum += ConsecutiveBitPacking.extract(words, base, (long) i * bits, bits);
+            }
+            return sum;
+        }
+
+        int[] group = GROUP.get();
+        int fullGroups = count >>> 5;
+        for (int g = 0; g < fullGroups; g++) {
+            unpackGroup(words, base, g, bits, domain, group);
+            for (int k = 0; k < 32; k++) {
+                sum += value(group[k], domain);
+            }
+        }
+        for (int i = fullGroups << 5; i < count; i++) {
+            sum += value(field(words, base, i, bits, domain), domain);
+        }
+        return sum;
+    }
+
+    static long min(int[] words, int base, int count, int bits, int domain) {
+        long min = Long.MAX_VALUE;
+        int[] group = GROUP.get();
+        int fullGroups = count >>> 5;
+        for (int g = 0; g < fullGroups; g++) {
+            unpackGroup(words, base, g, bits, domain, group);
+            for (int k = 0; k < 32; k++) {
+                min = Math.min(min, value(group[k], domain));
+            }
+            // Un champ nul est le minimum possible d'un domaine non signé
+            if (domain == UNSIGNED && min == 0) {
+                return 0;
+            }
+        }
+        for (int i = fullGroups << 5; i < count; i++) {
+            min = Math.min(min, value(field(words, base, i, bits, domain), domain));
+        }
+        return min;
+    }
+
+    static long max(int[] words, int base, int count, int bits, int domain) {
+        long max = Long.MIN_VALUE;
+        long top = (1L << bits) - 1;
+        int[] group = GROUP.get();
+        int fullGroups = count >>> 5;
+        for (int g = 0; g < fullGroups; g++) {
+            unpackGroup(words, base, g, bits, domain, group);
+            for (int k = 0; k < 32; k++) {
+                max = Math.max(max, value(group[k], domain));
+            }
+            if (domain == UNSIGNED && max == top) {
+                return top;
+            }
+        }
+        for (int i = fullGroups << 5; i < count; i++) {
+            max = Math.max(max, value(field(words, base, i, bits, domain), domain));
+        }
+        return max;
+    }
+
+    // Formats sans accès direct aux champs (delta, vertical) : décodage par morceaux de
+    // CHUNK_SIZE valeurs via decodeRange, comparaison dans le tampon encore en cache
+
+    static long countDecoded(BitPacking packer, int[] compressedArray, int offset, int size, int lo, int hi) {
+        if (lo > hi) {
+            return 0;
+        }
+        long matches = 0;
+        int[] chunk = CHUNK.get();
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            int n = packer.decodeRange(compressedArray, offset, from, Math.min(size, from + CHUNK_SIZE), chunk, 0);
+            for (int k = 0; k < n; k++) {
+                long v = chunk[k];
+                matches += ~((v - lo) | (hi - v)) >>> 63;
+            }
+        }
+        return matches;
+    }
+
+    static long filterDecoded(BitPacking packer, int[] compressedArray, int offset, int size, int lo, int hi, long[] bitmap, long bitBase) {
+        if (lo > hi) {
+            return 0;
+        }
+        long matches = 0;
+        int[] chunk = CHUNK.get();
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            int n = packer.decodeRange(compressedArray, offset, from, Math.min(size, from + CHUNK_SIZE), chunk, 0);
+            for (int k = 0; k < n; k++) {
+                if (chunk[k] >= lo && chunk[k] <= hi) {
+                    setBit(bitmap, bitBase + from + k);
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
+
+    static long sumDecoded(BitPacking packer, int[] compressedArray, int offset, int size) {
+        long sum = 0;
+        int[] chunk = CHUNK.get();
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            int n = packer.decodeRange(compressedArray, offset, from, Math.min(size, from + CHUNK_SIZE), chunk, 0);
+            for (int k = 0; k < n; k++) {
+                sum += chunk[k];
+            }
+        }
+        return sum;
+    }
+
+    static int minDecoded(BitPacking packer, int[] compressedArray, int offset, int size) {
+        int min = Integer.MAX_VALUE;
+        int[] chunk = CHUNK.get();
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            int n = packer.decodeRange(compressedArray, offset, from, Math.min(size, from + CHUNK_SIZE), chunk, 0);
+            for (int k = 0; k < n; k++) {
+                min = Math.min(min, chunk[k]);
+            }
+        }
+        return min;
+    }
+
+    static int maxDecoded(BitPacking packer, int[] compressedArray, int offset, int size) {
+        int max = Integer.MIN_VALUE;
+        int[] chunk = CHUNK.get();
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            int n = packer.decodeRange(compressedArray, offset, from, Math.min(size, from + CHUNK_SIZE), chunk, 0);
+            for (int k = 0; k < n; k++) {
+                max = Math.max(max, chunk[k]);
+            }
+        }
+        return max;
+    }
+}
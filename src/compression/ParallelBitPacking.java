@@ -0,0 +1,333 @@
+package compression;
+
+import storage.WordStorage;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+// Compression / décompression parallèles au-dessus du conteneur par blocs.
+//
+// Le format produit est exactement celui de BlockBitPacking : les blocs (multiples de 32
+// valeurs, donc alignés sur les mots du packer interne) sont indépendants. Le tableau est
+// découpé en segments de blocs consécutifs, traités en parallèle sur l'executor :
+//   - décompression : chaque segment décode ses blocs directement dans la sortie ;
+//   - compression : chaque segment compresse ses blocs dans un tampon local, puis les
+//     positions sont calculées par somme préfixe et les tampons recopiés à leur place.
+// Les petits tableaux (moins de SEQUENTIAL_THRESHOLD valeurs) restent séquentiels.
+// Les accès (get, getMany, decodeRange) et les scans sont ceux du conteneur, sans parallélisme.
+public class ParallelBitPacking implements BitPacking, ScanOperators {
+
+    // En dessous, le coût de coordination des tâches dépasse le gain
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    // Taille minimale d'un segment, et nombre de segments par thread (équilibrage de charge)
+    private static final int MIN_SEGMENT_VALUES = 1 << 14;
+    private static final int SEGMENTS_PER_THREAD = 4;
+
+    private final BitPacking inner;
+    private final BlockBitPacking blocks;
+    private final Executor executor;
+    private final int parallelism;
+
+    public ParallelBitPacking(BitPacking inner) {
+        this(inner, BlockBitPacking.DEFAULT_BLOCK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    public ParallelBitPacking(BitPacking inner, Executor executor) {
+        this(inner, BlockBitPacking.DEFAULT_BLOCK_SIZE, executor);
+    }
+
+    public ParallelBitPacking(BitPacking inner, int blockSize, Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("L'executor ne peut pas être null");
+        }
+        this.blocks = new BlockBitPacking(inner, blockSize);
+        this.inner = inner;
+        this.executor = executor;
+        this.parallelism = parallelism(executor);
+    }
+
+    // Nombre de threads de l'executor quand il est connu, sinon nombre de cœurs
+    private static int parallelism(Executor executor) {
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getParallelism();
+        }
+        if (executor instanceof ThreadPoolExecutor) {
+            return Math.max(1, ((ThreadPoolExecutor) executor).getMaximumPoolSize());
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    public int getBlockSize() {
+        return blocks.getBlockSize();
+    }
+
+    public BitPacking getInner() {
+        return inner;
+    }
+
+    // Nombre de segments pour size valeurs (1 = séquentiel)
+    private int segmentCount(long size) {
+        if (size < SEQUENTIAL_THRESHOLD || parallelism <= 1) {
+            return 1;
+        }
+        long bySize = size / MIN_SEGMENT_VALUES;
+        long byBlocks = (size + getBlockSize() - 1) / getBlockSize();
+        return (int) Math.max(1, Math.min(Math.min(bySize, byBlocks), (long) parallelism * SEGMENTS_PER_THREAD));
+    }
+
+    @Override
+    public int[] compress(int[] array) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null ou vide");
+        }
+        if (segmentCount(array.length) == 1) {
+            return blocks.compress(array);
+        }
+
+        Segment[] segments = compressSegments(array, 0, array.length);
+        int[] compressed = new int[totalWords(segments)];
+        assemble(segments, array.length, compressed, 0);
+        return compressed;
+    }
+
+    @Override
+    public int compressInto(int[] array, int offset, int length, int[] dest, int destOffset) {
+        if (array == null || length <= 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+        if (segmentCount(length) == 1) {
+            return blocks.compressInto(array, offset, length, dest, destOffset);
+        }
+
+        Segment[] segments = compressSegments(array, offset, length);
+        int words = totalWords(segments);
+        if (dest == null || destOffset < 0 || dest.length - destOffset < words) {
+            throw new IllegalArgumentException("Tableau de destination trop petit");
+        }
+        assemble(segments, length, dest, destOffset);
+        return words;
+    }
+
+    @Override
+    public int maxCompressedSize(int n) {
+        return blocks.maxCompressedSize(n);
+    }
+
+    // Blocs [firstBlock, firstBlock + blockCount) compressés dans un tampon local :
+    // ends[k] = fin du bloc k dans data (le bloc k commence à ends[k - 1], ou 0)
+    private static final class Segment {
+        final int firstBlock;
+        final int blockCount;
+        final int[] ends;
+        int[] data;
+        int position;
+
+        Segment(int firstBlock, int blockCount) {
+            this.firstBlock = firstBlock;
+            this.blockCount = blockCount;
+            this.ends = new int[blockCount];
+        }
+
+        int words() {
+            return blockCount == 0 ? 0 : ends[blockCount - 1];
+        }
+    }
+
+    private Segment[] compressSegments(int[] array, int offset, int length) {
+        int blockSize = getBlockSize();
+        int blockCount = (int) (((long) length + blockSize - 1) / blockSize);
+        int segmentCount = Math.min(segmentCount(length), blockCount);
+
+        Segment[] segments = new Segment[segmentCount];
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[segmentCount];
+        for (int s = 0; s < segmentCount; s++) {
+            // Découpage équilibré au bloc près
+            int first = (int) ((long) blockCount * s / segmentCount);
+            int last = (int) ((long) blockCount * (s + 1) / segmentCount);
+            Segment segment = new Segment(first, last - first);
+            segments[s] = segment;
+            tasks[s] = CompletableFuture.runAsync(() -> compressSegment(array, offset, length, segment), executor);
+        }
+        join(tasks);
+        return segments;
+    }
+
+    private void compressSegment(int[] array, int offset, int length, Segment segment) {
+        int blockSize = getBlockSize();
+        int start = segment.firstBlock * blockSize;
+        int values = (int) Math.min((long) segment.blockCount * blockSize, length - start);
+
+        // Estimation initiale : moitié de la taille d'origine, agrandie au besoin
+        int[] data = new int[Math.max(16, values / 2)];
+        int[] packed = new int[inner.maxCompressedSize(blockSize)];
+        int position = 0;
+
+        for (int k = 0; k < segment.blockCount; k++) {
+            int from = start + k * blockSize;
+            int blockLength = Math.min(blockSize, length - from);
+
+            int words = inner.compressInto(array, offset + from, blockLength, packed, 0);
+            if (position + words > data.length) {
+                data = Arrays.copyOf(data, Math.max(position + words, data.length + (data.length >>> 1)));
+            }
+            System.arraycopy(packed, 0, data, position, words);
+            position += words;
+            segment.ends[k] = position;
+        }
+        segment.data = data;
+    }
+
+    private static int totalWords(Segment[] segments) {
+        int blockCount = segments[segments.length - 1].firstBlock + segments[segments.length - 1].blockCount;
+        long words = BlockBitPacking.HEADER_SIZE + blockCount;
+        for (Segment segment : segments) {
+            words += segment.words();
+        }
+        if (words > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tableau compressé trop grand");
+        }
+        return (int) words;
+    }
+
+    // Somme préfixe des positions, puis recopie parallèle des segments et de leur répertoire
+    private void assemble(Segment[] segments, int size, int[] dest, int base) {
+        int blockCount = segments[segments.length - 1].firstBlock + segments[segments.length - 1].blockCount;
+        dest[base] = size;
+        dest[base + 1] = 0;
+        dest[base + 2] = Integer.numberOfTrailingZeros(getBlockSize());
+
+        int position = BlockBitPacking.HEADER_SIZE + blockCount;
+        for (Segment segment : segments) {
+            segment.position = position;
+            position += segment.words();
+        }
+
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[segments.length];
+        for (int s = 0; s < segments.length; s++) {
+            Segment segment = segments[s];
+            tasks[s] = CompletableFuture.runAsync(() -> {
+                int directory = base + BlockBitPacking.HEADER_SIZE + segment.firstBlock;
+                dest[directory] = segment.position;
+                for (int k = 1; k < segment.blockCount; k++) {
+                    dest[directory + k] = segment.position + segment.ends[k - 1];
+                }
+                System.arraycopy(segment.data, 0, dest, base + segment.position, segment.words());
+            }, executor);
+        }
+        join(tasks);
+    }
+
+    @Override
+    public int[] decompress(int[] compressedArray, int[] outputArray) {
+        decompressInto(compressedArray, 0, outputArray, 0);
+        return outputArray;
+    }
+
+    @Override
+    public int decompressInto(int[] compressedArray, int offset, int[] outputArray, int outputOffset) {
+        long size = BlockBitPacking.readSize(compressedArray, offset);
+        if (size > Integer.MAX_VALUE || outputArray == null || outputArray.length - outputOffset < size) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        int shift = compressedArray[offset + 2];
+        int blockCount = (int) ((size + (1L << shift) - 1) >>> shift);
+        int segmentCount = Math.min(segmentCount(size), blockCount);
+        if (segmentCount == 1) {
+            return blocks.decompressInto(compressedArray, offset, outputArray, outputOffset);
+        }
+
+        // Les blocs sont indépendants : chaque segment décode directement à sa place
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[segmentCount];
+        for (int s = 0; s < segmentCount; s++) {
+            int first = (int) ((long) blockCount * s / segmentCount);
+            int last = (int) ((long) blockCount * (s + 1) / segmentCount);
+            tasks[s] = CompletableFuture.runAsync(() -> {
+                for (int b = first; b < last; b++) {
+                    int blockOffset = offset + compressedArray[offset + BlockBitPacking.HEADER_SIZE + b];
+                    inner.decompressInto(compressedArray, blockOffset, outputArray, outputOffset + (b << shift));
+                }
+            }, executor);
+        }
+        join(tasks);
+
+        return (int) size;
+    }
+
+    // Attend toutes les tâches et relance l'exception d'origine (IllegalArgumentException ...)
+    private static void join(CompletableFuture<?>[] tasks) {
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public int get(int[] compressedArray, int i) {
+        return blocks.get(compressedArray, i);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int offset, int i) {
+        return blocks.get(compressedArray, offset, i);
+    }
+
+    @Override
+    public int get(WordStorage storage, long offset, int i) {
+        return blocks.get(storage, offset, i);
+    }
+
+    @Override
+    public int decompressInto(WordStorage storage, long offset, int[] outputArray, int outputOffset) {
+        return blocks.decompressInto(storage, offset, outputArray, outputOffset);
+    }
+
+    @Override
+    public void getMany(int[] compressedArray, int offset, int[] indices, int[] out) {
+        blocks.getMany(compressedArray, offset, indices, out);
+    }
+
+    @Override
+    public int decodeRange(int[] compressedArray, int offset, int from, int to, int[] out, int outOffset) {
+        return blocks.decodeRange(compressedArray, offset, from, to, out, outOffset);
+    }
+
+    @Override
+    public long size(int[] compressedArray, int offset) {
+        return blocks.size(compressedArray, offset);
+    }
+
+    @Override
+    public long count(int[] compressedArray, int offset, int lo, int hi) {
+        return blocks.count(compressedArray, offset, lo, hi);
+    }
+
+    @Override
+    public long filter(int[] compressedArray, int offset, int lo, int hi, long[] bitmap, long bitBase) {
+        return blocks.filter(compressedArray, offset, lo, hi, bitmap, bitBase);
+    }
+
+    @Override
+    public long sum(int[] compressedArray, int offset) {
+        return blocks.sum(compressedArray, offset);
+    }
+
+    @Override
+    public int min(int[] compressedArray, int offset) {
+        return blocks.min(compressedArray, offset);
+    }
+
+    @Override
+    public int max(int[] compressedArray, int offset) {
+        return blocks.max(compressedArray, offset);
+    }
+}
@@ -0,0 +1,444 @@
+package compression;
+
+import storage.WordStorage;
+
+import java.util.Arrays;
+
+// Codage PFOR (patched frame of reference, variante NewPFD/FastPFOR) : chaque valeur garde ses
+// b bits de poids faible dans un slot, sans bit de marquage ; les quelques valeurs plus larges
+// (exceptions) voient leurs bits de poids fort stockés à part, avec leur position.
+//
+// Format :
+//   [0]  (taille << 16) | b
+//   [1]  (nombre d'exceptions << 8) | largeur des bits de poids fort
+//   slots : taille valeurs sur b bits (même disposition que ConsecutiveBitPacking)
+//   positions des exceptions, croissantes, sur ceil(log2(taille)) bits
+//   bits de poids fort des exceptions
+//
+// Le décodage passe toutes les valeurs dans les noyaux déroulés puis applique les correctifs
+// (out[position] |= poidsFort << b), sans test par valeur. get(i) cherche i par dichotomie
+// dans les positions. Contrairement à OverflowBitPacking, le nombre d'exceptions n'est limité
+// que par la taille du tableau, et une exception coûte log2(taille) + (max - b) bits au lieu
+// d'un bit sur chaque valeur plus 32 bits.
+public class PatchedBitPacking implements BitPacking, ScanOperators {
+
+    private static final int HEADER_SIZE = 2;
+
+    private static final ThreadLocal<int[]> HISTOGRAM = ThreadLocal.withInitial(() -> new int[33]);
+
+    // Slots, positions et poids forts construits avant l'écriture (un jeu par thread)
+    private static final ThreadLocal<int[]> LOW = ThreadLocal.withInitial(() -> new int[1024]);
+    private static final ThreadLocal<int[]> POSITIONS = ThreadLocal.withInitial(() -> new int[64]);
+    private static final ThreadLocal<int[]> HIGHS = ThreadLocal.withInitial(() -> new int[64]);
+
+    // Mode signé : toutes les valeurs (exceptions comprises) sont codées en zigzag,
+    // le décodage zigzag est appliqué après les correctifs
+    private final boolean signed;
+
+    public PatchedBitPacking() {
+        this(false);
+    }
+
+    public PatchedBitPacking(boolean signed) {
+        this.signed = signed;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
+    @Override
+    public int[] compress(int[] array) {
+        if (array == null || array.length == 0) {
+            return new int[0];
+        }
+        checkSize(array.length);
+
+        int[] histogram = HISTOGRAM.get();
+        int maxBits = analyze(array, 0, array.length, histogram);
+        int bits = optimalBits(histogram, array.length, maxBits);
+        int exceptionCount = OverflowBitPacking.countAbove(histogram, bits);
+
+        int[] compressed = new int[compressedSize(array.length, bits, exceptionCount, maxBits - bits)];
+        pack(array, 0, array.length, bits, exceptionCount, maxBits - bits, compressed, 0);
+        return compressed;
+    }
+
+    @Override
+    public int compressInto(int[] array, int offset, int length, int[] dest, int destOffset) {
+        if (array == null || length < 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+        if (length == 0) {
+            return 0;
+        }
+        checkSize(length);
+
+        int[] histogram = HISTOGRAM.get();
+        int maxBits = analyze(array, offset, length, histogram);
+        int bits = optimalBits(histogram, length, maxBits);
+        int exceptionCount = OverflowBitPacking.countAbove(histogram, bits);
+
+        int words = compressedSize(length, bits, exceptionCount, maxBits - bits);
+        if (dest == null || destOffset < 0 || dest.length - destOffset < words) {
+            throw new IllegalArgumentException("Tableau de destination trop petit");
+        }
+
+        pack(array, offset, length, bits, exceptionCount, maxBits - bits, dest, destOffset);
+        return words;
+    }
+
+    @Override
+    public int maxCompressedSize(int n) {
+        // Sans exception, au pire 32 bits par slot (le seuil retenu ne fait jamais plus)
+        return HEADER_SIZE + n;
+    }
+
+    private static void checkSize(int size) {
+        if (size > ConsecutiveBitPacking.MAX_SIZE) {
+            throw new IllegalArgumentException("Tableau trop grand (max " + ConsecutiveBitPacking.MAX_SIZE + " éléments), utiliser BlockBitPacking");
+        }
+    }
+
+    // Taille compressée en mots, en-tête compris
+    static int compressedSize(int size, int bits, int exceptionCount, int highBits) {
+        if (exceptionCount == 0) {
+            return HEADER_SIZE + words(size, bits);
+        }
+        return HEADER_SIZE + words(size, bits) + words(exceptionCount, positionBits(size)) + words(exceptionCount, highBits);
+    }
+
+    private static int words(int count, int bits) {
+        return (int) (((long) count * bits + 31) >>> 5);
+    }
+
+    // Largeur d'une position d'exception : de quoi écrire size - 1
+    static int positionBits(int size) {
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(size - 1));
+    }
+
+    // Histogramme des longueurs en bits ; retourne la plus grande
+    private int analyze(int[] array, int from, int length, int[] histogram) {
+        Arrays.fill(histogram, 0);
+        for (int i = from; i < from + length; i++) {
+            int value = signed ? ZigZag.encode(array[i]) : array[i];
+            histogram[32 - Integer.numberOfLeadingZeros(value)]++;
+        }
+        return OverflowBitPacking.findMaxBits(histogram);
+    }
+
+    // Largeur des slots qui minimise la taille compressée ; à taille égale la plus large
+    // (moins de correctifs au décodage)
+    static int optimalBits(int[] histogram, int size, int maxBits) {
+        int positionBits = positionBits(size);
+        int bestBits = maxBits;
+        long bestWords = words(size, maxBits);
+
+        int exceptionCount = 0;
+        for (int bits = maxBits - 1; bits >= 1; bits--) {
+            exceptionCount += histogram[bits + 1];
+            long total = (long) words(size, bits) + words(exceptionCount, positionBits) + words(exceptionCount, maxBits - bits);
+            if (total < bestWords) {
+                bestWords = total;
+                bestBits = bits;
+            }
+        }
+        return bestBits;
+    }
+
+    private void pack(int[] array, int from, int length, int bits, int exceptionCount, int highBits, int[] compressed, int base) {
+        compressed[base] = (length << 16) | bits;
+        compressed[base + 1] = exceptionCount == 0 ? 0 : (exceptionCount << 8) | highBits;
+
+        // Sans exception : les slots sont compressés directement depuis le tableau source
+        if (exceptionCount == 0) {
+            ConsecutiveBitPacking.packWords(array, from, length, bits, compressed, base + HEADER_SIZE, signed);
+            return;
+        }
+
+        int[] low = scratch(LOW, length);
+        int[] positions = scratch(POSITIONS, exceptionCount);
+        int[] highs = scratch(HIGHS, exceptionCount);
+        int mask = -1 >>> (32 - bits);
+        int k = 0;
+        for (int i = 0; i < length; i++) {
+            int value = signed ? ZigZag.encode(array[from + i]) : array[from + i];
+            low[i] = value & mask;
+            if ((value >>> bits) != 0) {
+                positions[k] = i;
+                highs[k++] = value >>> bits;
+            }
+        }
+
+        int positionStart = base + HEADER_SIZE + words(length, bits);
+        int highStart = positionStart + words(exceptionCount, positionBits(length));
+        ConsecutiveBitPacking.packWords(low, 0, length, bits, compressed, base + HEADER_SIZE);
+        ConsecutiveBitPacking.packWords(positions, 0, exceptionCount, positionBits(length), compressed, positionStart);
+        ConsecutiveBitPacking.packWords(highs, 0, exceptionCount, highBits, compressed, highStart);
+    }
+
+    private static int[] scratch(ThreadLocal<int[]> local, int length) {
+        int[] buffer = local.get();
+        if (buffer.length < length) {
+            buffer = new int[Math.max(length, buffer.length * 2)];
+            local.set(buffer);
+        }
+        return buffer;
+    }
+
+    @Override
+    public int[] decompress(int[] compressedArray, int[] outputArray) {
+        decompressInto(compressedArray, 0, outputArray, 0);
+        return outputArray;
+    }
+
+    @Override
+    public int decompressInto(int[] compressedArray, int offset, int[] outputArray, int outputOffset) {
+        return decodeRange(compressedArray, offset, 0, (int) size(compressedArray, offset), outputArray, outputOffset);
+    }
+
+    @Override
+    public int decodeRange(int[] compressedArray, int offset, int from, int to, int[] out, int outOffset) {
+        int size = (int) size(compressedArray, offset);
+        int bits = compressedArray[offset] & 0xFFFF;
+
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out == null || out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        // 1. Slots : noyaux déroulés sur les groupes complets de 32 valeurs
+        int slots = offset + HEADER_SIZE;
+        int i = from;
+        int target = outOffset;
+        while (i < to && (i & 31) != 0) {
+            out[target++] = ConsecutiveBitPacking.extract(compressedArray, slots, (long) i * bits, bits);
+            i++;
+        }
+        while (i + 32 <= to) {
+            ConsecutiveBitPacking.unpack(compressedArray, slots + (i >>> 5) * bits, out, target, bits);
+            i += 32;
+            target += 32;
+        }
+        while (i < to) {
+            out[target++] = ConsecutiveBitPacking.extract(compressedArray, slots, (long) i * bits, bits);
+            i++;
+        }
+
+        // 2. Correctifs des exceptions de la plage (positions croissantes)
+        int exceptions = compressedArray[offset + 1];
+        int exceptionCount = exceptions >>> 8;
+        if (exceptionCount != 0) {
+            int highBits = exceptions & 0xFF;
+            int positionBits = positionBits(size);
+            int positionStart = slots + words(size, bits);
+            int highStart = positionStart + words(exceptionCount, positionBits);
+            int shift = outOffset - from;
+
+            int k = from == 0 ? 0 : lowerBound(compressedArray, positionStart, positionBits, exceptionCount, from);
+            int end = to == size ? exceptionCount : lowerBound(compressedArray, positionStart, positionBits, exceptionCount, to);
+            for (; k < end; k++) {
+                int position = ConsecutiveBitPacking.extract(compressedArray, positionStart, (long) k * positionBits, positionBits);
+                out[shift + position] |= ConsecutiveBitPacking.extract(compressedArray, highStart, (long) k * highBits, highBits) << bits;
+            }
+        }
+
+        if (signed) {
+            ZigZag.decode(out, outOffset, to - from);
+        }
+        return to - from;
+    }
+
+    // Indice de la première exception dont la position est >= index
+    private static int lowerBound(int[] compressedArray, int positionStart, int positionBits, int exceptionCount, int index) {
+        int lo = 0;
+        int hi = exceptionCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ConsecutiveBitPacking.extract(compressedArray, positionStart, (long) mid * positionBits, positionBits) < index) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    @Override
+    public int get(int[] compressedArray, int index) {
+        return get(compressedArray, 0, index);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int offset, int index) {
+        int size = (int) size(compressedArray, offset);
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index hors limites: " + index);
+        }
+        return valueAt(compressedArray, offset, size, index);
+    }
+
+    private int valueAt(int[] compressedArray, int offset, int size, int index) {
+        int bits = compressedArray[offset] & 0xFFFF;
+        int value = ConsecutiveBitPacking.extract(compressedArray, offset + HEADER_SIZE, (long) index * bits, bits);
+
+        int exceptions = compressedArray[offset + 1];
+        int exceptionCount = exceptions >>> 8;
+        if (exceptionCount != 0) {
+            int positionBits = positionBits(size);
+            int positionStart = offset + HEADER_SIZE + words(size, bits);
+            int k = lowerBound(compressedArray, positionStart, positionBits, exceptionCount, index);
+            if (k < exceptionCount
+                    && ConsecutiveBitPacking.extract(compressedArray, positionStart, (long) k * positionBits, positionBits) == index) {
+                int highBits = exceptions & 0xFF;
+                int highStart = positionStart + words(exceptionCount, positionBits);
+                value |= ConsecutiveBitPacking.extract(compressedArray, highStart, (long) k * highBits, highBits) << bits;
+            }
+        }
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    @Override
+    public void getMany(int[] compressedArray, int offset, int[] indices, int[] out) {
+        if (out.length < indices.length) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        int size = (int) size(compressedArray, offset);
+        for (int k = 0; k < indices.length; k++) {
+            int index = indices[k];
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index hors limites: " + index);
+            }
+            out[k] = valueAt(compressedArray, offset, size, index);
+        }
+    }
+
+    @Override
+    public int get(WordStorage storage, long offset, int index) {
+        StorageAccess.checkHeader(storage, offset, HEADER_SIZE);
+
+        int meta = storage.getWord(offset);
+        int size = (meta >>> 16) & 0xFFFF;
+        int bits = meta & 0xFFFF;
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index hors limites: " + index);
+        }
+
+        int value = StorageAccess.extract(storage, offset + HEADER_SIZE, (long) index * bits, bits);
+        int exceptions = storage.getWord(offset + 1);
+        int exceptionCount = exceptions >>> 8;
+        if (exceptionCount != 0) {
+            int positionBits = positionBits(size);
+            long positionStart = offset + HEADER_SIZE + words(size, bits);
+            int lo = 0;
+            int hi = exceptionCount;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (StorageAccess.extract(storage, positionStart, (long) mid * positionBits, positionBits) < index) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            if (lo < exceptionCount && StorageAccess.extract(storage, positionStart, (long) lo * positionBits, positionBits) == index) {
+                int highBits = exceptions & 0xFF;
+                long highStart = positionStart + words(exceptionCount, positionBits);
+                value |= StorageAccess.extract(storage, highStart, (long) lo * highBits, highBits) << bits;
+            }
+        }
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    // Slots, positions et poids forts sont contigus : chargés d'un coup puis décodés comme un int[]
+    @Override
+    public int decompressInto(WordStorage storage, long offset, int[] outputArray, int outputOffset) {
+        StorageAccess.checkHeader(storage, offset, HEADER_SIZE);
+
+        int meta = storage.getWord(offset);
+        int exceptions = storage.getWord(offset + 1);
+        int words = compressedSize((meta >>> 16) & 0xFFFF, meta & 0xFFFF, exceptions >>> 8, exceptions & 0xFF);
+        return decompressInto(StorageAccess.load(storage, offset, words), 0, outputArray, outputOffset);
+    }
+
+    // Scans : sans exception, les slots sont lus sur place comme ceux de ConsecutiveBitPacking ;
+    // avec exceptions, la somme non signée ajoute les poids forts à celle des slots, les autres
+    // opérations décodent par morceaux.
+    @Override
+    public long size(int[] compressedArray, int offset) {
+        if (compressedArray == null || compressedArray.length - offset < HEADER_SIZE) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+        return (compressedArray[offset] >>> 16) & 0xFFFF;
+    }
+
+    private static boolean hasExceptions(int[] compressedArray, int offset) {
+        return (compressedArray[offset + 1] >>> 8) != 0;
+    }
+
+    @Override
+    public long count(int[] compressedArray, int offset, int lo, int hi) {
+        int size = (int) size(compressedArray, offset);
+        if (hasExceptions(compressedArray, offset)) {
+            return PackedScan.countDecoded(this, compressedArray, offset, size, lo, hi);
+        }
+        int bits = compressedArray[offset] & 0xFFFF;
+        return PackedScan.count(compressedArray, offset + HEADER_SIZE, size, bits, PackedScan.domain(signed, bits), lo, hi);
+    }
+
+    @Override
+    public long filter(int[] compressedArray, int offset, int lo, int hi, long[] bitmap, long bitBase) {
+        int size = (int) size(compressedArray, offset);
+        if (hasExceptions(compressedArray, offset)) {
+            return PackedScan.filterDecoded(this, compressedArray, offset, size, lo, hi, bitmap, bitBase);
+        }
+        int bits = compressedArray[offset] & 0xFFFF;
+        return PackedScan.filter(compressedArray, offset + HEADER_SIZE, size, bits, PackedScan.domain(signed, bits), lo, hi, bitmap, bitBase);
+    }
+
+    @Override
+    public long sum(int[] compressedArray, int offset) {
+        int size = (int) size(compressedArray, offset);
+        int bits = compressedArray[offset] & 0xFFFF;
+        int exceptions = compressedArray[offset + 1];
+        int exceptionCount = exceptions >>> 8;
+        int highBits = exceptions & 0xFF;
+        if (exceptionCount == 0) {
+            return PackedScan.sum(compressedArray, offset + HEADER_SIZE, size, bits, PackedScan.domain(signed, bits));
+        }
+        // Zigzag ou exceptions négatives (32 bits) : la somme ne se décompose pas
+        if (signed || bits + highBits == 32) {
+            return PackedScan.sumDecoded(this, compressedArray, offset, size);
+        }
+
+        // Une exception vaut slot + (poids fort << b) : seuls les poids forts restent à ajouter
+        long sum = PackedScan.sum(compressedArray, offset + HEADER_SIZE, size, bits, PackedScan.UNSIGNED);
+        int highStart = offset + HEADER_SIZE + words(size, bits) + words(exceptionCount, positionBits(size));
+        long highSum = 0;
+        for (int k = 0; k < exceptionCount; k++) {
+            highSum += ConsecutiveBitPacking.extract(compressedArray, highStart, (long) k * highBits, highBits);
+        }
+        return sum + (highSum << bits);
+    }
+
+    @Override
+    public int min(int[] compressedArray, int offset) {
+        int size = (int) size(compressedArray, offset);
+        if (hasExceptions(compressedArray, offset)) {
+            return PackedScan.minDecoded(this, compressedArray, offset, size);
+        }
+        int bits = compressedArray[offset] & 0xFFFF;
+        return (int) PackedScan.min(compressedArray, offset + HEADER_SIZE, size, bits, PackedScan.domain(signed, bits));
+    }
+
+    @Override
+    public int max(int[] compressedArray, int offset) {
+        int size = (int) size(compressedArray, offset);
+        if (hasExceptions(compressedArray, offset)) {
+            return PackedScan.maxDecoded(this, compressedArray, offset, size);
+        }
+        int bits = compressedArray[offset] & 0xFFFF;
+        return (int) PackedScan.max(compressedArray, offset + HEADER_SIZE, size, bits, PackedScan.domain(signed, bits));
+    }
+}
@@ -0,0 +1,55 @@
+package compression;
+
+// Requêtes évaluées sur la forme compressée, sans décompresser le tableau entier :
+// comptage et filtrage sur un intervalle [lo, hi] (bornes incluses, comparaison signée),
+// somme, minimum et maximum.
+//
+// Le filtrage produit un bitmap : la valeur d'indice i retenue met à 1 le bit (bitBase + i),
+// c'est-à-dire bitmap[(bitBase + i) >>> 6] bit (bitBase + i) & 63. Les autres bits ne sont
+// pas modifiés (plusieurs filtres peuvent écrire dans le même bitmap).
+public interface ScanOperators {
+
+    // Nombre de valeurs du tableau compressé qui commence à compressedArray[offset]
+    long size(int[] compressedArray, int offset);
+
+    long count(int[] compressedArray, int offset, int lo, int hi);
+
+    // Retourne le nombre de valeurs retenues
+    long filter(int[] compressedArray, int offset, int lo, int hi, long[] bitmap, long bitBase);
+
+    long sum(int[] compressedArray, int offset);
+
+    int min(int[] compressedArray, int offset);
+
+    int max(int[] compressedArray, int offset);
+
+    default long count(int[] compressedArray, int lo, int hi) {
+        return count(compressedArray, 0, lo, hi);
+    }
+
+    default long countEqual(int[] compressedArray, int value) {
+        return count(compressedArray, 0, value, value);
+    }
+
+    default long[] filter(int[] compressedArray, int lo, int hi) {
+        long[] bitmap = new long[(int) ((size(compressedArray, 0) + 63) >>> 6)];
+        filter(compressedArray, 0, lo, hi, bitmap, 0);
+        return bitmap;
+    }
+
+    default long[] filterEqual(int[] compressedArray, int value) {
+        return filter(compressedArray, value, value);
+    }
+
+    default long sum(int[] compressedArray) {
+        return sum(compressedArray, 0);
+    }
+
+    default int min(int[] compressedArray) {
+        return min(compressedArray, 0);
+    }
+
+    default int max(int[] compressedArray) {
+        return max(compressedArray, 0);
+    }
+}
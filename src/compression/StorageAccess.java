@@ -0,0 +1,51 @@
+package compression;
+
+import storage.WordStorage;
+
+// Lectures sur un WordStorage partagées par les packers
+final class StorageAccess {
+
+    // Fenêtre de décodage réutilisée (une par thread) : au plus un bloc compressé y est chargé
+    private static final ThreadLocal<int[]> WINDOW = ThreadLocal.withInitial(() -> new int[1024]);
+
+    private StorageAccess() {
+    }
+
+    static void checkHeader(WordStorage storage, long offset, int headerWords) {
+        if (storage == null || offset < 0 || storage.wordCount() - offset < headerWords) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+    }
+
+    // Copie count mots à partir de offset dans la fenêtre du thread (agrandie au besoin)
+    static int[] load(WordStorage storage, long offset, int count) {
+        if (offset < 0 || count < 0 || storage.wordCount() - offset < count) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+        int[] window = WINDOW.get();
+        if (window.length < count) {
+            window = new int[Math.max(count, window.length * 2)];
+            WINDOW.set(window);
+        }
+        storage.getWords(offset, window, 0, count);
+        return window;
+    }
+
+    // Même calcul que ConsecutiveBitPacking.extract, mot à mot sur le stockage
+    static int extract(WordStorage storage, long base, long bitPosition, int bits) {
+        long index = base + (bitPosition >>> 5);
+        int bitOffset = (int) bitPosition & 31;
+        int mask = -1 >>> (32 - bits);
+
+        if (bitOffset + bits <= 32) {
+            return (storage.getWord(index) >>> bitOffset) & mask;
+        }
+        return ((storage.getWord(index) >>> bitOffset) | (storage.getWord(index + 1) << (32 - bitOffset))) & mask;
+    }
+
+    // Taille sur 64 bits des formats par blocs (cf. BlockBitPacking.readSize)
+    static long readSize(WordStorage storage, long offset) {
+        checkHeader(storage, offset, BlockBitPacking.HEADER_SIZE);
+        return (storage.getWord(offset) & 0xFFFFFFFFL) | ((long) storage.getWord(offset + 1) << 32);
+    }
+}
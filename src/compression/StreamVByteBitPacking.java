@@ -0,0 +1,400 @@
+package compression;
+
+import storage.WordStorage;
+
+import java.nio.ByteBuffer;
+
+// Stream VByte : même codage que Group Varint (1 à 4 octets par valeur, un octet de
+// contrôle pour 4 valeurs), mais les octets de contrôle sont tous rangés avant les données :
+//   [contrôles, un par groupe][valeurs]
+// Le contrôle du groupe g est à une position fixe (g), indépendante des longueurs : la
+// lecture des contrôles ne dépend pas du décodage des données, et le groupe suivant peut
+// être chargé avant la fin du précédent (permutation d'octets de VarintVectorKernels).
+//
+// Format int[] : cf. VarintKernels ; le répertoire donne la position des valeurs de chaque
+// bloc de 128 dans les données (les contrôles du bloc b commencent à l'octet 32 * b).
+public class StreamVByteBitPacking implements BitPacking, ScanOperators {
+
+    private static final boolean VECTOR_AVAILABLE = VerticalBitPacking.isVectorAvailable();
+
+    // Mode signé : codage zigzag, un petit négatif tient sur un octet
+    private final boolean signed;
+
+    public StreamVByteBitPacking() {
+        this(false);
+    }
+
+    public StreamVByteBitPacking(boolean signed) {
+        this.signed = signed;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
+    @Override
+    public int[] compress(int[] array) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null ou vide");
+        }
+
+        int dataBytes = dataBytes(array, 0, array.length);
+        int[] compressed = new int[VarintKernels.words(array.length, dataBytes)];
+        pack(array, 0, array.length, dataBytes, compressed, 0);
+        return compressed;
+    }
+
+    @Override
+    public int compressInto(int[] array, int offset, int length, int[] dest, int destOffset) {
+        if (array == null || length <= 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+
+        int dataBytes = dataBytes(array, offset, length);
+        int words = VarintKernels.words(length, dataBytes);
+        if (dest == null || destOffset < 0 || dest.length - destOffset < words) {
+            throw new IllegalArgumentException("Tableau de destination trop petit");
+        }
+
+        pack(array, offset, length, dataBytes, dest, destOffset);
+        return words;
+    }
+
+    @Override
+    public int maxCompressedSize(int n) {
+        return VarintKernels.maxWords(n);
+    }
+
+    private int dataBytes(int[] array, int from, int length) {
+        return VarintKernels.checkSize(((length + 3L) >>> 2) + VarintKernels.valueBytes(array, from, length, signed));
+    }
+
+    // Un seul passage : les contrôles sont assemblés 16 valeurs (un mot) à la fois pendant que
+    // les valeurs sont écrites à la suite des contrôles. Le mot partagé entre les derniers
+    // contrôles et les premières valeurs reçoit ses contrôles à la fin, par un OU.
+    private void pack(int[] array, int from, int length, int dataBytes, int[] dest, int base) {
+        dest[base] = length;
+        dest[base + 1] = dataBytes;
+        int directory = base + VarintKernels.HEADER_SIZE;
+        int data = VarintKernels.dataBase(base, length);
+
+        int controlBytes = (length + 3) >>> 2;
+        int shared = data + (controlBytes >>> 2);
+
+        // Valeurs : accumulateur 64 bits sans branchement (le mot courant est toujours écrit,
+        // l'avancement se calcule), dont les premiers bits sont laissés aux derniers contrôles
+        int word = shared;
+        long buffer = 0;
+        int filled = (controlBytes & 3) << 3;
+
+        int position = controlBytes;
+        int controls = 0;
+        for (int i = 0; i < length; i++) {
+            if ((i & (VarintKernels.BLOCK_SIZE - 1)) == 0) {
+                dest[directory + (i >>> VarintKernels.BLOCK_SHIFT)] = position;
+            }
+            int v = signed ? ZigZag.encode(array[from + i]) : array[from + i];
+            int code = VarintKernels.code(v);
+            controls |= code << ((i & 15) << 1);
+            if ((i & 15) == 15) {
+                dest[data + (i >>> 4)] = controls;
+                controls = 0;
+            }
+
+            buffer |= (v & 0xFFFFFFFFL) << filled;
+            filled += (code + 1) << 3;
+            dest[word] = (int) buffer;
+            int full = filled >>> 5;
+            word += full;
+            buffer >>>= full << 5;
+            filled -= full << 5;
+            position += code + 1;
+        }
+        if (filled > 0) {
+            dest[word++] = (int) buffer;
+        }
+        dest[word] = 0;
+
+        // Dernier mot de contrôles incomplet (moins de 16 valeurs)
+        if ((length & 15) != 0) {
+            int last = data + ((length - 1) >>> 4);
+            if (last == shared) {
+                dest[last] |= controls;
+            } else {
+                dest[last] = controls;
+            }
+        }
+    }
+
+    @Override
+    public int[] decompress(int[] compressedArray, int[] outputArray) {
+        decompressInto(compressedArray, 0, outputArray, 0);
+        return outputArray;
+    }
+
+    @Override
+    public int decompressInto(int[] compressedArray, int offset, int[] outputArray, int outputOffset) {
+        int size = VarintKernels.readSize(compressedArray, offset);
+        return decodeRange(compressedArray, offset, 0, size, outputArray, outputOffset);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int i) {
+        return get(compressedArray, 0, i);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int offset, int i) {
+        int size = VarintKernels.readSize(compressedArray, offset);
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+        }
+
+        int data = VarintKernels.dataBase(offset, size);
+        int position = groupPosition(compressedArray, offset, data, i);
+        int control = VarintKernels.byteAt(compressedArray, data, i >>> 2);
+        int k = i & 3;
+        int value = VarintKernels.read4(compressedArray, data, position + VarintKernels.offsetInGroup(control, k))
+                & VarintKernels.MASKS[(control >>> (k << 1)) & 3];
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    // Position des valeurs du groupe de i : début du bloc, plus les longueurs des groupes
+    // précédents lues dans les contrôles
+    private static int groupPosition(int[] compressedArray, int offset, int data, int i) {
+        int position = compressedArray[offset + VarintKernels.HEADER_SIZE + (i >>> VarintKernels.BLOCK_SHIFT)];
+        for (int g = (i >>> VarintKernels.BLOCK_SHIFT) << 5; g < i >>> 2; g++) {
+            position += VarintKernels.LENGTHS[VarintKernels.byteAt(compressedArray, data, g)];
+        }
+        return position;
+    }
+
+    // Sur un stockage : répertoire et contrôles du bloc lus mot à mot, comme sur int[]
+    @Override
+    public int get(WordStorage storage, long offset, int i) {
+        int size = VarintKernels.readSize(storage, offset);
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + size);
+        }
+
+        long data = VarintKernels.dataBase(offset, size);
+        int position = storage.getWord(offset + VarintKernels.HEADER_SIZE + (i >>> VarintKernels.BLOCK_SHIFT));
+        for (int g = (i >>> VarintKernels.BLOCK_SHIFT) << 5; g < i >>> 2; g++) {
+            position += VarintKernels.LENGTHS[VarintKernels.byteAt(storage, data, g)];
+        }
+        int control = VarintKernels.byteAt(storage, data, i >>> 2);
+        int k = i & 3;
+        int value = VarintKernels.read4(storage, data, position + VarintKernels.offsetInGroup(control, k))
+                & VarintKernels.MASKS[(control >>> (k << 1)) & 3];
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    // Chaque bloc de 128 valeurs est décodé seul : ses valeurs (bornes données par le répertoire)
+    // sont chargées dans la fenêtre, ses 32 contrôles lus 4 par mot sur le stockage
+    @Override
+    public int decompressInto(WordStorage storage, long offset, int[] outputArray, int outputOffset) {
+        int size = VarintKernels.readSize(storage, offset);
+        if (outputArray == null || outputOffset < 0 || outputArray.length - outputOffset < size) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        long data = VarintKernels.dataBase(offset, size);
+        for (int from = 0; from < size; from += VarintKernels.BLOCK_SIZE) {
+            int b = from >>> VarintKernels.BLOCK_SHIFT;
+            int start = storage.getWord(offset + VarintKernels.HEADER_SIZE + b);
+            int[] window = VarintKernels.loadBytes(storage, data, start, VarintKernels.blockEnd(storage, offset, size, b));
+            int position = start & 3;
+            int count = Math.min(VarintKernels.BLOCK_SIZE, size - from);
+            int target = outputOffset + from;
+            int controls = 0;
+            for (int g = 0; g < (count + 3) >>> 2; g++) {
+                if ((g & 3) == 0) {
+                    controls = storage.getWord(data + (from >>> 4) + (g >>> 2));
+                }
+                int control = (controls >>> ((g & 3) << 3)) & 0xFF;
+                if (count - (g << 2) >= 4) {
+                    position = VarintKernels.decodeGroup(window, 0, position, control, outputArray, target);
+                } else {
+                    VarintKernels.decodePartial(window, 0, position, control, 0, count & 3, outputArray, target);
+                }
+                target += 4;
+            }
+        }
+
+        if (signed) {
+            ZigZag.decode(outputArray, outputOffset, size);
+        }
+        return size;
+    }
+
+    @Override
+    public int decodeRange(int[] compressedArray, int offset, int from, int to, int[] out, int outOffset) {
+        int size = VarintKernels.readSize(compressedArray, offset);
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out == null || out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        if (from == to) {
+            return 0;
+        }
+
+        int data = VarintKernels.dataBase(offset, size);
+        int position = groupPosition(compressedArray, offset, data, from);
+        int group = from & ~3;
+        int target = outOffset;
+
+        // Premier groupe entamé, groupes complets, puis dernier groupe entamé
+        if (group < from || to - group < 4) {
+            int control = VarintKernels.byteAt(compressedArray, data, group >>> 2);
+            int toK = Math.min(4, to - group);
+            VarintKernels.decodePartial(compressedArray, data, position, control, from - group, toK, out, target);
+            target += toK - (from - group);
+            position += VarintKernels.groupLength(control, Math.min(4, size - group));
+            group += 4;
+        }
+        for (; group + 4 <= to; group += 4) {
+            int control = VarintKernels.byteAt(compressedArray, data, group >>> 2);
+            position = VarintKernels.decodeGroup(compressedArray, data, position, control, out, target);
+            target += 4;
+        }
+        if (group < to) {
+            int control = VarintKernels.byteAt(compressedArray, data, group >>> 2);
+            VarintKernels.decodePartial(compressedArray, data, position, control, 0, to - group, out, target);
+        }
+
+        if (signed) {
+            ZigZag.decode(out, outOffset, to - from);
+        }
+        return to - from;
+    }
+
+    // Taille d'une trame de length valeurs (4 octets de taille compris) ; borne supérieure
+    // pour dimensionner un tampon : maxEncodedSize
+    public int encodedSize(int[] array, int offset, int length) {
+        if (array == null || length < 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+        return VarintKernels.checkSize(Integer.BYTES + ((length + 3L) >>> 2) + VarintKernels.valueBytes(array, offset, length, signed));
+    }
+
+    public static int maxEncodedSize(int n) {
+        return VarintKernels.checkSize(Integer.BYTES + ((n + 3L) >>> 2) + 4L * n);
+    }
+
+    // Écrit la trame de array[offset .. offset+length) à la position de dest (en petit
+    // boutiste, quel que soit l'ordre de dest) et avance cette position ; retourne le
+    // nombre d'octets écrits
+    public int encode(int[] array, int offset, int length, ByteBuffer dest) {
+        VarintKernels.checkEncode(array, offset, length, dest);
+        int bytes = encodedSize(array, offset, length);
+        if (dest.remaining() < bytes) {
+            throw new IllegalArgumentException("Tampon de destination trop petit : " + bytes + " octets nécessaires");
+        }
+
+        ByteBuffer buffer = VarintKernels.littleEndian(dest);
+        int start = dest.position();
+        int end = start + bytes;
+        buffer.putInt(start, length);
+        int controls = start + Integer.BYTES;
+        int position = controls + ((length + 3) >>> 2);
+
+        int control = 0;
+        for (int i = 0; i < length; i++) {
+            int v = value(array[offset + i]);
+            int code = VarintKernels.code(v);
+            control |= code << ((i & 3) << 1);
+            if ((i & 3) == 3 || i == length - 1) {
+                buffer.put(controls + (i >>> 2), (byte) control);
+                control = 0;
+            }
+            VarintKernels.write(buffer, position, v, code, end);
+            position += code + 1;
+        }
+
+        dest.position(end);
+        return bytes;
+    }
+
+    private int value(int v) {
+        return signed ? ZigZag.encode(v) : v;
+    }
+
+    // Lit une trame à la position de src dans outputArray et avance cette position ;
+    // retourne le nombre de valeurs
+    public int decode(ByteBuffer src, int[] outputArray, int outputOffset) {
+        int size = VarintKernels.readFrameSize(src, outputArray, outputOffset);
+        ByteBuffer buffer = VarintKernels.littleEndian(src);
+        int controls = src.position() + Integer.BYTES;
+        int groups = (size + 3) >>> 2;
+
+        // Longueur des valeurs d'après les contrôles : trame vérifiée avant tout décodage
+        long valueBytes = 0;
+        for (int g = 0; g < groups; g++) {
+            valueBytes += VarintKernels.LENGTHS[buffer.get(controls + g) & 0xFF];
+        }
+        valueBytes -= (4 - (size & 3)) & 3;
+        int end = controls + groups;
+        if (valueBytes > src.limit() - end) {
+            throw new IllegalArgumentException("Trame incomplète : " + size + " valeurs annoncées");
+        }
+        end += (int) valueBytes;
+
+        int position = controls + groups;
+        int fullGroups = size >>> 2;
+        int g = 0;
+        if (VECTOR_AVAILABLE && fullGroups > 3) {
+            // Permutation d'octets tant que 3 groupes complets suivent (16 octets lisibles),
+            // zigzag appliqué dans le registre
+            g = fullGroups - 3;
+            position = VarintVectorKernels.decodeStream(buffer, controls, position, g, outputArray, outputOffset, signed);
+        }
+        int scalarFrom = g << 2;
+        for (; g < fullGroups; g++) {
+            int control = buffer.get(controls + g) & 0xFF;
+            position = VarintKernels.decodeGroup(buffer, position, control, outputArray, outputOffset + (g << 2));
+        }
+        if ((size & 3) != 0) {
+            int control = buffer.get(controls + g) & 0xFF;
+            VarintKernels.decodePartial(buffer, position, control, size & 3, outputArray, outputOffset + (g << 2));
+        }
+        if (signed) {
+            ZigZag.decode(outputArray, outputOffset + scalarFrom, size - scalarFrom);
+        }
+
+        src.position(end);
+        return size;
+    }
+
+    // Scans : les valeurs n'ont pas de largeur commune, elles sont décodées par morceaux
+    @Override
+    public long size(int[] compressedArray, int offset) {
+        return VarintKernels.readSize(compressedArray, offset);
+    }
+
+    @Override
+    public long count(int[] compressedArray, int offset, int lo, int hi) {
+        return PackedScan.countDecoded(this, compressedArray, offset, VarintKernels.readSize(compressedArray, offset), lo, hi);
+    }
+
+    @Override
+    public long filter(int[] compressedArray, int offset, int lo, int hi, long[] bitmap, long bitBase) {
+        return PackedScan.filterDecoded(this, compressedArray, offset, VarintKernels.readSize(compressedArray, offset), lo, hi, bitmap, bitBase);
+    }
+
+    @Override
+    public long sum(int[] compressedArray, int offset) {
+        return PackedScan.sumDecoded(this, compressedArray, offset, VarintKernels.readSize(compressedArray, offset));
+    }
+
+    @Override
+    public int min(int[] compressedArray, int offset) {
+        return PackedScan.minDecoded(this, compressedArray, offset, VarintKernels.readSize(compressedArray, offset));
+    }
+
+    @Override
+    public int max(int[] compressedArray, int offset) {
+        return PackedScan.maxDecoded(this, compressedArray, offset, VarintKernels.readSize(compressedArray, offset));
+    }
+}
@@ -0,0 +1,265 @@
+package compression;
+
+import storage.WordStorage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// Tables et lectures communes aux codecs à octets (GroupVarintBitPacking, StreamVByteBitPacking).
+//
+// Les valeurs sont groupées par 4 ; un octet de contrôle donne, sur 2 bits par valeur (bits
+// de poids faible pour la première), le nombre d'octets - 1 de chaque valeur (1 à 4, petit
+// boutiste). Dans un groupe incomplet (fin de tableau), les codes inutilisés valent 0.
+//
+// Format int[] (octets rangés en petit boutiste dans les mots) :
+//   [0]                 taille
+//   [1]                 nombre d'octets des données
+//   [2 .. 2+nbBlocs-1]  position (en octets dans les données) de chaque bloc de BLOCK_SIZE valeurs
+//   données, puis un mot de marge (lecture de 4 octets en fin de données sans test)
+//
+// Format ByteBuffer (transport) : taille sur 4 octets, puis les mêmes octets de données,
+// sans répertoire ni marge.
+final class VarintKernels {
+
+    static final int HEADER_SIZE = 2;
+    static final int BLOCK_SIZE = 128;
+    static final int BLOCK_SHIFT = 7;
+
+    // Nombre d'octets de données d'un groupe complet, par octet de contrôle
+    static final int[] LENGTHS = new int[256];
+
+    // Masque d'une valeur selon son code (nombre d'octets - 1)
+    static final int[] MASKS = {0xFF, 0xFFFF, 0xFFFFFF, -1};
+
+    static {
+        for (int c = 0; c < 256; c++) {
+            LENGTHS[c] = 4 + (c & 3) + ((c >>> 2) & 3) + ((c >>> 4) & 3) + (c >>> 6);
+        }
+    }
+
+    private VarintKernels() {
+    }
+
+    // Nombre d'octets - 1 de la valeur (0 à 3)
+    static int code(int value) {
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) >>> 3;
+    }
+
+    // Position de la valeur k (0 à 3) dans les données du groupe : les codes des valeurs
+    // suivantes sont masqués, chacune compte alors pour 1 octet dans LENGTHS
+    static int offsetInGroup(int control, int k) {
+        return LENGTHS[control & ((1 << (k << 1)) - 1)] - (4 - k);
+    }
+
+    // Octets de données d'un groupe de count valeurs (dernier groupe incomplet)
+    static int groupLength(int control, int count) {
+        return offsetInGroup(control, count);
+    }
+
+    // Octets des valeurs array[from .. from+length), sans les octets de contrôle
+    static long valueBytes(int[] array, int from, int length, boolean zigzag) {
+        long bytes = length;
+        if (zigzag) {
+            for (int i = from; i < from + length; i++) {
+                bytes += code(ZigZag.encode(array[i]));
+            }
+        } else {
+            for (int i = from; i < from + length; i++) {
+                bytes += code(array[i]);
+            }
+        }
+        return bytes;
+    }
+
+    static int checkSize(long dataBytes) {
+        if (dataBytes > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Tableau trop grand : " + dataBytes + " octets de données");
+        }
+        return (int) dataBytes;
+    }
+
+    // Taille en mots du format int[] pour size valeurs et dataBytes octets de données
+    static int words(int size, int dataBytes) {
+        long blocks = ((long) size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        long words = HEADER_SIZE + blocks + ((dataBytes + 3L) >>> 2) + 1;
+        if (words > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Tableau compressé trop grand");
+        }
+        return (int) words;
+    }
+
+    // Taille en mots d'une borne supérieure : 4 octets par valeur et un contrôle par groupe
+    static int maxWords(int n) {
+        long dataBytes = 4L * n + ((n + 3L) >>> 2);
+        return words(n, checkSize(dataBytes));
+    }
+
+    static int readSize(int[] compressedArray, int offset) {
+        if (compressedArray == null || offset < 0 || compressedArray.length - offset < HEADER_SIZE) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+        return compressedArray[offset];
+    }
+
+    // Premier mot des données
+    static int dataBase(int offset, int size) {
+        return offset + HEADER_SIZE + ((size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT);
+    }
+
+    static int byteAt(int[] words, int base, int position) {
+        return (words[base + (position >>> 2)] >>> ((position & 3) << 3)) & 0xFF;
+    }
+
+    // 4 octets à partir de position (non aligné) : le mot suivant existe toujours (marge)
+    static int read4(int[] words, int base, int position) {
+        int w = base + (position >>> 2);
+        long pair = (words[w] & 0xFFFFFFFFL) | ((long) words[w + 1] << 32);
+        return (int) (pair >>> ((position & 3) << 3));
+    }
+
+    // WordStorage : mêmes lectures, mot à mot sur le stockage
+    static int readSize(WordStorage storage, long offset) {
+        StorageAccess.checkHeader(storage, offset, HEADER_SIZE);
+        return storage.getWord(offset);
+    }
+
+    static long dataBase(long offset, int size) {
+        return offset + HEADER_SIZE + ((size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT);
+    }
+
+    static int byteAt(WordStorage storage, long base, int position) {
+        return (storage.getWord(base + (position >>> 2)) >>> ((position & 3) << 3)) & 0xFF;
+    }
+
+    static int read4(WordStorage storage, long base, int position) {
+        long w = base + (position >>> 2);
+        long pair = (storage.getWord(w) & 0xFFFFFFFFL) | ((long) storage.getWord(w + 1) << 32);
+        return (int) (pair >>> ((position & 3) << 3));
+    }
+
+    // Charge dans la fenêtre du thread les mots qui couvrent les octets de données
+    // [start, end) (marge comprise) ; l'octet start est à la position start & 3 de la fenêtre
+    static int[] loadBytes(WordStorage storage, long data, int start, int end) {
+        return StorageAccess.load(storage, data + (start >>> 2), ((end - (start & ~3) + 3) >>> 2) + 1);
+    }
+
+    // Fin (exclue) des octets de valeurs du bloc b : début du bloc suivant, ou fin des données
+    static int blockEnd(WordStorage storage, long offset, int size, int b) {
+        int blocks = (size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        return b + 1 < blocks ? storage.getWord(offset + HEADER_SIZE + b + 1) : storage.getWord(offset + 1);
+    }
+
+    // Groupe complet dont les données commencent à position ; retourne la position suivante
+    static int decodeGroup(int[] words, int base, int position, int control, int[] out, int outPos) {
+        int c0 = control & 3;
+        int c1 = (control >>> 2) & 3;
+        int c2 = (control >>> 4) & 3;
+        int c3 = control >>> 6;
+        out[outPos] = read4(words, base, position) & MASKS[c0];
+        position += c0 + 1;
+        out[outPos + 1] = read4(words, base, position) & MASKS[c1];
+        position += c1 + 1;
+        out[outPos + 2] = read4(words, base, position) & MASKS[c2];
+        position += c2 + 1;
+        out[outPos + 3] = read4(words, base, position) & MASKS[c3];
+        return position + c3 + 1;
+    }
+
+    // Valeurs fromK à toK - 1 (0 <= fromK <= toK <= 4) du groupe dont les données commencent à position
+    static void decodePartial(int[] words, int base, int position, int control, int fromK, int toK, int[] out, int outPos) {
+        int p = position + offsetInGroup(control, fromK);
+        for (int k = fromK; k < toK; k++) {
+            int code = (control >>> (k << 1)) & 3;
+            out[outPos + k - fromK] = read4(words, base, p) & MASKS[code];
+            p += code + 1;
+        }
+    }
+
+    // ByteBuffer : lecture et écriture en petit boutiste quel que soit l'ordre du tampon,
+    // sans modifier celui de l'appelant
+    static ByteBuffer littleEndian(ByteBuffer buffer) {
+        return buffer.order() == ByteOrder.LITTLE_ENDIAN ? buffer : buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    // Valeur de code code à position ; lecture de 4 octets d'un coup sauf en toute fin de tampon
+    static int read(ByteBuffer buffer, int position, int code) {
+        if (position + 4 <= buffer.limit()) {
+            return buffer.getInt(position) & MASKS[code];
+        }
+        int value = 0;
+        for (int k = 0; k <= code; k++) {
+            value |= (buffer.get(position + k) & 0xFF) << (k << 3);
+        }
+        return value;
+    }
+
+    // Groupe complet dont les données commencent à position : 4 lectures de 4 octets sans
+    // test si les 16 octets suivants sont dans le tampon
+    static int decodeGroup(ByteBuffer buffer, int position, int control, int[] out, int outPos) {
+        int c0 = control & 3;
+        int c1 = (control >>> 2) & 3;
+        int c2 = (control >>> 4) & 3;
+        int c3 = control >>> 6;
+        if (position + 16 > buffer.limit()) {
+            out[outPos] = read(buffer, position, c0);
+            out[outPos + 1] = read(buffer, position + c0 + 1, c1);
+            out[outPos + 2] = read(buffer, position + c0 + c1 + 2, c2);
+            out[outPos + 3] = read(buffer, position + c0 + c1 + c2 + 3, c3);
+            return position + LENGTHS[control];
+        }
+        out[outPos] = buffer.getInt(position) & MASKS[c0];
+        position += c0 + 1;
+        out[outPos + 1] = buffer.getInt(position) & MASKS[c1];
+        position += c1 + 1;
+        out[outPos + 2] = buffer.getInt(position) & MASKS[c2];
+        position += c2 + 1;
+        out[outPos + 3] = buffer.getInt(position) & MASKS[c3];
+        return position + c3 + 1;
+    }
+
+    // Dernier groupe de count valeurs ; retourne la position suivante
+    static int decodePartial(ByteBuffer buffer, int position, int control, int count, int[] out, int outPos) {
+        for (int k = 0; k < count; k++) {
+            int code = (control >>> (k << 1)) & 3;
+            out[outPos + k] = read(buffer, position, code);
+            position += code + 1;
+        }
+        return position;
+    }
+
+    // Écrit les code + 1 octets de poids faible de value ; 4 octets d'un coup si la trame
+    // (qui se termine à end) les contient, les octets en trop étant réécrits par la suite
+    static void write(ByteBuffer buffer, int position, int value, int code, int end) {
+        if (position + 4 <= end) {
+            buffer.putInt(position, value);
+            return;
+        }
+        for (int k = 0; k <= code; k++) {
+            buffer.put(position + k, (byte) (value >>> (k << 3)));
+        }
+    }
+
+    static void checkEncode(int[] array, int offset, int length, ByteBuffer dest) {
+        if (array == null || length < 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+        if (dest == null || dest.isReadOnly()) {
+            throw new IllegalArgumentException("Tampon de destination invalide");
+        }
+    }
+
+    // Lit la taille d'une trame ; les données doivent faire au moins un octet par valeur
+    static int readFrameSize(ByteBuffer src, int[] outputArray, int outputOffset) {
+        if (src == null || src.remaining() < Integer.BYTES) {
+            throw new IllegalArgumentException("Trame incomplète");
+        }
+        int size = littleEndian(src).getInt(src.position());
+        if (size < 0 || (long) size > src.remaining() - Integer.BYTES) {
+            throw new IllegalArgumentException("Trame invalide ou incomplète : " + size + " valeurs");
+        }
+        if (outputArray == null || outputOffset < 0 || outputArray.length - outputOffset < size) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        return size;
+    }
+}
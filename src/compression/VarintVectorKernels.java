@@ -0,0 +1,102 @@
+package compression;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// Décodage d'un groupe de 4 valeurs par permutation d'octets (pshufb) : 16 octets de
+// données sont chargés, la permutation associée à l'octet de contrôle place les octets
+// de chaque valeur au début de sa voie de 32 bits, puis un masque par voie efface les
+// octets en trop. Cette classe n'est chargée que si le module jdk.incubator.vector est présent.
+final class VarintVectorKernels {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_128;
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_128;
+
+    // Permutation et masques des 4 voies, par octet de contrôle. Les octets hors de la
+    // valeur reçoivent un indice quelconque (0) et sont effacés par le masque : la forme
+    // rearrange(permutation, vecteur nul) est nettement plus lente avec jdk.incubator.vector.
+    @SuppressWarnings("unchecked")
+    private static final VectorShuffle<Byte>[] SHUFFLES = (VectorShuffle<Byte>[]) new VectorShuffle<?>[256];
+    private static final int[] LANE_MASKS = new int[256 * 4];
+
+    static {
+        int[] indices = new int[16];
+        for (int c = 0; c < 256; c++) {
+            int position = 0;
+            for (int k = 0; k < 4; k++) {
+                int code = (c >>> (k << 1)) & 3;
+                for (int j = 0; j < 4; j++) {
+                    indices[(k << 2) + j] = j <= code ? position + j : 0;
+                }
+                LANE_MASKS[(c << 2) + k] = VarintKernels.MASKS[code];
+                position += code + 1;
+            }
+            SHUFFLES[c] = VectorShuffle.fromArray(SPECIES, indices, 0);
+        }
+    }
+
+    private VarintVectorKernels() {
+    }
+
+    // Group Varint : groups groupes complets [contrôle][données] à partir de position ;
+    // 16 octets doivent pouvoir être chargés derrière chaque contrôle. Retourne la position
+    // suivante.
+    static int decodeGroups(ByteBuffer buffer, int position, int groups, int[] out, int outPos, boolean zigzag) {
+        if (buffer.hasArray()) {
+            // Tampon sur le tas : chargement direct depuis son tableau, plus rapide
+            byte[] array = buffer.array();
+            int base = buffer.arrayOffset();
+            int p = base + position;
+            for (int g = 0; g < groups; g++) {
+                int control = array[p] & 0xFF;
+                store(ByteVector.fromArray(SPECIES, array, p + 1), control, out, outPos + (g << 2), zigzag);
+                p += 1 + VarintKernels.LENGTHS[control];
+            }
+            return p - base;
+        }
+        for (int g = 0; g < groups; g++) {
+            int control = buffer.get(position) & 0xFF;
+            store(ByteVector.fromByteBuffer(SPECIES, buffer, position + 1, ByteOrder.LITTLE_ENDIAN), control, out, outPos + (g << 2), zigzag);
+            position += 1 + VarintKernels.LENGTHS[control];
+        }
+        return position;
+    }
+
+    // Stream VByte : contrôles à partir de controls, données à partir de position
+    static int decodeStream(ByteBuffer buffer, int controls, int position, int groups, int[] out, int outPos, boolean zigzag) {
+        if (buffer.hasArray()) {
+            byte[] array = buffer.array();
+            int base = buffer.arrayOffset();
+            int c = base + controls;
+            int p = base + position;
+            for (int g = 0; g < groups; g++) {
+                int control = array[c + g] & 0xFF;
+                store(ByteVector.fromArray(SPECIES, array, p), control, out, outPos + (g << 2), zigzag);
+                p += VarintKernels.LENGTHS[control];
+            }
+            return p - base;
+        }
+        for (int g = 0; g < groups; g++) {
+            int control = buffer.get(controls + g) & 0xFF;
+            store(ByteVector.fromByteBuffer(SPECIES, buffer, position, ByteOrder.LITTLE_ENDIAN), control, out, outPos + (g << 2), zigzag);
+            position += VarintKernels.LENGTHS[control];
+        }
+        return position;
+    }
+
+    private static void store(ByteVector data, int control, int[] out, int outPos, boolean zigzag) {
+        IntVector values = data.rearrange(SHUFFLES[control])
+                .reinterpretAsInts()
+                .and(IntVector.fromArray(INT_SPECIES, LANE_MASKS, control << 2));
+        if (zigzag) {
+            values = values.lanewise(VectorOperators.LSHR, 1).lanewise(VectorOperators.XOR, values.and(1).neg());
+        }
+        values.intoArray(out, outPos);
+    }
+}
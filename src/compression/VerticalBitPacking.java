@@ -0,0 +1,363 @@
+package compression;
+
+import storage.WordStorage;
+
+// Bit packing en disposition verticale (entrelacée) pour le décodage SIMD.
+//
+// Les valeurs sont regroupées en blocs de LANES * 32 valeurs. Dans un bloc, la voie j
+// contient les valeurs j, j + LANES, j + 2*LANES, ... compressées de façon consécutive
+// sur b mots, et le mot k de la voie j est stocké à la position k * LANES + j.
+// Un mot "vectoriel" (LANES entiers contigus) contient donc le même mot de chaque voie,
+// et un seul décalage + masque vectoriel produit LANES valeurs consécutives.
+//
+// Format :
+//   [0]     taille (16 bits de poids fort) | bits par élément (16 bits de poids faible)
+//   [1...]  blocs de LANES * b mots (le dernier bloc est complété par des zéros)
+//
+// Le décodage utilise jdk.incubator.vector si le module est présent
+// (java --add-modules jdk.incubator.vector), sinon une boucle scalaire sur le même format.
+public class VerticalBitPacking implements BitPacking, ScanOperators {
+
+    static final int LANES = 8;
+    static final int BLOCK_VALUES = LANES * 32;
+
+    private static final boolean VECTOR_AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    public static boolean isVectorAvailable() {
+        return VECTOR_AVAILABLE;
+    }
+
+    // Mode signé : codage zigzag à la compression, décodé dans le même passage que
+    // le décalage + masque (y compris dans la version vectorielle)
+    private final boolean signed;
+
+    public VerticalBitPacking() {
+        this(false);
+    }
+
+    public VerticalBitPacking(boolean signed) {
+        this.signed = signed;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
+    @Override
+    public int[] compress(int[] array) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null ou vide");
+        }
+        checkSize(array.length);
+
+        int bitsPerElement = calculateMaxBitsNeeded(array, 0, array.length);
+        int[] compressed = new int[compressedSize(array.length, bitsPerElement)];
+        pack(array, 0, array.length, bitsPerElement, compressed, 0);
+        return compressed;
+    }
+
+    @Override
+    public int compressInto(int[] array, int offset, int length, int[] dest, int destOffset) {
+        if (array == null || length <= 0 || offset < 0 || offset + length > array.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+        checkSize(length);
+
+        int bitsPerElement = calculateMaxBitsNeeded(array, offset, length);
+        int words = compressedSize(length, bitsPerElement);
+        if (dest == null || destOffset < 0 || dest.length - destOffset < words) {
+            throw new IllegalArgumentException("Tableau de destination trop petit");
+        }
+
+        pack(array, offset, length, bitsPerElement, dest, destOffset);
+        return words;
+    }
+
+    @Override
+    public int maxCompressedSize(int n) {
+        return compressedSize(n, 32);
+    }
+
+    private static int compressedSize(int originalSize, int bitsPerElement) {
+        int blockCount = (originalSize + BLOCK_VALUES - 1) / BLOCK_VALUES;
+        return 1 + blockCount * LANES * bitsPerElement;
+    }
+
+    private static void checkSize(int size) {
+        if (size > ConsecutiveBitPacking.MAX_SIZE) {
+            throw new IllegalArgumentException("Tableau trop grand (max " + ConsecutiveBitPacking.MAX_SIZE + " éléments), utiliser BlockBitPacking");
+        }
+    }
+
+    private void pack(int[] array, int from, int originalSize, int bitsPerElement, int[] compressed, int base) {
+        compressed[base] = (originalSize << 16) | (bitsPerElement & 0xFFFF);
+
+        // Remise à zéro : la destination peut être un tampon réutilisé
+        int end = base + compressedSize(originalSize, bitsPerElement);
+        for (int w = base + 1; w < end; w++) {
+            compressed[w] = 0;
+        }
+
+        int mask = -1 >>> (32 - bitsPerElement);
+
+        for (int i = 0; i < originalSize; i++) {
+            int value = (signed ? ZigZag.encode(array[from + i]) : array[from + i]) & mask;
+            int block = i / BLOCK_VALUES;
+            int inBlock = i % BLOCK_VALUES;
+            int lane = inBlock % LANES;
+            int bitPos = (inBlock / LANES) * bitsPerElement;
+
+            int wordIndex = base + 1 + block * LANES * bitsPerElement + (bitPos >>> 5) * LANES + lane;
+            int bitOffset = bitPos & 31;
+
+            compressed[wordIndex] |= value << bitOffset;
+            if (bitOffset + bitsPerElement > 32) {
+                // La valeur chevauche sur le mot suivant de la même voie
+                compressed[wordIndex + LANES] |= value >>> (32 - bitOffset);
+            }
+        }
+    }
+
+    @Override
+    public int[] decompress(int[] compressedArray, int[] outputArray) {
+        decompressInto(compressedArray, 0, outputArray, 0);
+        return outputArray;
+    }
+
+    // Mode débit : remplit outputArray sur place, sans allocation
+    @Override
+    public int decompressInto(int[] compressedArray, int offset, int[] outputArray, int outputOffset) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+
+        int metadata = compressedArray[offset];
+        int origSize = (metadata >>> 16) & 0xFFFF;
+        int bitsPerElem = metadata & 0xFFFF;
+
+        if (outputArray == null || outputArray.length - outputOffset < origSize) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        int fullBlocks = origSize / BLOCK_VALUES;
+        int blockWords = LANES * bitsPerElem;
+
+        for (int b = 0; b < fullBlocks; b++) {
+            int inPos = offset + 1 + b * blockWords;
+            int outPos = outputOffset + b * BLOCK_VALUES;
+            if (VECTOR_AVAILABLE) {
+                VerticalVectorKernels.unpackBlock(compressedArray, inPos, outputArray, outPos, bitsPerElem, signed);
+            } else {
+                unpackBlockScalar(compressedArray, inPos, outputArray, outPos, bitsPerElem, signed);
+            }
+        }
+
+        // Dernier bloc partiel : valeur par valeur, directement dans la sortie
+        for (int i = fullBlocks * BLOCK_VALUES; i < origSize; i++) {
+            outputArray[outputOffset + i] = get(compressedArray, offset, i);
+        }
+
+        return origSize;
+    }
+
+    // Même calcul que la version vectorielle, une voie à la fois
+    static void unpackBlockScalar(int[] in, int inPos, int[] out, int outPos, int bits, boolean zigzag) {
+        int mask = -1 >>> (32 - bits);
+        for (int k = 0; k < 32; k++) {
+            int bitPos = k * bits;
+            int word = inPos + (bitPos >>> 5) * LANES;
+            int bitOffset = bitPos & 31;
+            int target = outPos + k * LANES;
+
+            if (bitOffset + bits <= 32) {
+                for (int lane = 0; lane < LANES; lane++) {
+                    out[target + lane] = (in[word + lane] >>> bitOffset) & mask;
+                }
+            } else {
+                for (int lane = 0; lane < LANES; lane++) {
+                    out[target + lane] = ((in[word + lane] >>> bitOffset) | (in[word + LANES + lane] << (32 - bitOffset))) & mask;
+                }
+            }
+            if (zigzag) {
+                ZigZag.decode(out, target, LANES);
+            }
+        }
+    }
+
+    @Override
+    public int get(int[] compressedArray, int i) {
+        return get(compressedArray, 0, i);
+    }
+
+    @Override
+    public int get(int[] compressedArray, int offset, int i) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+
+        int metadata = compressedArray[offset];
+        int origSize = (metadata >>> 16) & 0xFFFF;
+        int bitsPerElem = metadata & 0xFFFF;
+
+        if (i < 0 || i >= origSize) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + origSize);
+        }
+
+        int block = i / BLOCK_VALUES;
+        int inBlock = i % BLOCK_VALUES;
+        int lane = inBlock % LANES;
+        int bitPos = (inBlock / LANES) * bitsPerElem;
+
+        int wordIndex = offset + 1 + block * LANES * bitsPerElem + (bitPos >>> 5) * LANES + lane;
+        int bitOffset = bitPos & 31;
+        int mask = -1 >>> (32 - bitsPerElem);
+
+        int value;
+        if (bitOffset + bitsPerElem <= 32) {
+            value = (compressedArray[wordIndex] >>> bitOffset) & mask;
+        } else {
+            value = ((compressedArray[wordIndex] >>> bitOffset) | (compressedArray[wordIndex + LANES] << (32 - bitOffset))) & mask;
+        }
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    // Blocs complets couverts par la plage : noyau (vectoriel ou scalaire) directement dans la sortie
+    @Override
+    public int decodeRange(int[] compressedArray, int offset, int from, int to, int[] out, int outOffset) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+
+        int metadata = compressedArray[offset];
+        int origSize = (metadata >>> 16) & 0xFFFF;
+        int bitsPerElem = metadata & 0xFFFF;
+
+        if (from < 0 || to > origSize || from > to) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + from + ", " + to + ")");
+        }
+        if (out == null || out.length - outOffset < to - from) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+
+        int i = from;
+        int target = outOffset;
+        while (i < to) {
+            if (i % BLOCK_VALUES == 0 && i + BLOCK_VALUES <= to) {
+                int inPos = offset + 1 + (i / BLOCK_VALUES) * LANES * bitsPerElem;
+                if (VECTOR_AVAILABLE) {
+                    VerticalVectorKernels.unpackBlock(compressedArray, inPos, out, target, bitsPerElem, signed);
+                } else {
+                    unpackBlockScalar(compressedArray, inPos, out, target, bitsPerElem, signed);
+                }
+                i += BLOCK_VALUES;
+                target += BLOCK_VALUES;
+            } else {
+                out[target++] = get(compressedArray, offset, i++);
+            }
+        }
+
+        return to - from;
+    }
+
+    // Scans. Comptage et somme ne dépendent pas de l'ordre des valeurs : si la largeur divise 32,
+    // chaque mot contient des valeurs entières et les mots sont lus à la suite comme un flux
+    // consécutif (SWAR), les valeurs de remplissage du dernier bloc (0, y compris en zigzag)
+    // étant décomptées.
+    // Filtrage (positions entrelacées), minimum et maximum passent par le décodage par blocs.
+    @Override
+    public long size(int[] compressedArray, int offset) {
+        if (compressedArray == null || compressedArray.length - offset < 2) {
+            throw new IllegalArgumentException("Tableau compressé invalide");
+        }
+        return (compressedArray[offset] >>> 16) & 0xFFFF;
+    }
+
+    @Override
+    public long count(int[] compressedArray, int offset, int lo, int hi) {
+        int size = (int) size(compressedArray, offset);
+        int bits = compressedArray[offset] & 0xFFFF;
+        if (32 % bits != 0) {
+            return PackedScan.countDecoded(this, compressedArray, offset, size, lo, hi);
+        }
+
+        int fields = (size + BLOCK_VALUES - 1) / BLOCK_VALUES * BLOCK_VALUES;
+        long matches = PackedScan.count(compressedArray, offset + 1, fields, bits, PackedScan.domain(signed, bits), lo, hi);
+        return lo <= 0 && hi >= 0 ? matches - (fields - size) : matches;
+    }
+
+    @Override
+    public long filter(int[] compressedArray, int offset, int lo, int hi, long[] bitmap, long bitBase) {
+        return PackedScan.filterDecoded(this, compressedArray, offset, (int) size(compressedArray, offset), lo, hi, bitmap, bitBase);
+    }
+
+    @Override
+    public long sum(int[] compressedArray, int offset) {
+        int size = (int) size(compressedArray, offset);
+        int bits = compressedArray[offset] & 0xFFFF;
+        if (32 % bits != 0) {
+            return PackedScan.sumDecoded(this, compressedArray, offset, size);
+        }
+
+        int fields = (size + BLOCK_VALUES - 1) / BLOCK_VALUES * BLOCK_VALUES;
+        return PackedScan.sum(compressedArray, offset + 1, fields, bits, PackedScan.domain(signed, bits));
+    }
+
+    @Override
+    public int min(int[] compressedArray, int offset) {
+        return PackedScan.minDecoded(this, compressedArray, offset, (int) size(compressedArray, offset));
+    }
+
+    @Override
+    public int max(int[] compressedArray, int offset) {
+        return PackedScan.maxDecoded(this, compressedArray, offset, (int) size(compressedArray, offset));
+    }
+
+    @Override
+    public int get(WordStorage storage, long offset, int i) {
+        StorageAccess.checkHeader(storage, offset, 2);
+
+        int metadata = storage.getWord(offset);
+        int origSize = (metadata >>> 16) & 0xFFFF;
+        int bitsPerElem = metadata & 0xFFFF;
+
+        if (i < 0 || i >= origSize) {
+            throw new IndexOutOfBoundsException("Index " + i + " hors limites pour la taille " + origSize);
+        }
+
+        int block = i / BLOCK_VALUES;
+        int inBlock = i % BLOCK_VALUES;
+        int lane = inBlock % LANES;
+        int bitPos = (inBlock / LANES) * bitsPerElem;
+
+        long wordIndex = offset + 1 + (long) block * LANES * bitsPerElem + (bitPos >>> 5) * LANES + lane;
+        int bitOffset = bitPos & 31;
+        int mask = -1 >>> (32 - bitsPerElem);
+
+        int value;
+        if (bitOffset + bitsPerElem <= 32) {
+            value = (storage.getWord(wordIndex) >>> bitOffset) & mask;
+        } else {
+            value = ((storage.getWord(wordIndex) >>> bitOffset) | (storage.getWord(wordIndex + LANES) << (32 - bitOffset))) & mask;
+        }
+        return signed ? ZigZag.decode(value) : value;
+    }
+
+    @Override
+    public int decompressInto(WordStorage storage, long offset, int[] outputArray, int outputOffset) {
+        StorageAccess.checkHeader(storage, offset, 2);
+
+        int metadata = storage.getWord(offset);
+        int words = compressedSize((metadata >>> 16) & 0xFFFF, metadata & 0xFFFF);
+        return decompressInto(StorageAccess.load(storage, offset, words), 0, outputArray, outputOffset);
+    }
+
+    // Largeur du OU des valeurs (valeurs zigzag en mode signé) : un négatif n'est plus tronqué
+    private int calculateMaxBitsNeeded(int[] array, int from, int length) {
+        int or = 0;
+        for (int i = from; i < from + length; i++) {
+            or |= signed ? ZigZag.encode(array[i]) : array[i];
+        }
+        return or == 0 ? 1 : Integer.SIZE - Integer.numberOfLeadingZeros(or);
+    }
+}
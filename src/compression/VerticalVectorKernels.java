@@ -0,0 +1,39 @@
+package compression;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Décodage SIMD de la disposition verticale de VerticalBitPacking.
+// Cette classe n'est chargée que si le module jdk.incubator.vector est présent.
+final class VerticalVectorKernels {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_256;
+
+    private VerticalVectorKernels() {
+    }
+
+    // Décode un bloc complet de LANES * 32 valeurs : chaque itération produit LANES valeurs consécutives
+    // (zigzag : (v >>> 1) ^ -(v & 1), appliqué dans le registre avant l'écriture)
+    static void unpackBlock(int[] in, int inPos, int[] out, int outPos, int bits, boolean zigzag) {
+        IntVector mask = IntVector.broadcast(SPECIES, -1 >>> (32 - bits));
+        int lanes = VerticalBitPacking.LANES;
+
+        for (int k = 0; k < 32; k++) {
+            int bitPos = k * bits;
+            int word = inPos + (bitPos >>> 5) * lanes;
+            int bitOffset = bitPos & 31;
+
+            IntVector value = IntVector.fromArray(SPECIES, in, word).lanewise(VectorOperators.LSHR, bitOffset);
+            if (bitOffset + bits > 32) {
+                IntVector next = IntVector.fromArray(SPECIES, in, word + lanes);
+                value = value.or(next.lanewise(VectorOperators.LSHL, 32 - bitOffset));
+            }
+            value = value.and(mask);
+            if (zigzag) {
+                value = value.lanewise(VectorOperators.LSHR, 1).lanewise(VectorOperators.XOR, value.and(1).neg());
+            }
+            value.intoArray(out, outPos + k * lanes);
+        }
+    }
+}
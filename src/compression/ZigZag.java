@@ -0,0 +1,41 @@
+package compression;
+
+// Codage zigzag des entiers signés : 0, -1, 1, -2, 2 ... deviennent 0, 1, 2, 3, 4 ...
+// Une valeur de petite magnitude (positive ou négative) garde ainsi peu de bits significatifs,
+// là où un négatif brut occupe toujours 32 bits.
+public final class ZigZag {
+
+    private ZigZag() {
+    }
+
+    public static int encode(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    public static int decode(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // Variantes 64 bits (LongBitPacking)
+    public static long encode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    public static long decode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // Codage de count valeurs de in[inPos..] vers out[outPos..]
+    static void encode(int[] in, int inPos, int[] out, int outPos, int count) {
+        for (int k = 0; k < count; k++) {
+            out[outPos + k] = encode(in[inPos + k]);
+        }
+    }
+
+    // Décodage sur place de count valeurs (appelé juste après un noyau, les valeurs sont encore en cache)
+    static void decode(int[] values, int from, int count) {
+        for (int k = from; k < from + count; k++) {
+            values[k] = decode(values[k]);
+        }
+    }
+}
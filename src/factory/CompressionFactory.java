@@ -1,27 +1,137 @@
 package factory;
 
+import compression.AdaptiveBitPacking;
 import compression.BitPacking;
+import compression.BlockBitPacking;
+import compression.CachedBitPacking;
 import compression.ConsecutiveBitPacking;
+import compression.DeltaBitPacking;
+import compression.FrameOfReferenceBitPacking;
+import compression.GroupVarintBitPacking;
+import compression.InstrumentedBitPacking;
+import compression.LongBitPacking;
+import compression.LongConsecutiveBitPacking;
+import compression.LongNonConsecutiveBitPacking;
+import compression.LongOverflowBitPacking;
 import compression.NonConsecutiveBitPacking;
 import compression.OverflowBitPacking;
+import compression.ParallelBitPacking;
+import compression.PatchedBitPacking;
+import compression.StreamVByteBitPacking;
+import compression.VerticalBitPacking;
+import metrics.CodecMetrics;
+
+import java.util.concurrent.Executor;
 
 public class CompressionFactory {
     public enum CompressionType {
         CONSECUTIVE,
         NON_CONSECUTIVE,
-        OVERFLOW
+        OVERFLOW,
+        PATCHED,
+        VERTICAL,
+        FRAME_OF_REFERENCE,
+        DELTA,
+        DELTA_OF_DELTA,
+        GROUP_VARINT,
+        STREAM_VBYTE,
+        AUTO
     }
 
     public static BitPacking createCompressor(CompressionType type) {
+        return createCompressor(type, false);
+    }
+
+    // Mode signé : les valeurs sont codées en zigzag (petits négatifs sur peu de bits).
+    // Frame of reference et delta travaillent déjà modulo 2^32 par rapport à un minimum
+    // et acceptent les négatifs sans ce codage.
+    public static BitPacking createCompressor(CompressionType type, boolean signed) {
         switch (type) {
             case CONSECUTIVE:
-                return new ConsecutiveBitPacking();
+                return new ConsecutiveBitPacking(signed);
             case NON_CONSECUTIVE:
-                return new NonConsecutiveBitPacking();
+                return new NonConsecutiveBitPacking(signed);
             case OVERFLOW:
-                return new OverflowBitPacking();
+                return new OverflowBitPacking(signed);
+            case PATCHED:
+                return new PatchedBitPacking(signed);
+            case VERTICAL:
+                return new VerticalBitPacking(signed);
+            case FRAME_OF_REFERENCE:
+                return new FrameOfReferenceBitPacking();
+            case DELTA:
+                return new DeltaBitPacking(1);
+            case DELTA_OF_DELTA:
+                return new DeltaBitPacking(2);
+            case GROUP_VARINT:
+                return new GroupVarintBitPacking(signed);
+            case STREAM_VBYTE:
+                return new StreamVByteBitPacking(signed);
+            case AUTO:
+                return new AdaptiveBitPacking(signed);
             default:
                 throw new IllegalArgumentException("Type de compression non supporté : " + type);
         }
     }
+
+    // Valeurs 64 bits (horodatages, identifiants) : mots de 64 bits, largeurs de 1 à 64,
+    // sans limite de 65 535 éléments
+    public static LongBitPacking createLongCompressor(CompressionType type) {
+        return createLongCompressor(type, false);
+    }
+
+    public static LongBitPacking createLongCompressor(CompressionType type, boolean signed) {
+        switch (type) {
+            case CONSECUTIVE:
+                return new LongConsecutiveBitPacking(signed);
+            case NON_CONSECUTIVE:
+                return new LongNonConsecutiveBitPacking(signed);
+            case OVERFLOW:
+                return new LongOverflowBitPacking(signed);
+            default:
+                throw new IllegalArgumentException("Type de compression non supporté en 64 bits : " + type);
+        }
+    }
+
+    // Conteneur par blocs : lève la limite de 65 535 éléments des packers de base
+    public static BitPacking createBlockCompressor(CompressionType type) {
+        return new BlockBitPacking(createCompressor(type));
+    }
+
+    public static BitPacking createBlockCompressor(CompressionType type, int blockSize) {
+        return new BlockBitPacking(createCompressor(type), blockSize);
+    }
+
+    public static BitPacking createBlockCompressor(CompressionType type, boolean signed) {
+        return new BlockBitPacking(createCompressor(type, signed));
+    }
+
+    // Compression / décompression parallèles (même format que le conteneur par blocs),
+    // sur le ForkJoinPool commun ou sur un executor fourni
+    public static BitPacking createParallelCompressor(CompressionType type) {
+        return new ParallelBitPacking(createCompressor(type));
+    }
+
+    public static BitPacking createParallelCompressor(CompressionType type, Executor executor) {
+        return new ParallelBitPacking(createCompressor(type), executor);
+    }
+
+    // Mesures (compteurs, durées, largeurs, overflows) enregistrées dans metrics ; à exposer
+    // par JMX avec metrics.register(nom). Même format compressé que le packer décoré.
+    public static InstrumentedBitPacking createInstrumentedCompressor(CompressionType type, CodecMetrics metrics) {
+        return new InstrumentedBitPacking(createCompressor(type), metrics);
+    }
+
+    public static InstrumentedBitPacking createInstrumentedCompressor(BitPacking packer, CodecMetrics metrics) {
+        return new InstrumentedBitPacking(packer, metrics);
+    }
+
+    // Cache des blocs décodés pour les get(i) répétés, limité à maxBytes octets
+    public static CachedBitPacking createCachedCompressor(CompressionType type, long maxBytes) {
+        return new CachedBitPacking(createCompressor(type), maxBytes);
+    }
+
+    public static CachedBitPacking createCachedCompressor(BitPacking packer, long maxBytes) {
+        return new CachedBitPacking(packer, maxBytes);
+    }
 }
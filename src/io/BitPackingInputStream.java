@@ -0,0 +1,275 @@
+package io;
+
+import compression.BitPacking;
+import factory.CompressionFactory;
+import factory.CompressionFactory.CompressionType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+// Lecture en flux d'un fichier écrit par BitPackingOutputStream : les blocs sont lus à travers
+// un tampon direct et décodés un par un, directement dans le tableau de l'appelant quand il a
+// la place (readBlock), sinon dans un bloc interne (read). La mémoire utilisée ne dépend que
+// de la taille de bloc.
+//
+// Sur un canal positionnable (FileChannel) dont le flux a un index, seek(i) se place sur la
+// valeur i en ne lisant que l'entrée d'index et le bloc concernés. Non thread-safe.
+public class BitPackingInputStream implements Closeable {
+
+    private final ReadableByteChannel channel;
+    private final BitPacking packer;
+    private final int blockSize;
+    private final boolean signed;
+    private final boolean indexed;
+    private final CompressionType type;
+
+    // Position du début du flux dans le canal (pour l'index)
+    private final long start;
+
+    private final ByteBuffer buffer;
+    private final IntBuffer words;
+    private final int[] packed;
+
+    // Bloc décodé en attente de lecture : block[blockPosition .. blockLength)
+    private final int[] block;
+    private int blockPosition;
+    private int blockLength;
+    private boolean ended;
+
+    // Nombre de valeurs et de blocs lus dans l'index (-1 : pas encore lu)
+    private long indexValueCount = -1;
+    private int indexBlockCount;
+
+    // Packer recréé à partir de l'en-tête (flux écrit avec un CompressionType)
+    public BitPackingInputStream(ReadableByteChannel channel) throws IOException {
+        this(channel, null);
+    }
+
+    // Packer fourni par l'appelant : celui qui a servi à l'écriture
+    public BitPackingInputStream(ReadableByteChannel channel, BitPacking packer) throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("Le canal ne peut pas être null");
+        }
+        this.channel = channel;
+        this.start = channel instanceof SeekableByteChannel ? ((SeekableByteChannel) channel).position() : 0;
+
+        ByteBuffer header = ByteBuffer.allocate(StreamFormat.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        StreamFormat.readFully(channel, header);
+        header.flip();
+
+        if (header.getInt() != StreamFormat.MAGIC) {
+            throw new IOException("Format de flux invalide");
+        }
+        int version = header.getInt();
+        if (version != StreamFormat.VERSION) {
+            throw new IOException("Version de format non supportée : " + version);
+        }
+        int flags = header.getInt();
+        this.blockSize = header.getInt();
+        int nameLength = header.getInt();
+        if (blockSize <= 0 || nameLength < 0 || nameLength > StreamFormat.MAX_TYPE_NAME) {
+            throw new IOException("Format de flux invalide");
+        }
+        byte[] name = new byte[nameLength];
+        header.get(name);
+
+        this.signed = (flags & StreamFormat.FLAG_SIGNED) != 0;
+        this.indexed = (flags & StreamFormat.FLAG_INDEX) != 0;
+        this.type = nameLength == 0 ? null : typeOf(new String(name, StandardCharsets.UTF_8));
+
+        if (packer == null) {
+            if (type == null) {
+                throw new IllegalArgumentException("Flux écrit avec un packer spécifique : le fournir à la lecture");
+            }
+            packer = CompressionFactory.createCompressor(type, signed);
+        }
+        this.packer = packer;
+
+        this.packed = new int[packer.maxCompressedSize(blockSize)];
+        this.buffer = ByteBuffer.allocateDirect(Math.max(StreamFormat.HEADER_BYTES, packed.length * Integer.BYTES))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        this.words = buffer.asIntBuffer();
+        this.block = new int[blockSize];
+    }
+
+    private static CompressionType typeOf(String name) throws IOException {
+        try {
+            return CompressionType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Type de compression inconnu : " + name);
+        }
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
+    public boolean hasIndex() {
+        return indexed;
+    }
+
+    // Type de compression de l'en-tête (null si le flux a été écrit avec un packer spécifique)
+    public CompressionType getType() {
+        return type;
+    }
+
+    // Lit au plus length valeurs dans out ; retourne le nombre de valeurs lues, -1 en fin de flux
+    public int read(int[] out, int offset, int length) throws IOException {
+        if (out == null || length < 0 || offset < 0 || offset + length > out.length) {
+            throw new IllegalArgumentException("Plage de sortie invalide");
+        }
+        if (length == 0) {
+            return 0;
+        }
+
+        int copied = 0;
+        while (copied < length) {
+            if (blockPosition == blockLength) {
+                // Assez de place pour un bloc entier : décodage direct dans out
+                if (length - copied >= blockSize) {
+                    int count = nextBlock(out, offset + copied);
+                    if (count < 0) {
+                        break;
+                    }
+                    copied += count;
+                    continue;
+                }
+                blockLength = Math.max(0, nextBlock(block, 0));
+                blockPosition = 0;
+                if (blockLength == 0) {
+                    break;
+                }
+            }
+            int count = Math.min(length - copied, blockLength - blockPosition);
+            System.arraycopy(block, blockPosition, out, offset + copied, count);
+            blockPosition += count;
+            copied += count;
+        }
+        return copied == 0 ? -1 : copied;
+    }
+
+    // Décode le bloc suivant dans out[offset..] (au moins getBlockSize() places) ; s'il reste
+    // des valeurs d'un bloc déjà entamé par read, ce sont elles qui sont copiées.
+    // Retourne le nombre de valeurs écrites, -1 en fin de flux.
+    public int readBlock(int[] out, int offset) throws IOException {
+        if (out == null || offset < 0 || out.length - offset < blockSize) {
+            throw new IllegalArgumentException("Tableau de sortie trop petit");
+        }
+        if (blockPosition < blockLength) {
+            int count = blockLength - blockPosition;
+            System.arraycopy(block, blockPosition, out, offset, count);
+            blockPosition = blockLength;
+            return count;
+        }
+        return nextBlock(out, offset);
+    }
+
+    // Lit et décode la trame suivante dans out ; -1 sur la marque de fin
+    private int nextBlock(int[] out, int offset) throws IOException {
+        if (ended) {
+            return -1;
+        }
+
+        buffer.clear().limit(StreamFormat.FRAME_BYTES);
+        StreamFormat.readFully(channel, buffer);
+        int valueCount = buffer.getInt(0);
+        int wordCount = buffer.getInt(Integer.BYTES);
+        if (valueCount == 0) {
+            ended = true;
+            return -1;
+        }
+        if (valueCount < 0 || valueCount > blockSize || wordCount < 0 || wordCount > packed.length) {
+            throw new IOException("Flux corrompu : bloc de " + valueCount + " valeurs sur " + wordCount + " mots");
+        }
+
+        buffer.clear().limit(wordCount * Integer.BYTES);
+        StreamFormat.readFully(channel, buffer);
+        words.clear();
+        words.get(packed, 0, wordCount);
+
+        int decoded = packer.decompressInto(packed, 0, out, offset);
+        if (decoded != valueCount) {
+            throw new IOException("Flux corrompu : " + decoded + " valeurs décodées, " + valueCount + " attendues");
+        }
+        return valueCount;
+    }
+
+    // Nombre total de valeurs, lu dans l'index
+    public long getValueCount() throws IOException {
+        readTrailer();
+        return indexValueCount;
+    }
+
+    // Place le flux sur la valeur d'indice index (canal positionnable et flux avec index)
+    public void seek(long index) throws IOException {
+        SeekableByteChannel seekable = seekableChannel();
+        readTrailer();
+        if (index < 0 || index > indexValueCount) {
+            throw new IndexOutOfBoundsException("Index " + index + " hors limites pour la taille " + indexValueCount);
+        }
+
+        blockPosition = 0;
+        blockLength = 0;
+        long blockIndex = index / blockSize;
+        if (blockIndex == indexBlockCount) {
+            // Fin de flux
+            ended = true;
+            return;
+        }
+
+        // Entrée d'index du bloc, puis le bloc lui-même
+        long entries = seekable.size() - StreamFormat.TRAILER_BYTES - (long) indexBlockCount * Long.BYTES;
+        buffer.clear().limit(Long.BYTES);
+        seekable.position(entries + blockIndex * Long.BYTES);
+        StreamFormat.readFully(seekable, buffer);
+        seekable.position(start + buffer.getLong(0));
+
+        ended = false;
+        blockLength = nextBlock(block, 0);
+        blockPosition = (int) (index - blockIndex * blockSize);
+    }
+
+    private SeekableByteChannel seekableChannel() {
+        if (!(channel instanceof SeekableByteChannel)) {
+            throw new UnsupportedOperationException("Canal non positionnable");
+        }
+        if (!indexed) {
+            throw new UnsupportedOperationException("Flux sans index de blocs");
+        }
+        return (SeekableByteChannel) channel;
+    }
+
+    private void readTrailer() throws IOException {
+        if (indexValueCount >= 0) {
+            return;
+        }
+        SeekableByteChannel seekable = seekableChannel();
+        long current = seekable.position();
+
+        buffer.clear().limit(StreamFormat.TRAILER_BYTES);
+        seekable.position(seekable.size() - StreamFormat.TRAILER_BYTES);
+        StreamFormat.readFully(seekable, buffer);
+        seekable.position(current);
+
+        if (buffer.getInt(Long.BYTES + Integer.BYTES) != StreamFormat.INDEX_MAGIC) {
+            throw new IOException("Index de blocs absent ou corrompu");
+        }
+        indexValueCount = buffer.getLong(0);
+        indexBlockCount = buffer.getInt(Long.BYTES);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
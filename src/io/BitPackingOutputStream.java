@@ -0,0 +1,222 @@
+package io;
+
+import compression.BitPacking;
+import factory.CompressionFactory;
+import factory.CompressionFactory.CompressionType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Écriture en flux d'entiers compressés vers un canal (fichier, socket) : les valeurs sont
+// accumulées dans un bloc de taille fixe, compressé par le packer dès qu'il est plein puis écrit
+// à travers un tampon direct. La mémoire utilisée ne dépend que de la taille de bloc, quel que
+// soit le nombre de valeurs écrites (hors index : 8 octets par bloc). Format : cf. StreamFormat.
+//
+// close() écrit le dernier bloc, la marque de fin et l'index, puis ferme le canal ; finish()
+// fait de même sans fermer le canal. Non thread-safe, canal bloquant.
+public class BitPackingOutputStream implements Closeable {
+
+    private final WritableByteChannel channel;
+    private final BitPacking packer;
+    private final int blockSize;
+    private final boolean index;
+
+    private final int[] pending;
+    private int pendingCount;
+    private final int[] packed;
+    private final ByteBuffer buffer;
+    private final IntBuffer words;
+
+    // Position (en octets depuis le début du flux) de chaque bloc, pour l'index
+    private long[] blockPositions = new long[16];
+    private int blockCount;
+    private long position;
+    private long valueCount;
+    private boolean finished;
+
+    // Packer recréé à la lecture à partir du type et du mode signé
+    public BitPackingOutputStream(WritableByteChannel channel, CompressionType type, boolean signed) throws IOException {
+        this(channel, type, signed, StreamFormat.DEFAULT_BLOCK_SIZE, true);
+    }
+
+    public BitPackingOutputStream(WritableByteChannel channel, CompressionType type, boolean signed,
+                                  int blockSize, boolean index) throws IOException {
+        this(channel, CompressionFactory.createCompressor(type, signed), type, signed, blockSize, index);
+    }
+
+    // Packer quelconque (conteneur, packer instrumenté…) : le lecteur devra recevoir le même
+    public BitPackingOutputStream(WritableByteChannel channel, BitPacking packer, int blockSize, boolean index) throws IOException {
+        this(channel, packer, null, false, blockSize, index);
+    }
+
+    private BitPackingOutputStream(WritableByteChannel channel, BitPacking packer, CompressionType type, boolean signed,
+                                   int blockSize, boolean index) throws IOException {
+        if (channel == null || packer == null) {
+            throw new IllegalArgumentException("Le canal et le packer ne peuvent pas être null");
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Taille de bloc invalide : " + blockSize);
+        }
+        this.channel = channel;
+        this.packer = packer;
+        this.blockSize = blockSize;
+        this.index = index;
+        this.pending = new int[blockSize];
+        this.packed = new int[packer.maxCompressedSize(blockSize)];
+        // Au moins la place de la fin de l'index (cas d'un tout petit bloc)
+        this.buffer = ByteBuffer.allocateDirect(Math.max(StreamFormat.HEADER_BYTES, StreamFormat.FRAME_BYTES + packed.length * Integer.BYTES))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        this.words = buffer.asIntBuffer();
+
+        writeHeader(type, signed);
+    }
+
+    private void writeHeader(CompressionType type, boolean signed) throws IOException {
+        byte[] name = type == null ? new byte[0] : type.name().getBytes(StandardCharsets.UTF_8);
+        if (name.length > StreamFormat.MAX_TYPE_NAME) {
+            throw new IllegalArgumentException("Nom de type trop long : " + type);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(StreamFormat.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(StreamFormat.MAGIC);
+        header.putInt(StreamFormat.VERSION);
+        header.putInt((signed ? StreamFormat.FLAG_SIGNED : 0) | (index ? StreamFormat.FLAG_INDEX : 0));
+        header.putInt(blockSize);
+        header.putInt(name.length);
+        header.put(name);
+        header.clear();
+        StreamFormat.writeFully(channel, header);
+        position = StreamFormat.HEADER_BYTES;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    // Nombre de valeurs écrites jusqu'ici
+    public long getValueCount() {
+        return valueCount + pendingCount;
+    }
+
+    public void write(int value) throws IOException {
+        checkOpen();
+        pending[pendingCount++] = value;
+        if (pendingCount == blockSize) {
+            writeBlock(pending, 0, blockSize);
+            pendingCount = 0;
+        }
+    }
+
+    public void write(int[] values) throws IOException {
+        if (values == null) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null");
+        }
+        write(values, 0, values.length);
+    }
+
+    public void write(int[] values, int offset, int length) throws IOException {
+        if (values == null || length < 0 || offset < 0 || offset + length > values.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+        checkOpen();
+
+        int i = offset;
+        int end = offset + length;
+
+        // Compléter le bloc en cours
+        if (pendingCount > 0) {
+            int count = Math.min(blockSize - pendingCount, end - i);
+            System.arraycopy(values, i, pending, pendingCount, count);
+            pendingCount += count;
+            i += count;
+            if (pendingCount == blockSize) {
+                writeBlock(pending, 0, blockSize);
+                pendingCount = 0;
+            }
+        }
+
+        // Blocs complets compressés directement depuis le tableau de l'appelant (sans copie)
+        while (end - i >= blockSize) {
+            writeBlock(values, i, blockSize);
+            i += blockSize;
+        }
+
+        System.arraycopy(values, i, pending, pendingCount, end - i);
+        pendingCount += end - i;
+    }
+
+    private void writeBlock(int[] values, int offset, int length) throws IOException {
+        int count = packer.compressInto(values, offset, length, packed, 0);
+
+        words.clear();
+        words.put(length).put(count).put(packed, 0, count);
+        buffer.clear().limit(StreamFormat.FRAME_BYTES + count * Integer.BYTES);
+        StreamFormat.writeFully(channel, buffer);
+
+        if (blockCount == blockPositions.length) {
+            blockPositions = Arrays.copyOf(blockPositions, blockCount + (blockCount >>> 1));
+        }
+        blockPositions[blockCount++] = position;
+        position += StreamFormat.FRAME_BYTES + (long) count * Integer.BYTES;
+        valueCount += length;
+    }
+
+    // Dernier bloc, marque de fin et index ; le canal reste ouvert
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        if (pendingCount > 0) {
+            writeBlock(pending, 0, pendingCount);
+            pendingCount = 0;
+        }
+
+        buffer.clear();
+        buffer.putInt(0).putInt(0);
+        buffer.flip();
+        StreamFormat.writeFully(channel, buffer);
+
+        if (index) {
+            writeIndex();
+        }
+        finished = true;
+    }
+
+    private void writeIndex() throws IOException {
+        // Positions par morceaux, dans le même tampon direct
+        int perChunk = buffer.capacity() / Long.BYTES;
+        for (int from = 0; from < blockCount; from += perChunk) {
+            int count = Math.min(perChunk, blockCount - from);
+            buffer.clear();
+            buffer.asLongBuffer().put(blockPositions, from, count);
+            buffer.limit(count * Long.BYTES);
+            StreamFormat.writeFully(channel, buffer);
+        }
+
+        buffer.clear();
+        buffer.putLong(valueCount).putInt(blockCount).putInt(StreamFormat.INDEX_MAGIC);
+        buffer.flip();
+        StreamFormat.writeFully(channel, buffer);
+    }
+
+    private void checkOpen() {
+        if (finished) {
+            throw new IllegalStateException("Flux déjà terminé");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            channel.close();
+        }
+    }
+}
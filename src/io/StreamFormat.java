@@ -0,0 +1,58 @@
+package io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+// Format des flux compressés (entiers petit-boutistes), partagé par BitPackingOutputStream
+// et BitPackingInputStream :
+//
+//   En-tête (64 octets)
+//     [0..3]    magique "BPS1"
+//     [4..7]    version du format
+//     [8..11]   options : bit 0 = mode signé, bit 1 = index de blocs en fin de flux
+//     [12..15]  taille de bloc (valeurs)
+//     [16..19]  longueur du nom du type (0 : packer fourni par l'appelant)
+//     [20..51]  nom du CompressionType (UTF-8, complété par des zéros)
+//     [52..63]  réservé
+//   Blocs
+//     [nombre de valeurs][nombre de mots][mots écrits par compressInto]
+//   Fin
+//     [0][0]
+//   Index (optionnel)
+//     position de chaque bloc (8 octets, relative au début du flux), puis
+//     [nombre total de valeurs (8 octets)][nombre de blocs][magique "BPSI"]
+final class StreamFormat {
+
+    static final int HEADER_BYTES = 64;
+    static final int FRAME_BYTES = 2 * Integer.BYTES;
+    static final int TRAILER_BYTES = Long.BYTES + 2 * Integer.BYTES;
+
+    static final int MAGIC = 0x31535042;       // "BPS1"
+    static final int INDEX_MAGIC = 0x49535042; // "BPSI"
+    static final int VERSION = 1;
+    static final int FLAG_SIGNED = 1;
+    static final int FLAG_INDEX = 1 << 1;
+    static final int MAX_TYPE_NAME = 32;
+
+    static final int DEFAULT_BLOCK_SIZE = 1 << 15;
+
+    private StreamFormat() {
+    }
+
+    static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Flux tronqué");
+            }
+        }
+    }
+}
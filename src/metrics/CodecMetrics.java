@@ -0,0 +1,272 @@
+package metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Mesures d'un codec instrumenté (compression.InstrumentedBitPacking), partageables entre
+// plusieurs instances et threads : compteurs LongAdder (pas de contention entre threads),
+// histogrammes de latence et de largeurs. Désactivées (setEnabled(false), aussi par JMX),
+// elles ne coûtent qu'une lecture volatile par appel du packer.
+public class CodecMetrics implements CodecMetricsMBean {
+
+    private static final String DOMAIN = "bitpacking";
+
+    private volatile boolean enabled = true;
+
+    private final LongAdder compressCount = new LongAdder();
+    private final LongAdder decompressCount = new LongAdder();
+    private final LongAdder getCount = new LongAdder();
+
+    private final LongAdder valuesCompressed = new LongAdder();
+    private final LongAdder valuesDecompressed = new LongAdder();
+    private final LongAdder wordsIn = new LongAdder();
+    private final LongAdder wordsOut = new LongAdder();
+    private final LongAdder compressNanos = new LongAdder();
+    private final LongAdder decompressNanos = new LongAdder();
+
+    private final LatencyHistogram compressLatency = new LatencyHistogram();
+    private final LatencyHistogram decompressLatency = new LatencyHistogram();
+    private final LatencyHistogram getLatency = new LatencyHistogram();
+
+    private final AtomicLongArray widths = new AtomicLongArray(33);
+    private final LongAdder overflowValues = new LongAdder();
+    private final LongAdder overflowCandidates = new LongAdder();
+
+    private ObjectName objectName;
+
+    // Enregistrement sous bitpacking:type=CodecMetrics,name=<name> dans le serveur MBean de la JVM
+    public synchronized ObjectName register(String name) {
+        if (objectName != null) {
+            throw new IllegalStateException("Mesures déjà enregistrées : " + objectName);
+        }
+        try {
+            ObjectName candidate = new ObjectName(DOMAIN + ":type=CodecMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, candidate);
+            objectName = candidate;
+            return candidate;
+        } catch (JMException e) {
+            throw new IllegalStateException("Enregistrement JMX impossible : " + name, e);
+        }
+    }
+
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.unregisterMBean(objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Désenregistrement JMX impossible : " + objectName, e);
+        } finally {
+            objectName = null;
+        }
+    }
+
+    // Enregistrement (appelé par le décorateur)
+
+    public void recordCompress(int values, int compressedWords, long nanos) {
+        compressCount.increment();
+        valuesCompressed.add(values);
+        wordsIn.add(values);
+        wordsOut.add(compressedWords);
+        compressNanos.add(nanos);
+        compressLatency.record(nanos);
+    }
+
+    public void recordDecompress(int values, long nanos) {
+        decompressCount.increment();
+        valuesDecompressed.add(values);
+        decompressNanos.add(nanos);
+        decompressLatency.record(nanos);
+    }
+
+    public void recordGet(int count) {
+        getCount.add(count);
+    }
+
+    public void recordGetLatency(long nanos) {
+        getLatency.record(nanos);
+    }
+
+    // Largeur retenue pour un tableau ou un bloc
+    public void recordWidth(int bits) {
+        if (bits >= 0 && bits <= 32) {
+            widths.incrementAndGet(bits);
+        }
+    }
+
+    // Tableau ou bloc à zone d'overflow : values valeurs, dont overflows en zone d'overflow
+    public void recordOverflows(int values, int overflows) {
+        overflowCandidates.add(values);
+        overflowValues.add(overflows);
+    }
+
+    // Attributs JMX
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public long getCompressCount() {
+        return compressCount.sum();
+    }
+
+    @Override
+    public long getDecompressCount() {
+        return decompressCount.sum();
+    }
+
+    @Override
+    public long getGetCount() {
+        return getCount.sum();
+    }
+
+    @Override
+    public long getValuesCompressed() {
+        return valuesCompressed.sum();
+    }
+
+    @Override
+    public long getValuesDecompressed() {
+        return valuesDecompressed.sum();
+    }
+
+    @Override
+    public long getBytesIn() {
+        return wordsIn.sum() * Integer.BYTES;
+    }
+
+    @Override
+    public long getBytesOut() {
+        return wordsOut.sum() * Integer.BYTES;
+    }
+
+    @Override
+    public long getBytesSaved() {
+        return getBytesIn() - getBytesOut();
+    }
+
+    // Taille d'origine / taille compressée (0 sans compression mesurée)
+    @Override
+    public double getCompressionRatio() {
+        long out = wordsOut.sum();
+        return out == 0 ? 0 : (double) wordsIn.sum() / out;
+    }
+
+    @Override
+    public double getCompressMillionValuesPerSecond() {
+        long nanos = compressNanos.sum();
+        return nanos == 0 ? 0 : valuesCompressed.sum() * 1e3 / nanos;
+    }
+
+    @Override
+    public double getDecompressMillionValuesPerSecond() {
+        long nanos = decompressNanos.sum();
+        return nanos == 0 ? 0 : valuesDecompressed.sum() * 1e3 / nanos;
+    }
+
+    @Override
+    public long getCompressLatencyP50() {
+        return compressLatency.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getCompressLatencyP99() {
+        return compressLatency.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getCompressLatencyMax() {
+        return compressLatency.getMax();
+    }
+
+    @Override
+    public long getDecompressLatencyP50() {
+        return decompressLatency.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getDecompressLatencyP99() {
+        return decompressLatency.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getDecompressLatencyMax() {
+        return decompressLatency.getMax();
+    }
+
+    @Override
+    public long getGetLatencyP50() {
+        return getLatency.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getGetLatencyP99() {
+        return getLatency.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getGetLatencyMax() {
+        return getLatency.getMax();
+    }
+
+    @Override
+    public long[] getWidthHistogram() {
+        long[] histogram = new long[widths.length()];
+        for (int bits = 0; bits < histogram.length; bits++) {
+            histogram[bits] = widths.get(bits);
+        }
+        return histogram;
+    }
+
+    @Override
+    public double getOverflowFraction() {
+        long candidates = overflowCandidates.sum();
+        return candidates == 0 ? 0 : (double) overflowValues.sum() / candidates;
+    }
+
+    public LatencyHistogram getCompressLatency() {
+        return compressLatency;
+    }
+
+    public LatencyHistogram getDecompressLatency() {
+        return decompressLatency;
+    }
+
+    public LatencyHistogram getGetLatency() {
+        return getLatency;
+    }
+
+    @Override
+    public void reset() {
+        compressCount.reset();
+        decompressCount.reset();
+        getCount.reset();
+        valuesCompressed.reset();
+        valuesDecompressed.reset();
+        wordsIn.reset();
+        wordsOut.reset();
+        compressNanos.reset();
+        decompressNanos.reset();
+        compressLatency.reset();
+        decompressLatency.reset();
+        getLatency.reset();
+        for (int bits = 0; bits < widths.length(); bits++) {
+            widths.set(bits, 0);
+        }
+        overflowValues.reset();
+        overflowCandidates.reset();
+    }
+}
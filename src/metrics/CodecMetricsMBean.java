@@ -0,0 +1,42 @@
+package metrics;
+
+// Interface JMX (MBean standard) de CodecMetrics : attributs en lecture seule, sauf Enabled,
+// et opération reset. Durées en nanosecondes, débits en millions de valeurs par seconde.
+public interface CodecMetricsMBean {
+
+    boolean isEnabled();
+    void setEnabled(boolean enabled);
+
+    long getCompressCount();
+    long getDecompressCount();
+    long getGetCount();
+
+    long getValuesCompressed();
+    long getValuesDecompressed();
+
+    long getBytesIn();
+    long getBytesOut();
+    long getBytesSaved();
+    double getCompressionRatio();
+
+    double getCompressMillionValuesPerSecond();
+    double getDecompressMillionValuesPerSecond();
+
+    long getCompressLatencyP50();
+    long getCompressLatencyP99();
+    long getCompressLatencyMax();
+    long getDecompressLatencyP50();
+    long getDecompressLatencyP99();
+    long getDecompressLatencyMax();
+    long getGetLatencyP50();
+    long getGetLatencyP99();
+    long getGetLatencyMax();
+
+    // Nombre de tableaux (ou de blocs) compressés par largeur retenue, indices 0 à 32
+    long[] getWidthHistogram();
+
+    // Part des valeurs envoyées en zone d'overflow (codecs à zone d'overflow uniquement)
+    double getOverflowFraction();
+
+    void reset();
+}
@@ -0,0 +1,29 @@
+package storage;
+
+// Stockage sur un int[] du tas (le format produit par compress)
+public class ArrayWordStorage implements WordStorage {
+
+    private final int[] words;
+
+    public ArrayWordStorage(int[] words) {
+        if (words == null) {
+            throw new IllegalArgumentException("Le tableau ne peut pas être null");
+        }
+        this.words = words;
+    }
+
+    @Override
+    public int getWord(long index) {
+        return words[Math.toIntExact(index)];
+    }
+
+    @Override
+    public long wordCount() {
+        return words.length;
+    }
+
+    @Override
+    public void getWords(long index, int[] dest, int destOffset, int count) {
+        System.arraycopy(words, Math.toIntExact(index), dest, destOffset, count);
+    }
+}
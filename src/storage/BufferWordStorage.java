@@ -0,0 +1,32 @@
+package storage;
+
+import java.nio.IntBuffer;
+
+// Stockage sur un IntBuffer (tampon direct hors tas, ou vue d'un MappedByteBuffer) :
+// lectures absolues, la position du tampon n'est jamais modifiée
+public class BufferWordStorage implements WordStorage {
+
+    private final IntBuffer buffer;
+
+    public BufferWordStorage(IntBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Le tampon ne peut pas être null");
+        }
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int getWord(long index) {
+        return buffer.get(Math.toIntExact(index));
+    }
+
+    @Override
+    public long wordCount() {
+        return buffer.limit();
+    }
+
+    @Override
+    public void getWords(long index, int[] dest, int destOffset, int count) {
+        buffer.get(Math.toIntExact(index), dest, destOffset, count);
+    }
+}
@@ -0,0 +1,71 @@
+package storage;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+
+// Région d'un fichier mappée en mémoire, en lecture seule.
+//
+// Un MappedByteBuffer est limité à 2 Go : la région est découpée en morceaux de
+// CHUNK_WORDS mots, chacun mappé séparément. L'accès à un mot est un décalage + masque,
+// et aucun mot n'est à cheval sur deux morceaux. Les pages sont chargées par le système
+// à la demande : un get(i) ne lit que les pages qu'il touche.
+public class MappedWordStorage implements WordStorage {
+
+    static final int CHUNK_SHIFT = 28;
+    static final int CHUNK_WORDS = 1 << CHUNK_SHIFT; // 1 Go par morceau
+    private static final int CHUNK_MASK = CHUNK_WORDS - 1;
+
+    private final IntBuffer[] chunks;
+    private final long wordCount;
+
+    private MappedWordStorage(IntBuffer[] chunks, long wordCount) {
+        this.chunks = chunks;
+        this.wordCount = wordCount;
+    }
+
+    // Mappe wordCount mots à partir de l'octet position (entiers petit-boutistes)
+    public static MappedWordStorage map(FileChannel channel, long position, long wordCount) throws IOException {
+        if (position < 0 || wordCount < 0 || position + wordCount * Integer.BYTES > channel.size()) {
+            throw new IllegalArgumentException("Région hors du fichier");
+        }
+
+        int chunkCount = (int) ((wordCount + CHUNK_WORDS - 1) >>> CHUNK_SHIFT);
+        IntBuffer[] chunks = new IntBuffer[chunkCount];
+        for (int c = 0; c < chunkCount; c++) {
+            long words = Math.min(CHUNK_WORDS, wordCount - ((long) c << CHUNK_SHIFT));
+            chunks[c] = channel.map(FileChannel.MapMode.READ_ONLY, position + ((long) c << CHUNK_SHIFT) * Integer.BYTES, words * Integer.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asIntBuffer();
+        }
+        return new MappedWordStorage(chunks, wordCount);
+    }
+
+    @Override
+    public int getWord(long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)].get((int) index & CHUNK_MASK);
+    }
+
+    @Override
+    public long wordCount() {
+        return wordCount;
+    }
+
+    @Override
+    public void getWords(long index, int[] dest, int destOffset, int count) {
+        if (index < 0 || count < 0 || index + count > wordCount) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + index + ", " + (index + count) + ")");
+        }
+        // Copie morceau par morceau (une plage peut couvrir la frontière entre deux morceaux)
+        while (count > 0) {
+            IntBuffer chunk = chunks[(int) (index >>> CHUNK_SHIFT)];
+            int local = (int) index & CHUNK_MASK;
+            int n = Math.min(count, CHUNK_WORDS - local);
+            chunk.get(local, dest, destOffset, n);
+            index += n;
+            destOffset += n;
+            count -= n;
+        }
+    }
+}
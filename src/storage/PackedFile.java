@@ -0,0 +1,196 @@
+package storage;
+
+import compression.BitPacking;
+import factory.CompressionFactory;
+import factory.CompressionFactory.CompressionType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Fichier contenant un tableau compressé, relu par mappage mémoire sans désérialisation.
+//
+// Format (entiers petit-boutistes) :
+//   [0..3]    magique "BPK1"
+//   [4..7]    version du format
+//   [8..11]   options : bit 0 = mode signé, bit 1 = conteneur par blocs
+//   [12..15]  longueur du nom du type
+//   [16..47]  nom du CompressionType (UTF-8, complété par des zéros)
+//   [48..55]  nombre de mots de la charge utile
+//   [56..63]  réservé
+//   [64...]   charge utile : les mots tels qu'écrits par compress / compressInto
+//
+// À l'ouverture, la charge utile est mappée (MappedWordStorage) et le compresseur est
+// recréé à partir de l'en-tête : get(i) ne touche que les pages de la valeur demandée.
+public final class PackedFile implements Closeable {
+
+    public static final int HEADER_BYTES = 64;
+
+    private static final int MAGIC = 0x314B5042; // "BPK1"
+    private static final int VERSION = 1;
+    private static final int FLAG_SIGNED = 1;
+    private static final int FLAG_BLOCKS = 1 << 1;
+    private static final int MAX_TYPE_NAME = 32;
+
+    // Taille du tampon d'écriture (en mots)
+    private static final int WRITE_CHUNK = 1 << 16;
+
+    private final FileChannel channel;
+    private final CompressionType type;
+    private final boolean signed;
+    private final boolean blockContainer;
+    private final MappedWordStorage storage;
+    private final BitPacking compressor;
+
+    private PackedFile(FileChannel channel, CompressionType type, boolean signed, boolean blockContainer, MappedWordStorage storage) {
+        this.channel = channel;
+        this.type = type;
+        this.signed = signed;
+        this.blockContainer = blockContainer;
+        this.storage = storage;
+        this.compressor = blockContainer
+                ? CompressionFactory.createBlockCompressor(type, signed)
+                : CompressionFactory.createCompressor(type, signed);
+    }
+
+    public static void write(Path path, CompressionType type, boolean signed, boolean blockContainer, int[] compressed) throws IOException {
+        if (compressed == null) {
+            throw new IllegalArgumentException("Le tableau compressé ne peut pas être null");
+        }
+        write(path, type, signed, blockContainer, compressed, 0, compressed.length);
+    }
+
+    // Écrit compressed[offset .. offset+length) (par exemple le résultat d'un compressInto)
+    public static void write(Path path, CompressionType type, boolean signed, boolean blockContainer,
+                             int[] compressed, int offset, int length) throws IOException {
+        if (type == null) {
+            throw new IllegalArgumentException("Le type de compression ne peut pas être null");
+        }
+        if (compressed == null || offset < 0 || length < 0 || offset + length > compressed.length) {
+            throw new IllegalArgumentException("Plage source invalide");
+        }
+
+        byte[] name = type.name().getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_TYPE_NAME) {
+            throw new IllegalArgumentException("Nom de type trop long : " + type);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt((signed ? FLAG_SIGNED : 0) | (blockContainer ? FLAG_BLOCKS : 0));
+        header.putInt(name.length);
+        header.put(name);
+        header.position(16 + MAX_TYPE_NAME);
+        header.putLong(length);
+        header.flip().limit(HEADER_BYTES);
+
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(out, header);
+
+            // Charge utile par morceaux, à travers un tampon direct réutilisé
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_CHUNK * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            IntBuffer words = buffer.asIntBuffer();
+            for (int from = offset; from < offset + length; from += WRITE_CHUNK) {
+                int count = Math.min(WRITE_CHUNK, offset + length - from);
+                words.clear();
+                words.put(compressed, from, count);
+                buffer.clear().limit(count * Integer.BYTES);
+                writeFully(out, buffer);
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    public static PackedFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Fichier tronqué : en-tête incomplet");
+                }
+            }
+            header.flip();
+
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Format de fichier invalide");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Version de format non supportée : " + version);
+            }
+            int flags = header.getInt();
+            int nameLength = header.getInt();
+            if (nameLength <= 0 || nameLength > MAX_TYPE_NAME) {
+                throw new IOException("Format de fichier invalide");
+            }
+            byte[] name = new byte[nameLength];
+            header.get(name);
+            header.position(16 + MAX_TYPE_NAME);
+            long wordCount = header.getLong();
+
+            CompressionType type;
+            try {
+                type = CompressionType.valueOf(new String(name, StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Type de compression inconnu : " + new String(name, StandardCharsets.UTF_8));
+            }
+            if (wordCount < 0 || HEADER_BYTES + wordCount * Integer.BYTES > channel.size()) {
+                throw new IOException("Fichier tronqué : " + wordCount + " mots attendus");
+            }
+
+            MappedWordStorage storage = MappedWordStorage.map(channel, HEADER_BYTES, wordCount);
+            return new PackedFile(channel, type, (flags & FLAG_SIGNED) != 0, (flags & FLAG_BLOCKS) != 0, storage);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public CompressionType getType() {
+        return type;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
+    public boolean isBlockContainer() {
+        return blockContainer;
+    }
+
+    public WordStorage getStorage() {
+        return storage;
+    }
+
+    // Compresseur correspondant à l'en-tête (type, mode signé, conteneur par blocs)
+    public BitPacking getCompressor() {
+        return compressor;
+    }
+
+    public int get(int i) {
+        return compressor.get(storage, 0, i);
+    }
+
+    public int decompressInto(int[] outputArray, int outputOffset) {
+        return compressor.decompressInto(storage, 0, outputArray, outputOffset);
+    }
+
+    // Les pages mappées restent valides jusqu'à leur libération par le GC
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
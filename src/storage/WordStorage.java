@@ -0,0 +1,25 @@
+package storage;
+
+// Mots de 32 bits adressés par un index sur 64 bits : support d'un tableau compressé.
+//
+// Les packers lisent leurs en-têtes et leurs données à travers cette interface pour
+// travailler directement sur un tampon hors tas ou un fichier mappé, sans copier le
+// tableau compressé dans un int[] au préalable. Un accès get lit les mots en place ; la
+// décompression copie un bloc compressé à la fois (getWords) dans une fenêtre réutilisée,
+// une par thread, puis le décode comme un int[] : elle n'est pas sans copie.
+public interface WordStorage {
+
+    int getWord(long index);
+
+    long wordCount();
+
+    // Lecture groupée de count mots à partir de index (les implémentations la spécialisent)
+    default void getWords(long index, int[] dest, int destOffset, int count) {
+        if (index < 0 || count < 0 || index + count > wordCount()) {
+            throw new IndexOutOfBoundsException("Plage invalide : [" + index + ", " + (index + count) + ")");
+        }
+        for (int k = 0; k < count; k++) {
+            dest[destOffset + k] = getWord(index + k);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+// Génère src/compression/ConsecutiveKernels.java : un noyau pack/unpack déroulé par largeur
+// de 1 à 32 bits, au format de la boucle scalaire de ConsecutiveBitPacking (valeur i aux
+// bits [i*b, (i+1)*b), une valeur à cheval sur deux mots est coupée entre les deux).
+// Lancement (Java 11 ou plus, depuis la racine du projet) :
+//   java tools/GenerateKernels.java src/compression/ConsecutiveKernels.java
+// Les accents des littéraux sont échappés : le fichier se compile quel que soit l'encodage
+// par défaut, et le résultat est écrit en UTF-8.
+public class GenerateKernels {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage : java tools/GenerateKernels.java <fichier de sortie>");
+            System.exit(1);
+        }
+        StringBuilder out = new StringBuilder();
+        out.append("package compression;\n\n")
+                .append("// Noyaux de compression/d\u00e9compression d\u00e9roul\u00e9s, un par largeur de 1 \u00e0 32 bits.\n")
+                .append("// Chaque noyau traite 32 valeurs qui occupent exactement b mots, avec des d\u00e9calages\n")
+                .append("// et des masques constants (aucune division, aucun branchement).\n")
+                .append("// Le format est identique \u00e0 celui de la boucle scalaire de ConsecutiveBitPacking.\n")
+                .append("// Code g\u00e9n\u00e9r\u00e9 par tools/GenerateKernels.java : ne pas modifier \u00e0 la main.\n")
+                .append("final class ConsecutiveKernels {\n\n")
+                .append("    private ConsecutiveKernels() {\n")
+                .append("    }\n");
+        for (int bits = 1; bits <= 32; bits++) {
+            out.append('\n');
+            pack(out, bits);
+            out.append('\n');
+            unpack(out, bits);
+        }
+        out.append("}\n");
+        Files.write(Paths.get(args[0]), out.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String in(int i) {
+        return i == 0 ? "in[inPos]" : "in[inPos + " + i + "]";
+    }
+
+    private static String outWord(int w) {
+        return w == 0 ? "out[outPos]" : "out[outPos + " + w + "]";
+    }
+
+    private static String mask(int bits) {
+        return "0x" + Integer.toHexString((int) ((1L << bits) - 1)).toUpperCase();
+    }
+
+    private static void pack(StringBuilder out, int bits) {
+        out.append("    static void pack").append(bits).append("(int[] in, int inPos, int[] out, int outPos) {\n");
+        if (bits == 32) {
+            for (int i = 0; i < 32; i++) {
+                out.append("        ").append(outWord(i)).append(" = ").append(in(i)).append(";\n");
+            }
+            out.append("    }\n");
+            return;
+        }
+        String mask = mask(bits);
+        for (int w = 0; w < bits; w++) {
+            int wordStart = w * 32;
+            boolean first = true;
+            out.append("        ").append(outWord(w)).append(" = ");
+            for (int i = 0; i < 32; i++) {
+                int start = i * bits;
+                int end = start + bits;
+                if (end <= wordStart || start >= wordStart + 32) {
+                    continue;
+                }
+                String term = "(" + in(i) + " & " + mask + ")";
+                if (start < wordStart) {
+                    term += " >>> " + (wordStart - start);
+                } else if (start > wordStart) {
+                    term += " << " + (start - wordStart);
+                }
+                out.append(first ? "" : "\n                | ").append(term);
+                first = false;
+            }
+            out.append(";\n");
+        }
+        out.append("    }\n");
+    }
+
+    private static void unpack(StringBuilder out, int bits) {
+        out.append("    static void unpack").append(bits).append("(int[] in, int inPos, int[] out, int outPos) {\n");
+        String mask = mask(bits);
+        for (int i = 0; i < 32; i++) {
+            String expression;
+            if (bits == 32) {
+                expression = in(i);
+            } else {
+                int start = i * bits;
+                int w = start >>> 5;
+                int shift = start & 31;
+                if (shift == 0) {
+                    expression = in(w) + " & " + mask;
+                } else if (shift + bits < 32) {
+                    expression = "(" + in(w) + " >>> " + shift + ") & " + mask;
+                } else if (shift + bits == 32) {
+                    expression = in(w) + " >>> " + shift;
+                } else {
+                    expression = "(" + in(w) + " >>> " + shift + " | " + in(w + 1) + " << " + (32 - shift) + ") & " + mask;
+                }
+            }
+            out.append("        ").append(outWord(i)).append(" = ").append(expression).append(";\n");
+        }
+        out.append("    }\n");
+    }
+}